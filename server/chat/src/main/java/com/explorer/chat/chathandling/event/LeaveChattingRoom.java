@@ -6,7 +6,6 @@ import com.explorer.chat.global.common.dto.Message;
 import com.explorer.chat.global.common.enums.CastingType;
 import com.explorer.chat.global.component.broadcasting.Broadcasting;
 import com.explorer.chat.global.component.session.SessionManager;
-import com.explorer.chat.global.util.MessageConverter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
@@ -42,10 +41,9 @@ public class LeaveChattingRoom {
                                 msg.put("nickname", nickname);
                                 msg.put("content", nickname+"님이 채팅방을 퇴장했습니다.");
 
-                                JSONObject jsonMessage = MessageConverter.convert(
-                                        Message.success(eventName, CastingType.BROADCASTING, msg));
+                                Message<Map<String, String>> message = Message.success(eventName, CastingType.BROADCASTING, msg);
 
-                                broadcasting.broadcasting(teamCode, jsonMessage).subscribe();
+                                broadcasting.broadcasting(teamCode, message).subscribe();
                             }));
 
                 })
@@ -4,7 +4,6 @@ import com.explorer.chat.chathandling.repository.UserRepository;
 import com.explorer.chat.global.common.dto.Message;
 import com.explorer.chat.global.common.enums.CastingType;
 import com.explorer.chat.global.component.broadcasting.Broadcasting;
-import com.explorer.chat.global.util.MessageConverter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
@@ -38,10 +37,9 @@ public class SendChat {
                     msg.put("nickname", nickname);
                     msg.put("content", content);
 
-                    JSONObject jsonMessage = MessageConverter.convert(
-                            Message.success(eventName, CastingType.BROADCASTING, msg));
+                    Message<Map<String, String>> message = Message.success(eventName, CastingType.BROADCASTING, msg);
 
-                    return broadcasting.broadcasting(teamCode, jsonMessage);
+                    return broadcasting.broadcasting(teamCode, message);
                 })
                 .then();
     }
@@ -1,46 +1,100 @@
 package com.explorer.chat.global.component.broadcasting;
 
-import com.explorer.chat.chathandling.exception.ChattingErrorCode;
-import com.explorer.chat.chathandling.exception.ChattingException;
+import com.explorer.chat.global.common.dto.Message;
 import com.explorer.chat.global.component.session.SessionManager;
-import com.explorer.chat.global.redis.ChannelRepository;
+import com.explorer.chat.global.util.MessageConverter;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
 import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.Connection;
 
+import java.util.Set;
+import java.util.function.Supplier;
+
 @Component
 public class Broadcasting {
 
     private static final Logger log = LoggerFactory.getLogger(Broadcasting.class);
-    private final ChannelRepository channelRepository;
     private final SessionManager sessionManager;
 
-    public Broadcasting(ChannelRepository channelRepository, SessionManager sessionManager) {
-        this.channelRepository = channelRepository;
+    public Broadcasting(SessionManager sessionManager) {
         this.sessionManager = sessionManager;
     }
     public Mono<Void> broadcasting(String teamCode, JSONObject msg) {
+        return broadcasting(teamCode, () -> encode(msg));
+    }
+
+    public Mono<Void> broadcasting(String teamCode, Message<?> msg) {
+        return broadcasting(teamCode, () -> encode(msg));
+    }
+
+    /*
+     * 채팅방 참여 목록 (SessionManager) 으로 수신자를 찾으므로 redis 를 조회하지 않는다
+     */
+    private Mono<Void> broadcasting(String teamCode, Supplier<ByteBuf> encoder) {
         log.info("start broadcasting to {}", teamCode);
-        return channelRepository.findAll(teamCode)
-                .flatMapMany(hashTable -> {
-                    return Flux.fromIterable(hashTable.keySet())
-                            .flatMap(key -> {
-                                Connection connection = sessionManager.getConnection(Long.valueOf(key.toString()));
-                                if (connection != null) {
-                                    log.info("sending message to {}", key);
-                                    return connection.outbound().sendString(Mono.just(msg.toString()+'\n')).then();
-                                } else {
-                                    log.warn("No connection found for {}", key);
-                                    return Mono.error(new ChattingException(ChattingErrorCode.FAILED_SEND_CHAT));
-                                }
-                            });
+        return Mono.fromRunnable(() -> {
+                    Set<Long> members = sessionManager.getMembers(teamCode);
+                    if (members.isEmpty()) {
+                        return;
+                    }
+                    ByteBuf frame = encoder.get();
+                    try {
+                        members.forEach(key -> {
+                            Connection connection = sessionManager.getConnection(key);
+                            if (connection != null) {
+                                log.info("sending message to {}", key);
+                                send(connection, frame.retainedDuplicate());
+                            } else {
+                                log.warn("No connection found for {}", key);
+                            }
+                        });
+                    } finally {
+                        frame.release();
+                    }
                 })
                 .then()
                 .doOnSuccess(aVoid -> log.info("Broadcast completed for teamCode: {}", teamCode))
                 .doOnError(error -> log.error("Broadcast failed tor teamCode: {}, error: {}", teamCode, error.getMessage()));
     }
+
+    /*
+     * write 는 바로 channel 에 넣으므로 원본은 모든 connection 에 전달한 직후 release 할 수 있다
+     * 전달한 duplicate 는 netty 가 write 후 (실패해도) release 한다
+     */
+    private void send(Connection connection, ByteBuf buf) {
+        connection.channel().writeAndFlush(buf).addListener(future -> {
+            if (!future.isSuccess()) {
+                log.warn("[send] connection : {}, error : {}", connection, future.cause().getMessage());
+            }
+        });
+    }
+
+    /*
+     * 수신자 수와 관계없이 메시지를 pooled buffer 에 한 번만 직렬화
+     * 각 connection 에는 retainedDuplicate 를 전달하고, 모두 전달하면 원본을 release 한다
+     */
+    private ByteBuf encode(JSONObject msg) {
+        String str = msg.toString();
+        ByteBuf buf = ByteBufAllocator.DEFAULT.buffer(ByteBufUtil.utf8Bytes(str) + 1);
+        ByteBufUtil.writeUtf8(buf, str);
+        buf.writeByte('\n');
+        return buf;
+    }
+
+    /*
+     * 채팅은 메시지 수가 적어 realtime 의 MessageEncoder (header prefix 재사용, body 직접 기록) 를 두지 않고 Jackson 으로 한 번만 직렬화한다
+     */
+    private ByteBuf encode(Message<?> msg) {
+        byte[] json = MessageConverter.toJsonBytes(msg);
+        ByteBuf buf = ByteBufAllocator.DEFAULT.buffer(json.length + 1);
+        buf.writeBytes(json);
+        buf.writeByte('\n');
+        return buf;
+    }
 }
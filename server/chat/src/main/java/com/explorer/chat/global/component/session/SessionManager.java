@@ -3,17 +3,31 @@ package com.explorer.chat.global.component.session;
 import org.springframework.stereotype.Component;
 import reactor.netty.Connection;
 
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+/*
+ * userId <-> connection 과 채팅방 (teamCode) 별 참여 userId 목록
+ * - 채팅방 목록은 JoinChattingRoom / LeaveChattingRoom 과 connection 종료로만 바뀐다
+ * - 메시지를 받을 수 있는 user 는 이 노드에 connection 이 있는 user 뿐이므로 broadcast 는 redis 를 조회하지 않고 이 목록을 쓴다
+ */
 @Component
 public class SessionManager {
 
     private final ConcurrentHashMap<Long, Connection> uidToConnectionMap = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<Connection, Long> connectionToUidMap = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<Long>> rooms = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, String> uidToRoomMap = new ConcurrentHashMap<>();
 
     public void setConnection(Long userId, Connection connection) {
         uidToConnectionMap.put(userId, connection);
         connectionToUidMap.put(connection, userId);
+        connection.channel().closeFuture().addListener(future -> {
+            if (uidToConnectionMap.remove(userId, connection)) {
+                leaveRoom(userId);
+            }
+            connectionToUidMap.remove(connection);
+        });
     }
 
     public Connection getConnection(Long userId) {
@@ -30,5 +44,36 @@ public class SessionManager {
             uidToConnectionMap.remove(userId);
             connectionToUidMap.remove(connection);
         }
+        leaveRoom(userId);
+    }
+
+    /*
+     * user 는 한 번에 하나의 채팅방에만 참여한다 (다른 방에 들어오면 이전 방에서 뺀다)
+     */
+    public void joinRoom(String teamCode, Long userId) {
+        String previous = uidToRoomMap.put(userId, teamCode);
+        if (previous != null && !previous.equals(teamCode)) {
+            removeMember(previous, userId);
+        }
+        rooms.computeIfAbsent(teamCode, key -> ConcurrentHashMap.newKeySet()).add(userId);
+    }
+
+    public void leaveRoom(Long userId) {
+        String teamCode = uidToRoomMap.remove(userId);
+        if (teamCode != null) {
+            removeMember(teamCode, userId);
+        }
+    }
+
+    public Set<Long> getMembers(String teamCode) {
+        Set<Long> members = rooms.get(teamCode);
+        return members == null ? Set.of() : members;
+    }
+
+    private void removeMember(String teamCode, Long userId) {
+        rooms.computeIfPresent(teamCode, (key, members) -> {
+            members.remove(userId);
+            return members.isEmpty() ? null : members;
+        });
     }
 }
@@ -9,11 +9,9 @@ import org.json.JSONObject;
 @Slf4j
 public class MessageConverter {
 
-    private final static ObjectMapper objectMapper = new ObjectMapper();
-    private final static JavaTimeModule javaTimeModule = new JavaTimeModule();
+    private final static ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
 
     public static JSONObject convert(Object o) {
-        objectMapper.registerModule(javaTimeModule);
         try {
             String result = objectMapper.writeValueAsString(o);
             return new JSONObject(result);
@@ -23,4 +21,12 @@ public class MessageConverter {
         return null;
     }
 
+    public static byte[] toJsonBytes(Object o) {
+        try {
+            return objectMapper.writeValueAsBytes(o);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+    }
+
 }
@@ -0,0 +1,64 @@
+package com.explorer.realtime.global.component.state.codec;
+
+import com.explorer.realtime.gamedatahandling.component.personal.inventoryInfo.dto.InventoryInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * inventory slot value 의 split / parseInt 와 packed long decode 비교
+ * 실행 : ./gradlew jmh -Pjmh.profilers=gc (alloc 측정)
+ *
+ * redis 저장 크기 (listpack entry 기준)
+ * - "element:12:300:1" : 16 byte 문자열
+ * - packed (100701763) : 정수로 저장되어 최대 9 byte
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StateCodecBenchmark {
+
+    private String legacy;
+    private long packed;
+
+    @Setup
+    public void setUp() {
+        legacy = "element:12:300:1";
+        packed = InventorySlotCodec.pack(legacy);
+    }
+
+    @Benchmark
+    public int splitParse() {
+        String[] result = legacy.split(":");
+        return result[0].length() + Integer.parseInt(result[1]) + Integer.parseInt(result[2]) + Integer.parseInt(result[3]);
+    }
+
+    @Benchmark
+    public int inventoryInfoOfString() {
+        InventoryInfo info = InventoryInfo.ofString(0, legacy);
+        return info.getItemId() + info.getItemCnt() + info.getIsFull();
+    }
+
+    @Benchmark
+    public int packedDecode() {
+        return InventorySlotCodec.category(packed).ordinal() + InventorySlotCodec.itemId(packed)
+                + InventorySlotCodec.itemCnt(packed) + InventorySlotCodec.isFull(packed);
+    }
+
+    @Benchmark
+    public long packedEncode() {
+        return InventorySlotCodec.pack(legacy);
+    }
+}
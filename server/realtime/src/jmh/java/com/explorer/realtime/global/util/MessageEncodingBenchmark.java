@@ -0,0 +1,77 @@
+package com.explorer.realtime.global.util;
+
+import com.explorer.realtime.global.common.dto.Message;
+import com.explorer.realtime.global.common.enums.CastingType;
+import io.netty.buffer.ByteBuf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * MessageConverter (Jackson -> String -> JSONObject -> String) 와 MessageEncoder (ByteBuf 직접 기록) 비교
+ * 실행 : ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageEncodingBenchmark {
+
+    private Message<Map<String, Object>> moveMessage;
+    private Message<Map<String, Object>> mapDataMessage;
+
+    @Setup
+    public void setUp() {
+        Map<String, Object> move = new HashMap<>();
+        move.put("mapId", 1);
+        move.put("userId", 123456L);
+        move.put("position", "12.5:0:-3.25:0:90:0");
+        moveMessage = Message.success("move", CastingType.BROADCASTING, move);
+
+        Map<String, Object> mapData = new HashMap<>();
+        mapData.put("mapId", 1);
+        mapData.put("positions", List.of("1:0:1:ore:1:0", "2:0:5:ore:1:3", "7:0:2:plant:0:2", "9:0:9:ore:1:1"));
+        mapDataMessage = Message.success("getMapData", CastingType.BROADCASTING, mapData);
+    }
+
+    @Benchmark
+    public byte[] moveMessageConverter() {
+        return (MessageConverter.convert(moveMessage).toString() + '\n').getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public int moveMessageEncoder() {
+        ByteBuf buf = MessageEncoder.encode(moveMessage);
+        int length = buf.readableBytes();
+        buf.release();
+        return length;
+    }
+
+    @Benchmark
+    public byte[] mapDataMessageConverter() {
+        return (MessageConverter.convert(mapDataMessage).toString() + '\n').getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public int mapDataMessageEncoder() {
+        ByteBuf buf = MessageEncoder.encode(mapDataMessage);
+        int length = buf.readableBytes();
+        buf.release();
+        return length;
+    }
+}
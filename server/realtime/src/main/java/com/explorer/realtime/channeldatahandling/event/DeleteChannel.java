@@ -5,7 +5,6 @@ import com.explorer.realtime.channeldatahandling.service.DeleteMongoService;
 import com.explorer.realtime.global.common.dto.Message;
 import com.explorer.realtime.global.common.enums.CastingType;
 import com.explorer.realtime.global.component.broadcasting.Unicasting;
-import com.explorer.realtime.global.util.MessageConverter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
@@ -46,7 +45,7 @@ public class DeleteChannel {
                 .then(unicasting.unicasting(
                         connection,
                         userId,
-                        MessageConverter.convert(Message.success(eventName, CastingType.UNICASTING))
+                        Message.success(eventName, CastingType.UNICASTING)
                 ))
                 .then();
     }
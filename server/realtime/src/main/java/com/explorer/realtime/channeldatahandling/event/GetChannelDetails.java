@@ -7,7 +7,6 @@ import com.explorer.realtime.global.common.dto.Message;
 import com.explorer.realtime.global.common.enums.CastingType;
 import com.explorer.realtime.global.component.broadcasting.Unicasting;
 import com.explorer.realtime.global.redis.ChannelRepository;
-import com.explorer.realtime.global.util.MessageConverter;
 import com.explorer.realtime.sessionhandling.waitingroom.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -51,7 +50,7 @@ public class GetChannelDetails {
                     return unicasting.unicasting(
                             connection,
                             userId,
-                            MessageConverter.convert(Message.success(eventName, CastingType.UNICASTING, map))
+                            Message.success(eventName, CastingType.UNICASTING, map)
                     );
                 })
                 .then();
@@ -7,7 +7,6 @@ import com.explorer.realtime.global.common.dto.Message;
 import com.explorer.realtime.global.common.enums.CastingType;
 import com.explorer.realtime.global.component.broadcasting.Unicasting;
 import com.explorer.realtime.global.redis.ChannelRepository;
-import com.explorer.realtime.global.util.MessageConverter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
@@ -37,9 +36,7 @@ public class GetEndedChannelList {
                     unicasting.unicasting(
                             connection,
                             userId,
-                            MessageConverter.convert(
-                                    Message.success(eventName, CastingType.UNICASTING, channels)
-                            )
+                            Message.success(eventName, CastingType.UNICASTING, channels)
                     ).subscribe();
                 })
                 .then();
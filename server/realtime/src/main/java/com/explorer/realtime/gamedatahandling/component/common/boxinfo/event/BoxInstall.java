@@ -7,7 +7,6 @@ import com.explorer.realtime.global.common.dto.Message;
 import com.explorer.realtime.global.common.enums.CastingType;
 import com.explorer.realtime.global.component.broadcasting.Broadcasting;
 import com.explorer.realtime.global.component.broadcasting.Unicasting;
-import com.explorer.realtime.global.util.MessageConverter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
@@ -36,7 +35,7 @@ public class BoxInstall {
         userInventoryRepository.findInventoryItem(channelId, userId, inventoryIdx)
                 .switchIfEmpty(Mono.fromRunnable(() -> {
                     log.warn("No inventory item userId: {} and inventoryIdx: {}", userId, inventoryIdx);
-                    unicasting.unicasting(channelId, userId, MessageConverter.convert(Message.fail("boxInstall", CastingType.UNICASTING, "No inventory item found"))).subscribe();
+                    unicasting.unicasting(channelId, userId, Message.fail("boxInstall", CastingType.UNICASTING, "No inventory item found")).subscribe();
                 }))
                         .flatMap(inventoryItemInfo -> {
                             log.info("itemId {}", inventoryItemInfo.getItemId());
@@ -46,9 +45,9 @@ public class BoxInstall {
 //                                mapObjectRepository.save(channelId, 1, position, "installation", 0).subscribe();
                                 log.info("map save");
                                 userInventoryRepository.deleteInventoryItem(channelId, userId, inventoryIdx).subscribe();
-                                broadcasting.broadcasting(channelId, MessageConverter.convert(Message.success("boxInstall", CastingType.BROADCASTING, position + ":" + "box" + ":" + 0))).subscribe();
+                                broadcasting.broadcasting(channelId, Message.success("boxInstall", CastingType.BROADCASTING, position + ":" + "box" + ":" + 0)).subscribe();
                             } else {
-                                unicasting.unicasting(channelId, userId, MessageConverter.convert(Message.fail("boxInstall", CastingType.UNICASTING))).subscribe();
+                                unicasting.unicasting(channelId, userId, Message.fail("boxInstall", CastingType.UNICASTING)).subscribe();
                                 log.info("error");
                             }
                             return Mono.empty();
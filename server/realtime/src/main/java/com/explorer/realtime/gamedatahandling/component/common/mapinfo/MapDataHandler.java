@@ -3,6 +3,7 @@ package com.explorer.realtime.gamedatahandling.component.common.mapinfo;
 import com.explorer.realtime.gamedatahandling.component.common.mapinfo.event.AsteroidMapObject;
 import com.explorer.realtime.gamedatahandling.component.common.mapinfo.event.GetMapData;
 import com.explorer.realtime.gamedatahandling.component.common.mapinfo.event.ReturnMainMap;
+import com.explorer.realtime.gamedatahandling.component.common.mapinfo.transfer.MapTransfer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
@@ -17,6 +18,7 @@ public class MapDataHandler {
     private final AsteroidMapObject asteroidMapObject;
     private final ReturnMainMap returnMainMap;
     private final GetMapData getMapData;
+    private final MapTransfer mapTransfer;
 
     public Mono<Void> mapDataHandler(JSONObject json) {
         String eventName = json.getString("eventName");
@@ -36,6 +38,10 @@ public class MapDataHandler {
                 log.info("returnMainMap : {}", eventName);
                 returnMainMap.returnMainMap(json).subscribe();
                 break;
+
+            case "mapDataAck":
+                mapTransfer.ack(json.getLong("userId"), json.getString("transferId"), json.getInt("seq"));
+                break;
         }
         return Mono.empty();
     }
@@ -1,11 +1,8 @@
 package com.explorer.realtime.gamedatahandling.component.common.mapinfo.event;
 
 import com.explorer.realtime.gamedatahandling.component.common.mapinfo.repository.CurrentMapRepository;
-import com.explorer.realtime.gamedatahandling.component.common.mapinfo.repository.MapObjectRepository;
-import com.explorer.realtime.global.common.dto.Message;
-import com.explorer.realtime.global.common.enums.CastingType;
-import com.explorer.realtime.global.component.broadcasting.Broadcasting;
-import com.explorer.realtime.global.util.MessageConverter;
+import com.explorer.realtime.gamedatahandling.component.common.mapinfo.repository.SeededMapRepository;
+import com.explorer.realtime.gamedatahandling.component.common.mapinfo.transfer.MapTransfer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,13 +13,16 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class GetMapData {
 
-    private final MapObjectRepository mapObjectRepository;
-    private final Broadcasting broadcasting;
+    private final SeededMapRepository seededMapRepository;
+    private final MapTransfer mapTransfer;
     private final CurrentMapRepository currentMapRepository;
 
+    /*
+     * 소행성 map 처럼 seed 로 배치를 만드는 map 은 저장된 변경분 대신 seed 배치를 반영한 전체 map 을 보낸다
+     */
     public Mono<Void> getMapData(String channelId, Integer mapId) {
-        return mapObjectRepository.findMapData(channelId, mapId)
-                .flatMap(mapData -> broadcasting.broadcasting(channelId, MessageConverter.convert(Message.success("getMapData", CastingType.BROADCASTING, mapData))))
+        return seededMapRepository.findResolved(channelId, mapId)
+                .flatMap(mapData -> mapTransfer.broadcast(channelId, mapId, "getMapData", mapData, mapData))
                 .then(currentMapRepository.save(channelId, mapId))
                 .then();
     }
@@ -2,14 +2,9 @@ package com.explorer.realtime.gamedatahandling.component.common.mapinfo.event;
 
 import com.explorer.realtime.gamedatahandling.component.common.mapinfo.repository.CurrentMapRepository;
 import com.explorer.realtime.gamedatahandling.component.common.mapinfo.repository.MapObjectRepository;
-import com.explorer.realtime.global.common.dto.Message;
-import com.explorer.realtime.global.common.enums.CastingType;
-import com.explorer.realtime.global.component.broadcasting.Broadcasting;
-import com.explorer.realtime.global.mongo.entity.MapData;
-import com.explorer.realtime.global.mongo.entity.PositionData;
-import com.explorer.realtime.global.mongo.repository.MapDataMongoRepository;
+import com.explorer.realtime.gamedatahandling.component.common.mapinfo.repository.SeededMapRepository;
+import com.explorer.realtime.gamedatahandling.component.common.mapinfo.transfer.MapTransfer;
 import com.explorer.realtime.global.redis.ChannelRepository;
-import com.explorer.realtime.global.util.MessageConverter;
 import com.explorer.realtime.sessionhandling.waitingroom.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,7 +14,6 @@ import reactor.core.publisher.Mono;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -27,8 +21,8 @@ import java.util.stream.Collectors;
 public class ReturnMainMap {
 
     private final MapObjectRepository mapObjectRepository;
-    private final Broadcasting broadcasting;
-    private final MapDataMongoRepository mapDataMongoRepository;
+    private final SeededMapRepository seededMapRepository;
+    private final MapTransfer mapTransfer;
     private final CurrentMapRepository currentMapRepository;
     private final ChannelRepository channelRepository;
     private final UserRepository userRepository;
@@ -39,31 +33,12 @@ public class ReturnMainMap {
         currentMapRepository.save(channelId, 1).subscribe();
         log.info("returnMain start");
         if (mapId == 4) {
-            mapObjectRepository.resetMapData(channelId, mapId).subscribe();
+            seededMapRepository.clear(channelId, mapId).subscribe();
             return mapObjectRepository.findMapData(channelId, 1)
-                    .flatMap(mapData -> broadcasting.broadcasting(channelId, MessageConverter.convert(Message.success("returnMainMap", CastingType.BROADCASTING, mapData))));
-        } else { // else mongodb에 데이터 저장하기
-            log.info("returnMap else");
-            return mapObjectRepository.findMapData(channelId, mapId)
-                    .flatMap(data -> {
-                        log.info("mapRepository {}", data);
-                        MapData mapData = new MapData();
-                        mapData.setChannelId(channelId);
-                        mapData.setMapId(mapId);
-                        mapData.setPositions(data.entrySet().stream()
-                                .map(entry -> createPositionData(entry.getKey(), entry.getValue()))
-                                .collect(Collectors.toList()));
-                        log.info("mongo save logic");
-                        mapDataMongoRepository.save(mapData).subscribe();
-                        return mapObjectRepository.findMapData(channelId, 1)
-                                .flatMap(mainMapData -> broadcasting.broadcasting(channelId, MessageConverter.convert(Message.success("returnMainMap", CastingType.BROADCASTING, mainMapData))));
-
-                    });
+                    .flatMap(mapData -> mapTransfer.broadcast(channelId, 1, "returnMainMap", mapData, mapData));
+        } else { // mongodb 저장은 ChannelCheckpoint 가 바뀐 position 만 background 에서 기록한다
+            return mapObjectRepository.findMapData(channelId, 1)
+                    .flatMap(mainMapData -> mapTransfer.broadcast(channelId, 1, "returnMainMap", mainMapData, mainMapData));
         }
-            }
-
-    private PositionData createPositionData(String position, String value) {
-        String[] parts = value.split(":");
-        return new PositionData(position, parts[0], parts[1], Integer.parseInt(parts[2]));
     }
 }
@@ -0,0 +1,93 @@
+package com.explorer.realtime.gamedatahandling.component.common.mapinfo.generator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * seed 로 map object 배치를 결정하는 generator (client 도 같은 seed 로 같은 배치를 만든다)
+ *
+ * 알고리즘 (client 구현과 반드시 동일해야 한다)
+ * 1. 후보 position 목록을 문자열 오름차순 (String.compareTo) 으로 정렬한다
+ * 2. 난수 : SplitMix64 (state += 0x9E3779B97F4A7C15, 출력 z 는 (z ^ z>>>30) * 0xBF58476D1CE4E5B9, (z ^ z>>>27) * 0x94D049BB133111EB, z ^ z>>>31)
+ *    - nextInt(bound) : unsigned(next()) % bound
+ *    - nextDouble() : (next() >>> 11) * 2^-53
+ * 3. 앞에서부터 min(objectCount + 1, n) 칸까지 partial Fisher-Yates : i 번째 칸과 i + nextInt(n - i) 번째 칸을 교환
+ * 4. 앞의 objectCount 개 position 에 {itemCategory}:isFarmable:{itemId}
+ * 5. nextDouble() < rareChance 이고 남은 후보가 있으면 objectCount 번째 position 에 {itemCategory}:isFarmable:{rareItemId}
+ */
+public final class SeededMapGenerator {
+
+    private SeededMapGenerator() {
+    }
+
+    /*
+     * map 별 생성 규칙
+     */
+    public record Spec(String itemCategory, int itemId, int objectCount, int rareItemId, double rareChance) {
+    }
+
+    public static List<String> sortCandidates(List<String> candidates) {
+        List<String> sorted = new ArrayList<>(candidates);
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    /*
+     * candidates 는 sortCandidates 로 정렬된 목록
+     */
+    public static Map<String, String> generate(long seed, List<String> candidates, Spec spec) {
+        String[] positions = candidates.toArray(new String[0]);
+        int n = positions.length;
+        SplitMix64 random = new SplitMix64(seed);
+
+        int shuffled = Math.min(spec.objectCount() + 1, n);
+        for (int i = 0; i < shuffled; i++) {
+            int j = i + random.nextInt(n - i);
+            String tmp = positions[i];
+            positions[i] = positions[j];
+            positions[j] = tmp;
+        }
+
+        int placed = Math.min(spec.objectCount(), n);
+        Map<String, String> objects = new LinkedHashMap<>(placed + 2);
+        String value = value(spec.itemCategory(), spec.itemId());
+        for (int i = 0; i < placed; i++) {
+            objects.put(positions[i], value);
+        }
+        if (random.nextDouble() < spec.rareChance() && n > placed) {
+            objects.put(positions[placed], value(spec.itemCategory(), spec.rareItemId()));
+        }
+        return objects;
+    }
+
+    private static String value(String itemCategory, int itemId) {
+        return itemCategory + ":isFarmable:" + itemId;
+    }
+
+    static final class SplitMix64 {
+
+        private long state;
+
+        SplitMix64(long seed) {
+            this.state = seed;
+        }
+
+        long next() {
+            long z = (state += 0x9E3779B97F4A7C15L);
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+
+        int nextInt(int bound) {
+            return (int) Long.remainderUnsigned(next(), bound);
+        }
+
+        double nextDouble() {
+            return (next() >>> 11) * 0x1.0p-53;
+        }
+    }
+}
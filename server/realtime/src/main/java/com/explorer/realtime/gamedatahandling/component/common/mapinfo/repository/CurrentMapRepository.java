@@ -1,5 +1,6 @@
 package com.explorer.realtime.gamedatahandling.component.common.mapinfo.repository;
 
+import com.explorer.realtime.global.component.broadcasting.MapPresence;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.ReactiveHashOperations;
@@ -13,16 +14,20 @@ public class CurrentMapRepository {
 
     private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
     private final ReactiveHashOperations<String, Object, Object> reactiveHashOperations;
+    private final MapPresence mapPresence;
 
     private static final String KEY_PREFIX = "currentMapId:";
 
-    public CurrentMapRepository(@Qualifier("channelReactiveRedisTemplate") ReactiveRedisTemplate<String, Object> reactiveRedisTemplate) {
+    public CurrentMapRepository(@Qualifier("channelReactiveRedisTemplate") ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
+                                MapPresence mapPresence) {
         this.reactiveRedisTemplate = reactiveRedisTemplate;
         this.reactiveHashOperations = reactiveRedisTemplate.opsForHash();
+        this.mapPresence = mapPresence;
     }
 
     public Mono<Boolean> save(String channelId, Integer mapId) {
-        return reactiveHashOperations.put(KEY_PREFIX + channelId, "mapId", String.valueOf(mapId));
+        return reactiveHashOperations.put(KEY_PREFIX + channelId, "mapId", String.valueOf(mapId))
+                .doOnSuccess(result -> mapPresence.moveAll(channelId, mapId));
     }
 
     public Mono<Object> findMapId(String channelId) {
@@ -30,6 +35,7 @@ public class CurrentMapRepository {
     }
 
     public Mono<Boolean> delete(String channelId) {
-        return reactiveHashOperations.delete(KEY_PREFIX + channelId);
+        return reactiveHashOperations.delete(KEY_PREFIX + channelId)
+                .doOnSuccess(result -> mapPresence.remove(channelId));
     }
 }
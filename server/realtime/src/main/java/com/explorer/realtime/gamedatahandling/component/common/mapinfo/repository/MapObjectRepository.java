@@ -1,8 +1,7 @@
 package com.explorer.realtime.gamedatahandling.component.common.mapinfo.repository;
 
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.redis.core.ReactiveHashOperations;
-import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import com.explorer.realtime.global.component.state.GameStateEngine;
+import com.explorer.realtime.global.component.state.StateKey;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -12,21 +11,21 @@ import java.util.*;
 @Repository
 public class MapObjectRepository {
 
-    private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
-    private final ReactiveHashOperations<String, String, String> hashOperations;
+    private final GameStateEngine gameStateEngine;
 
     private static final String KEY_PREFIX = "mapData";
 
-    public MapObjectRepository(@Qualifier("gameReactiveRedisTemplate") ReactiveRedisTemplate<String, Object> reactiveRedisTemplate) {
-        this.reactiveRedisTemplate = reactiveRedisTemplate;
-        this.hashOperations = reactiveRedisTemplate.opsForHash();
+    public MapObjectRepository(GameStateEngine gameStateEngine) {
+        this.gameStateEngine = gameStateEngine;
     }
 
     public Mono<Boolean> saveMapData(String channelId, Integer mapId, List<String> positions, String itemCategory, Integer itemId) {
         Map<String, String> hashData = dataToHash(positions, itemCategory, itemId);
         String key = KEY_PREFIX + ":" + channelId + ":" + mapId;
-        return hashOperations.putAll(key, hashData)
-                .map(result -> result == Boolean.TRUE);
+        return gameStateEngine.execute(channelId, StateKey.hash(key), state -> {
+            state.hsetAll(key, hashData);
+            return true;
+        });
     }
 
     private Map<String, String> dataToHash(List<String> positions, String itemCategory, Integer itemId) {
@@ -39,19 +38,24 @@ public class MapObjectRepository {
 
     public Mono<Map<String, String>> findMapData(String channelId, Integer mapId) {
         String key = KEY_PREFIX + ":" + channelId + ":" + mapId;
-        return hashOperations.entries(key)
-                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+        return gameStateEngine.execute(channelId, StateKey.hash(key), state -> {
+            Map<String, String> data = new LinkedHashMap<>();
+            state.hgetAll(key).forEach((position, value) -> data.put(position, String.valueOf(value)));
+            return data;
+        });
     }
     public Mono<Boolean> save(String channelId, int mapId, String position, String itemCategory, String isFarmable, int itemId) {
         String key = KEY_PREFIX + ":" + channelId + ":" + mapId;
         String value = itemCategory + ":" + isFarmable + ":" + itemId;
-        return hashOperations.put(key, position, value);
+        return gameStateEngine.execute(channelId, StateKey.hash(key), state -> {
+            state.hset(key, position, value);
+            return true;
+        });
     }
 
     public Mono<Boolean> resetMapData(String channelId, Integer mapId) {
         String key = KEY_PREFIX + ":" + channelId + ":" + mapId;
-        return reactiveRedisTemplate.delete(key)
-                .map(count -> count > 0);
+        return gameStateEngine.execute(channelId, StateKey.hash(key), state -> state.delete(StateKey.hash(key)));
     }
 
     public Mono<Boolean> deleteAllMap(String channelId) {
@@ -61,4 +65,3 @@ public class MapObjectRepository {
                 .reduce(true, (allSuccess, success) -> allSuccess && success);
     }
 }
-
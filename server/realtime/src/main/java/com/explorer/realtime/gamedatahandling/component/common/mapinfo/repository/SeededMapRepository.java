@@ -0,0 +1,191 @@
+package com.explorer.realtime.gamedatahandling.component.common.mapinfo.repository;
+
+import com.explorer.realtime.gamedatahandling.component.common.mapinfo.generator.SeededMapGenerator;
+import com.explorer.realtime.global.component.state.ChannelState;
+import com.explorer.realtime.global.component.state.GameStateEngine;
+import com.explorer.realtime.global.component.state.StateKey;
+import com.explorer.realtime.initializing.repository.MapRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+ * seed 로 배치를 만드는 map (소행성 map) 의 상태
+ * - key : mapSeed:{channelId}:{mapId} (value) - 배치 seed
+ * - key : mapData:{channelId}:{mapId} (hash) - seed 배치 이후의 변경분만 저장
+ *   - field : {position}
+ *   - value : {itemCategory}:{isFarmable}:{itemId} (새로 놓인 object) 또는 "removed" (seed 배치에서 없어진 object)
+ * - 현재 map = seed 배치 + 변경분 : client 는 seed 로 같은 배치를 만들고 변경분만 받는다 (SeededMapGenerator)
+ * - seed 배치는 channel 별로 메모리에 cache 한다 (seed 가 바뀌면 다시 만든다)
+ */
+@Repository
+public class SeededMapRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(SeededMapRepository.class);
+    private static final String SEED_KEY_PREFIX = "mapSeed:";
+    private static final String MAP_KEY_PREFIX = "mapData:";
+    private static final int MAX_CACHED_MAPS = 1024;
+    public static final String REMOVED = "removed";
+
+    private static final Map<Integer, SeededMapGenerator.Spec> SPECS = Map.of(
+            4, new SeededMapGenerator.Spec("debris", 3, 150, 0, 0.05)
+    );
+
+    private final GameStateEngine gameStateEngine;
+    private final MapRepository mapRepository;
+    private final ConcurrentHashMap<Integer, Mono<List<String>>> candidates = new ConcurrentHashMap<>();
+    private final Map<String, Generated> generated = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Generated> eldest) {
+            return size() > MAX_CACHED_MAPS;
+        }
+    });
+
+    public SeededMapRepository(GameStateEngine gameStateEngine, MapRepository mapRepository) {
+        this.gameStateEngine = gameStateEngine;
+        this.mapRepository = mapRepository;
+    }
+
+    public static boolean isSeeded(int mapId) {
+        return SPECS.containsKey(mapId);
+    }
+
+    public static StateKey seedKey(String channelId, int mapId) {
+        return StateKey.value(SEED_KEY_PREFIX + channelId + ":" + mapId);
+    }
+
+    private static StateKey mapKey(String channelId, int mapId) {
+        return StateKey.hash(MAP_KEY_PREFIX + channelId + ":" + mapId);
+    }
+
+    /*
+     * 새 seed 로 배치를 바꾸고 변경분을 비운다
+     */
+    public Mono<Long> reseed(String channelId, int mapId) {
+        long seed = ThreadLocalRandom.current().nextLong();
+        StateKey seedKey = seedKey(channelId, mapId);
+        StateKey mapKey = mapKey(channelId, mapId);
+        return gameStateEngine.execute(channelId, List.of(seedKey, mapKey), state -> {
+            state.set(seedKey.key(), String.valueOf(seed));
+            state.delete(mapKey);
+            return seed;
+        });
+    }
+
+    public Mono<Boolean> clear(String channelId, int mapId) {
+        StateKey seedKey = seedKey(channelId, mapId);
+        StateKey mapKey = mapKey(channelId, mapId);
+        generated.remove(channelId + ":" + mapId);
+        return gameStateEngine.execute(channelId, List.of(seedKey, mapKey), state -> {
+            state.delete(seedKey);
+            return state.delete(mapKey);
+        });
+    }
+
+    public Mono<Long> findSeed(String channelId, int mapId) {
+        StateKey seedKey = seedKey(channelId, mapId);
+        return gameStateEngine.execute(channelId, seedKey, state -> state.get(seedKey.key()))
+                .map(seed -> Long.parseLong(String.valueOf(seed)));
+    }
+
+    /*
+     * 현재 seed 의 배치 (seed 로 만드는 map 이 아니거나 seed 가 없으면 빈 map)
+     */
+    public Mono<Map<String, String>> generated(String channelId, int mapId) {
+        SeededMapGenerator.Spec spec = SPECS.get(mapId);
+        if (spec == null) {
+            return Mono.just(Map.of());
+        }
+        String cacheKey = channelId + ":" + mapId;
+        return findSeed(channelId, mapId)
+                .flatMap(seed -> {
+                    Generated cached = generated.get(cacheKey);
+                    if (cached != null && cached.seed() == seed) {
+                        return Mono.just(cached.objects());
+                    }
+                    return candidates(mapId)
+                            .map(list -> {
+                                Map<String, String> objects = Collections.unmodifiableMap(SeededMapGenerator.generate(seed, list, spec));
+                                generated.put(cacheKey, new Generated(seed, objects));
+                                return objects;
+                            });
+                })
+                .defaultIfEmpty(Map.of());
+    }
+
+    /*
+     * 현재 map 전체 (seed 배치에 변경분을 반영하고 "removed" 는 뺀다) : seed 없이 map 을 받는 client 에 보낼 때
+     * seed 로 만드는 map 이 아니면 저장된 그대로
+     */
+    public Mono<Map<String, String>> findResolved(String channelId, int mapId) {
+        StateKey mapKey = mapKey(channelId, mapId);
+        return generated(channelId, mapId)
+                .flatMap(generated -> gameStateEngine.execute(channelId, mapKey, state -> merge(generated, state.hgetAll(mapKey.key()))));
+    }
+
+    public static Map<String, String> merge(Map<String, String> generated, Map<String, ?> delta) {
+        Map<String, String> objects = new LinkedHashMap<>(generated);
+        delta.forEach((position, value) -> {
+            if (REMOVED.equals(value)) {
+                objects.remove(position);
+            } else {
+                objects.put(position, String.valueOf(value));
+            }
+        });
+        return objects;
+    }
+
+    /*
+     * 정적 후보 position 목록 (staticgame map{mapId} list) : 정렬해서 cache, 비어 있으면 cache 하지 않는다
+     */
+    private Mono<List<String>> candidates(int mapId) {
+        Mono<List<String>> cached = candidates.get(mapId);
+        if (cached != null) {
+            return cached;
+        }
+        return mapRepository.findMapData(mapId)
+                .collectList()
+                .map(SeededMapGenerator::sortCandidates)
+                .doOnNext(list -> {
+                    if (!list.isEmpty()) {
+                        candidates.putIfAbsent(mapId, Mono.just(List.copyOf(list)));
+                    } else {
+                        log.warn("[candidates] no positions for mapId : {}", mapId);
+                    }
+                });
+    }
+
+    /*
+     * [channel executor 에서 호출] 변경분을 반영한 position 의 값 (없으면 null)
+     */
+    public static String resolve(ChannelState state, String mapKey, Map<String, String> generated, String position) {
+        Object changed = state.hget(mapKey, position);
+        if (changed != null) {
+            return REMOVED.equals(changed) ? null : String.valueOf(changed);
+        }
+        return generated.get(position);
+    }
+
+    /*
+     * [channel executor 에서 호출] position 의 object 제거 : seed 배치의 object 는 "removed" 로 남긴다
+     */
+    public static boolean remove(ChannelState state, String mapKey, Map<String, String> generated, String position) {
+        if (generated.containsKey(position)) {
+            boolean existed = resolve(state, mapKey, generated, position) != null;
+            state.hset(mapKey, position, REMOVED);
+            return existed;
+        }
+        return state.hdel(mapKey, position);
+    }
+
+    private record Generated(long seed, Map<String, String> objects) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.explorer.realtime.gamedatahandling.component.common.mapinfo.transfer;
+
+import org.json.JSONObject;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/*
+ * map chunk 의 data 형식
+ * - chunk 의 entry 들을 JSON object ({position: value}, 지워진 position 은 null) 로 만들고
+ *   raw deflate (zlib header 없음, .NET DeflateStream 과 같은 형식) 로 압축한 뒤 Base64 로 encode 한다
+ */
+public final class MapChunkEncoder {
+
+    private MapChunkEncoder() {
+    }
+
+    public static int chunkCount(int entries, int chunkEntries) {
+        return (entries + chunkEntries - 1) / chunkEntries;
+    }
+
+    public static String encode(List<Map.Entry<String, String>> entries, int seq, int chunkEntries) {
+        int from = seq * chunkEntries;
+        int to = Math.min(from + chunkEntries, entries.size());
+        JSONObject json = new JSONObject();
+        for (int i = from; i < to; i++) {
+            Map.Entry<String, String> entry = entries.get(i);
+            json.put(entry.getKey(), entry.getValue() == null ? JSONObject.NULL : entry.getValue());
+        }
+        return Base64.getEncoder().encodeToString(deflate(json.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /*
+     * encode 의 역변환 (지워진 position 은 null)
+     */
+    public static Map<String, String> decode(String data) {
+        JSONObject json = new JSONObject(new String(inflate(Base64.getDecoder().decode(data)), StandardCharsets.UTF_8));
+        Map<String, String> entries = new LinkedHashMap<>();
+        for (String position : json.keySet()) {
+            entries.put(position, json.isNull(position) ? null : json.getString(position));
+        }
+        return entries;
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 4 + 16);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 4);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int read = inflater.inflate(buffer);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("invalid map chunk", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
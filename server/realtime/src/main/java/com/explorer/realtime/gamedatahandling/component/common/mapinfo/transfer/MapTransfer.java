@@ -0,0 +1,298 @@
+package com.explorer.realtime.gamedatahandling.component.common.mapinfo.transfer;
+
+import com.explorer.realtime.global.common.dto.Message;
+import com.explorer.realtime.global.common.enums.CastingType;
+import com.explorer.realtime.global.component.broadcasting.Unicasting;
+import com.explorer.realtime.global.component.codec.ProtocolVersion;
+import com.explorer.realtime.global.component.session.SessionManager;
+import com.explorer.realtime.global.redis.ChannelRepository;
+import io.netty.channel.Channel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * map 상태 (mapData hash) 를 client 별로 chunk 단위로 나누어 전송
+ * - 시작 메시지 (eventName) : mapId, transferId, version, mode (full / diff), baseVersion, chunks, entries + 호출한 쪽의 값
+ * - 이어서 "mapDataChunk" : transferId, seq, data (MapChunkEncoder)
+ * - client 는 받은 chunk 마다 "mapDataAck" (transferId, seq) 를 보내고, 서버는 ack 되지 않은 chunk 를 window 개까지만 보낸다
+ * - 모든 chunk 가 ack 되면 client 가 그 version 을 가진 것으로 기록하고, 다음 전송은 그 version 과의 diff 만 보낸다
+ *   (version 은 channel, map 별로 전송할 때의 내용이 바뀌었을 때 하나씩 올리고, 최근 MAX_VERSIONS 개의 내용만 남긴다)
+ *   - 기록은 user 당 하나 (마지막으로 받은 map) 이고 그 connection 에만 유효하다 : 다른 map 을 받기 시작하거나,
+ *     연결이 끊기거나 (재접속 / 재시작한 client 는 map 이 없다) 다른 connection 에서 요청하면 다시 전체를 보낸다
+ * - ack 가 ackTimeout 동안 오지 않으면 전송을 버린다 (client 는 다시 요청하면 전체를 받는다)
+ * - protocol 협상에서 mapChunks 를 알리지 않은 client 에게는 예전처럼 한 메시지 (legacyBody) 로 보낸다
+ */
+@Component
+public class MapTransfer {
+
+    private static final Logger log = LoggerFactory.getLogger(MapTransfer.class);
+    private static final String CHUNK_EVENT = "mapDataChunk";
+    private static final int MAX_VERSIONS = 4;
+    private static final int MAX_CACHED_MAPS = 1024;
+
+    private final Unicasting unicasting;
+    private final ChannelRepository channelRepository;
+    private final SessionManager sessionManager;
+    private final int chunkEntries;
+    private final int window;
+    private final Duration ackTimeout;
+    private final Map<String, History> histories = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, History> eldest) {
+            return size() > MAX_CACHED_MAPS;
+        }
+    });
+    private final ConcurrentHashMap<Long, Transfer> transfers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Acked> acked = new ConcurrentHashMap<>();
+
+    public MapTransfer(Unicasting unicasting,
+                       ChannelRepository channelRepository,
+                       SessionManager sessionManager,
+                       @Value("${map-transfer.chunk-entries:256}") int chunkEntries,
+                       @Value("${map-transfer.window:4}") int window,
+                       @Value("${map-transfer.ack-timeout:10s}") Duration ackTimeout) {
+        this.unicasting = unicasting;
+        this.channelRepository = channelRepository;
+        this.sessionManager = sessionManager;
+        this.chunkEntries = chunkEntries;
+        this.window = window;
+        this.ackTimeout = ackTimeout;
+    }
+
+    /*
+     * channel 의 모든 player 에게 전송 (player 별로 가진 version 에 따라 full / diff)
+     * legacyBody : mapChunks 를 협상하지 않은 client 에게 보낼 dataBody (null 이면 dataBody 없이)
+     */
+    public Mono<Void> broadcast(String channelId, int mapId, String eventName, Map<String, String> mapData, Object legacyBody) {
+        return channelRepository.findMemberIds(channelId)
+                .flatMapMany(Flux::fromIterable)
+                .doOnNext(userId -> start(channelId, userId, mapId, eventName, Map.of(), mapData, false, CastingType.BROADCASTING, legacyBody))
+                .then();
+    }
+
+    /*
+     * full : client 가 가진 version 을 무시하고 전체를 보낸다 (재접속 등 client 의 map 이 없을 수 있는 경우)
+     */
+    public Mono<Void> send(String channelId, Long userId, int mapId, String eventName, Map<String, Object> extra, Map<String, String> mapData, boolean full, Object legacyBody) {
+        return Mono.fromRunnable(() -> start(channelId, userId, mapId, eventName, extra, mapData, full, CastingType.UNICASTING, legacyBody));
+    }
+
+    public void ack(Long userId, String transferId, int seq) {
+        Transfer transfer = transfers.get(userId);
+        if (transfer == null || !transfer.id.equals(transferId)) {
+            log.info("[ack] unknown transfer, userId : {}, transferId : {}", userId, transferId);
+            return;
+        }
+        synchronized (transfer) {
+            transfer.acked = Math.max(transfer.acked, Math.min(seq + 1, transfer.chunks));
+            transfer.lastAck = System.nanoTime();
+        }
+        pump(transfer);
+    }
+
+    /*
+     * user 가 channel 을 떠나면 가지고 있던 map 도 버린 것으로 본다
+     */
+    public void forget(Long userId) {
+        acked.remove(userId);
+        transfers.remove(userId);
+    }
+
+    private void start(String channelId, Long userId, int mapId, String eventName, Map<String, Object> extra, Map<String, String> mapData, boolean full, CastingType legacyType, Object legacyBody) {
+        Connection connection = sessionManager.getConnection(userId);
+        if (connection == null || !ProtocolVersion.supports(connection, ProtocolVersion.MAP_CHUNKS)) {
+            Message<?> legacy = legacyBody == null
+                    ? Message.success(eventName, legacyType)
+                    : Message.success(eventName, legacyType, legacyBody);
+            unicasting.unicasting(channelId, userId, legacy).subscribe();
+            return;
+        }
+
+        String historyKey = channelId + ":" + mapId;
+        History history = histories.computeIfAbsent(historyKey, key -> new History());
+        Acked held = acked.get(userId);
+        Long known = null;
+        if (held != null && (full || !held.historyKey().equals(historyKey) || held.channel() != connection.channel())) {
+            acked.remove(userId, held);     // client 가 그 map 을 더 이상 가지고 있지 않다
+        } else if (held != null) {
+            known = held.version();
+        }
+        long version;
+        Map<String, String> base;
+        synchronized (history) {
+            version = history.record(mapData);
+            base = known == null ? null : history.snapshot(known);
+        }
+
+        List<Map.Entry<String, String>> entries = base == null ? new ArrayList<>(mapData.entrySet()) : diff(base, mapData);
+        String transferId = UUID.randomUUID().toString();
+        int chunks = MapChunkEncoder.chunkCount(entries.size(), chunkEntries);
+
+        Map<String, Object> body = new HashMap<>(extra);
+        body.put("mapId", mapId);
+        body.put("transferId", transferId);
+        body.put("version", version);
+        body.put("mode", base == null ? "full" : "diff");
+        if (base != null) {
+            body.put("baseVersion", known);
+        }
+        body.put("chunks", chunks);
+        body.put("entries", entries.size());
+        log.info("[start] channelId : {}, userId : {}, mapId : {}, version : {}, mode : {}, entries : {}", channelId, userId, mapId, version, body.get("mode"), entries.size());
+        unicasting.unicasting(channelId, userId, Message.success(eventName, CastingType.UNICASTING, body)).subscribe();
+
+        Transfer transfer = new Transfer(transferId, channelId, userId, historyKey, connection.channel(), version, entries, chunks);
+        Transfer previous = transfers.put(userId, transfer);
+        if (previous != null) {
+            log.info("[start] replaced transfer, userId : {}, transferId : {}", userId, previous.id);
+        }
+        pump(transfer);
+    }
+
+    /*
+     * ack 되지 않은 chunk 가 window 개가 될 때까지 전송
+     */
+    private void pump(Transfer transfer) {
+        List<Integer> next = new ArrayList<>();
+        boolean completed;
+        synchronized (transfer) {
+            while (transfer.sent < transfer.chunks && transfer.sent - transfer.acked < window) {
+                next.add(transfer.sent++);
+            }
+            completed = transfer.acked == transfer.chunks && !transfer.completed;
+            transfer.completed |= completed;
+        }
+
+        if (completed) {
+            if (transfer.channel.isActive()) {
+                Acked done = new Acked(transfer.historyKey, transfer.version, transfer.channel);
+                acked.put(transfer.userId, done);
+                transfer.channel.closeFuture().addListener(future -> acked.remove(transfer.userId, done));
+            }
+            transfers.remove(transfer.userId, transfer);
+            log.info("[pump] transfer completed, userId : {}, transferId : {}, version : {}", transfer.userId, transfer.id, transfer.version);
+            return;
+        }
+
+        for (int seq : next) {
+            Map<String, Object> chunk = new HashMap<>();
+            chunk.put("transferId", transfer.id);
+            chunk.put("seq", seq);
+            chunk.put("data", MapChunkEncoder.encode(transfer.entries, seq, chunkEntries));
+            unicasting.unicasting(transfer.channelId, transfer.userId, Message.success(CHUNK_EVENT, CastingType.UNICASTING, chunk)).subscribe();
+        }
+        if (!next.isEmpty()) {
+            Mono.delay(ackTimeout).subscribe(tick -> expire(transfer));
+        }
+    }
+
+    private void expire(Transfer transfer) {
+        synchronized (transfer) {
+            if (transfer.completed || System.nanoTime() - transfer.lastAck < ackTimeout.toNanos()) {
+                return;
+            }
+        }
+        if (transfers.remove(transfer.userId, transfer)) {
+            log.warn("[expire] transfer timed out, userId : {}, transferId : {}, acked : {}/{}", transfer.userId, transfer.id, transfer.acked, transfer.chunks);
+        }
+    }
+
+    /*
+     * base 이후 바뀐 position (지워진 position 은 null)
+     */
+    static List<Map.Entry<String, String>> diff(Map<String, String> base, Map<String, String> current) {
+        List<Map.Entry<String, String>> changes = new ArrayList<>();
+        current.forEach((position, value) -> {
+            if (!value.equals(base.get(position))) {
+                changes.add(new AbstractMap.SimpleEntry<>(position, value));
+            }
+        });
+        base.keySet().forEach(position -> {
+            if (!current.containsKey(position)) {
+                changes.add(new AbstractMap.SimpleEntry<>(position, null));
+            }
+        });
+        return changes;
+    }
+
+    private static final class History {
+
+        private final Deque<Snapshot> snapshots = new ArrayDeque<>();
+        private long version;
+
+        private long record(Map<String, String> mapData) {
+            Snapshot latest = snapshots.peekLast();
+            if (latest != null && latest.objects.equals(mapData)) {
+                return latest.version;
+            }
+            snapshots.addLast(new Snapshot(++version, Map.copyOf(mapData)));
+            if (snapshots.size() > MAX_VERSIONS) {
+                snapshots.removeFirst();
+            }
+            return version;
+        }
+
+        private Map<String, String> snapshot(long version) {
+            for (Snapshot snapshot : snapshots) {
+                if (snapshot.version == version) {
+                    return snapshot.objects;
+                }
+            }
+            return null;
+        }
+    }
+
+    private record Snapshot(long version, Map<String, String> objects) {
+    }
+
+    /*
+     * user 가 마지막으로 모두 받은 map version (그 connection 에서만 유효)
+     */
+    private record Acked(String historyKey, long version, Channel channel) {
+    }
+
+    private static final class Transfer {
+
+        private final String id;
+        private final String channelId;
+        private final Long userId;
+        private final String historyKey;
+        private final Channel channel;
+        private final long version;
+        private final List<Map.Entry<String, String>> entries;
+        private final int chunks;
+        private int sent;
+        private int acked;
+        private boolean completed;
+        private long lastAck = System.nanoTime();
+
+        private Transfer(String id, String channelId, Long userId, String historyKey, Channel channel, long version, List<Map.Entry<String, String>> entries, int chunks) {
+            this.id = id;
+            this.channelId = channelId;
+            this.userId = userId;
+            this.historyKey = historyKey;
+            this.channel = channel;
+            this.version = version;
+            this.entries = entries;
+            this.chunks = chunks;
+        }
+    }
+}
@@ -35,13 +35,19 @@ public class InventoryInfo {
                     .itemCategory("none")
                     .build();
         }
-        String[] result = inventoryInfo.split(":");
+        // {itemCategory}:{itemId}:{itemCnt}:{isFull} - split / 배열 할당 없이 구간 parse
+        int first = inventoryInfo.indexOf(':');
+        int second = inventoryInfo.indexOf(':', first + 1);
+        int third = inventoryInfo.indexOf(':', second + 1);
+        if (first < 0 || second < 0 || third < 0) {
+            throw new IllegalArgumentException("invalid inventory info : " + inventoryInfo);
+        }
         return InventoryInfo.builder()
                 .inventoryIdx(inventoryIdx)
-                .itemCategory(result[0])
-                .itemId(Integer.parseInt(result[1]))
-                .itemCnt(Integer.parseInt(result[2]))
-                .isFull(Integer.parseInt(result[3]))
+                .itemCategory(inventoryInfo.substring(0, first))
+                .itemId(Integer.parseInt(inventoryInfo, first + 1, second, 10))
+                .itemCnt(Integer.parseInt(inventoryInfo, second + 1, third, 10))
+                .isFull(Integer.parseInt(inventoryInfo, third + 1, inventoryInfo.length(), 10))
                 .build();
     }
 
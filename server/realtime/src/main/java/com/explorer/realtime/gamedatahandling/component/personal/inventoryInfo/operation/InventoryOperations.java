@@ -0,0 +1,246 @@
+package com.explorer.realtime.gamedatahandling.component.personal.inventoryInfo.operation;
+
+import com.explorer.realtime.gamedatahandling.component.common.mapinfo.repository.SeededMapRepository;
+import com.explorer.realtime.gamedatahandling.component.personal.inventoryInfo.dto.InventoryInfo;
+import com.explorer.realtime.gamedatahandling.component.personal.inventoryInfo.repository.InventoryRepository;
+import com.explorer.realtime.gamedatahandling.farming.exception.FarmingErrorCode;
+import com.explorer.realtime.gamedatahandling.farming.exception.FarmingException;
+import com.explorer.realtime.gamedatahandling.farming.repository.MapInfoRepository;
+import com.explorer.realtime.gamedatahandling.inventory.exception.InventoryErrorCode;
+import com.explorer.realtime.gamedatahandling.inventory.exception.InventoryException;
+import com.explorer.realtime.global.component.state.ChannelState;
+import com.explorer.realtime.global.component.state.GameStateEngine;
+import com.explorer.realtime.global.component.state.StateKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/*
+ * 인벤토리 변경 연산 모음 (줍기, 이동/합치기/교환, 사용, 버리기, 재료 소진)
+ * - 각 연산은 GameStateEngine 의 channel executor 에서 한 번에 실행되어 조회와 변경 사이에 다른 요청이 끼어들 수 없다
+ * - 변경된 칸을 반환한다 (비워진 칸은 itemCategory "none")
+ *
+ * inventoryData:{channelId}:{userId}
+ * - field : {inventoryIdx}
+ * - value : {itemCategory}:{itemId}:{itemCnt}:{isFull}
+ */
+@Slf4j
+@Component
+public class InventoryOperations {
+
+    private final GameStateEngine gameStateEngine;
+    private final SeededMapRepository seededMapRepository;
+
+    public InventoryOperations(GameStateEngine gameStateEngine, SeededMapRepository seededMapRepository) {
+        this.gameStateEngine = gameStateEngine;
+        this.seededMapRepository = seededMapRepository;
+    }
+
+    /*
+     * 버린 아이템과 버린 후의 인벤토리 칸
+     */
+    public record Dropped(InventoryInfo inventory, String itemCategory, int itemId) {
+    }
+
+    /*
+     * [맵의 아이템 줍기]
+     * mapValue : 조회 시점의 맵 데이터 ({itemCategory}:{isFarmable}:{itemId}) - 그 사이에 다른 플레이어가 가져갔다면 ITEM_NOT_FOUND
+     * 같은 아이템이 들어있는 칸(가득 차지 않은)이나 빈 칸 중 앞쪽에 넣고, 없다면 EXCEEDING_CAPACITY (맵의 아이템은 그대로 둔다)
+     */
+    public Mono<InventoryInfo> pickup(String channelId, Long userId, int inventoryCnt, int mapId, String position, String mapValue,
+                                      String itemCategory, int itemId, int maxCnt) {
+        StateKey mapKey = MapInfoRepository.stateKey(channelId, mapId);
+        StateKey inventoryKey = InventoryRepository.stateKey(channelId, userId);
+
+        return seededMapRepository.generated(channelId, mapId).flatMap(generated -> gameStateEngine.execute(channelId, List.of(mapKey, inventoryKey), state -> {
+            if (!mapValue.equals(SeededMapRepository.resolve(state, mapKey.key(), generated, position))) {
+                throw new FarmingException(FarmingErrorCode.ITEM_NOT_FOUND);
+            }
+            InventoryInfo result = findSlot(state, inventoryKey, inventoryCnt, itemCategory, itemId);
+            if (result == null) {
+                throw new FarmingException(FarmingErrorCode.EXCEEDING_CAPACITY);
+            }
+            if (result.getItemCnt() >= maxCnt) {
+                result.setIsFull(1);
+            }
+            save(state, inventoryKey, result);
+            SeededMapRepository.remove(state, mapKey.key(), generated, position);
+            log.info("[pickup] channelId : {}, userId : {}, position : {}, result : {}", channelId, userId, position, result);
+            return result;
+        }));
+    }
+
+    /*
+     * [인벤토리 내 이동]
+     * fromInventory, toInventory : 조회 시점의 값 - 그 사이에 변경되었다면 INVENTORY_CHANGED
+     * - to 가 빈 칸 : 이동
+     * - 같은 아이템 : maxCnt 까지 to 에 합치고 남은 개수는 from 에 둔다
+     * - 다른 아이템 : 교환
+     * 반환값 : [from, to]
+     */
+    public Mono<List<InventoryInfo>> move(String channelId, Long userId, int inventoryIdxFrom, int inventoryIdxTo,
+                                          String fromInventory, String toInventory, int maxCnt) {
+        StateKey key = InventoryRepository.stateKey(channelId, userId);
+
+        return gameStateEngine.execute(channelId, key, state -> {
+            if (!fromInventory.equals(read(state, key, inventoryIdxFrom)) || !toInventory.equals(read(state, key, inventoryIdxTo))) {
+                throw new InventoryException(InventoryErrorCode.INVENTORY_CHANGED);
+            }
+
+            InventoryInfo fromItem = InventoryInfo.ofString(inventoryIdxFrom, fromInventory);
+            InventoryInfo toItem = InventoryInfo.ofString(inventoryIdxTo, toInventory);
+
+            if (toInventory.isEmpty()) {
+                toItem = InventoryInfo.ofString(inventoryIdxTo, fromInventory);
+                fromItem = InventoryInfo.ofString(inventoryIdxFrom, "");
+            } else if (fromItem.getItemCategory().equals(toItem.getItemCategory()) && fromItem.getItemId() == toItem.getItemId()) {
+                int sum = fromItem.getItemCnt() + toItem.getItemCnt();
+                log.info("[move] 같은 아이템 합치기 sum : {}", sum);
+                if (sum <= maxCnt) {
+                    toItem.setItemCnt(sum);
+                    toItem.setIsFull(sum == maxCnt ? 1 : 0);
+                    fromItem = InventoryInfo.ofString(inventoryIdxFrom, "");
+                } else {
+                    fromItem.setItemCnt(sum - maxCnt);
+                    fromItem.setIsFull(0);
+                    toItem.setItemCnt(maxCnt);
+                    toItem.setIsFull(1);
+                }
+            } else {
+                log.info("[move] 다른 아이템 교환");
+                fromItem.setInventoryIdx(inventoryIdxTo);
+                toItem.setInventoryIdx(inventoryIdxFrom);
+                InventoryInfo swapped = fromItem;
+                fromItem = toItem;
+                toItem = swapped;
+            }
+            save(state, key, fromItem);
+            save(state, key, toItem);
+            return List.of(fromItem, toItem);
+        });
+    }
+
+    /*
+     * [아이템 1개 사용] 빈 칸이면 EMPTY_INVENTORY
+     */
+    public Mono<InventoryInfo> use(String channelId, Long userId, int inventoryIdx) {
+        StateKey key = InventoryRepository.stateKey(channelId, userId);
+
+        return gameStateEngine.execute(channelId, key, state -> {
+            InventoryInfo inventoryInfo = takeOne(state, key, inventoryIdx);
+            save(state, key, inventoryInfo);
+            return inventoryInfo;
+        });
+    }
+
+    /*
+     * [아이템 1개를 맵에 버리기] 빈 칸이면 EMPTY_INVENTORY
+     * mapData:{channelId}:{mapId} 의 position 에 {itemCategory}:notFarmable:{itemId} 로 놓는다
+     */
+    public Mono<Dropped> drop(String channelId, Long userId, int inventoryIdx, int mapId, String position) {
+        StateKey mapKey = MapInfoRepository.stateKey(channelId, mapId);
+        StateKey inventoryKey = InventoryRepository.stateKey(channelId, userId);
+
+        return gameStateEngine.execute(channelId, List.of(mapKey, inventoryKey), state -> {
+            InventoryInfo before = InventoryInfo.ofString(inventoryIdx, read(state, inventoryKey, inventoryIdx));
+            InventoryInfo inventoryInfo = takeOne(state, inventoryKey, inventoryIdx);
+            save(state, inventoryKey, inventoryInfo);
+            state.hset(mapKey.key(), position, before.getItemCategory() + ":notFarmable:" + before.getItemId());
+            return new Dropped(inventoryInfo, before.getItemCategory(), before.getItemId());
+        });
+    }
+
+    /*
+     * [재료 소진] 같은 아이템이 들어있는 칸 중 개수가 많은 칸부터 cnt 개를 소진한다
+     * 전체 개수가 부족하면 아무것도 소진하지 않고 empty
+     */
+    public Mono<List<InventoryInfo>> consume(String channelId, Long userId, String itemCategory, int itemId, int cnt) {
+        StateKey key = InventoryRepository.stateKey(channelId, userId);
+
+        return gameStateEngine.execute(channelId, key, state -> {
+            List<InventoryInfo> items = new ArrayList<>();
+            state.hgetAll(key.key()).forEach((field, value) -> {
+                String inventory = String.valueOf(value);
+                if (!inventory.isEmpty()) {
+                    InventoryInfo item = InventoryInfo.ofString(Integer.parseInt(field), inventory);
+                    if (item.getItemCategory().equals(itemCategory) && item.getItemId() == itemId && item.getItemCnt() > 0) {
+                        items.add(item);
+                    }
+                }
+            });
+            if (items.stream().mapToInt(InventoryInfo::getItemCnt).sum() < cnt) {
+                log.warn("[consume] not enough material, channelId : {}, userId : {}, item : {}:{}, cnt : {}", channelId, userId, itemCategory, itemId, cnt);
+                return null;
+            }
+            items.sort(Comparator.comparingInt(InventoryInfo::getItemCnt).reversed());
+
+            List<InventoryInfo> changed = new ArrayList<>();
+            int remainingCnt = cnt;
+            for (InventoryInfo item : items) {
+                if (remainingCnt <= 0) break;
+                if (item.getItemCnt() > remainingCnt) {
+                    item.setItemCnt(item.getItemCnt() - remainingCnt);
+                    item.setIsFull(0);
+                    remainingCnt = 0;
+                    changed.add(item);
+                } else {
+                    remainingCnt -= item.getItemCnt();
+                    changed.add(InventoryInfo.ofString(item.getInventoryIdx(), ""));
+                }
+            }
+            changed.forEach(item -> save(state, key, item));
+            return changed;
+        });
+    }
+
+    private String read(ChannelState state, StateKey key, int inventoryIdx) {
+        Object value = state.hget(key.key(), String.valueOf(inventoryIdx));
+        return value == null ? "" : value.toString();
+    }
+
+    /*
+     * 빈 칸은 field 를 삭제한다
+     */
+    private void save(ChannelState state, StateKey key, InventoryInfo inventoryInfo) {
+        String field = String.valueOf(inventoryInfo.getInventoryIdx());
+        if ("none".equals(inventoryInfo.getItemCategory())) {
+            state.hdel(key.key(), field);
+        } else {
+            state.hset(key.key(), field, inventoryInfo.toString());
+        }
+    }
+
+    private InventoryInfo takeOne(ChannelState state, StateKey key, int inventoryIdx) {
+        String inventory = read(state, key, inventoryIdx);
+        if (inventory.isEmpty()) {
+            throw new InventoryException(InventoryErrorCode.EMPTY_INVENTORY);
+        }
+        InventoryInfo inventoryInfo = InventoryInfo.ofString(inventoryIdx, inventory);
+        int result = inventoryInfo.getItemCnt() - 1;
+        if (result <= 0) {
+            return InventoryInfo.ofString(inventoryIdx, "");
+        }
+        inventoryInfo.setItemCnt(result);
+        inventoryInfo.setIsFull(0);
+        return inventoryInfo;
+    }
+
+    private InventoryInfo findSlot(ChannelState state, StateKey key, int inventoryCnt, String itemCategory, int itemId) {
+        for (int idx = 0; idx < inventoryCnt; idx++) {
+            String inventory = read(state, key, idx);
+            if (inventory.isEmpty()) {
+                return InventoryInfo.of(idx, itemCategory, itemId, 1, 0);
+            }
+            InventoryInfo result = InventoryInfo.ofString(idx, inventory);
+            if (result.getIsFull() == 0 && itemCategory.equals(result.getItemCategory()) && itemId == result.getItemId()) {
+                result.setItemCnt(result.getItemCnt() + 1);
+                return result;
+            }
+        }
+        return null;
+    }
+}
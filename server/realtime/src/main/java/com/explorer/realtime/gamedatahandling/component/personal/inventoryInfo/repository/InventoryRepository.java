@@ -1,67 +1,99 @@
 package com.explorer.realtime.gamedatahandling.component.personal.inventoryInfo.repository;
 
 import com.explorer.realtime.gamedatahandling.component.personal.inventoryInfo.dto.InventoryInfo;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.redis.core.ReactiveHashOperations;
-import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import com.explorer.realtime.global.component.state.GameStateEngine;
+import com.explorer.realtime.global.component.state.StateKey;
 import org.springframework.stereotype.Repository;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
+/*
+ * key : inventoryData:{channelId}:{userId}
+ * field : {inventoryIdx}
+ * value : {itemCategory}:{itemId}:{itemCnt}:{isFull}
+ * GameStateEngine 이 메모리에서 관리하고 redis 에는 write-behind 로 기록된다
+ */
 @Repository
 public class InventoryRepository {
 
-    private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
-    private final ReactiveHashOperations<String, String, Object> reactiveHashOperations;
+    private final GameStateEngine gameStateEngine;
 
     private static final String KEY_PREFIX = "inventoryData:";
 
-    public InventoryRepository(@Qualifier("gameReactiveRedisTemplate") ReactiveRedisTemplate<String, Object> reactiveRedisTemplate) {
-        this.reactiveRedisTemplate = reactiveRedisTemplate;
-        this.reactiveHashOperations = reactiveRedisTemplate.opsForHash();
+    public InventoryRepository(GameStateEngine gameStateEngine) {
+        this.gameStateEngine = gameStateEngine;
+    }
+
+    public static StateKey stateKey(String channelId, Long userId) {
+        return StateKey.hash(KEY_PREFIX + channelId + ":" + userId);
     }
 
     public Mono<Void> init(String channelId, Long userId, int inventoryCnt) {
-        String key = KEY_PREFIX + channelId + ":" + userId;
-        return Flux.range(0, inventoryCnt)
-                .flatMap(idx -> {
-                    return reactiveHashOperations.put(key, String.valueOf(idx), "");
-                })
-                .then();
+        StateKey key = stateKey(channelId, userId);
+        Map<String, Object> slots = new LinkedHashMap<>();
+        for (int idx = 0; idx < inventoryCnt; idx++) {
+            slots.put(String.valueOf(idx), "");
+        }
+        return gameStateEngine.execute(channelId, key, state -> {
+            state.hsetAll(key.key(), slots);
+            return true;
+        }).then();
     }
 
     public Mono<Boolean> save(String channelId, Long userId, InventoryInfo inventoryInfo) {
-        String key = KEY_PREFIX + channelId + ":" + userId;
-        String field = String.valueOf(inventoryInfo.getInventoryIdx());
-        String value = inventoryInfo.toString();
-        return reactiveHashOperations.put(key, field, value);
+        StateKey key = stateKey(channelId, userId);
+        return gameStateEngine.execute(channelId, key, state -> {
+            state.hset(key.key(), String.valueOf(inventoryInfo.getInventoryIdx()), inventoryInfo.toString());
+            return true;
+        });
+    }
+
+    /*
+     * 여러 칸을 한 번에 저장 (redis 에는 한 번의 write-back 으로 기록된다)
+     */
+    public Mono<Boolean> saveAll(String channelId, Long userId, List<InventoryInfo> inventoryInfos) {
+        StateKey key = stateKey(channelId, userId);
+        Map<String, Object> slots = new LinkedHashMap<>();
+        inventoryInfos.forEach(inventoryInfo -> slots.put(String.valueOf(inventoryInfo.getInventoryIdx()), inventoryInfo.toString()));
+        return gameStateEngine.execute(channelId, key, state -> {
+            state.hsetAll(key.key(), slots);
+            return true;
+        });
     }
 
     public Mono<Object> findByInventoryIdx(String channelId, Long userId, int inventoryIdx) {
-        String key = KEY_PREFIX + channelId + ":" + userId;
-        return reactiveHashOperations.get(key, String.valueOf(inventoryIdx))
+        StateKey key = stateKey(channelId, userId);
+        return gameStateEngine.execute(channelId, key, state -> state.hget(key.key(), String.valueOf(inventoryIdx)))
                 .switchIfEmpty(Mono.just(""));
     }
 
     public Mono<Long> deleteByInventoryIdx(String channelId, Long userId, int inventoryIdx) {
-        String key = KEY_PREFIX + channelId + ":" + userId;
-        return reactiveHashOperations.remove(key, String.valueOf(inventoryIdx));
+        StateKey key = stateKey(channelId, userId);
+        return gameStateEngine.execute(channelId, key, state -> state.hdel(key.key(), String.valueOf(inventoryIdx)) ? 1L : 0L);
     }
 
     public Mono<Boolean> deleteUserInventory(String channelId, Long userId) {
-        String key = KEY_PREFIX + channelId + ":" + userId;
-        return reactiveHashOperations.delete(key);
+        StateKey key = stateKey(channelId, userId);
+        return gameStateEngine.execute(channelId, key, state -> state.delete(key));
     }
 
     public Mono<Map<String, String>> findInventoryData(String channelId, Long userId) {
-        String key = KEY_PREFIX + channelId + ":" + userId;
-        return reactiveHashOperations.entries(key)
-                .collectMap(Map.Entry::getKey,entry -> (String)entry.getValue());
+        StateKey key = stateKey(channelId, userId);
+        return gameStateEngine.execute(channelId, key, state -> {
+            Map<String, String> data = new LinkedHashMap<>();
+            state.hgetAll(key.key()).forEach((field, value) -> data.put(field, (String) value));
+            return data;
+        });
     }
 
-    public Mono<Boolean> put(String key, String field, String value) {
-        return reactiveHashOperations.put(key, field, value);
+    public Mono<Boolean> put(String channelId, Long userId, String field, String value) {
+        StateKey key = stateKey(channelId, userId);
+        return gameStateEngine.execute(channelId, key, state -> {
+            state.hset(key.key(), field, value);
+            return true;
+        });
     }
 }
@@ -2,6 +2,7 @@ package com.explorer.realtime.gamedatahandling.component.personal.playerInfo.eve
 
 import com.explorer.realtime.gamedatahandling.component.personal.playerInfo.repository.PlayerInfoRepository;
 import com.explorer.realtime.global.redis.ChannelRepository;
+import com.explorer.realtime.sessionhandling.ingame.dto.UserInfo;
 import com.explorer.realtime.sessionhandling.waitingroom.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,18 +27,16 @@ public class SetInitialPlayerInfo {
         log.info("[saveAllInitPlayerInfoByChannelId] channelId : {}", channelId);
 
         return channelRepository.findAllFields(channelId)
-                .flatMap(userId -> userRepository.findAll(Long.valueOf(String.valueOf(userId)))
-                        .flatMap(map -> {
-                            log.info("[saveAllInitPlayerInfoByChannelId] map : {}", map);
-                            return playerInfoRepository.init(
-                                    channelId,
-                                    Long.valueOf(String.valueOf(userId)),
-                                    String.valueOf(map.get("nickname")),
-                                    Integer.parseInt(String.valueOf(map.get("avatar"))),
-                                    Integer.parseInt(String.valueOf(inventoryCnt))
-                            );
-                        }))
-                .then();
+                .flatMap(field -> {
+                    Long userId = Long.valueOf(String.valueOf(field));
+                    return userRepository.findAvatarAndNickname(userId)
+                            .map(map -> {
+                                log.info("[saveAllInitPlayerInfoByChannelId] map : {}", map);
+                                return UserInfo.of(userId, map.get("nickname"), Integer.parseInt(map.get("avatar")));
+                            });
+                })
+                .collectMap(UserInfo::getUserId)
+                .flatMap(users -> playerInfoRepository.init(channelId, users, inventoryCnt));
     }
 
 }
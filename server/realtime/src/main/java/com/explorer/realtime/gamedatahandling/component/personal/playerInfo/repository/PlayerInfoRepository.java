@@ -1,11 +1,16 @@
 package com.explorer.realtime.gamedatahandling.component.personal.playerInfo.repository;
 
+import com.explorer.realtime.global.redis.RedisBatch;
+import com.explorer.realtime.sessionhandling.ingame.dto.UserInfo;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.ReactiveHashOperations;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Repository
 public class PlayerInfoRepository {
 
@@ -19,14 +24,20 @@ public class PlayerInfoRepository {
         this.reactiveHashOperations = reactiveRedisTemplate.opsForHash();
     }
 
-    public Mono<Void> init(String channelId, Long userId, String nickname, int avatar, int inventoryCnt) {
-        String key = KEY_PREFIX + channelId + ":" + userId;
-        return Mono.when(
-                reactiveHashOperations.put(key, "nickname", nickname),
-                reactiveHashOperations.put( key, "avatar", String.valueOf(avatar)),
-                reactiveHashOperations.put(key, "inventoryCnt", String.valueOf(inventoryCnt)),
-                reactiveHashOperations.put(key, "tool", String.valueOf(-1))
-        ).then();
+    /*
+     * channel 의 모든 플레이어 정보를 한 번의 batch 로 저장한다
+     */
+    public Mono<Void> init(String channelId, Map<Long, UserInfo> users, int inventoryCnt) {
+        RedisBatch batch = RedisBatch.on(reactiveRedisTemplate);
+        users.forEach((userId, userInfo) -> {
+            Map<String, String> playerInfo = new HashMap<>();
+            playerInfo.put("nickname", userInfo.getNickname());
+            playerInfo.put("avatar", String.valueOf(userInfo.getAvatar()));
+            playerInfo.put("inventoryCnt", String.valueOf(inventoryCnt));
+            playerInfo.put("tool", String.valueOf(-1));
+            batch.hash(KEY_PREFIX + channelId + ":" + userId, playerInfo);
+        });
+        return batch.execute();
     }
 
     public Mono<Object> findInventoryCnt(String channelId, Long userId) {
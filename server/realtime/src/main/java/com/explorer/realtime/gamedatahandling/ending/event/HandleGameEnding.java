@@ -3,7 +3,6 @@ package com.explorer.realtime.gamedatahandling.ending.event;
 import com.explorer.realtime.global.common.dto.Message;
 import com.explorer.realtime.global.common.enums.CastingType;
 import com.explorer.realtime.global.component.broadcasting.Broadcasting;
-import com.explorer.realtime.global.util.MessageConverter;
 import com.explorer.realtime.sessionhandling.ingame.enums.Status;
 import com.explorer.realtime.sessionhandling.ingame.repository.ChannelMongoRepository;
 import lombok.RequiredArgsConstructor;
@@ -39,7 +38,7 @@ public class HandleGameEnding {
                     log.info("[process] savedChannel : {}", savedChannel);
                     return broadcasting.broadcasting(
                             channelId,
-                            MessageConverter.convert(Message.success(eventName, CastingType.BROADCASTING))
+                            Message.success(eventName, CastingType.BROADCASTING)
                     );
                 })
                 .then();
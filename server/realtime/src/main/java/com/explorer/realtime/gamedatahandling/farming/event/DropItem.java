@@ -4,7 +4,6 @@ import com.explorer.realtime.gamedatahandling.farming.repository.MapInfoReposito
 import com.explorer.realtime.global.common.dto.Message;
 import com.explorer.realtime.global.common.enums.CastingType;
 import com.explorer.realtime.global.component.broadcasting.Broadcasting;
-import com.explorer.realtime.global.util.MessageConverter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
@@ -75,7 +74,7 @@ public class DropItem {
 
         return broadcasting.broadcasting(
                 channelId,
-                MessageConverter.convert(Message.success("dropItem", CastingType.BROADCASTING, dataBody)));
+                Message.success("dropItem", CastingType.BROADCASTING, dataBody));
     }
 
 }
@@ -4,8 +4,9 @@ import com.explorer.realtime.gamedatahandling.farming.repository.MapInfoReposito
 import com.explorer.realtime.global.common.dto.Message;
 import com.explorer.realtime.global.common.enums.CastingType;
 import com.explorer.realtime.global.component.broadcasting.Broadcasting;
+import com.explorer.realtime.global.component.codec.BinaryCodec;
+import com.explorer.realtime.global.component.codec.WireMessage;
 import com.explorer.realtime.global.component.broadcasting.Unicasting;
-import com.explorer.realtime.global.util.MessageConverter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
@@ -106,8 +107,11 @@ public class Farm {
 
         return broadcasting.broadcasting(
                 channelId,
-                MessageConverter.convert(Message.success("farm", CastingType.BROADCASTING, dataBody))
-                ).then();
+                WireMessage.of(
+                        Message.success("farm", CastingType.BROADCASTING, dataBody),
+                        BinaryCodec.encodeFarm(mapId, position)
+                )
+        ).then();
     }
 
     /*
@@ -123,7 +127,7 @@ public class Farm {
         dataBody.put("msg", msg);
 
         return unicasting.unicasting(channelId, userId,
-                        MessageConverter.convert(Message.fail("farm", CastingType.UNICASTING, dataBody)))
+                        Message.fail("farm", CastingType.UNICASTING, dataBody))
                 .then();
     }
 
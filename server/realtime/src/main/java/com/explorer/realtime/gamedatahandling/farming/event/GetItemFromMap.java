@@ -1,8 +1,8 @@
 package com.explorer.realtime.gamedatahandling.farming.event;
 
-import com.explorer.realtime.gamedatahandling.component.personal.inventoryInfo.repository.InventoryRepository;
 import com.explorer.realtime.gamedatahandling.component.personal.playerInfo.repository.PlayerInfoRepository;
 import com.explorer.realtime.gamedatahandling.component.personal.inventoryInfo.dto.InventoryInfo;
+import com.explorer.realtime.gamedatahandling.component.personal.inventoryInfo.operation.InventoryOperations;
 import com.explorer.realtime.gamedatahandling.farming.exception.FarmingErrorCode;
 import com.explorer.realtime.gamedatahandling.farming.exception.FarmingException;
 import com.explorer.realtime.gamedatahandling.farming.repository.ItemRepository;
@@ -10,13 +10,14 @@ import com.explorer.realtime.gamedatahandling.farming.repository.MapInfoReposito
 import com.explorer.realtime.global.common.dto.Message;
 import com.explorer.realtime.global.common.enums.CastingType;
 import com.explorer.realtime.global.component.broadcasting.Broadcasting;
+import com.explorer.realtime.global.component.codec.BinaryCodec;
+import com.explorer.realtime.global.component.codec.WireMessage;
 import com.explorer.realtime.global.component.broadcasting.Unicasting;
-import com.explorer.realtime.global.util.MessageConverter;
+import com.explorer.realtime.staticdatahandling.registry.StaticDataRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
 import org.springframework.stereotype.Service;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.HashMap;
@@ -30,8 +31,9 @@ public class GetItemFromMap {
 
     private final MapInfoRepository mapInfoRepository;
     private final ItemRepository itemRepository;
+    private final StaticDataRegistry staticDataRegistry;
     private final PlayerInfoRepository playerInfoRepository;
-    private final InventoryRepository inventoryRepository;
+    private final InventoryOperations inventoryOperations;
     private final Unicasting unicasting;
     private final Broadcasting broadcasting;
 
@@ -56,22 +58,25 @@ public class GetItemFromMap {
                     int inventoryCnt = tuple.getT2();
                     String itemCategory = (String) itemInfo.get("itemCategory");
                     int itemId = (int) itemInfo.get("itemId");
-                    return checkInventory(channelId, userId, itemCategory, itemId, inventoryCnt);
+                    return getItemMaxCnt(itemCategory, itemId)
+                            .flatMap(maxCnt -> inventoryOperations.pickup(channelId, userId, inventoryCnt, mapId, position, (String) itemInfo.get("value"), itemCategory, itemId, maxCnt));
                 });
 
         return checkInventoryMono
                 .flatMap(result -> {
                     log.info("[process] result : {}", result);
 
-                    return mapInfoRepository.deleteByPosition(channelId, mapId, position)
-                            .then(unicasting.unicasting(
+                    return unicasting.unicasting(
                                     channelId,
                                     userId,
-                                    MessageConverter.convert(Message.success(eventName, CastingType.UNICASTING, result))
-                            ))
+                                    Message.success(eventName, CastingType.UNICASTING, result)
+                            )
                             .then(broadcasting.broadcasting(
                                     channelId,
-                                    MessageConverter.convert(Message.success(eventName, CastingType.BROADCASTING, Map.of("position", position)))
+                                    WireMessage.of(
+                                            Message.success(eventName, CastingType.BROADCASTING, Map.of("position", position)),
+                                            BinaryCodec.encodeGetItemFromMap(position)
+                                    )
                             ));
                 })
                 .onErrorResume(FarmingException.class, error -> {
@@ -79,7 +84,7 @@ public class GetItemFromMap {
                     return unicasting.unicasting(
                             channelId,
                             userId,
-                            MessageConverter.convert(Message.fail(eventName, CastingType.UNICASTING, String.valueOf(error.getErrorCode()), error.getMessage()))
+                            Message.fail(eventName, CastingType.UNICASTING, String.valueOf(error.getErrorCode()), error.getMessage())
                     ).then();
                 });
     }
@@ -99,6 +104,7 @@ public class GetItemFromMap {
                     Map<String, Object> map = new HashMap<>();
                     map.put("itemCategory", itemInfo[0]);
                     map.put("itemId", Integer.parseInt(itemInfo[2]));
+                    map.put("value", String.valueOf(result));
                     return Mono.just(map);
                 });
     }
@@ -113,6 +119,11 @@ public class GetItemFromMap {
     private Mono<Integer> getItemMaxCnt(String itemCategory, int itemId) {
         log.info("[getItemMaxCnt] itemCategory : {}, itemId : {}", itemCategory, itemId);
 
+        int cachedMaxCnt = staticDataRegistry.current().maxCnt(itemCategory, itemId);
+        if (cachedMaxCnt >= 0) {
+            return Mono.just(cachedMaxCnt);
+        }
+        // static data snapshot 이 아직 load 되지 않았거나 등록되지 않은 item
         return itemRepository.findByItemCategoryAndItemId(itemCategory, itemId)
                 .flatMap(map -> {
                     int maxCnt = Integer.parseInt(String.valueOf(map));
@@ -121,39 +132,4 @@ public class GetItemFromMap {
                 });
     }
 
-    private Mono<InventoryInfo> putItemInInventory(InventoryInfo result, String channelId, Long userId, String itemCategory, int itemId) {
-        return getItemMaxCnt(itemCategory, itemId)
-                .flatMap(maxCnt -> {
-                    if (result.getItemCnt() == maxCnt) {
-                        result.setIsFull(1);
-                    }
-                    return inventoryRepository.save(channelId, userId, result).thenReturn(result);
-                });
-    }
-
-    private Mono<InventoryInfo> checkInventory(String channelId, Long userId, String itemCategory, int itemId, int inventoryCnt) {
-        log.info("[checkInventory] channelId : {}, userId : {}, itemCategory : {}, itemId : {}, inventoryCnt : {}", channelId, userId, itemCategory, itemId, inventoryCnt);
-
-        return Flux.range(0, inventoryCnt)
-                .concatMap(idx -> {
-                    log.info("[checkInventory] idx : {}", idx);
-                    return inventoryRepository.findByInventoryIdx(channelId, userId, idx)
-                            .flatMap(inventoryInfo -> {
-                                log.info("[checkInventory] inventoryInfo : {}", inventoryInfo);
-                                if (inventoryInfo == null || String.valueOf(inventoryInfo).isEmpty()) {
-                                    InventoryInfo result = InventoryInfo.of(idx, itemCategory, itemId, 1, 0);
-                                    return putItemInInventory(result, channelId, userId, itemCategory, itemId);
-                                }
-                                InventoryInfo result = InventoryInfo.ofString(idx, String.valueOf(inventoryInfo));
-                                if (result.getIsFull() == 0 && (itemCategory.equals(result.getItemCategory()) && itemId == result.getItemId())) {
-                                    result.setItemCnt(result.getItemCnt() + 1);
-                                    return putItemInInventory(result, channelId, userId, itemCategory, itemId);
-                                }
-                                return Mono.empty();
-                            });
-                })
-                .next()
-                .switchIfEmpty(Mono.error(new FarmingException(FarmingErrorCode.EXCEEDING_CAPACITY)));
-    }
-
 }
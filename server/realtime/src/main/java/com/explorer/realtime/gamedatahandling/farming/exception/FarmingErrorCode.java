@@ -9,7 +9,8 @@ import org.springframework.http.HttpStatus;
 public enum FarmingErrorCode {
 
     INVALID_ITEM_CATEGORY_IN_INVENTORY("인벤토리에 들어갈 수 없는 아이템입니다.", HttpStatus.BAD_REQUEST),
-    EXCEEDING_CAPACITY("인벤토리가 가득 차서 아이템을 추가할 수 없습니다.", HttpStatus.CONFLICT);
+    EXCEEDING_CAPACITY("인벤토리가 가득 차서 아이템을 추가할 수 없습니다.", HttpStatus.CONFLICT),
+    ITEM_NOT_FOUND("이미 다른 플레이어가 획득한 아이템입니다.", HttpStatus.CONFLICT);
 
     private final String message;
     private final HttpStatus httpStatus;
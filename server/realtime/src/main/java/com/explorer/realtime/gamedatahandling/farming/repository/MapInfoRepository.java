@@ -1,23 +1,26 @@
 package com.explorer.realtime.gamedatahandling.farming.repository;
 
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.redis.core.ReactiveHashOperations;
-import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import com.explorer.realtime.gamedatahandling.component.common.mapinfo.repository.SeededMapRepository;
+import com.explorer.realtime.global.component.state.GameStateEngine;
+import com.explorer.realtime.global.component.state.StateKey;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
 
 @Repository
 public class MapInfoRepository {
 
-    private final ReactiveRedisTemplate<String,Object> reactiveRedisTemplate;
-
-    private final ReactiveHashOperations<String, Object, Object> reactiveHashOperations;
+    private final GameStateEngine gameStateEngine;
+    private final SeededMapRepository seededMapRepository;
 
     private static final String KEY_PREFIX = "mapData:";
 
-    public MapInfoRepository(@Qualifier("gameReactiveRedisTemplate") ReactiveRedisTemplate<String, Object> reactiveRedisTemplate) {
-        this.reactiveRedisTemplate = reactiveRedisTemplate;
-        this.reactiveHashOperations = reactiveRedisTemplate.opsForHash();
+    public MapInfoRepository(GameStateEngine gameStateEngine, SeededMapRepository seededMapRepository) {
+        this.gameStateEngine = gameStateEngine;
+        this.seededMapRepository = seededMapRepository;
+    }
+
+    public static StateKey stateKey(String channelId, int mapId) {
+        return StateKey.hash(KEY_PREFIX + channelId + ":" + String.valueOf(mapId));
     }
 
     /*
@@ -27,22 +30,29 @@ public class MapInfoRepository {
      * 반환값 :
      *      있는 경우 : {itemCategory}:{isFarmabale}:{itemId}
      *      없는 경우 : empty Mono
+     * seed 로 배치를 만드는 map 은 seed 배치 + 변경분으로 조회한다 (SeededMapRepository)
      */
     public Mono<String> findByPosition(String channelId, int mapId, String position) {
-        String key = KEY_PREFIX + channelId + ":" + String.valueOf(mapId);
-        return reactiveHashOperations.get(key, position).map(Object::toString);
+        StateKey key = stateKey(channelId, mapId);
+        return seededMapRepository.generated(channelId, mapId)
+                .flatMap(generated -> gameStateEngine.execute(channelId, key, state -> SeededMapRepository.resolve(state, key.key(), generated, position)));
     }
 
     public Mono<Void> deleteByPosition(String channelId, int mapId, String position) {
-        String key = KEY_PREFIX + channelId + ":" + String.valueOf(mapId);
-        return reactiveHashOperations.remove(key, position).then();
+        StateKey key = stateKey(channelId, mapId);
+        return seededMapRepository.generated(channelId, mapId)
+                .flatMap(generated -> gameStateEngine.execute(channelId, key, state -> SeededMapRepository.remove(state, key.key(), generated, position)))
+                .then();
     }
 
     public Mono<Boolean> save(String channelId, int mapId, String position, String itemCategory, int itemId, int itemCnt) {
-        String key = KEY_PREFIX + channelId + ":" + String.valueOf(mapId);
+        StateKey key = stateKey(channelId, mapId);
         String field = position;
         String value = itemCategory + ":notFarmable:" + String.valueOf(itemId);
-        return reactiveHashOperations.put(key, field, value);
+        return gameStateEngine.execute(channelId, key, state -> {
+            state.hset(key.key(), field, value);
+            return true;
+        });
     }
 
 }
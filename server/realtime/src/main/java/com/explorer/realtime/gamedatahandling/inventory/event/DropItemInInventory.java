@@ -1,9 +1,8 @@
 package com.explorer.realtime.gamedatahandling.inventory.event;
 
 import com.explorer.realtime.gamedatahandling.component.personal.inventoryInfo.dto.InventoryInfo;
-import com.explorer.realtime.gamedatahandling.component.personal.inventoryInfo.repository.InventoryRepository;
+import com.explorer.realtime.gamedatahandling.component.personal.inventoryInfo.operation.InventoryOperations;
 import com.explorer.realtime.gamedatahandling.component.personal.playerInfo.repository.PlayerInfoRepository;
-import com.explorer.realtime.gamedatahandling.farming.repository.MapInfoRepository;
 import com.explorer.realtime.gamedatahandling.inventory.dto.ItemInfo;
 import com.explorer.realtime.gamedatahandling.inventory.exception.InventoryErrorCode;
 import com.explorer.realtime.gamedatahandling.inventory.exception.InventoryException;
@@ -11,7 +10,6 @@ import com.explorer.realtime.global.common.dto.Message;
 import com.explorer.realtime.global.common.enums.CastingType;
 import com.explorer.realtime.global.component.broadcasting.Broadcasting;
 import com.explorer.realtime.global.component.broadcasting.Unicasting;
-import com.explorer.realtime.global.util.MessageConverter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
@@ -26,8 +24,7 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class DropItemInInventory {
 
-    private final InventoryRepository inventoryRepository;
-    private final MapInfoRepository mapInfoRepository;
+    private final InventoryOperations inventoryOperations;
     private final PlayerInfoRepository playerInfoRepository;
     private final Unicasting unicasting;
     private final Broadcasting broadcasting;
@@ -48,39 +45,19 @@ public class DropItemInInventory {
                     if (inventoryIdx < 0 || inventoryIdx >= maxCnt) {
                         return Mono.error(new InventoryException(InventoryErrorCode.OUT_OF_RANGE_INDEX));
                     }
-                    return Mono.empty();
+                    return inventoryOperations.drop(channelId, userId, inventoryIdx, mapId, position);
                 })
-                .then(inventoryRepository.findByInventoryIdx(channelId, userId, inventoryIdx))
-                .flatMap(inventory -> {
-                    if (String.valueOf(inventory).isEmpty()) {
-                        return Mono.error(new InventoryException(InventoryErrorCode.EMPTY_INVENTORY));
-                    }
-
-                    InventoryInfo inventoryInfo = InventoryInfo.ofString(inventoryIdx, String.valueOf(inventory));
-                    String itemCategory = inventoryInfo.getItemCategory();
-                    int itemId = inventoryInfo.getItemId();
-                    log.info("[process] inventoryInfo : {}", inventoryInfo);
-
-                    int result = inventoryInfo.getItemCnt() - 1;
-                    if (result <= 0) {
-                        return inventoryRepository.deleteByInventoryIdx(channelId, userId, inventoryIdx)
-                                .then(mapInfoRepository.save(channelId, mapId, position, itemCategory, itemId, 0))
-                                .then(unicasting(channelId, userId, InventoryInfo.ofString(inventoryIdx, "")))
-                                .then(broadcasting(channelId, position, ItemInfo.of(itemCategory, itemId)));
-                    } else {
-                        inventoryInfo.setItemCnt(result);
-                        return inventoryRepository.save(channelId, userId, inventoryInfo)
-                                .then(mapInfoRepository.save(channelId, mapId, position, itemCategory, itemId,result))
-                                .then(unicasting(channelId, userId, inventoryInfo))
-                                .then(broadcasting(channelId, position, ItemInfo.of(itemCategory, itemId)));
-                    }
+                .flatMap(dropped -> {
+                    log.info("[process] inventoryInfo : {}", dropped.inventory());
+                    return unicasting(channelId, userId, dropped.inventory())
+                            .then(broadcasting(channelId, position, ItemInfo.of(dropped.itemCategory(), dropped.itemId())));
                 })
                 .onErrorResume(InventoryException.class, error -> {
                     log.info("[process] errorCode : {}, errorMessage : {}", error.getErrorCode(), error.getMessage());
                     unicasting.unicasting(
                             channelId,
                             userId,
-                            MessageConverter.convert(Message.fail(eventName, CastingType.UNICASTING, String.valueOf(error.getErrorCode()), error.getMessage()))
+                            Message.fail(eventName, CastingType.UNICASTING, String.valueOf(error.getErrorCode()), error.getMessage())
                     ).subscribe();
                     return Mono.empty();
                 }).then();
@@ -99,7 +76,7 @@ public class DropItemInInventory {
         return unicasting.unicasting(
                 channelId,
                 userId,
-                MessageConverter.convert(Message.success(eventName, CastingType.UNICASTING, inventoryInfo))
+                Message.success(eventName, CastingType.UNICASTING, inventoryInfo)
         );
     }
 
@@ -113,7 +90,7 @@ public class DropItemInInventory {
 
         return broadcasting.broadcasting(
                 channelId,
-                MessageConverter.convert(Message.success(eventName, CastingType.BROADCASTING, map))
+                Message.success(eventName, CastingType.BROADCASTING, map)
         );
     }
 
@@ -1,6 +1,7 @@
 package com.explorer.realtime.gamedatahandling.inventory.event;
 
 import com.explorer.realtime.gamedatahandling.component.personal.inventoryInfo.dto.InventoryInfo;
+import com.explorer.realtime.gamedatahandling.component.personal.inventoryInfo.operation.InventoryOperations;
 import com.explorer.realtime.gamedatahandling.component.personal.inventoryInfo.repository.InventoryRepository;
 import com.explorer.realtime.gamedatahandling.component.personal.playerInfo.repository.PlayerInfoRepository;
 import com.explorer.realtime.gamedatahandling.farming.repository.ItemRepository;
@@ -10,13 +11,14 @@ import com.explorer.realtime.gamedatahandling.inventory.exception.InventoryExcep
 import com.explorer.realtime.global.common.dto.Message;
 import com.explorer.realtime.global.common.enums.CastingType;
 import com.explorer.realtime.global.component.broadcasting.Unicasting;
-import com.explorer.realtime.global.util.MessageConverter;
+import com.explorer.realtime.staticdatahandling.registry.StaticDataRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
 
 @Slf4j
 @Service
@@ -24,7 +26,9 @@ import reactor.core.scheduler.Schedulers;
 public class MoveItemInInventory {
 
     private final InventoryRepository inventoryRepository;
+    private final InventoryOperations inventoryOperations;
     private final ItemRepository itemRepository;
+    private final StaticDataRegistry staticDataRegistry;
     private final PlayerInfoRepository playerInfoRepository;
     private final Unicasting unicasting;
 
@@ -40,23 +44,13 @@ public class MoveItemInInventory {
         log.info("[process] inventoryIdxFrom : {}, inventoryIdxTo : {}", inventoryIdxFrom, inventoryIdxTo);
 
         return checkInventory(channelId, userId, inventoryIdxFrom, inventoryIdxTo)
-                .then(Mono.defer(() -> Mono.zip(
-                        inventoryRepository.findByInventoryIdx(channelId, userId, inventoryIdxFrom).map(Object::toString),
-                        inventoryRepository.findByInventoryIdx(channelId, userId, inventoryIdxTo).map(Object::toString)
-                )))
-                .flatMap(tuple -> {
-                    String fromInventory = tuple.getT1();
-                    String toInventory = tuple.getT2();
-                    log.info("[process] fromInventory : {}, fromInventory : {}", fromInventory, toInventory);
-
-                    InventoryInfo fromItem = InventoryInfo.ofString(inventoryIdxFrom, fromInventory);
-                    InventoryInfo toItem = InventoryInfo.ofString(inventoryIdxTo, toInventory);
-                    InventoryResponse inventoryResponse = InventoryResponse.of(fromItem, toItem);
+                .flatMap(changed -> {
+                    InventoryResponse inventoryResponse = InventoryResponse.of(changed.get(0), changed.get(1));
                     log.info("[process] inventoryResponse : {}", inventoryResponse);
                     unicasting.unicasting(
                             channelId,
                             userId,
-                            MessageConverter.convert(Message.success(eventName, CastingType.UNICASTING, inventoryResponse))
+                            Message.success(eventName, CastingType.UNICASTING, inventoryResponse)
                     ).subscribe();
                     return Mono.empty();
                 })
@@ -65,7 +59,7 @@ public class MoveItemInInventory {
                     unicasting.unicasting(
                             channelId,
                             userId,
-                            MessageConverter.convert(Message.fail(eventName, CastingType.UNICASTING, String.valueOf(error.getErrorCode()), error.getMessage()))
+                            Message.fail(eventName, CastingType.UNICASTING, String.valueOf(error.getErrorCode()), error.getMessage())
                     ).subscribe();
                     return Mono.empty();
                 }).then();
@@ -74,6 +68,11 @@ public class MoveItemInInventory {
     private Mono<Integer> getItemMaxCnt(String itemCategory, int itemId) {
         log.info("[getItemMaxCnt] itemCategory : {}, itemId : {}", itemCategory, itemId);
 
+        int cachedMaxCnt = staticDataRegistry.current().maxCnt(itemCategory, itemId);
+        if (cachedMaxCnt >= 0) {
+            return Mono.just(cachedMaxCnt);
+        }
+        // static data snapshot 이 아직 load 되지 않았거나 등록되지 않은 item
         return itemRepository.findByItemCategoryAndItemId(itemCategory, itemId)
                 .flatMap(map -> {
                     int maxCnt = Integer.parseInt(String.valueOf(map));
@@ -89,7 +88,7 @@ public class MoveItemInInventory {
                 .map(map -> Integer.parseInt(String.valueOf(map)));
     }
 
-    private Mono<Void> checkInventory(String channelId, Long userId, int inventoryIdxFrom, int inventoryIdxTo) {
+    private Mono<List<InventoryInfo>> checkInventory(String channelId, Long userId, int inventoryIdxFrom, int inventoryIdxTo) {
         return getInventoryCntByUserId(channelId, userId)
                 .flatMap(maxCnt -> {
                     if (inventoryIdxFrom < 0 || inventoryIdxFrom >= maxCnt || inventoryIdxTo < 0 || inventoryIdxTo >= maxCnt) {
@@ -105,7 +104,6 @@ public class MoveItemInInventory {
                             inventoryRepository.findByInventoryIdx(channelId, userId, inventoryIdxTo)
                     );
                 })
-                .publishOn(Schedulers.boundedElastic())
                 .flatMap(tuple -> {
                     String fromInventory = tuple.getT1() != null ? tuple.getT1().toString() : "";
                     String toInventory = tuple.getT2() != null ? tuple.getT2().toString() : "";
@@ -116,42 +114,17 @@ public class MoveItemInInventory {
                     }
 
                     if (toInventory.isEmpty()) {
-                        return inventoryRepository.deleteByInventoryIdx(channelId, userId, inventoryIdxFrom)
-                                .then(inventoryRepository.save(channelId, userId, InventoryInfo.ofString(inventoryIdxTo, fromInventory)))
-                                .then(Mono.empty());
-                    } else {
-                        InventoryInfo fromItem = InventoryInfo.ofString(inventoryIdxFrom, fromInventory);
-                        InventoryInfo toItem = InventoryInfo.ofString(inventoryIdxTo, toInventory);
-
-                        if (fromItem.getItemCategory().equals(toItem.getItemCategory()) && fromItem.getItemId() == toItem.getItemId()) {
-                            log.info("[checkInventory] from, to 아이템 종류가 같습니다.");
-                            int fromItemCnt = fromItem.getItemCnt();
-                            int toItemCnt = toItem.getItemCnt();
-                            return getItemMaxCnt(fromItem.getItemCategory(), fromItem.getItemId())
-                                    .flatMap(maxCnt -> {
-                                        int sum = fromItemCnt + toItemCnt;
-                                        log.info("[checkInventory] sum : {}", sum);
-                                        if (sum <= maxCnt) {
-                                            toItem.setItemCnt(sum);
-                                            return inventoryRepository.save(channelId, userId, toItem)
-                                                    .then(inventoryRepository.deleteByInventoryIdx(channelId, userId, inventoryIdxFrom));
-                                        } else {
-                                            fromItem.setItemCnt(sum - maxCnt);
-                                            toItem.setItemCnt(maxCnt);
-                                            return inventoryRepository.save(channelId, userId, toItem)
-                                                    .then(inventoryRepository.save(channelId, userId, fromItem));
-                                        }
-                                    });
-                        } else {
-                            log.info("[checkInventory] from, to 아이템 종류가 다릅니다.");
-                            fromItem.setInventoryIdx(inventoryIdxTo);
-                            toItem.setInventoryIdx(inventoryIdxFrom);
-                            return inventoryRepository.save(channelId, userId, fromItem)
-                                    .then(inventoryRepository.save(channelId, userId, toItem))
-                                    .then(Mono.empty());
-                        }
+                        return inventoryOperations.move(channelId, userId, inventoryIdxFrom, inventoryIdxTo, fromInventory, toInventory, 0);
                     }
-                }).then();
+
+                    InventoryInfo fromItem = InventoryInfo.ofString(inventoryIdxFrom, fromInventory);
+                    InventoryInfo toItem = InventoryInfo.ofString(inventoryIdxTo, toInventory);
+                    if (fromItem.getItemCategory().equals(toItem.getItemCategory()) && fromItem.getItemId() == toItem.getItemId()) {
+                        return getItemMaxCnt(fromItem.getItemCategory(), fromItem.getItemId())
+                                .flatMap(maxCnt -> inventoryOperations.move(channelId, userId, inventoryIdxFrom, inventoryIdxTo, fromInventory, toInventory, maxCnt));
+                    }
+                    return inventoryOperations.move(channelId, userId, inventoryIdxFrom, inventoryIdxTo, fromInventory, toInventory, 0);
+                });
     }
 
 }
@@ -1,14 +1,13 @@
 package com.explorer.realtime.gamedatahandling.inventory.event;
 
 import com.explorer.realtime.gamedatahandling.component.personal.inventoryInfo.dto.InventoryInfo;
-import com.explorer.realtime.gamedatahandling.component.personal.inventoryInfo.repository.InventoryRepository;
+import com.explorer.realtime.gamedatahandling.component.personal.inventoryInfo.operation.InventoryOperations;
 import com.explorer.realtime.gamedatahandling.component.personal.playerInfo.repository.PlayerInfoRepository;
 import com.explorer.realtime.gamedatahandling.inventory.exception.InventoryErrorCode;
 import com.explorer.realtime.gamedatahandling.inventory.exception.InventoryException;
 import com.explorer.realtime.global.common.dto.Message;
 import com.explorer.realtime.global.common.enums.CastingType;
 import com.explorer.realtime.global.component.broadcasting.Unicasting;
-import com.explorer.realtime.global.util.MessageConverter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
@@ -20,7 +19,7 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class UseItemInInventory {
 
-    private final InventoryRepository inventoryRepository;
+    private final InventoryOperations inventoryOperations;
     private final PlayerInfoRepository playerInfoRepository;
     private final Unicasting unicasting;
 
@@ -37,39 +36,18 @@ public class UseItemInInventory {
                     if (inventoryIdx < 0 || inventoryIdx >= maxCnt) {
                         return Mono.error(new InventoryException(InventoryErrorCode.OUT_OF_RANGE_INDEX));
                     }
-                    return inventoryRepository.findByInventoryIdx(channelId, userId, inventoryIdx);
+                    return inventoryOperations.use(channelId, userId, inventoryIdx);
                 })
-                .flatMap(inventory -> {
-                    if (String.valueOf(inventory).isEmpty()) {
-                        return Mono.error(new InventoryException(InventoryErrorCode.EMPTY_INVENTORY));
-                    }
-
-                    InventoryInfo inventoryInfo = InventoryInfo.ofString(inventoryIdx, String.valueOf(inventory));
-                    log.info("[process] inventoryInfo : {}", inventoryInfo);
-
-                    int result = inventoryInfo.getItemCnt() - 1;
-                    if (result > 0) {
-                        inventoryInfo.setItemCnt(result);
-                        return inventoryRepository.save(channelId, userId, inventoryInfo)
-                                .flatMap(savedItem -> {
-                                    log.info("[process] 결과 반영 후 아이템이 있는 경우 : {}", inventoryInfo);
-                                    return unicasting(channelId, userId, inventoryInfo);
-                                });
-                    } else {
-                        return inventoryRepository.deleteByInventoryIdx(channelId, userId, inventoryIdx)
-                                .flatMap(deletedCount -> {
-                                    InventoryInfo response = InventoryInfo.ofString(inventoryIdx, "");
-                                    log.info("[process] 결과 반영 후 아이템이 없는 경우 : {}", response);
-                                    return unicasting(channelId, userId, response);
-                                });
-                    }
+                .flatMap(inventoryInfo -> {
+                    log.info("[process] 결과 반영 후 인벤토리 : {}", inventoryInfo);
+                    return unicasting(channelId, userId, inventoryInfo);
                 })
                 .onErrorResume(InventoryException.class, error -> {
                     log.info("[process] errorCode : {}, errorMessage : {}", error.getErrorCode(), error.getMessage());
                     return unicasting.unicasting(
                             channelId,
                             userId,
-                            MessageConverter.convert(Message.fail(eventName, CastingType.UNICASTING, String.valueOf(error.getErrorCode()), error.getMessage()))
+                            Message.fail(eventName, CastingType.UNICASTING, String.valueOf(error.getErrorCode()), error.getMessage())
                     ).then();
                 });
     }
@@ -87,7 +65,7 @@ public class UseItemInInventory {
         return unicasting.unicasting(
                 channelId,
                 userId,
-                MessageConverter.convert(Message.success(eventName, CastingType.UNICASTING, inventoryInfo))
+                Message.success(eventName, CastingType.UNICASTING, inventoryInfo)
         );
     }
 
@@ -10,7 +10,9 @@ public enum InventoryErrorCode {
 
     EMPTY_INVENTORY("인벤토리가 비어있습니다.", HttpStatus.BAD_REQUEST),
     SAME_INDEX("아이템을 이동하려는 인덱스가 같습니다.", HttpStatus.BAD_REQUEST),
-    OUT_OF_RANGE_INDEX("인덱스가 인벤토리 최대 인덱스의 범위를 벗어났습니다.", HttpStatus.BAD_REQUEST);
+    OUT_OF_RANGE_INDEX("인덱스가 인벤토리 최대 인덱스의 범위를 벗어났습니다.", HttpStatus.BAD_REQUEST),
+    INVENTORY_CHANGED("아이템을 이동하는 동안 인벤토리가 변경되었습니다.", HttpStatus.CONFLICT),
+    NOT_ENOUGH_MATERIAL("재료가 부족합니다.", HttpStatus.CONFLICT);
 
     private final String message;
     private final HttpStatus httpStatus;
@@ -5,8 +5,8 @@ import com.explorer.realtime.gamedatahandling.laboratory.repository.LaboratoryLe
 import com.explorer.realtime.gamedatahandling.laboratory.repository.UseLaboratoryRepository;
 import com.explorer.realtime.global.common.dto.Message;
 import com.explorer.realtime.global.common.enums.CastingType;
+import com.explorer.realtime.global.component.broadcasting.MapPresence;
 import com.explorer.realtime.global.component.broadcasting.Unicasting;
-import com.explorer.realtime.global.util.MessageConverter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
@@ -26,21 +26,22 @@ public class EnterLab {
     private final ElementLaboratoryRepository elementLaboratoryRepository;
     private final LaboratoryLevelRepository laboratoryLevelRepository;
     private final Unicasting unicasting;
+    private final MapPresence mapPresence;
 
     public Mono<Void> process(JSONObject json) { // json: channelId, userId, labId
 
         log.info("EnterLab process start...");
 
         /*
-         * 해당 연구소를 사용하고 있는 사람이 있는지 확인
+         * 해당 연구소를 사용하고 있는 사람이 없으면 입장 (확인과 저장을 한 번에 처리)
          */
-        return findPlayersUsingLaboratory(json)
+        return enterLaboratory(json)                                                            // 1) redis-game에 연구소 사용 중인 Player 데이터 저장
                 .flatMap(playerInfos -> {
-                    // 연구소 입장 가능
+                    // 연구소 입장
                     if(playerInfos.isEmpty()) {
                         log.info("No one is currently using the laboratory");
-                        return enterLaboratory(json)                                            // 1) redis-game에 연구소 사용 중인 Player 데이터 저장
-                                .then(getLaboratoryInfo(json))                                  // 2) 현재 laboratory 상태 조회(레벨, element/compound 저장 상태)
+                        mapPresence.enterLab(json.getString("channelId"), json.getLong("userId"));    // 연구소 안에서는 map 의 위치 event 를 받지 않는다
+                        return getLaboratoryInfo(json)                                          // 2) 현재 laboratory 상태 조회(레벨, element/compound 저장 상태)
                                 .flatMap(labInfo -> unicastingEnterLaboratory(json, labInfo));  // 3) UNICASTING :: success 및 laboratory 정보
                     }
                     // 연구소는 이미 사용 중
@@ -55,33 +56,19 @@ public class EnterLab {
     }
 
     /*
-     * [연구소 사용 중인 사람 조회]
-     * redis-game
-     * key: useLab:{channelId}:{labId}
-     * field: {userId}
-     * value: {nickname}
+     * [연구소가 비어 있으면 redis-game의 연구소 사용 중인 player 정보에 현재 userId/nickname을 저장]
      *
-     * # (반환) 사용 중인 사람이 있는 경우
+     * # (반환) 입장한 경우
+     * - emptyMap()
+     *
+     * # (반환) 이미 사용 중인 사람이 있는 경우
      * - Map 타입
      * - key : {userId}
      * - value: {nickname}
-     *
-     * # (반환) 사용 중인 사람이 없는 경우
-     * - Map 타입
-     * - emptyMap()
-     */
-    private Mono<Map<Object, Object>> findPlayersUsingLaboratory(JSONObject json) {
-        return useLaboratoryRepository.findAll(json);
-    }
-
-    /*
-     * [redis-game의 연구소 사용 중인 player 정보에 현재 userId/nickname을 저장]
      */
-    private Mono<Void> enterLaboratory(JSONObject json) {
+    private Mono<Map<Object, Object>> enterLaboratory(JSONObject json) {
         return useLaboratoryRepository.getNickname(json)    // userId의 nickname 조회
-                .flatMap(nickname -> {
-                    return useLaboratoryRepository.savePlayer(json, nickname.toString());
-                });
+                .flatMap(nickname -> useLaboratoryRepository.enterIfVacant(json, nickname.toString()));
     }
 
     /*
@@ -123,7 +110,7 @@ public class EnterLab {
         return unicasting.unicasting(
                         json.getString("channelId"),
                         json.getLong("userId"),
-                        MessageConverter.convert(Message.success("enterLab", CastingType.UNICASTING, dataBody))
+                        Message.success("enterLab", CastingType.UNICASTING, dataBody)
                 )
                 .then();
     }
@@ -136,7 +123,7 @@ public class EnterLab {
         return unicasting.unicasting(
                 json.getString("channelId"),
                 json.getLong("userId"),
-                MessageConverter.convert(Message.fail("enterLab", CastingType.UNICASTING, playerInfos))
+                Message.fail("enterLab", CastingType.UNICASTING, playerInfos)
                 )
                 .then();
     }
@@ -1,17 +1,16 @@
 package com.explorer.realtime.gamedatahandling.laboratory.event;
 
-import com.explorer.realtime.gamedatahandling.laboratory.dto.ItemInfo;
+import com.explorer.realtime.gamedatahandling.component.personal.inventoryInfo.dto.InventoryInfo;
 import com.explorer.realtime.gamedatahandling.laboratory.repository.ElementLaboratoryRepository;
 import com.explorer.realtime.gamedatahandling.laboratory.repository.InventoryRepository;
-import com.explorer.realtime.gamedatahandling.logicserver.ToLogicServer;
+import com.explorer.realtime.gamedatahandling.logicserver.LogicEngine;
+import com.explorer.realtime.gamedatahandling.logicserver.LogicItem;
 import com.explorer.realtime.global.common.dto.Message;
 import com.explorer.realtime.global.common.enums.CastingType;
 import com.explorer.realtime.global.component.broadcasting.Unicasting;
-import com.explorer.realtime.global.util.MessageConverter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.util.Pair;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
@@ -28,14 +27,11 @@ import java.util.concurrent.atomic.AtomicInteger;
 @RequiredArgsConstructor
 public class Extract {
 
-    private final ToLogicServer toLogicServer;
+    private final LogicEngine logicEngine;
     private final InventoryRepository inventoryRepository;
     private final ElementLaboratoryRepository elementLaboratoryRepository;
     private final Unicasting unicasting;
 
-    @Value("${logic.laboratory.extract-url}")
-    private String extractUrl;
-
     /*
      * 파라미터 JSONObject json: channelId, userId, itemCategory, itemId
      */
@@ -82,15 +78,12 @@ public class Extract {
                 .flatMap(inventoryData -> {
                     inventoryData.forEach((key, value) -> {
                         log.info("key:{}, value:{}", key, value);
-                        String[] parts = value.toString().split(":");
-                        if (parts.length >= 4) {
-                            String itemCategory = parts[0];
-                            int parsedItemId = Integer.parseInt(parts[1]);
-                            int itemCnt = Integer.parseInt(parts[2]);
-
-                            if ("extractionMaterial".equals(itemCategory) && itemId == parsedItemId) {
-                                hasItemInventoryIds.add(Integer.parseInt(key.toString()));
-                                count.addAndGet(itemCnt);
+                        String info = value.toString();
+                        if (!info.isEmpty()) {
+                            InventoryInfo inventoryInfo = InventoryInfo.ofString(Integer.parseInt(key.toString()), info);
+                            if ("extractionMaterial".equals(inventoryInfo.getItemCategory()) && itemId == inventoryInfo.getItemId()) {
+                                hasItemInventoryIds.add(inventoryInfo.getInventoryIdx());
+                                count.addAndGet(inventoryInfo.getItemCnt());
                             }
                         }
                     });
@@ -115,35 +108,23 @@ public class Extract {
     }
 
     /*
-     * [LOGIC 서버에 요청 : 추출 결과 데이터 요청]
+     * [LogicEngine : 추출 결과 데이터 요청]
      * 파라미터 JSONObject json: channelId, userId, itemCategory, itemId
      * 반환값 :
-     *  - 타입 : Mono<String>
-     *  - 값 :  { {itemCategory}:{itemId} : {itemCnt}, {itemCategory}:{itemId} : {itemCnt}, .... }
+     *  - 타입 : Mono<List<LogicItem>>
+     *  - 값 :  [ {itemCategory, itemId, itemCnt}, ... ]
      */
-    private Mono<String> requestElementsForExtract(JSONObject json) {
-
-        JSONObject itemInfo = new JSONObject(ItemInfo.of(json));
-
-        log.info("Logic server Request Data for Extract: {}", itemInfo);
-
-        return Mono.create(sink -> {
-            toLogicServer.sendRequestToHttpServer(String.valueOf(itemInfo), extractUrl)
-                    .subscribe(response -> {
-                        log.info("Logic server response: {}", response);
-                        sink.success(response);
-                    }, error -> {
-                        log.error("Error in retrieving data from logic server");
-                        sink.error(error);
-                    });
-        });
+    private Mono<List<LogicItem>> requestElementsForExtract(JSONObject json) {
+        return logicEngine.extract(json.getInt("itemId"))
+                .doOnNext(result -> log.info("[requestElementsForExtract] result : {}", result))
+                .doOnError(error -> log.error("ERROR requestElementsForExtract: {}", error.getMessage()));
     }
 
     /*
      * [redis-game의 laboratoryData에 추출 결과 저장]
      * 파라미터
      * - JSONObject json: channelId, userId, itemCategory, itemId
-     * String response: { {itemCategory}:{itemId} : {itemCnt}, {itemCategory}:{itemId} : {itemCnt}, .... }
+     * - List<LogicItem> response: 추출 결과
      *
      * redis-game 연구소 상태 데이터 형식
      * - key: labData:{channelId}:0:element
@@ -151,23 +132,15 @@ public class Extract {
      *   - index: {itemId}
      *   - value : {itemCnt}
      */
-    private Mono<Void> updateExtractionResultInLaboratory(JSONObject json, String response) {
+    private Mono<Void> updateExtractionResultInLaboratory(JSONObject json, List<LogicItem> response) {
         log.info("updateExtractionResultInLaboratory start...");
 
         String channelId = json.getString("channelId");
 
-        String trimmedResponse = response.trim().replaceAll("[{}]", "");
-        String[] keyValuePairs = trimmedResponse.split(",");
-
-        return Flux.fromArray(keyValuePairs)
-                .flatMap(pair -> {
-                    String[] result = pair.replaceAll("\"", "").split(":");
-                    String itemCategory = result[0];
-                    int itemId = Integer.parseInt(result[1]);
-                    int itemCnt = Integer.parseInt(result[2]);
-
-                    log.info("itemId:{}, itemCnt:{}", itemId, itemCnt);
-                    return elementLaboratoryRepository.UpdateItemCnt(channelId, itemCategory, itemId, itemCnt);
+        return Flux.fromIterable(response)
+                .flatMap(item -> {
+                    log.info("itemId:{}, itemCnt:{}", item.itemId(), item.itemCnt());
+                    return elementLaboratoryRepository.UpdateItemCnt(channelId, item.itemCategory(), item.itemId(), item.itemCnt());
                 })
                 .then();
     }
@@ -199,11 +172,11 @@ public class Extract {
      * [Unicasting : inventoryData, extractResult, labData:element]
      * 파라미터
      * - JSONObject json: JSONObject json: channelId, userId, itemCategory, itemId
-     * - String response
+     * - List<LogicItem> response : 추출 결과
      * 반환값
      *  - 타입 : Mono<Void>
      */
-    private Mono<Void> unicastingSuccessData(JSONObject json, String response) {
+    private Mono<Void> unicastingSuccessData(JSONObject json, List<LogicItem> response) {
 
         String channelId = json.getString("channelId");
         Long userId = json.getLong("userId");
@@ -221,30 +194,19 @@ public class Extract {
             return dataBody;
         }).flatMap(combinedData ->
                 {
-                    String trimmedResponse = response.trim().replaceAll("[{}]", "");
-                    String[] keyValuePairs = trimmedResponse.split(",");
-
+                    // Map의 키를 {itemCategory}:{itemId}로 설정
                     Map<String, Integer> extractResult = new HashMap<>();
-                    for (String pair : keyValuePairs) {
-                        String[] result = pair.replaceAll("\"", "").split(":");
-
-                        String itemCategory = result[0];
-                        String itemId = result[1];
-                        int itemCnt = Integer.parseInt(result[2]);
-
-                        // Map의 키를 {itemCategory}:{itemId}로 설정
-                        String key = itemCategory + ":" + itemId;
-                        extractResult.put(key, itemCnt);
-                        log.info("[extractResult] key:{}, value:{}", key, itemCnt);
-
+                    for (LogicItem item : response) {
+                        extractResult.put(item.key(), item.itemCnt());
                     }
+                    log.info("[extractResult] {}", extractResult);
                     combinedData.put("extractResult", extractResult);
                     return Mono.just(combinedData);
                 })
                 .flatMap(combinedData ->
                         unicasting.unicasting(
                                 channelId, userId,
-                                MessageConverter.convert(Message.success("extracting", CastingType.UNICASTING, combinedData))
+                                Message.success("extracting", CastingType.UNICASTING, combinedData)
                         )
                 )
                 .then();
@@ -263,7 +225,7 @@ public class Extract {
         dataBody.put("msg", msg);
 
         return unicasting.unicasting(channelId, userId,
-                        MessageConverter.convert(Message.fail("extracting", CastingType.UNICASTING, dataBody)))
+                        Message.fail("extracting", CastingType.UNICASTING, dataBody))
                 .then();
     }
 }
@@ -3,8 +3,9 @@ package com.explorer.realtime.gamedatahandling.laboratory.event;
 import com.explorer.realtime.gamedatahandling.laboratory.repository.UseLaboratoryRepository;
 import com.explorer.realtime.global.common.dto.Message;
 import com.explorer.realtime.global.common.enums.CastingType;
+import com.explorer.realtime.global.component.broadcasting.MapPresence;
 import com.explorer.realtime.global.component.broadcasting.Unicasting;
-import com.explorer.realtime.global.util.MessageConverter;
+import com.explorer.realtime.global.component.tick.PositionSnapshotTicker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
@@ -20,6 +21,8 @@ public class LeaveLab {
 
     private final UseLaboratoryRepository useLaboratoryRepository;
     private final Unicasting unicasting;
+    private final MapPresence mapPresence;
+    private final PositionSnapshotTicker positionSnapshotTicker;
 
     public Mono<Void> process(JSONObject json) {
 
@@ -42,6 +45,7 @@ public class LeaveLab {
                                     if (isInLaboratory) {
                                         log.info("{} IS in Laboratory", json.getLong("userId"));
                                         return leaveLaboratory(json)
+                                                .doOnSuccess(unused -> returnToMap(json))
                                                 .then(unicastingLeaveLaboratory(json));
                                     }
                                     // 본인이 연구소를 사용하고 있지 않은 경우 : UNICASTING(fail)
@@ -91,6 +95,18 @@ public class LeaveLab {
         return useLaboratoryRepository.deletePlayer(json);
     }
 
+    /*
+     * [map 복귀]
+     * 연구소에 있는 동안 받지 않은 map 의 위치를 다음 tick 에 다시 보낸다
+     */
+    private void returnToMap(JSONObject json) {
+        String channelId = json.getString("channelId");
+        Integer mapId = mapPresence.leaveLab(channelId, json.getLong("userId"));
+        if (mapId != null) {
+            positionSnapshotTicker.resync(channelId, mapId);
+        }
+    }
+
     /*
      * [UNICASTING : 연구소 입장]
      * 현재 연구소 정보(레벨, 저장 상태::element/compound) 전송
@@ -99,7 +115,7 @@ public class LeaveLab {
         return unicasting.unicasting(
                         json.getString("channelId"),
                         json.getLong("userId"),
-                        MessageConverter.convert(Message.success("leaveLab", CastingType.UNICASTING))
+                        Message.success("leaveLab", CastingType.UNICASTING)
                 )
                 .then();
     }
@@ -112,7 +128,7 @@ public class LeaveLab {
         return unicasting.unicasting(
                         json.getString("channelId"),
                         json.getLong("userId"),
-                        MessageConverter.convert(Message.fail("leaveLab", CastingType.UNICASTING))
+                        Message.fail("leaveLab", CastingType.UNICASTING)
                 )
                 .then();
     }
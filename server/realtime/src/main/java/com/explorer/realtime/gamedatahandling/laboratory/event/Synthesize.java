@@ -1,18 +1,16 @@
 package com.explorer.realtime.gamedatahandling.laboratory.event;
 
-import com.explorer.realtime.gamedatahandling.laboratory.dto.ItemInfo;
 import com.explorer.realtime.gamedatahandling.laboratory.dto.UserInfo;
 import com.explorer.realtime.gamedatahandling.laboratory.repository.ElementLaboratoryRepository;
-import com.explorer.realtime.gamedatahandling.logicserver.ToLogicServer;
+import com.explorer.realtime.gamedatahandling.logicserver.LogicEngine;
+import com.explorer.realtime.gamedatahandling.logicserver.LogicItem;
 import com.explorer.realtime.global.common.dto.Message;
 import com.explorer.realtime.global.common.enums.CastingType;
 import com.explorer.realtime.global.component.broadcasting.Broadcasting;
 import com.explorer.realtime.global.component.broadcasting.Unicasting;
-import com.explorer.realtime.global.util.MessageConverter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -26,15 +24,11 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class Synthesize {
 
-    private final ToLogicServer toLogicServer;
+    private final LogicEngine logicEngine;
     private final ElementLaboratoryRepository elementLaboratoryRepository;
     private final Unicasting unicasting;
     private final Broadcasting broadcasting;
 
-    @Value("${logic.laboratory.synthesize-url}")
-    private String synthesizeUrl;
-
-
     /*
      * 파라미터
      * JSONObject json : {"userId":{userId}, "channelId":{channelId}, "itemCategory" : {itemCategory}, "itemId" : {itemId}}
@@ -43,58 +37,44 @@ public class Synthesize {
 
         UserInfo userInfo = UserInfo.of(json);
 
-        return requestElementsForSynthesize(json) // Logic 서버에 합성에 필요한 element 데이터 요청
+        return requestElementsForSynthesize(json) // LogicEngine 에 합성에 필요한 element 데이터 요청
                 .flatMap(response -> checkElementsInLaboratory(response, userInfo, json))  // 현재 원소 연구소에 element가 있는지 조회
                 .then();
     }
 
     /*
-     * [LOGIC 서버에 요청 : 합성에 필요한 element 데이터 요청]
+     * [LogicEngine : 합성에 필요한 element 데이터 요청]
      * 파라미터 : { .. , "channelId" : {channelId}, "userId": "{userId}", "itemCategory" : "compound", "itemId" : {itemId}}
      * 반환값 :
-     *  - 타입 : Mono<String>
-     *  - 값 :  { {itemCategory}:{itemId} : {itemCnt}, {itemCategory}:{itemId} : {itemCnt}, .... }
+     *  - 타입 : Mono<List<LogicItem>>
+     *  - 값 :  [ {itemCategory, itemId, itemCnt}, ... ]
      */
-    private Mono<String> requestElementsForSynthesize(JSONObject json) {
-
-        JSONObject itemInfo = new JSONObject(ItemInfo.of(json));
-
-        log.info("Logic server Request Data: {}", itemInfo);
-
-        return Mono.create(sink -> {
-            toLogicServer.sendRequestToHttpServer(String.valueOf(itemInfo), synthesizeUrl)
-                    .subscribe(response -> {
-                        log.info("Logic server response: {}", response);
-                        sink.success(response);
-                    }, error -> {
-                        log.error("Error in retrieving data from logic server");
-                        sink.error(error);
-                    });
-        });
+    private Mono<List<LogicItem>> requestElementsForSynthesize(JSONObject json) {
+        return logicEngine.synthesize(json.getInt("itemId"))
+                .doOnNext(result -> log.info("[requestElementsForSynthesize] result : {}", result))
+                .doOnError(error -> log.error("ERROR requestElementsForSynthesize: {}", error.getMessage()));
     }
 
     /*
      * [원소 연구소에 필요한 element가 있는지 확인]
      * 파라미터
-     *  - String response : { {itemCategory}:{itemId} : {itemCnt}, {itemCategory}:{itemId} : {itemCnt}, .... }
+     *  - List<LogicItem> response : 합성에 필요한 element 목록
      *  - UserInfo userInfo : channelId, userId
      * 반환값
      *  - 타입 : Mono<Void>
      */
-    private Mono<Void> checkElementsInLaboratory(String response, UserInfo userInfo, JSONObject json) {
-
-        JSONObject responseJson = new JSONObject(response);
+    private Mono<Void> checkElementsInLaboratory(List<LogicItem> response, UserInfo userInfo, JSONObject json) {
 
         // 합성에 필요한 재료 하나씩 원소 연구소에 있는지 확인
-        return Flux.fromIterable(responseJson.keySet())
-                .flatMap(key ->
-                        elementLaboratoryRepository.findMaterial(userInfo.getChannelId(), key, responseJson.optInt(key, 0))
+        return Flux.fromIterable(response)
+                .flatMap(item ->
+                        elementLaboratoryRepository.findMaterial(userInfo.getChannelId(), item.key(), item.itemCnt())
                                 .flatMap(found -> {
-                                    log.info("Key: {}, Required Count: {}, Found: {}", key, responseJson.optInt(key, 0), found);
+                                    log.info("Key: {}, Required Count: {}, Found: {}", item.key(), item.itemCnt(), found);
 
                                     // 특정 원소가 연구소에 없는 경우
                                     if (!found) {
-                                        log.warn("Fail: Key {} with required count {} is not sufficient", key, responseJson.optInt(key, 0));
+                                        log.warn("Fail: Key {} with required count {} is not sufficient", item.key(), item.itemCnt());
                                         return unicastingFailData(json, "noItem").then(Mono.empty());
                                     }
                                     return Mono.just(true);
@@ -109,7 +89,7 @@ public class Synthesize {
                     } else {
                         log.info("Success: All elements are sufficient");
 
-                        Mono<Void> useElements = useElementsInLaboratory(responseJson, userInfo);
+                        Mono<Void> useElements = useElementsInLaboratory(response, userInfo);
 
                         // 2) 생성한 화합물 : redis-game에 연구소-compound 상태 update
                         Mono<Void> createCompound = createCompoundInLaboratory(json);
@@ -128,16 +108,16 @@ public class Synthesize {
     /*
      * [redis-game에 합성에 사용된 element 데이터 update]
      * 파라미터
-     *  - JSONObject json : { {itemCategory}:{itemId} : {itemCnt}, {itemCategory}:{itemId} : {itemCnt}, .... }
+     *  - List<LogicItem> elements : 합성에 사용된 element 목록
      *  - UserInfo userInfo : channelId, userId
      * 반환값
      *  - 타입 : Mono<Void>
      */
-    private Mono<Void> useElementsInLaboratory(JSONObject json, UserInfo userInfo) {
+    private Mono<Void> useElementsInLaboratory(List<LogicItem> elements, UserInfo userInfo) {
 
-        return Flux.fromIterable(json.keySet())
-                .flatMap(key ->
-                        elementLaboratoryRepository.useMaterial(userInfo.getChannelId(), key, json.optInt(key, 0))
+        return Flux.fromIterable(elements)
+                .flatMap(item ->
+                        elementLaboratoryRepository.useMaterial(userInfo.getChannelId(), item.key(), item.itemCnt())
                 )
                 .then();
     }
@@ -178,7 +158,7 @@ public class Synthesize {
                 .then(Mono.defer(() ->
                         unicasting.unicasting(
                                 channelId, userId,
-                                MessageConverter.convert(Message.success("synthesizing", CastingType.UNICASTING, dataBody))
+                                Message.success("synthesizing", CastingType.UNICASTING, dataBody)
                         )));
     }
 
@@ -195,7 +175,7 @@ public class Synthesize {
         dataBody.put("msg", msg);
 
         return unicasting.unicasting(channelId, userId,
-                        MessageConverter.convert(Message.fail("synthesizing", CastingType.UNICASTING, dataBody)))
+                        Message.fail("synthesizing", CastingType.UNICASTING, dataBody))
                 .then();
     }
 }
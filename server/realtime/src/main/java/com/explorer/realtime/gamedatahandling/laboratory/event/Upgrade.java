@@ -1,17 +1,19 @@
 package com.explorer.realtime.gamedatahandling.laboratory.event;
 
+import com.explorer.realtime.gamedatahandling.component.personal.inventoryInfo.operation.InventoryOperations;
+import com.explorer.realtime.gamedatahandling.inventory.exception.InventoryErrorCode;
+import com.explorer.realtime.gamedatahandling.inventory.exception.InventoryException;
 import com.explorer.realtime.gamedatahandling.laboratory.repository.ElementLaboratoryRepository;
 import com.explorer.realtime.gamedatahandling.laboratory.repository.InventoryRepository;
 import com.explorer.realtime.gamedatahandling.laboratory.repository.LaboratoryLevelRepository;
-import com.explorer.realtime.gamedatahandling.logicserver.ToLogicServer;
+import com.explorer.realtime.gamedatahandling.logicserver.LogicEngine;
+import com.explorer.realtime.gamedatahandling.logicserver.LogicItem;
 import com.explorer.realtime.global.common.dto.Message;
 import com.explorer.realtime.global.common.enums.CastingType;
 import com.explorer.realtime.global.component.broadcasting.Unicasting;
-import com.explorer.realtime.global.util.MessageConverter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -26,14 +28,12 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class Upgrade {
 
-    @Value("${logic.laboratory.upgrade-url}")
-    private String upgradeUrl;
-
     private final LaboratoryLevelRepository laboratoryLevelRepository;
     private final ElementLaboratoryRepository elementLaboratoryRepository;
     private final InventoryRepository inventoryRepository;
+    private final InventoryOperations inventoryOperations;
     private final Unicasting unicasting;
-    private final ToLogicServer toLogicServer;
+    private final LogicEngine logicEngine;
 
     public Mono<Void> process(JSONObject json) {
 
@@ -54,7 +54,12 @@ public class Upgrade {
                                                         return useMaterialsForUpgrade(json, response)
                                                                 .then(upgradeLaboratory(json))
                                                                 .then(getLaboratoryInventoryInfo(json))
-                                                                .flatMap(dataBody -> unicastingSuccessData(json, dataBody));
+                                                                .flatMap(dataBody -> unicastingSuccessData(json, dataBody))
+                                                                // 확인 이후 소진 전에 인벤토리가 바뀐 경우
+                                                                .onErrorResume(InventoryException.class, error -> {
+                                                                    log.info("[process] errorCode : {}, errorMessage : {}", error.getErrorCode(), error.getMessage());
+                                                                    return unicastingFailData(json, "noItem");
+                                                                });
                                                     }
                                                 })
                                 );
@@ -92,40 +97,18 @@ public class Upgrade {
     }
 
     /*
-     * [LOGIC 서버에 요청 : 합성에 필요한 element 데이터 요청]
+     * [LogicEngine : labLevel -> labLevel + 1 업그레이드에 필요한 재료 데이터 요청]
      * 파라미터
-     * - JSONObject json : { .. , "channelId" : {channelId}, "userId" : {userId}, "labId" : {labId}}
      * - int labLevel : {level}
      *
-     * Logic Server :: POST data (String)
-     * {"labId":{labId}, "labLevel":{labLevel}}
-     *
-     * Logic Server :: GET data (String)
-     * {
-     *  {itemCategory}:{itemId}  :  {itemCnt},
-     *  {itemCategory}:{itemId}  :  {itemCnt},
-     *                ...
-     * }
-     *
      * 반환값 :
-     *  - 타입 : Mono<String>
-     *  - 값 :  { {itemCategory}:{itemId} : {itemCnt}, {itemCategory}:{itemId} : {itemCnt}, .... }
+     *  - 타입 : Mono<List<LogicItem>>
+     *  - 값 :  [ {itemCategory, itemId, itemCnt}, ... ]
      */
-    private Mono<String> requestMaterialsForUpgrade(int labLevel) {
-
-        JSONObject request = new JSONObject().put("labId", 0).put("labLevel",labLevel);
-        log.info("Logic server Request Data: {}", request);
-
-        return Mono.create(sink -> {
-            toLogicServer.sendRequestToHttpServer(String.valueOf(request), upgradeUrl)
-                    .subscribe(response -> {
-                        log.info("Logic server response: {}", response);
-                        sink.success(response);
-                    }, error -> {
-                        log.error("Error in retrieving data from logic server");
-                        sink.error(error);
-                    });
-        });
+    private Mono<List<LogicItem>> requestMaterialsForUpgrade(int labLevel) {
+        return logicEngine.upgrade(0, labLevel)
+                .doOnNext(result -> log.info("[requestMaterialsForUpgrade] result : {}", result))
+                .doOnError(error -> log.error("ERROR requestMaterialsForUpgrade: {}", error.getMessage()));
     }
 
     /*
@@ -133,31 +116,28 @@ public class Upgrade {
      * 파리미터 : json
      * - 값 :  { ..., channelId, userId, labId }
      *
-     *  파라미터 : MaterialList
-     *  - 값 :  { {itemCategory}:{itemId} : {itemCnt}, {itemCategory}:{itemId} : {itemCnt}, .... }
+     *  파라미터 : materialList
+     *  - 값 :  [ {itemCategory, itemId, itemCnt}, ... ]
      */
-    private Mono<Boolean> hasRequiredMaterials(JSONObject json, String materialList) {
+    private Mono<Boolean> hasRequiredMaterials(JSONObject json, List<LogicItem> materialList) {
 
         String channelId = json.getString("channelId");
         Long userId = json.getLong("userId");
-        JSONObject materialListJson = new JSONObject(materialList);
         List<Mono<Boolean>> checks = new ArrayList<>();
 
-        materialListJson.keys().forEachRemaining(key -> {
-            String itemCategory = key.split(":")[0];
-            int itemCnt = Integer.parseInt(materialListJson.get(key).toString());
-            switch (itemCategory) {
+        for (LogicItem material : materialList) {
+            switch (material.itemCategory()) {
                 // 재료가 연구소의 element/compound 인 경우
                 case "element":
                 case "compound":
-                    checks.add(elementLaboratoryRepository.findMaterial(channelId, key, itemCnt));
+                    checks.add(elementLaboratoryRepository.findMaterial(channelId, material.key(), material.itemCnt()));
                     break;
                 // 재료가 인벤토리에 있는 아이템인 경우
                 default:
-                    checks.add(inventoryRepository.findMaterial(channelId, userId, key, itemCnt));
+                    checks.add(inventoryRepository.findMaterial(channelId, userId, material.key(), material.itemCnt()));
                     break;
             }
-        });
+        }
 
         // 모든 재료가 충분한지 여부를 확인
         return Flux.merge(checks)
@@ -167,26 +147,28 @@ public class Upgrade {
 
     /*
      * [연구소 upgrade 성공 -> 인벤토리 및 연구소에 있는 재료 소진 :: redis-game 업데이트]
+     * 인벤토리 재료를 먼저 소진한다 : 소진할 때 개수가 부족하면 (empty) NOT_ENOUGH_MATERIAL 로 중단하고 연구소 재료는 소진하지 않는다
      */
-    private Mono<Void> useMaterialsForUpgrade(JSONObject json, String materialList) {
+    private Mono<Void> useMaterialsForUpgrade(JSONObject json, List<LogicItem> materialList) {
 
         String channelId = json.getString("channelId");
         Long userId = json.getLong("userId");
-        JSONObject materialListJson = new JSONObject(materialList);
 
-        List<Mono<Void>> useMaterialMonos = new ArrayList<>();
+        List<Mono<Void>> inventoryMonos = new ArrayList<>();
+        List<Mono<Void>> laboratoryMonos = new ArrayList<>();
 
-        materialListJson.keys().forEachRemaining(key -> {
-            String itemCategory = key.split(":")[0];
-            int itemCnt = Integer.parseInt(materialListJson.get(key).toString());
+        for (LogicItem material : materialList) {
+            String itemCategory = material.itemCategory();
             if (itemCategory.equals("element") || itemCategory.equals("compound")) {
-                useMaterialMonos.add(elementLaboratoryRepository.useMaterial(channelId, key, itemCnt));
+                laboratoryMonos.add(elementLaboratoryRepository.useMaterial(channelId, material.key(), material.itemCnt()));
             } else {
-                useMaterialMonos.add(inventoryRepository.useMaterial(channelId, userId, key, itemCnt));
+                inventoryMonos.add(inventoryOperations.consume(channelId, userId, itemCategory, material.itemId(), material.itemCnt())
+                        .switchIfEmpty(Mono.error(() -> new InventoryException(InventoryErrorCode.NOT_ENOUGH_MATERIAL)))
+                        .then());
             }
-        });
-        // 모든 재료 사용 명령을 실행하고 모두 완료되기를 기다립니다.
-        return Flux.concat(useMaterialMonos).then();
+        }
+        // 모든 재료 사용 명령을 순서대로 실행하고 모두 완료되기를 기다립니다.
+        return Flux.concat(inventoryMonos).thenMany(Flux.concat(laboratoryMonos)).then();
     }
 
     /*
@@ -261,7 +243,7 @@ public class Upgrade {
         Long userId = json.getLong("userId");
 
         return unicasting.unicasting(channelId, userId,
-                MessageConverter.convert(Message.success("upgrade", CastingType.UNICASTING, dataBody)))
+                Message.success("upgrade", CastingType.UNICASTING, dataBody))
                 .then();
     }
 
@@ -278,7 +260,7 @@ public class Upgrade {
         dataBody.put("msg", msg);
 
         return unicasting.unicasting(channelId, userId,
-                MessageConverter.convert(Message.fail("upgrade", CastingType.UNICASTING, dataBody)))
+                Message.fail("upgrade", CastingType.UNICASTING, dataBody))
                 .then();
     }
 }
@@ -1,47 +1,44 @@
 package com.explorer.realtime.gamedatahandling.laboratory.repository;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.explorer.realtime.global.component.state.GameStateEngine;
+import com.explorer.realtime.global.component.state.StateKey;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.redis.core.ReactiveListOperations;
-import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
 @Repository("elementLaboratoryRepositoryInExtract")
 public class ElementLaboratoryRepository {
 
-    private final ReactiveListOperations<String, Object> reactiveListOperations;
-    private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+    private final GameStateEngine gameStateEngine;
 
     private static final String KEY_PREFIX = "labData:";
     private static final String ELEMENT_SUFFIX = ":0:element";
     private static final String COMPOUND_SUFFIX = ":0:compound";
 
-    public ElementLaboratoryRepository(@Qualifier("gameReactiveRedisTemplate") ReactiveRedisTemplate<String, Object> reactiveRedisTemplate) {
-        this.reactiveListOperations = reactiveRedisTemplate.opsForList();
-        this.reactiveRedisTemplate = reactiveRedisTemplate;
+    public ElementLaboratoryRepository(GameStateEngine gameStateEngine) {
+        this.gameStateEngine = gameStateEngine;
+    }
+
+    public static StateKey elementKey(String channelId) {
+        return StateKey.list(KEY_PREFIX + channelId + ELEMENT_SUFFIX);
+    }
+
+    public static StateKey compoundKey(String channelId) {
+        return StateKey.list(KEY_PREFIX + channelId + COMPOUND_SUFFIX);
     }
 
     public Mono<List<Integer>> findAllElements(JSONObject json) {
-        String channelId = json.getString("channelId");
-        String elementKey = KEY_PREFIX+channelId+ELEMENT_SUFFIX;
-        return reactiveListOperations.range(elementKey, 0, -1)
-                .cast(Integer.class)
-                .collectList();
+        return findElementData(json.getString("channelId"));
     }
 
     public Mono<List<Integer>> findAllCompounds(JSONObject json) {
-        String channelId = json.getString("channelId");
-        String elementKey = KEY_PREFIX+channelId+COMPOUND_SUFFIX;
-        return reactiveListOperations.range(elementKey, 0, -1)
-                .cast(Integer.class)
-                .collectList();
+        return findCompoundData(json.getString("channelId"));
     }
 
     /*
@@ -53,41 +50,47 @@ public class ElementLaboratoryRepository {
      */
     public Mono<Boolean> findMaterial(String channelId, String info, int cnt) {
         String[] elementInfo = info.split(":");  // [0]:itemCategory  [1]:itemId
-        String redisKey = KEY_PREFIX+channelId+":0:"+elementInfo[0];
+        StateKey key = StateKey.list(KEY_PREFIX+channelId+":0:"+elementInfo[0]);
         int itemId = Integer.parseInt(elementInfo[1]);
 
-        return reactiveListOperations.index(redisKey, itemId)
-                .cast(Integer.class)
-                .map(value -> value >= cnt)
-                .defaultIfEmpty(false);
+        return gameStateEngine.execute(channelId, key, state -> {
+            Object value = state.lindex(key.key(), itemId);
+            return value != null && convertToInt(value) >= cnt;
+        });
     }
 
+    /*
+     * 개수 확인과 차감을 channel state 에서 한 번에 처리한다 (부족한 경우 차감하지 않음)
+     */
     public Mono<Void> useMaterial(String channelId, String info, int cnt) {
         String[] elementInfo = info.split(":");
-        String elementKey = KEY_PREFIX+channelId+":0:"+elementInfo[0];
+        StateKey key = StateKey.list(KEY_PREFIX+channelId+":0:"+elementInfo[0]);
         int index = Integer.parseInt(elementInfo[1]);
 
-        return reactiveListOperations.index(elementKey, index)
-                .cast(Integer.class)
-                .doOnNext(currentValue -> log.info("[channelId:{}] Before using element - itemCategory:{}, index: {}, value:{}", channelId, elementInfo[0], index, currentValue))
-                .flatMap(currentValue -> {
-                    return reactiveListOperations.set(elementKey, index, currentValue - cnt)
-                            .doOnSuccess(done -> log.info("[channelId:{}] After using element - itemCategory:{}, index: {}, value:{}", channelId, elementInfo[0], index, currentValue-cnt));
-                })
-                .then();
+        return gameStateEngine.execute(channelId, key, state -> {
+            Object value = state.lindex(key.key(), index);
+            if (value == null || convertToInt(value) < cnt) {
+                return false;
+            }
+            int currentValue = convertToInt(value);
+            state.lset(key.key(), index, currentValue - cnt);
+            log.info("[channelId:{}] using element - itemCategory:{}, index: {}, value:{} -> {}", channelId, elementInfo[0], index, currentValue, currentValue - cnt);
+            return true;
+        }).then();
     }
 
     public Mono<Void> createCompound(String channelId, String itemCategory, int itemId) {
-        String compoundKey = KEY_PREFIX+channelId+COMPOUND_SUFFIX;
-
-        return reactiveListOperations.index(compoundKey, itemId)
-                .cast(Integer.class)
-                .doOnNext(currentValue -> log.info("[channelId:{}] Before create compound - itemCategory:{}, index: {}, value:{}", channelId, itemCategory, itemId, currentValue))
-                .flatMap(currentValue -> {
-                    return reactiveListOperations.set(compoundKey, itemId, currentValue + 1)
-                            .doOnSuccess(done -> log.info("[channelId:{}] After using element - itemCategory:{}, index: {}, value:{}", channelId, itemCategory, itemId, currentValue + 1));
-                })
-                .then();
+        StateKey key = compoundKey(channelId);
+
+        return gameStateEngine.execute(channelId, key, state -> {
+            Object value = state.lindex(key.key(), itemId);
+            if (value != null) {
+                int currentValue = convertToInt(value);
+                state.lset(key.key(), itemId, currentValue + 1);
+                log.info("[channelId:{}] create compound - itemCategory:{}, index: {}, value:{} -> {}", channelId, itemCategory, itemId, currentValue, currentValue + 1);
+            }
+            return true;
+        }).then();
     }
 
     /*
@@ -102,64 +105,70 @@ public class ElementLaboratoryRepository {
     public Mono<Void> UpdateItemCnt(String channelId, String itemCategory, int itemId, int itemCnt) {
 
         String suffix = itemCategory.equals("element") ? ELEMENT_SUFFIX : itemCategory.equals("compound") ? COMPOUND_SUFFIX : "";
-        String redisKey = KEY_PREFIX + channelId + suffix;
-
+        StateKey key = StateKey.list(KEY_PREFIX + channelId + suffix);
 
-        return reactiveListOperations.index(redisKey, itemId)
-                .defaultIfEmpty(0)
-                .map(existingCnt -> { // 기존의 원소 개수
-                    int currentCount = (existingCnt instanceof Integer) ? (Integer) existingCnt : Integer.parseInt(existingCnt.toString());
-                    return currentCount + itemCnt; // 원소 게수 업데이트
+        return gameStateEngine.execute(channelId, key, state -> {
+                    Object existingCnt = state.lindex(key.key(), itemId); // 기존의 원소 개수
+                    int currentCount = existingCnt == null ? 0 : convertToInt(existingCnt);
+                    state.lset(key.key(), itemId, currentCount + itemCnt); // 원소 게수 업데이트
+                    return true;
                 })
-                .flatMap(updatedCnt -> reactiveListOperations.set(redisKey, itemId, updatedCnt))
                 .doOnError(error -> log.error("ERROR UpdateItemCnt: {}", error.getMessage()))
                 .then();
     }
 
     public Flux<Integer> findAllElementData(String channelId) {
-        String elementKey = KEY_PREFIX+channelId+ELEMENT_SUFFIX;
-        return reactiveListOperations.range(elementKey, 0, -1)
-                .map(this::convertToInt);
+        return findElementData(channelId).flatMapMany(Flux::fromIterable);
     }
 
     public Flux<Integer> findAllCompoundData(String channelId) {
-        String compoundKey = KEY_PREFIX+channelId+COMPOUND_SUFFIX;
-        return reactiveListOperations.range(compoundKey, 0, -1)
-                .map(this::convertToInt);
+        return findCompoundData(channelId).flatMapMany(Flux::fromIterable);
     }
+
     public Mono<Boolean> deleteAllData(String channelId) {
-        String elementKey = KEY_PREFIX+channelId+ELEMENT_SUFFIX;
-        String compoundKey = KEY_PREFIX+channelId+COMPOUND_SUFFIX;
-        reactiveListOperations.delete(compoundKey).subscribe();
-        return reactiveListOperations.delete(elementKey);
+        StateKey elementKey = elementKey(channelId);
+        StateKey compoundKey = compoundKey(channelId);
+        return gameStateEngine.execute(channelId, List.of(elementKey, compoundKey), state -> {
+            state.delete(compoundKey);
+            return state.delete(elementKey);
+        });
     }
 
     private Integer convertToInt(Object data) {
         return Integer.parseInt(data.toString());
     }
 
-    public Mono<Void> save(String key, List<Integer> itemCntList) {
-        return Flux.fromIterable(itemCntList)
-                .flatMap(value -> reactiveListOperations.rightPush(key, value))
-                .then();
+    /*
+     * key: labData:{channelId}:0:{itemCategory}
+     */
+    public Mono<Void> save(String channelId, String itemCategory, List<Integer> itemCntList) {
+        StateKey key = StateKey.list(KEY_PREFIX + channelId + ":0:" + itemCategory);
+        return gameStateEngine.execute(channelId, key, state -> {
+            state.rpushAll(key.key(), itemCntList);
+            return true;
+        }).then();
     }
 
     public Mono<Boolean> exist(String channelId) {
-        String elementKey = KEY_PREFIX+channelId+ELEMENT_SUFFIX;
-        return reactiveRedisTemplate.hasKey(elementKey);
+        StateKey key = elementKey(channelId);
+        return gameStateEngine.execute(channelId, key, state -> state.exists(key));
     }
 
     public Mono<List<Integer>> findElementData(String channelId) {
-        String elementKey = KEY_PREFIX+channelId+ELEMENT_SUFFIX;
-        return reactiveListOperations.range(elementKey, 0, -1)
-                .map(this::convertToInt)
-                .collectList();
+        return findList(channelId, elementKey(channelId));
     }
 
     public Mono<List<Integer>> findCompoundData(String channelId) {
-        String elementKey = KEY_PREFIX+channelId+COMPOUND_SUFFIX;
-        return reactiveListOperations.range(elementKey, 0, -1)
-                .map(this::convertToInt)
-                .collectList();
+        return findList(channelId, compoundKey(channelId));
+    }
+
+    private Mono<List<Integer>> findList(String channelId, StateKey key) {
+        return gameStateEngine.execute(channelId, key, state -> {
+            List<Integer> items = new ArrayList<>();
+            for (Object value : state.lrange(key.key())) {
+                items.add(convertToInt(value));
+            }
+            return items;
+        });
     }
 }
@@ -1,10 +1,9 @@
 package com.explorer.realtime.gamedatahandling.laboratory.repository;
 
+import com.explorer.realtime.global.component.state.GameStateEngine;
+import com.explorer.realtime.global.component.state.StateKey;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.redis.core.ReactiveRedisTemplate;
-import org.springframework.data.redis.core.ReactiveValueOperations;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
 
@@ -12,13 +11,11 @@ import reactor.core.publisher.Mono;
 @Repository
 public class LaboratoryLevelRepository {
 
-    private final ReactiveRedisTemplate<String,Object> stringReactiveRedisTemplate;
-    private final ReactiveValueOperations<String, Object> reactiveValueOperations;
+    private final GameStateEngine gameStateEngine;
     private static final String KEY_PREFIX = "labLevel:";
 
-    public LaboratoryLevelRepository(@Qualifier("gameReactiveRedisTemplate") ReactiveRedisTemplate<String, Object> stringReactiveRedisTemplate) {
-        this.stringReactiveRedisTemplate = stringReactiveRedisTemplate;
-        this.reactiveValueOperations = stringReactiveRedisTemplate.opsForValue();
+    public LaboratoryLevelRepository(GameStateEngine gameStateEngine) {
+        this.gameStateEngine = gameStateEngine;
     }
 
     /*
@@ -32,7 +29,7 @@ public class LaboratoryLevelRepository {
      */
     public Mono<Object> findLabLevel(String channelId, int labId) {
         String redisKey = KEY_PREFIX + channelId + ":" + labId;
-        return reactiveValueOperations.get(redisKey)
+        return gameStateEngine.execute(channelId, StateKey.value(redisKey), state -> state.get(redisKey))
                 .doOnError(error -> log.error("Failed to find LabLevel for channel {}", channelId, error));
 
     }
@@ -48,12 +45,13 @@ public class LaboratoryLevelRepository {
         int labId = json.getInt("labId");
         String redisKey = KEY_PREFIX + channelId + ":" + labId;
 
-        // Get the current level from Redis, increment it, and save it back
-        return reactiveValueOperations
-                .get(redisKey)
-                .defaultIfEmpty("0")  // 기본값 : 0 (레벨이 없는 경우)
-                .map(value -> Integer.parseInt(value.toString()))
-                .flatMap(level -> reactiveValueOperations.set(redisKey, level + 1)) // 레벨 1 증가시키고 저장
+        // 조회와 증가를 channel state 에서 한 번에 처리한다
+        return gameStateEngine.execute(channelId, StateKey.value(redisKey), state -> {
+                    Object value = state.get(redisKey);
+                    int level = value == null ? 0 : Integer.parseInt(value.toString());  // 기본값 : 0 (레벨이 없는 경우)
+                    state.set(redisKey, level + 1); // 레벨 1 증가시키고 저장
+                    return true;
+                })
                 .then();
     }
 }
@@ -1,5 +1,7 @@
 package com.explorer.realtime.gamedatahandling.laboratory.repository;
 
+import com.explorer.realtime.global.component.state.GameStateEngine;
+import com.explorer.realtime.global.component.state.StateKey;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -8,7 +10,7 @@ import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
 
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 @Slf4j
@@ -17,13 +19,16 @@ public class UseLaboratoryRepository {
 
     private final ReactiveRedisTemplate<String,Object> stringReactiveRedisTemplate;
     private final ReactiveHashOperations<String, Object, Object> reactiveHashOperations;
+    private final GameStateEngine gameStateEngine;
 
     private static final String KEY_PREFIX = "useLab:";
     private static final String PLAYERINFO_KEY_PREFIX = "playerInfoData:";
 
-    public UseLaboratoryRepository(@Qualifier("gameReactiveRedisTemplate") ReactiveRedisTemplate<String, Object> stringReactiveRedisTemplate) {
+    public UseLaboratoryRepository(@Qualifier("gameReactiveRedisTemplate") ReactiveRedisTemplate<String, Object> stringReactiveRedisTemplate,
+                                   GameStateEngine gameStateEngine) {
         this.stringReactiveRedisTemplate = stringReactiveRedisTemplate;
         this.reactiveHashOperations = stringReactiveRedisTemplate.opsForHash();
+        this.gameStateEngine = gameStateEngine;
     }
 
     /*
@@ -40,10 +45,7 @@ public class UseLaboratoryRepository {
 
         String redisKey = KEY_PREFIX + channelId + ":" + labId;
 
-        return reactiveHashOperations
-                .entries(redisKey)
-                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
-                .defaultIfEmpty(Collections.emptyMap())
+        return gameStateEngine.execute(channelId, StateKey.hash(redisKey), state -> (Map<Object, Object>) new HashMap<Object, Object>(state.hgetAll(redisKey)))
                 .doOnSuccess(success -> log.info("SUCCESS to find players using a {} laboratory : {}", labId, success))
                 .doOnError(error -> log.error("FAIL to find players using a {} laboratory: {}", labId, error.getMessage()));
     }
@@ -64,7 +66,35 @@ public class UseLaboratoryRepository {
 
         String redisKey = KEY_PREFIX + channelId + ":" + labId;
 
-        return reactiveHashOperations.put(redisKey, userId.toString(), nickname).then();
+        return gameStateEngine.execute(channelId, StateKey.hash(redisKey), state -> {
+            state.hset(redisKey, userId.toString(), nickname);
+            return true;
+        }).then();
+    }
+
+    /*
+     * [연구소가 비어 있는 경우에만 플레이어 정보 저장]
+     * 조회와 저장을 channel state 에서 한 번에 처리하여 두 명이 동시에 입장하는 경우를 막는다
+     *
+     * 반환값
+     * - 입장한 경우 : emptyMap()
+     * - 이미 사용 중인 경우 : 사용 중인 플레이어 정보 ({userId} : {nickname})
+     */
+    public Mono<Map<Object, Object>> enterIfVacant(JSONObject json, String nickname) {
+
+        String channelId = json.getString("channelId");
+        int labId = json.getInt("labId");
+        Long userId = json.getLong("userId");
+
+        String redisKey = KEY_PREFIX + channelId + ":" + labId;
+
+        return gameStateEngine.execute(channelId, StateKey.hash(redisKey), state -> {
+            Map<Object, Object> players = new HashMap<>(state.hgetAll(redisKey));
+            if (players.isEmpty()) {
+                state.hset(redisKey, userId.toString(), nickname);
+            }
+            return players;
+        });
     }
 
     /*
@@ -100,6 +130,6 @@ public class UseLaboratoryRepository {
 
         String redisKey = KEY_PREFIX + channelId + ":" + labId;
 
-        return reactiveHashOperations.remove(redisKey, userId).then();
+        return gameStateEngine.execute(channelId, StateKey.hash(redisKey), state -> state.hdel(redisKey, userId)).then();
     }
 }
@@ -0,0 +1,79 @@
+package com.explorer.realtime.gamedatahandling.logicserver;
+
+import com.explorer.realtime.staticdatahandling.dto.MaterialItemInfo;
+import com.explorer.realtime.staticdatahandling.registry.StaticDataRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+ * logic 서버의 계산을 realtime 서버 안에서 실행 (HTTP 왕복, redis 조회 없음)
+ * 재료표는 StaticDataRegistry 의 snapshot 에서 읽는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "logic.engine", havingValue = "local", matchIfMissing = true)
+public class LocalLogicEngine implements LogicEngine {
+
+    private static final String[] LAB_ID = {"elementLab"};  // labId 에 따른 재료표 (현재 원소 연구소만 존재)
+
+    private final StaticDataRegistry staticDataRegistry;
+
+    @Override
+    public Mono<List<LogicItem>> extract(int itemId) {
+        return Mono.fromSupplier(() -> {
+            List<MaterialItemInfo> materials = staticDataRegistry.current().extractionMaterials(itemId);
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            List<LogicItem> result = new ArrayList<>(materials.size());
+            for (MaterialItemInfo material : materials) {
+                result.add(toItem(material, exponentialCount(random, material.getCnt())));
+            }
+            log.info("[extract] itemId : {}, result : {}", itemId, result);
+            return result;
+        });
+    }
+
+    @Override
+    public Mono<List<LogicItem>> synthesize(int itemId) {
+        return Mono.fromSupplier(() -> toItems(staticDataRegistry.current().synthesizedMaterials(itemId)));
+    }
+
+    @Override
+    public Mono<List<LogicItem>> upgrade(int labId, int labLevel) {
+        if (labId < 0 || labId >= LAB_ID.length) {
+            return Mono.error(new IllegalArgumentException("unknown labId : " + labId));
+        }
+        return Mono.fromSupplier(() -> toItems(staticDataRegistry.current().upgradeMaterials(labLevel + 1)));
+    }
+
+    /*
+     * [지수 분포] lambda = 3 / maxCnt : 0 에 가까운 값이 자주 나오고 maxCnt 를 넘지 않는다
+     */
+    static int exponentialCount(ThreadLocalRandom random, int maxCnt) {
+        if (maxCnt <= 0) {
+            return 0;
+        }
+        double lambda = 3.0 / maxCnt;
+        double exponentialValue = Math.log(1 - random.nextDouble()) / -lambda;
+        return (int) Math.min(maxCnt, exponentialValue);
+    }
+
+    private static List<LogicItem> toItems(List<MaterialItemInfo> materials) {
+        List<LogicItem> result = new ArrayList<>(materials.size());
+        for (MaterialItemInfo material : materials) {
+            result.add(toItem(material, material.getCnt()));
+        }
+        return result;
+    }
+
+    private static LogicItem toItem(MaterialItemInfo material, int itemCnt) {
+        return new LogicItem(material.getCategory(), material.getId(), itemCnt);
+    }
+}
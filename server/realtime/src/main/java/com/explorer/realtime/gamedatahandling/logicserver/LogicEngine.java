@@ -0,0 +1,28 @@
+package com.explorer.realtime.gamedatahandling.logicserver;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/*
+ * 연구소 계산 (logic 서버의 labCalculate, GetElements, GetMaterials)
+ * - logic.engine: local (기본) : LocalLogicEngine - realtime 서버 안에서 static data snapshot 으로 계산
+ * - logic.engine: remote : RemoteLogicEngine - logic 서버에 HTTP 로 요청
+ */
+public interface LogicEngine {
+
+    /*
+     * 추출 결과 : extractionMaterial 에서 item 별로 0 ~ 최대 개수 사이의 개수를 뽑는다
+     */
+    Mono<List<LogicItem>> extract(int itemId);
+
+    /*
+     * 화합물 합성에 필요한 원소 목록
+     */
+    Mono<List<LogicItem>> synthesize(int itemId);
+
+    /*
+     * labLevel -> labLevel + 1 업그레이드에 필요한 재료 목록
+     */
+    Mono<List<LogicItem>> upgrade(int labId, int labLevel);
+}
@@ -0,0 +1,14 @@
+package com.explorer.realtime.gamedatahandling.logicserver;
+
+/*
+ * LogicEngine 계산 결과 항목 : {itemCategory}:{itemId} 아이템 {itemCnt} 개
+ */
+public record LogicItem(String itemCategory, int itemId, int itemCnt) {
+
+    /*
+     * {itemCategory}:{itemId}
+     */
+    public String key() {
+        return itemCategory + ":" + itemId;
+    }
+}
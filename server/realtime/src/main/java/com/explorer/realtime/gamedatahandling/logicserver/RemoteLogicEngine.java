@@ -0,0 +1,81 @@
+package com.explorer.realtime.gamedatahandling.logicserver;
+
+import lombok.extern.slf4j.Slf4j;
+import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * logic 서버에 HTTP 로 계산을 요청 (logic 서버를 따로 scale-out 하는 배포용)
+ * 응답 : { "{itemCategory}:{itemId}" : {itemCnt}, ... }
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "logic.engine", havingValue = "remote")
+public class RemoteLogicEngine implements LogicEngine {
+
+    private final ToLogicServer toLogicServer;
+    private final String extractUrl;
+    private final String synthesizeUrl;
+    private final String upgradeUrl;
+    private final Duration extractTimeout;
+    private final Duration synthesizeTimeout;
+    private final Duration upgradeTimeout;
+
+    public RemoteLogicEngine(ToLogicServer toLogicServer,
+                             @Value("${logic.laboratory.extract-url}") String extractUrl,
+                             @Value("${logic.laboratory.synthesize-url}") String synthesizeUrl,
+                             @Value("${logic.laboratory.upgrade-url}") String upgradeUrl,
+                             @Value("${logic.client.timeout.extract:2s}") Duration extractTimeout,
+                             @Value("${logic.client.timeout.synthesize:1s}") Duration synthesizeTimeout,
+                             @Value("${logic.client.timeout.upgrade:1s}") Duration upgradeTimeout) {
+        this.toLogicServer = toLogicServer;
+        this.extractUrl = extractUrl;
+        this.synthesizeUrl = synthesizeUrl;
+        this.upgradeUrl = upgradeUrl;
+        this.extractTimeout = extractTimeout;
+        this.synthesizeTimeout = synthesizeTimeout;
+        this.upgradeTimeout = upgradeTimeout;
+    }
+
+    @Override
+    public Mono<List<LogicItem>> extract(int itemId) {
+        return request(extractUrl, extractTimeout, new JSONObject().put("itemId", itemId).toString());
+    }
+
+    @Override
+    public Mono<List<LogicItem>> synthesize(int itemId) {
+        return request(synthesizeUrl, synthesizeTimeout, new JSONObject().put("itemId", itemId).toString());
+    }
+
+    @Override
+    public Mono<List<LogicItem>> upgrade(int labId, int labLevel) {
+        return request(upgradeUrl, upgradeTimeout, new JSONObject().put("labId", labId).put("labLevel", labLevel).toString());
+    }
+
+    private Mono<List<LogicItem>> request(String url, Duration timeout, String body) {
+        log.info("[request] url : {}, body : {}", url, body);
+        return toLogicServer.sendRequestToHttpServer(body, url, timeout)
+                .map(RemoteLogicEngine::parse)
+                .doOnError(error -> log.error("[request] url : {}, error : {}", url, error.getMessage()));
+    }
+
+    static List<LogicItem> parse(String response) {
+        JSONObject json = new JSONObject(response);
+        if (json.has("error")) {
+            throw new IllegalStateException("logic server error : " + json.getString("error"));
+        }
+        List<LogicItem> result = new ArrayList<>(json.length());
+        for (String key : json.keySet()) {
+            int idx = key.indexOf(':');
+            result.add(new LogicItem(key.substring(0, idx), Integer.parseInt(key.substring(idx + 1)), json.getInt(key)));
+        }
+        return result;
+    }
+}
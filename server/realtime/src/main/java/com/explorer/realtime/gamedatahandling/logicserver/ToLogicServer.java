@@ -1,28 +1,86 @@
 package com.explorer.realtime.gamedatahandling.logicserver;
 
-import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Function;
+
+/*
+ * logic 서버 HTTP client (RemoteLogicEngine 전용)
+ * - 하나의 HttpClient 와 connection pool 을 공유하여 keep-alive connection 을 재사용한다
+ *   (logic.client.protocol: h2c 이면 HTTP/2 cleartext 로 한 connection 에 요청을 multiplexing)
+ * - 동시에 처리 중인 요청은 max-connections 개, 대기 요청은 pending-acquire-max 개까지만 허용하고 넘으면 바로 실패한다
+ * - connect / pending acquire / response timeout 을 둔다 (response timeout 은 요청별로 지정 가능)
+ * - reactor.netty.http.client.* / reactor.netty.connection.provider.* metrics 를 micrometer 로 기록한다
+ *   (connect time, data sent time (request), response time, data received time, pool 사용량)
+ */
 @Slf4j
 @Component
 public class ToLogicServer {
 
-    public Mono<String> sendRequestToHttpServer(String requestData, String HTTP_SERVER_URL) {
+    private static final String POOL_NAME = "logic";
+
+    private final ConnectionProvider connectionProvider;
+    private final HttpClient httpClient;
+    private final Duration defaultResponseTimeout;
+
+    public ToLogicServer(@Value("${logic.client.protocol:http11}") String protocol,
+                         @Value("${logic.client.max-connections:50}") int maxConnections,
+                         @Value("${logic.client.pending-acquire-max:200}") int pendingAcquireMax,
+                         @Value("${logic.client.pending-acquire-timeout:1s}") Duration pendingAcquireTimeout,
+                         @Value("${logic.client.max-idle-time:30s}") Duration maxIdleTime,
+                         @Value("${logic.client.connect-timeout:1s}") Duration connectTimeout,
+                         @Value("${logic.client.response-timeout:3s}") Duration defaultResponseTimeout) {
+        this.connectionProvider = ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMax)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .evictInBackground(maxIdleTime)
+                .metrics(true)
+                .build();
+        this.httpClient = HttpClient.create(connectionProvider)
+                .protocol("h2c".equalsIgnoreCase(protocol) ? HttpProtocol.H2C : HttpProtocol.HTTP11)
+                .keepAlive(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .option(ChannelOption.TCP_NODELAY, true)
+                .metrics(true, Function.identity());
+        this.defaultResponseTimeout = defaultResponseTimeout;
+    }
 
-        ByteBuf byteBuf = Unpooled.wrappedBuffer(requestData.getBytes());
-        log.info("sendRequestToHttpServer start...");
+    @PreDestroy
+    public void close() {
+        connectionProvider.disposeLater().block(Duration.ofSeconds(5));
+    }
+
+    public Mono<String> sendRequestToHttpServer(String requestData, String HTTP_SERVER_URL) {
+        return sendRequestToHttpServer(requestData, HTTP_SERVER_URL, defaultResponseTimeout);
+    }
 
-        return HttpClient
-                .create()                   // HTTP 클라이언트 생성
+    public Mono<String> sendRequestToHttpServer(String requestData, String HTTP_SERVER_URL, Duration responseTimeout) {
+        byte[] body = requestData.getBytes(StandardCharsets.UTF_8);
+        return httpClient
+                .headers(headers -> headers.set("Content-Type", "application/json"))
+                .doOnRequest((request, connection) -> request.responseTimeout(responseTimeout))
                 .post()
-                .uri(HTTP_SERVER_URL)       // 요청을 보낼 대상 서버 URL 설정
-                .send(Mono.just(byteBuf))
-                .responseContent()          // 응답 내용을 stream 형태로 수신
-                .aggregate()                // 여러 부분으로 나누어진 응답 컨텐츠를 하나의 전체로 수집한다
-                .asString();                // 수집된 컨텐츠를 문자열로 변환하여 반환한다
+                .uri(HTTP_SERVER_URL)                           // 요청을 보낼 대상 서버 URL 설정
+                .send(Mono.fromSupplier(() -> Unpooled.wrappedBuffer(body)))
+                .responseSingle((response, content) -> {
+                    if (response.status().code() != 200) {
+                        return Mono.error(new IllegalStateException("logic server status : " + response.status().code()));
+                    }
+                    return content.asString(StandardCharsets.UTF_8);   // 응답 내용을 하나로 모아 문자열로 변환
+                })
+                .doOnError(error -> log.warn("[sendRequestToHttpServer] url : {}, error : {}", HTTP_SERVER_URL, error.toString()));
     }
 }
@@ -2,8 +2,10 @@ package com.explorer.realtime.gamedatahandling.moving.event;
 
 import com.explorer.realtime.global.common.dto.Message;
 import com.explorer.realtime.global.common.enums.CastingType;
-import com.explorer.realtime.global.component.broadcasting.Broadcasting;
-import com.explorer.realtime.global.util.MessageConverter;
+import com.explorer.realtime.global.component.broadcasting.MapPresence;
+import com.explorer.realtime.global.component.codec.BinaryCodec;
+import com.explorer.realtime.global.component.codec.WireMessage;
+import com.explorer.realtime.global.component.tick.PositionSnapshotTicker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
@@ -18,7 +20,8 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class Moving {
 
-    private final Broadcasting broadcasting;
+    private final PositionSnapshotTicker positionSnapshotTicker;
+    private final MapPresence mapPresence;
 
     public Mono<Void> process(JSONObject json) {
         String channelId = json.getString("channelId");
@@ -31,10 +34,16 @@ public class Moving {
         map.put("userId", userId);
         map.put("position", position);
 
-        return broadcasting.broadcasting(
-                channelId,
-                MessageConverter.convert(Message.success("move", CastingType.BROADCASTING, map))
-        ).then();
+        if (mapPresence.move(channelId, userId, mapId)) {
+            positionSnapshotTicker.resync(channelId, mapId);
+        }
+        String key = "move:" + userId;
+        positionSnapshotTicker.update(channelId, mapId, key, position, () -> WireMessage.latest(
+                key,
+                Message.success("move", CastingType.BROADCASTING, map),
+                BinaryCodec.encodeMove(userId, mapId, position)
+        ));
+        return Mono.empty();
     }
 
 }
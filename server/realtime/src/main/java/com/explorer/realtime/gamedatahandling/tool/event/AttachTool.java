@@ -12,7 +12,8 @@ import com.explorer.realtime.global.common.dto.Message;
 import com.explorer.realtime.global.common.enums.CastingType;
 import com.explorer.realtime.global.component.broadcasting.Broadcasting;
 import com.explorer.realtime.global.component.broadcasting.Unicasting;
-import com.explorer.realtime.global.util.MessageConverter;
+import com.explorer.realtime.global.component.session.SessionContext;
+import com.explorer.realtime.global.component.session.SessionManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
@@ -33,6 +34,7 @@ public class AttachTool {
     private final PlayerInfoRepository playerInfoRepository;
     private final Unicasting unicasting;
     private final Broadcasting broadcasting;
+    private final SessionManager sessionManager;
 
     private static final String eventName = "attachTool";
 
@@ -81,6 +83,7 @@ public class AttachTool {
                             .flatMap(preIdx -> {
                                 log.info("[process] inventoryInfo : {}", inventoryInfo);
                                 return toolRepository.save(channelId, userId, inventoryIdx, inventoryInfo.getItemId())
+                                        .doOnSuccess(saved -> updateSession(userId, inventoryIdx + ":" + inventoryInfo.getItemId()))
                                         .then(unicasting(channelId, userId, inventoryIdx, preIdx))
                                         .then(broadcasting(channelId, userId, inventoryInfo.getItemId()));
                             });
@@ -90,11 +93,18 @@ public class AttachTool {
                     return unicasting.unicasting(
                             channelId,
                             userId,
-                            MessageConverter.convert(Message.fail(eventName, CastingType.UNICASTING, String.valueOf(error.getErrorCode()), error.getMessage()))
+                            Message.fail(eventName, CastingType.UNICASTING, String.valueOf(error.getErrorCode()), error.getMessage())
                     ).then();
                 });
     }
 
+    private void updateSession(Long userId, String tool) {
+        SessionContext context = sessionManager.getContext(userId);
+        if (context != null) {
+            context.setTool(tool);
+        }
+    }
+
     private Mono<Integer> getInventoryCntByUserId(String channelId, Long userId) {
         log.info("[getInventoryCntByUserId] channelId : {}, userId : {}", channelId, userId);
 
@@ -111,7 +121,7 @@ public class AttachTool {
         return unicasting.unicasting(
                 channelId,
                 userId,
-                MessageConverter.convert(Message.success(eventName, CastingType.UNICASTING, map))
+                Message.success(eventName, CastingType.UNICASTING, map)
         );
     }
 
@@ -124,7 +134,7 @@ public class AttachTool {
 
         return broadcasting.broadcasting(
                 channelId,
-                MessageConverter.convert(Message.success(eventName, CastingType.BROADCASTING, map))
+                Message.success(eventName, CastingType.BROADCASTING, map)
         );
     }
 }
@@ -10,7 +10,8 @@ import com.explorer.realtime.global.common.dto.Message;
 import com.explorer.realtime.global.common.enums.CastingType;
 import com.explorer.realtime.global.component.broadcasting.Broadcasting;
 import com.explorer.realtime.global.component.broadcasting.Unicasting;
-import com.explorer.realtime.global.util.MessageConverter;
+import com.explorer.realtime.global.component.session.SessionContext;
+import com.explorer.realtime.global.component.session.SessionManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
@@ -30,6 +31,7 @@ public class DetachTool {
     private final PlayerInfoRepository playerInfoRepository;
     private final Unicasting unicasting;
     private final Broadcasting broadcasting;
+    private final SessionManager sessionManager;
 
     private static final String eventName = "detachTool";
 
@@ -75,6 +77,7 @@ public class DetachTool {
                             .flatMap(result -> {
                                 log.info("[process] inventoryInfo : {}", inventoryInfo);
                                 return toolRepository.delete(channelId, userId)
+                                        .doOnSuccess(deleted -> updateSession(userId, null))
                                         .then(unicasting(channelId, userId, inventoryIdx))
                                         .then(broadcasting(channelId, userId, inventoryInfo.getItemId()));
                             });
@@ -84,11 +87,18 @@ public class DetachTool {
                     return unicasting.unicasting(
                             channelId,
                             userId,
-                            MessageConverter.convert(Message.fail(eventName, CastingType.UNICASTING, String.valueOf(error.getErrorCode()), error.getMessage()))
+                            Message.fail(eventName, CastingType.UNICASTING, String.valueOf(error.getErrorCode()), error.getMessage())
                     ).then();
                 });
     }
 
+    private void updateSession(Long userId, String tool) {
+        SessionContext context = sessionManager.getContext(userId);
+        if (context != null) {
+            context.setTool(tool);
+        }
+    }
+
     private Mono<Integer> getInventoryCntByUserId(String channelId, Long userId) {
         log.info("[getInventoryCntByUserId] channelId : {}, userId : {}", channelId, userId);
 
@@ -104,7 +114,7 @@ public class DetachTool {
         return unicasting.unicasting(
                 channelId,
                 userId,
-                MessageConverter.convert(Message.success(eventName, CastingType.UNICASTING, map))
+                Message.success(eventName, CastingType.UNICASTING, map)
         );
     }
 
@@ -117,7 +127,7 @@ public class DetachTool {
 
         return broadcasting.broadcasting(
                 channelId,
-                MessageConverter.convert(Message.success(eventName, CastingType.BROADCASTING, map))
+                Message.success(eventName, CastingType.BROADCASTING, map)
         );
     }
 
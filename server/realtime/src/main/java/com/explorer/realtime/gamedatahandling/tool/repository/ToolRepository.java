@@ -1,35 +1,38 @@
 package com.explorer.realtime.gamedatahandling.tool.repository;
 
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import com.explorer.realtime.global.component.state.GameStateEngine;
+import com.explorer.realtime.global.component.state.StateKey;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
 
 @Repository
 public class ToolRepository {
 
-    private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+    private final GameStateEngine gameStateEngine;
 
     private static final String KEY_PREFIX = "tool:";
 
-    public ToolRepository(@Qualifier("gameReactiveRedisTemplate") ReactiveRedisTemplate<String, Object> reactiveRedisTemplate) {
-        this.reactiveRedisTemplate = reactiveRedisTemplate;
+    public ToolRepository(GameStateEngine gameStateEngine) {
+        this.gameStateEngine = gameStateEngine;
     }
 
     public Mono<Boolean> save(String channelId, Long userId, int inventoryIdx, int itemId) {
         String key = KEY_PREFIX + channelId + ":" + userId;
         String value = String.valueOf(inventoryIdx) + ":" + String.valueOf(itemId);
-        return reactiveRedisTemplate.opsForValue().set(key, value);
+        return gameStateEngine.execute(channelId, StateKey.value(key), state -> {
+            state.set(key, value);
+            return true;
+        });
     }
 
     public Mono<Boolean> delete(String channelId, Long userId) {
-        String key = KEY_PREFIX + channelId + ":" + userId;
-        return reactiveRedisTemplate.opsForValue().delete(key);
+        StateKey key = StateKey.value(KEY_PREFIX + channelId + ":" + userId);
+        return gameStateEngine.execute(channelId, key, state -> state.delete(key));
     }
 
     public Mono<Object> find(String channelId, Long userId) {
         String key = KEY_PREFIX + channelId + ":" + userId;
-        return reactiveRedisTemplate.opsForValue().get(key);
+        return gameStateEngine.execute(channelId, StateKey.value(key), state -> state.get(key));
     }
 
 }
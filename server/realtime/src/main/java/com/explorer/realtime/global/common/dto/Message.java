@@ -1,14 +1,20 @@
 package com.explorer.realtime.global.common.dto;
 
 import com.explorer.realtime.global.common.enums.CastingType;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+
 @Getter
 @Builder
 public class Message<T> {
 
+    private static final ConcurrentHashMap<String, byte[]> ENCODED_PREFIXES = new ConcurrentHashMap<>();
+
     private final DataHeader dataHeader;
     private final T dataBody;
 
@@ -58,6 +64,38 @@ public class Message<T> {
                     .resultMessage(resultMessage)
                     .build();
         }
+
+        private String toJson() {
+            return "{\"msg\":" + quote(msg)
+                    + ",\"eventName\":" + quote(eventName)
+                    + ",\"castingType\":" + quote(castingType)
+                    + ",\"resultCode\":" + quote(resultCode)
+                    + ",\"resultMessage\":" + quote(resultMessage)
+                    + "}";
+        }
+
+        private static String quote(String value) {
+            if (value == null) {
+                return "null";
+            }
+            return '"' + new String(JsonStringEncoder.getInstance().quoteAsString(value)) + '"';
+        }
+    }
+
+    /*
+     * {"dataHeader":{...},"dataBody": 까지 UTF-8 로 encode 된 JSON prefix
+     * resultCode, resultMessage 가 없는 header 는 (msg, eventName, castingType) 조합별로 한 번만 encode 하여 재사용한다
+     */
+    public byte[] encodedPrefix() {
+        if (dataHeader.resultCode == null && dataHeader.resultMessage == null) {
+            String key = dataHeader.msg + ':' + dataHeader.eventName + ':' + dataHeader.castingType;
+            return ENCODED_PREFIXES.computeIfAbsent(key, k -> encodePrefix(dataHeader));
+        }
+        return encodePrefix(dataHeader);
+    }
+
+    private static byte[] encodePrefix(DataHeader dataHeader) {
+        return ("{\"dataHeader\":" + dataHeader.toJson() + ",\"dataBody\":").getBytes(StandardCharsets.UTF_8);
     }
 
     public static <T> Message<T> success(String eventName, CastingType castingType, T dataBody) {
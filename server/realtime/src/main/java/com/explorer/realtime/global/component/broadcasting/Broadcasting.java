@@ -1,7 +1,10 @@
 package com.explorer.realtime.global.component.broadcasting;
 
+import com.explorer.realtime.global.common.dto.Message;
+import com.explorer.realtime.global.component.codec.WireMessage;
 import com.explorer.realtime.global.redis.ChannelRepository;
 import com.explorer.realtime.global.component.session.SessionManager;
+import com.explorer.realtime.global.component.session.SessionResume;
 import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,31 +13,118 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.Connection;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
 @Component
 public class Broadcasting {
 
     private static final Logger log = LoggerFactory.getLogger(Broadcasting.class);
     private final ChannelRepository channelRepository;
     private final SessionManager sessionManager;
+    private final MapPresence mapPresence;
+    private final ClusterRelay clusterRelay;
+    private final SessionResume sessionResume;
 
-    public Broadcasting(ChannelRepository channelRepository, SessionManager sessionManager) {
+    public Broadcasting(ChannelRepository channelRepository, SessionManager sessionManager, MapPresence mapPresence, ClusterRelay clusterRelay, SessionResume sessionResume) {
         this.channelRepository = channelRepository;
         this.sessionManager = sessionManager;
+        this.mapPresence = mapPresence;
+        this.clusterRelay = clusterRelay;
+        this.sessionResume = sessionResume;
     }
     public Mono<Void> broadcasting(String teamCode, JSONObject msg) {
+        return broadcasting(teamCode, () -> EncodedFrame.encode(msg));
+    }
+
+    public Mono<Void> broadcasting(String teamCode, Message<?> msg) {
+        return broadcasting(teamCode, () -> EncodedFrame.encode(msg));
+    }
+
+    /*
+     * 바이너리 protocol 을 협상한 connection 에는 binary frame 을, 나머지에는 JSON 을 전송
+     */
+    public Mono<Void> broadcasting(String teamCode, WireMessage msg) {
+        return broadcasting(teamCode, () -> EncodedFrame.encode(msg));
+    }
+
+    /*
+     * 여러 메시지를 connection 당 한 번의 write 로 전송 (tick 단위 위치 snapshot 등)
+     */
+    public Mono<Void> broadcasting(String teamCode, List<WireMessage> msgs) {
+        if (msgs.isEmpty()) {
+            return Mono.empty();
+        }
+        return broadcasting(teamCode, () -> EncodedFrame.encode(msgs));
+    }
+
+    /*
+     * channel 안에서 mapId 에 있는 player 에게만 전송 (다른 map 에 있는 player 는 제외)
+     */
+    public Mono<Void> broadcastingToMap(String teamCode, int mapId, WireMessage msg) {
+        return broadcasting(teamCode, userId -> mapPresence.isOn(teamCode, userId, mapId), () -> EncodedFrame.encode(msg));
+    }
+
+    public Mono<Void> broadcastingToMap(String teamCode, int mapId, List<WireMessage> msgs) {
+        if (msgs.isEmpty()) {
+            return Mono.empty();
+        }
+        return broadcasting(teamCode, userId -> mapPresence.isOn(teamCode, userId, mapId), () -> EncodedFrame.encode(msgs));
+    }
+
+    private Mono<Void> broadcasting(String teamCode, Supplier<EncodedFrame> encoder) {
+        return broadcasting(teamCode, userId -> true, encoder);
+    }
+
+    /*
+     * 이 노드의 channel session 목록이 있으면 redis 조회 없이 배열을 순회하며 전송
+     * 목록이 없거나 cluster 모드 (다른 노드의 player 가 있을 수 있음) 이면 channel 멤버 목록으로 찾는다
+     * 연결이 끊겨 resume 을 기다리는 player 의 frame 은 SessionResume 에 담는다
+     */
+    private Mono<Void> broadcasting(String teamCode, Predicate<Long> target, Supplier<EncodedFrame> encoder) {
         log.info("start broadcasting to {}", teamCode);
-        return channelRepository.findAll(teamCode)
-                .flatMapMany(hashTable -> {
-                    return Flux.fromIterable(hashTable.keySet())
-                            .flatMap(key -> {
-                                Connection connection = sessionManager.getConnection(Long.valueOf(key.toString()));
+        if (!clusterRelay.isEnabled() && sessionManager.count(teamCode) > 0) {
+            return Mono.fromRunnable(() -> {
+                        EncodedFrame frame = encoder.get();
+                        try {
+                            sessionManager.forEachInChannel(teamCode, (userId, connection) -> {
+                                if (target.test(userId)) {
+                                    frame.send(connection);
+                                }
+                            });
+                            sessionResume.capture(teamCode, target, frame::bytes, frame.latestKeys());
+                        } finally {
+                            frame.release();
+                        }
+                    })
+                    .then()
+                    .doOnSuccess(aVoid -> log.info("Broadcast completed for teamCode: {}", teamCode))
+                    .doOnError(error -> log.error("Broadcast failed tor teamCode: {}, error: {}", teamCode, error.getMessage()));
+        }
+        return channelRepository.findMemberIds(teamCode)
+                .flatMapMany(userIds -> {
+                    EncodedFrame frame = encoder.get();
+                    List<Long> remote = new ArrayList<>();
+                    return Flux.fromIterable(userIds)
+                            .filter(target)
+                            .doOnNext(key -> {
+                                Connection connection = sessionManager.getConnection(key);
                                 if (connection != null) {
                                     log.info("sending message to {}", key);
-                                    return connection.outbound().sendString(Mono.just(msg.toString()+'\n')).then();
+                                    frame.send(connection);
+                                } else if (sessionResume.capture(key, frame::bytes, frame.latestKeys())) {
+                                    log.info("captured message for detached {}", key);
+                                } else if (clusterRelay.isEnabled()) {
+                                    remote.add(key);
                                 } else {
                                     log.warn("No connection found for {}", key);
-                                    return Mono.empty();
                                 }
+                            })
+                            .doFinally(signal -> {
+                                clusterRelay.relay(remote, frame);
+                                frame.release();
                             });
                 })
                 .then()
@@ -0,0 +1,73 @@
+package com.explorer.realtime.global.component.broadcasting;
+
+import com.explorer.realtime.global.component.cluster.ClusterBus;
+import com.explorer.realtime.global.component.cluster.ClusterEnvelope;
+import com.explorer.realtime.global.component.cluster.ClusterRegistry;
+import com.explorer.realtime.global.component.codec.ProtocolVersion;
+import com.explorer.realtime.global.component.outbound.OutboundMailbox;
+import com.explorer.realtime.global.component.session.SessionManager;
+import io.netty.buffer.Unpooled;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.netty.Connection;
+
+import java.util.List;
+
+/*
+ * 이 노드에 connection 이 없는 player 에게 보낼 frame 을 cluster bus 로 다른 노드에 넘긴다
+ * - cluster 가 꺼져 있으면 아무것도 하지 않는다 (기존처럼 connection 이 없는 player 는 건너뛴다)
+ * - 받은 노드는 자신에게 connection 이 있는 player 에게만 전송한다
+ */
+@Component
+public class ClusterRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterRelay.class);
+
+    private final ClusterBus clusterBus;
+    private final ClusterRegistry clusterRegistry;
+    private final SessionManager sessionManager;
+
+    public ClusterRelay(ClusterBus clusterBus, ClusterRegistry clusterRegistry, SessionManager sessionManager) {
+        this.clusterBus = clusterBus;
+        this.clusterRegistry = clusterRegistry;
+        this.sessionManager = sessionManager;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        if (clusterRegistry.isEnabled()) {
+            clusterBus.subscribe(this::deliver);
+        }
+    }
+
+    public boolean isEnabled() {
+        return clusterRegistry.isEnabled();
+    }
+
+    /*
+     * frame 은 호출한 쪽이 release 한다 (bytes 를 복사해서 보낸다)
+     */
+    void relay(List<Long> userIds, EncodedFrame frame) {
+        if (!clusterRegistry.isEnabled() || userIds.isEmpty()) {
+            return;
+        }
+        log.info("[relay] userIds : {}", userIds);
+        clusterBus.publish(frame.toEnvelope(clusterRegistry.self().id(), userIds)).subscribe();
+    }
+
+    private void deliver(ClusterEnvelope envelope) {
+        if (envelope.origin().equals(clusterRegistry.self().id())) {
+            return;
+        }
+        for (Long userId : envelope.userIds()) {
+            Connection connection = sessionManager.getConnection(userId);
+            if (connection == null) {
+                continue;
+            }
+            byte[] bytes = envelope.binary() != null && ProtocolVersion.isBinary(connection) ? envelope.binary() : envelope.json();
+            OutboundMailbox.send(connection, Unpooled.wrappedBuffer(bytes), envelope.latestKeys());
+        }
+    }
+}
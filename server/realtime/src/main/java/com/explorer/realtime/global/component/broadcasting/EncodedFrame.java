@@ -0,0 +1,138 @@
+package com.explorer.realtime.global.component.broadcasting;
+
+import com.explorer.realtime.global.common.dto.Message;
+import com.explorer.realtime.global.component.cluster.ClusterEnvelope;
+import com.explorer.realtime.global.component.codec.ProtocolVersion;
+import com.explorer.realtime.global.component.codec.WireMessage;
+import com.explorer.realtime.global.component.outbound.OutboundMailbox;
+import com.explorer.realtime.global.util.MessageEncoder;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.json.JSONObject;
+import reactor.netty.Connection;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * 수신자 수와 관계없이 한 번만 직렬화한 메시지 buffer
+ * 각 connection 에는 retainedDuplicate 를 전달하고 (전송 후 netty 가 release), 모두 전달하면 release() 로 원본을 해제한다
+ */
+final class EncodedFrame {
+
+    private final ByteBuf json;
+    private final ByteBuf binary;
+    private final List<String> latestKeys;
+
+    private EncodedFrame(ByteBuf json, ByteBuf binary, List<String> latestKeys) {
+        this.json = json;
+        this.binary = binary;
+        this.latestKeys = latestKeys;
+    }
+
+    static EncodedFrame encode(JSONObject msg) {
+        return new EncodedFrame(encodeJson(msg), null, null);
+    }
+
+    static EncodedFrame encode(Message<?> msg) {
+        return new EncodedFrame(MessageEncoder.encode(msg), null, null);
+    }
+
+    static EncodedFrame encode(WireMessage msg) {
+        ByteBuf binary = msg.getBinary() == null ? null : Unpooled.wrappedBuffer(msg.getBinary());
+        List<String> latestKeys = msg.getLatestKey() == null ? null : List.of(msg.getLatestKey());
+        return new EncodedFrame(MessageEncoder.encode(msg.getMessage()), binary, latestKeys);
+    }
+
+    /*
+     * 여러 메시지를 하나의 buffer 로 이어 붙여 connection 당 한 번에 전송
+     * 바이너리 connection 에는 binary frame 이 있는 메시지는 binary 로, 없는 메시지는 JSON 한 줄로 기록한다
+     */
+    static EncodedFrame encode(List<WireMessage> msgs) {
+        ByteBuf json = ByteBufAllocator.DEFAULT.buffer(msgs.size() * 128);
+        ByteBuf binary = null;
+        try {
+            for (WireMessage msg : msgs) {
+                MessageEncoder.encode(msg.getMessage(), json);
+            }
+            if (msgs.stream().anyMatch(msg -> msg.getBinary() != null)) {
+                binary = ByteBufAllocator.DEFAULT.buffer(msgs.size() * 32);
+                for (WireMessage msg : msgs) {
+                    if (msg.getBinary() != null) {
+                        binary.writeBytes(msg.getBinary());
+                    } else {
+                        MessageEncoder.encode(msg.getMessage(), binary);
+                    }
+                }
+            }
+            return new EncodedFrame(json, binary, latestKeys(msgs));
+        } catch (RuntimeException e) {
+            json.release();
+            if (binary != null) {
+                binary.release();
+            }
+            throw e;
+        }
+    }
+
+    /*
+     * 묶음 안의 모든 메시지가 latestKey 를 가진 경우에만 대체 가능한 frame 으로 취급한다
+     */
+    private static List<String> latestKeys(List<WireMessage> msgs) {
+        List<String> keys = new ArrayList<>(msgs.size());
+        for (WireMessage msg : msgs) {
+            if (msg.getLatestKey() == null) {
+                return null;
+            }
+            keys.add(msg.getLatestKey());
+        }
+        return keys;
+    }
+
+    /*
+     * pooled buffer 에 JSON + '\n' 을 UTF-8 로 한 번만 기록
+     */
+    private static ByteBuf encodeJson(JSONObject msg) {
+        String str = msg.toString();
+        ByteBuf buf = ByteBufAllocator.DEFAULT.buffer(ByteBufUtil.utf8Bytes(str) + 1);
+        ByteBufUtil.writeUtf8(buf, str);
+        buf.writeByte('\n');
+        return buf;
+    }
+
+    /*
+     * connection 의 outbound mailbox 에 retainedDuplicate 를 넣는다 (write 후 또는 버려질 때 release)
+     */
+    void send(Connection connection) {
+        ByteBuf source = binary != null && ProtocolVersion.isBinary(connection) ? binary : json;
+        OutboundMailbox.send(connection, source.retainedDuplicate(), latestKeys);
+    }
+
+    /*
+     * 다른 노드로 넘길 때 (ClusterRelay) buffer 의 bytes 를 복사한다
+     */
+    ClusterEnvelope toEnvelope(String origin, List<Long> userIds) {
+        return new ClusterEnvelope(origin, List.copyOf(userIds), ByteBufUtil.getBytes(json),
+                binary == null ? null : ByteBufUtil.getBytes(binary), latestKeys);
+    }
+
+    /*
+     * 연결이 끊긴 session 의 replay buffer 에 담을 때 (SessionResume) 끊긴 connection 의 protocol 에 맞는 bytes 를 복사한다
+     */
+    byte[] bytes(boolean binaryProtocol) {
+        return ByteBufUtil.getBytes(binary != null && binaryProtocol ? binary : json);
+    }
+
+    List<String> latestKeys() {
+        return latestKeys;
+    }
+
+    void release() {
+        json.release();
+        if (binary != null) {
+            binary.release();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.explorer.realtime.global.component.broadcasting;
+
+import com.explorer.realtime.global.component.session.SessionContext;
+import com.explorer.realtime.global.component.session.SessionManager;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/*
+ * channel 안에서 각 player 가 현재 보고 있는 mapId (area of interest)
+ * - 이동 event 의 mapId, 팀 단위 맵 이동 (CurrentMapRepository.save) 으로 갱신된다
+ * - 연구소에 들어간 player (EnterLab ~ LeaveLab) 는 어느 map 의 메시지도 받지 않는다
+ * - 이 노드에서 처리한 event 만 반영하는 local 정보이므로 mapId 를 모르는 player 는 모든 map 의 메시지를 받는다
+ * - player 의 SessionContext mapId 도 함께 갱신한다
+ * - player 가 channel 을 떠나거나 channel 이 지워지면 leave listener 에 알린다 (userId 가 null 이면 channel 전체)
+ */
+@Component
+public class MapPresence {
+
+    private final ConcurrentHashMap<String, ConcurrentHashMap<Long, Integer>> channels = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<Long>> labs = new ConcurrentHashMap<>();
+    private final SessionManager sessionManager;
+    private final List<BiConsumer<String, Long>> leaveListeners = new CopyOnWriteArrayList<>();
+
+    public MapPresence(SessionManager sessionManager) {
+        this.sessionManager = sessionManager;
+    }
+
+    public void addLeaveListener(BiConsumer<String, Long> listener) {
+        leaveListeners.add(listener);
+    }
+
+    /*
+     * player 의 mapId 갱신 : mapId 가 바뀌었으면 true
+     */
+    public boolean move(String channelId, Long userId, int mapId) {
+        Integer previous = channels.computeIfAbsent(channelId, key -> new ConcurrentHashMap<>()).put(userId, mapId);
+        updateSession(userId, mapId);
+        return previous == null || previous != mapId;
+    }
+
+    /*
+     * 팀 전체가 같은 map 으로 이동 (탐사, 메인 맵 복귀)
+     */
+    public void moveAll(String channelId, int mapId) {
+        Map<Long, Integer> users = channels.get(channelId);
+        if (users != null) {
+            users.replaceAll((userId, current) -> mapId);
+            users.keySet().forEach(userId -> updateSession(userId, mapId));
+        }
+    }
+
+    public void enterLab(String channelId, Long userId) {
+        labs.computeIfAbsent(channelId, key -> ConcurrentHashMap.newKeySet()).add(userId);
+    }
+
+    /*
+     * 연구소에서 나온 player 가 보고 있던 mapId (모르면 null)
+     */
+    public Integer leaveLab(String channelId, Long userId) {
+        labs.computeIfPresent(channelId, (key, users) -> {
+            users.remove(userId);
+            return users.isEmpty() ? null : users;
+        });
+        Map<Long, Integer> users = channels.get(channelId);
+        return users == null ? null : users.get(userId);
+    }
+
+    private void updateSession(Long userId, int mapId) {
+        SessionContext context = sessionManager.getContext(userId);
+        if (context != null) {
+            context.moveTo(mapId);
+        }
+    }
+
+    /*
+     * mapId 를 모르는 경우에도 true (메시지를 놓치지 않도록), 연구소 안에 있으면 false
+     */
+    public boolean isOn(String channelId, Long userId, int mapId) {
+        Set<Long> inLab = labs.get(channelId);
+        if (inLab != null && inLab.contains(userId)) {
+            return false;
+        }
+        Map<Long, Integer> users = channels.get(channelId);
+        if (users == null) {
+            return true;
+        }
+        Integer current = users.get(userId);
+        return current == null || current == mapId;
+    }
+
+    public void leave(String channelId, Long userId) {
+        leaveLab(channelId, userId);
+        channels.computeIfPresent(channelId, (key, users) -> {
+            users.remove(userId);
+            return users.isEmpty() ? null : users;
+        });
+        leaveListeners.forEach(listener -> listener.accept(channelId, userId));
+    }
+
+    public void remove(String channelId) {
+        channels.remove(channelId);
+        labs.remove(channelId);
+        leaveListeners.forEach(listener -> listener.accept(channelId, null));
+    }
+}
@@ -1,7 +1,9 @@
 package com.explorer.realtime.global.component.broadcasting;
 
+import com.explorer.realtime.global.common.dto.Message;
 import com.explorer.realtime.global.redis.ChannelRepository;
 import com.explorer.realtime.global.component.session.SessionManager;
+import com.explorer.realtime.global.component.session.SessionResume;
 import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,43 +12,96 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.Connection;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
 @Component
 public class Multicasting {
 
     private static final Logger log = LoggerFactory.getLogger(Multicasting.class);
     private final ChannelRepository channelRepository;
     private final SessionManager sessionManager;
+    private final ClusterRelay clusterRelay;
+    private final SessionResume sessionResume;
 
-    public Multicasting(ChannelRepository channelRepository, SessionManager sessionManager) {
+    public Multicasting(ChannelRepository channelRepository, SessionManager sessionManager, ClusterRelay clusterRelay, SessionResume sessionResume) {
         this.channelRepository = channelRepository;
         this.sessionManager = sessionManager;
+        this.clusterRelay = clusterRelay;
+        this.sessionResume = sessionResume;
     }
 
     public Mono<Void> multicasting(String teamCode, String uid, JSONObject msg) {
+        return multicasting(teamCode, uid, () -> EncodedFrame.encode(msg));
+    }
+
+    public Mono<Void> multicasting(String teamCode, String uid, Message<?> msg) {
+        return multicasting(teamCode, uid, () -> EncodedFrame.encode(msg));
+    }
+
+    private Mono<Void> multicasting(String teamCode, String uid, Supplier<EncodedFrame> encoder) {
 
         log.info("start multicasting to {}", teamCode);
 
-        return channelRepository.findAll(teamCode)
-                .flatMapMany(hashTable -> {
-                    return Flux.fromIterable(hashTable.keySet())
-                            .flatMap(key -> {
-                                if (key.equals(uid)) {
-                                    return Mono.empty();
+        if (!clusterRelay.isEnabled() && sessionManager.count(teamCode) > 0) {      // 이 노드의 channel session 목록 (redis 조회 없음)
+            Long excluded = toUserId(uid);
+            return Mono.fromRunnable(() -> {
+                        EncodedFrame frame = encoder.get();
+                        try {
+                            sessionManager.forEachInChannel(teamCode, (userId, connection) -> {
+                                if (!userId.equals(excluded)) {
+                                    frame.send(connection);
+                                }
+                            });
+                            sessionResume.capture(teamCode, userId -> !userId.equals(excluded), frame::bytes, frame.latestKeys());
+                        } finally {
+                            frame.release();
+                        }
+                    })
+                    .then()
+                    .doOnSuccess(aVoid -> log.info("Multicast completed for teamCode: {}", teamCode))
+                    .doOnError(error -> log.error("Multicast failed for teamCode: {}, error: {}", teamCode, error.getMessage()));
+        }
+
+        return channelRepository.findMemberIds(teamCode)
+                .flatMapMany(userIds -> {
+                    EncodedFrame frame = encoder.get();
+                    List<Long> remote = new ArrayList<>();
+                    return Flux.fromIterable(userIds)
+                            .doOnNext(key -> {
+                                if (String.valueOf(key).equals(uid)) {
+                                    return;
                                 }
 
-                                Connection connection = sessionManager.getConnection(Long.valueOf(key.toString()));
+                                Connection connection = sessionManager.getConnection(key);
 
                                 if (connection != null) {
-                                    log.info("sending message to {}, msg: {}", key, msg);
-                                    return connection.outbound().sendString(Mono.just(msg.toString() + '\n')).then();
+                                    log.info("sending message to {}", key);
+                                    frame.send(connection);
+                                } else if (sessionResume.capture(key, frame::bytes, frame.latestKeys())) {
+                                    log.info("captured message for detached {}", key);
+                                } else if (clusterRelay.isEnabled()) {
+                                    remote.add(key);
                                 } else {
                                     log.warn("No connection found for {}", key);
-                                    return Mono.empty();
                                 }
+                            })
+                            .doFinally(signal -> {
+                                clusterRelay.relay(remote, frame);
+                                frame.release();
                             });
                 })
                 .then()
                 .doOnSuccess(aVoid -> log.info("Multicast completed for teamCode: {}", teamCode))
                 .doOnError(error -> log.error("Multicast failed for teamCode: {}, error: {}", teamCode, error.getMessage()));
     }
+
+    private static Long toUserId(String uid) {
+        try {
+            return Long.valueOf(uid);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 }
@@ -1,6 +1,12 @@
 package com.explorer.realtime.global.component.broadcasting;
 
+import com.explorer.realtime.global.common.dto.Message;
+import com.explorer.realtime.global.component.outbound.OutboundMailbox;
 import com.explorer.realtime.global.component.session.SessionManager;
+import com.explorer.realtime.global.component.session.SessionResume;
+import com.explorer.realtime.global.util.MessageEncoder;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -8,34 +14,74 @@ import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 import reactor.netty.Connection;
 
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 @Component
 public class Unicasting {
 
     private static final Logger log = LoggerFactory.getLogger(Unicasting.class);
     private final SessionManager sessionManager;
+    private final ClusterRelay clusterRelay;
+    private final SessionResume sessionResume;
 
-    public Unicasting(SessionManager sessionManager) {
+    public Unicasting(SessionManager sessionManager, ClusterRelay clusterRelay, SessionResume sessionResume) {
         this.sessionManager = sessionManager;
+        this.clusterRelay = clusterRelay;
+        this.sessionResume = sessionResume;
     }
 
     public Mono<Void> unicasting(String teamCode, Long userId, JSONObject msg) {
+        return unicasting(teamCode, userId, connection -> encode(connection, msg), () -> EncodedFrame.encode(msg));
+    }
+
+    public Mono<Void> unicasting(String teamCode, Long userId, Message<?> msg) {
+        return unicasting(teamCode, userId, connection -> encode(connection, msg), () -> EncodedFrame.encode(msg));
+    }
+
+    /*
+     * 이 노드에 connection 이 없으면 resume 을 기다리는 session 이면 replay buffer 에 담고,
+     * 아니면 cluster 의 다른 노드로 넘긴다 (cluster 가 꺼져 있으면 건너뛴다)
+     */
+    private Mono<Void> unicasting(String teamCode, Long userId, Function<Connection, ByteBuf> encoder, Supplier<EncodedFrame> remoteEncoder) {
 
         log.info("start unicasting to {} from {}", userId, teamCode);
 
         Connection connection = sessionManager.getConnection(userId);
 
         if (connection == null) {
-            log.warn("No connection found for {}", userId);
-            return Mono.empty();
+            return Mono.fromRunnable(() -> {
+                EncodedFrame frame = remoteEncoder.get();
+                try {
+                    if (sessionResume.capture(userId, frame::bytes, null)) {
+                        log.info("captured message for detached {}", userId);
+                    } else if (clusterRelay.isEnabled()) {
+                        clusterRelay.relay(List.of(userId), frame);
+                    } else {
+                        log.warn("No connection found for {}", userId);
+                    }
+                } finally {
+                    frame.release();
+                }
+            });
         }
 
-        return connection.outbound().sendString(Mono.just(msg.toString()+'\n'))
+        return Mono.fromRunnable(() -> OutboundMailbox.send(connection, encoder.apply(connection), null))
                 .then()
                 .doOnSuccess(aVoid -> log.info("Unicast completed for teamCode: {}", teamCode))
                 .doOnError(error -> log.error("Unicast failed for teamCode: {}, error: {}", teamCode, error.getMessage()));
     }
 
     public Mono<Void> unicasting(Connection connection, Long userId, JSONObject msg) {
+        return unicasting(connection, userId, conn -> encode(conn, msg));
+    }
+
+    public Mono<Void> unicasting(Connection connection, Long userId, Message<?> msg) {
+        return unicasting(connection, userId, conn -> encode(conn, msg));
+    }
+
+    private Mono<Void> unicasting(Connection connection, Long userId, Function<Connection, ByteBuf> encoder) {
         log.info("start unicasting to {}", userId);
 
         if (connection == null) {
@@ -43,10 +89,25 @@ public class Unicasting {
             return Mono.empty();
         }
 
-        return connection.outbound().sendString(Mono.just(msg.toString()+'\n'))
+        return Mono.fromRunnable(() -> OutboundMailbox.send(connection, encoder.apply(connection), null))
                 .then()
                 .doOnSuccess(aVoid -> log.info("Unicast completed for userId : {}", userId))
                 .doOnError(error -> log.error("Unicast failed for userId: {}, error: {}", userId, error.getMessage()));
     }
 
+    /*
+     * 구독 시점에 connection 의 allocator 로 한 번만 encode
+     */
+    private ByteBuf encode(Connection connection, Message<?> msg) {
+        return MessageEncoder.encode(msg, connection.outbound().alloc());
+    }
+
+    private ByteBuf encode(Connection connection, JSONObject msg) {
+        String str = msg.toString();
+        ByteBuf buf = connection.outbound().alloc().buffer(ByteBufUtil.utf8Bytes(str) + 1);
+        ByteBufUtil.writeUtf8(buf, str);
+        buf.writeByte('\n');
+        return buf;
+    }
+
 }
@@ -0,0 +1,411 @@
+package com.explorer.realtime.global.component.checkpoint;
+
+import com.explorer.realtime.gamedatahandling.component.common.mapinfo.repository.MapObjectRepository;
+import com.explorer.realtime.gamedatahandling.component.personal.inventoryInfo.repository.InventoryRepository;
+import com.explorer.realtime.gamedatahandling.laboratory.repository.ElementLaboratoryRepository;
+import com.explorer.realtime.global.component.state.GameStateEngine;
+import com.explorer.realtime.global.component.state.StateChange;
+import com.explorer.realtime.global.mongo.entity.Inventory;
+import com.explorer.realtime.global.mongo.entity.InventoryData;
+import com.explorer.realtime.global.mongo.entity.Laboratory;
+import com.explorer.realtime.global.mongo.entity.LaboratoryLevel;
+import com.explorer.realtime.global.mongo.entity.MapData;
+import com.explorer.realtime.global.mongo.entity.PositionData;
+import com.explorer.realtime.global.redis.ChannelRepository;
+import com.explorer.realtime.sessionhandling.ingame.repository.LaboratoryLevelRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * channel 게임 상태 (인벤토리, 맵, 연구소 원소/화합물, 연구소 레벨) 의 mongo write-behind checkpoint
+ * - GameStateEngine 이 redis 에 변경을 기록한 channel 을 dirty 로 표시하고, checkpoint.interval 마다 snapshot 을 읽어 기록한다
+ *   (장애 시 잃을 수 있는 변경은 최대 checkpoint.interval 동안의 변경)
+ * - 나가는 user 의 인벤토리, 닫히는 channel 의 전체 상태는 redis 에서 지워지기 전에 snapshot 으로 보관한 뒤 background 에서 기록한다
+ *   disconnect 처리 중에는 mongo 를 기다리지 않는다
+ * - map 은 write listener 가 알려준 바뀐 position 만 기록한다 : 지운 position 은 $pull, 새 값은 $push (map 초기화 / 삭제 시에만 배열 전체 교체)
+ * - 기록은 collection 별 bulk upsert 한 번으로 하며, 실패한 snapshot 은 다음 기록 때 다시 시도한다
+ * - realtime.checkpoint.bytes / .operations : checkpoint 한 번에 보낸 query + update 의 BSON bytes, 연산 수
+ */
+@Component
+public class ChannelCheckpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(ChannelCheckpoint.class);
+    private static final List<Integer> MAP_IDS = List.of(1, 2, 3);
+    private static final String MAP_KEY_PREFIX = "mapData:";
+    private static final DocumentCodec DOCUMENT_CODEC = new DocumentCodec();
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final GameStateEngine gameStateEngine;
+    private final ChannelRepository channelRepository;
+    private final InventoryRepository inventoryRepository;
+    private final MapObjectRepository mapObjectRepository;
+    private final ElementLaboratoryRepository elementLaboratoryRepository;
+    private final LaboratoryLevelRepository laboratoryLevelRepository;
+    private final Duration interval;
+    private final DistributionSummary writtenBytes;
+    private final DistributionSummary writtenOperations;
+
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<String, Map<Integer, DirtyMap>> dirtyPositions = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ChannelSnapshot> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    private Disposable checkpointer;
+
+    public ChannelCheckpoint(ReactiveMongoTemplate mongoTemplate,
+                             GameStateEngine gameStateEngine,
+                             ChannelRepository channelRepository,
+                             InventoryRepository inventoryRepository,
+                             MapObjectRepository mapObjectRepository,
+                             ElementLaboratoryRepository elementLaboratoryRepository,
+                             LaboratoryLevelRepository laboratoryLevelRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${checkpoint.interval:30s}") Duration interval) {
+        this.mongoTemplate = mongoTemplate;
+        this.gameStateEngine = gameStateEngine;
+        this.channelRepository = channelRepository;
+        this.inventoryRepository = inventoryRepository;
+        this.mapObjectRepository = mapObjectRepository;
+        this.elementLaboratoryRepository = elementLaboratoryRepository;
+        this.laboratoryLevelRepository = laboratoryLevelRepository;
+        this.interval = interval;
+        this.writtenBytes = DistributionSummary.builder("realtime.checkpoint.bytes").baseUnit("bytes").register(meterRegistry);
+        this.writtenOperations = DistributionSummary.builder("realtime.checkpoint.operations").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        gameStateEngine.addWriteListener(this::onWrite);
+        checkpointer = Flux.interval(interval, interval, Schedulers.parallel())
+                .onBackpressureDrop()
+                .concatMap(seq -> captureDirty()
+                        .doOnSuccess(v -> drain())
+                        .onErrorResume(error -> {
+                            log.error("[checkpoint] error : {}", error.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+        log.info("[start] checkpoint interval : {}", interval);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (checkpointer != null) {
+            checkpointer.dispose();
+        }
+        captureDirty()
+                .then(writePending())
+                .block(Duration.ofSeconds(10));
+    }
+
+    /*
+     * 나가는 user 의 인벤토리를 보관 (다음 checkpoint 때 기록)
+     */
+    public Mono<Void> leave(String channelId, Long userId) {
+        return captureInventory(channelId, userId)
+                .doOnNext(inventoryData -> pending.merge(channelId, ChannelSnapshot.ofInventory(channelId, userId, inventoryData), ChannelSnapshot::merge))
+                .then();
+    }
+
+    /*
+     * 닫히는 channel 의 전체 상태를 보관하고 바로 background 에서 기록한다
+     * 아직 redis 에 기록되지 않은 변경이 바뀐 position 목록에 들어오도록 engine 을 먼저 flush 한다
+     */
+    public Mono<Void> close(String channelId) {
+        return gameStateEngine.flush(channelId)
+                .then(captureChannel(channelId))
+                .doOnNext(snapshot -> {
+                    pending.merge(channelId, snapshot, ChannelSnapshot::merge);
+                    dirty.remove(channelId);
+                    drain();
+                })
+                .then();
+    }
+
+    /*
+     * GameStateEngine 이 redis 에 기록한 변경 : channel 을 dirty 로, map hash 는 바뀐 position 을 기록해 둔다
+     */
+    void onWrite(String channelId, List<StateChange> changes) {
+        dirty.add(channelId);
+        String mapKeyPrefix = MAP_KEY_PREFIX + channelId + ":";
+        for (StateChange change : changes) {
+            String key = change.key().key();
+            if (!key.startsWith(mapKeyPrefix)) {
+                continue;
+            }
+            Integer mapId = parseMapId(key.substring(mapKeyPrefix.length()));
+            if (mapId == null || !MAP_IDS.contains(mapId)) {
+                continue;
+            }
+            dirtyPositions.compute(channelId, (id, maps) -> {
+                Map<Integer, DirtyMap> result = maps == null ? new HashMap<>() : maps;
+                DirtyMap dirtyMap = result.computeIfAbsent(mapId, k -> new DirtyMap());
+                if (change.replace()) {
+                    dirtyMap.full = true;
+                    dirtyMap.positions.clear();
+                } else if (!dirtyMap.full) {
+                    dirtyMap.positions.addAll(change.fields());
+                }
+                return result;
+            });
+        }
+    }
+
+    private static Integer parseMapId(String value) {
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private Mono<Void> captureDirty() {
+        List<String> channelIds = new ArrayList<>(dirty);
+        channelIds.forEach(dirty::remove);
+        return Flux.fromIterable(channelIds)
+                .flatMap(channelId -> captureChannel(channelId)
+                        .doOnNext(snapshot -> pending.merge(channelId, snapshot, ChannelSnapshot::merge))
+                        .onErrorResume(error -> {
+                            log.warn("[captureDirty] channelId : {}, error : {}", channelId, error.getMessage());
+                            dirty.add(channelId);
+                            return Mono.empty();
+                        }))
+                .then();
+    }
+
+    /*
+     * 이미 닫혀서 member 가 없는 channel 은 기록하지 않는다
+     */
+    private Mono<ChannelSnapshot> captureChannel(String channelId) {
+        return Mono.defer(() -> {
+            Map<Integer, DirtyMap> dirtyMaps = dirtyPositions.remove(channelId);
+            return channelRepository.findMemberIds(channelId)
+                    .filter(userIds -> !userIds.isEmpty())
+                    .flatMap(userIds -> {
+                        Mono<Map<Long, List<InventoryData>>> inventories = Flux.fromIterable(userIds)
+                                .flatMap(userId -> captureInventory(channelId, userId).map(inventoryData -> Map.entry(userId, inventoryData)))
+                                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+                        Mono<Map<Integer, MapDiff>> maps = Flux.fromIterable(dirtyMaps == null ? Map.<Integer, DirtyMap>of().entrySet() : dirtyMaps.entrySet())
+                                .flatMap(entry -> mapObjectRepository.findMapData(channelId, entry.getKey())
+                                        .map(data -> Map.entry(entry.getKey(), entry.getValue().diff(data))))
+                                .filter(entry -> !entry.getValue().isEmpty())
+                                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+
+                        return Mono.zip(inventories, maps,
+                                optional(elementLaboratoryRepository.findElementData(channelId)),
+                                optional(elementLaboratoryRepository.findCompoundData(channelId)),
+                                optional(laboratoryLevelRepository.findValue(channelId).map(String::valueOf)));
+                    })
+                    .map(tuple -> new ChannelSnapshot(channelId, tuple.getT1(), tuple.getT2(),
+                            tuple.getT3().filter(list -> !list.isEmpty()).orElse(null),
+                            tuple.getT4().filter(list -> !list.isEmpty()).orElse(null),
+                            tuple.getT5().orElse(null)))
+                    .doOnError(error -> {
+                        if (dirtyMaps != null) {
+                            dirtyMaps.forEach((mapId, dirtyMap) -> dirtyPositions.compute(channelId, (id, maps) -> {
+                                Map<Integer, DirtyMap> result = maps == null ? new HashMap<>() : maps;
+                                result.merge(mapId, dirtyMap, DirtyMap::merge);
+                                return result;
+                            }));
+                        }
+                    });
+        });
+    }
+
+    private Mono<List<InventoryData>> captureInventory(String channelId, Long userId) {
+        return inventoryRepository.findInventoryData(channelId, userId)
+                .filter(data -> !data.isEmpty())
+                .map(ChannelSnapshot::toInventoryData);
+    }
+
+    private static <T> Mono<Optional<T>> optional(Mono<T> mono) {
+        return mono.map(Optional::of).defaultIfEmpty(Optional.empty());
+    }
+
+    /*
+     * 기록 요청이 겹치면 진행 중인 기록이 끝난 뒤 한 번 더 기록한다 (동시에 하나만 실행)
+     */
+    private void drain() {
+        if (wip.getAndIncrement() == 0) {
+            drainLoop();
+        }
+    }
+
+    private void drainLoop() {
+        int missed = wip.get();
+        writePending()
+                .doFinally(signal -> {
+                    if (wip.addAndGet(-missed) != 0) {
+                        drainLoop();
+                    }
+                })
+                .subscribe();
+    }
+
+    private Mono<Void> writePending() {
+        List<ChannelSnapshot> snapshots = new ArrayList<>(pending.size());
+        for (String channelId : new ArrayList<>(pending.keySet())) {
+            ChannelSnapshot snapshot = pending.remove(channelId);
+            if (snapshot != null) {
+                snapshots.add(snapshot);
+            }
+        }
+        if (snapshots.isEmpty()) {
+            return Mono.empty();
+        }
+        return write(snapshots)
+                .doOnNext(batch -> {
+                    writtenBytes.record(batch.bytes);
+                    writtenOperations.record(batch.count);
+                    log.info("[writePending] checkpointed channels : {}, operations : {}, bytes : {}", snapshots.size(), batch.count, batch.bytes);
+                })
+                .then()
+                .onErrorResume(error -> {
+                    log.error("[writePending] checkpoint failed, channels : {}, error : {}", snapshots.size(), error.getMessage());
+                    snapshots.forEach(snapshot -> pending.merge(snapshot.getChannelId(), snapshot, (newer, failed) -> failed.merge(newer)));
+                    return Mono.empty();
+                });
+    }
+
+    /*
+     * collection 별로 한 번의 bulk 실행 (MapData 는 같은 document 의 $pull -> $push 순서를 지키도록 ordered)
+     */
+    Mono<Batch> write(List<ChannelSnapshot> snapshots) {
+        Batch batch = new Batch();
+        for (ChannelSnapshot snapshot : snapshots) {
+            String channelId = snapshot.getChannelId();
+            snapshot.getInventories().forEach((userId, inventoryData) ->
+                    batch.upsert(Inventory.class,
+                            Query.query(Criteria.where("channelId").is(channelId).and("userId").is(userId)),
+                            Update.update("inventoryData", inventoryData)));
+            snapshot.getMaps().forEach((mapId, diff) -> writeMap(batch, channelId, mapId, diff));
+            if (snapshot.getElements() != null) {
+                batch.upsert(Laboratory.class, laboratoryQuery(channelId, "element"), Update.update("itemCnt", snapshot.getElements()));
+            }
+            if (snapshot.getCompounds() != null) {
+                batch.upsert(Laboratory.class, laboratoryQuery(channelId, "compound"), Update.update("itemCnt", snapshot.getCompounds()));
+            }
+            if (snapshot.getLabLevel() != null) {
+                batch.upsert(LaboratoryLevel.class,
+                        Query.query(Criteria.where("channelId").is(channelId)),
+                        Update.update("level", snapshot.getLabLevel()));
+            }
+        }
+        return Flux.fromIterable(batch.operations.values())
+                .flatMap(ReactiveBulkOperations::execute)
+                .then(Mono.just(batch));
+    }
+
+    private static void writeMap(Batch batch, String channelId, Integer mapId, MapDiff diff) {
+        Query query = Query.query(Criteria.where("channelId").is(channelId).and("mapId").is(mapId));
+        if (diff.isFull()) {
+            batch.upsert(MapData.class, query, Update.update("positions", diff.positions()));
+            return;
+        }
+        batch.updateOne(MapData.class, query,
+                new Update().pull("positions", new Document("position", new Document("$in", diff.changedPositions()))));
+        List<PositionData> positions = diff.positions();
+        if (!positions.isEmpty()) {
+            batch.upsert(MapData.class, query, new Update().push("positions").each(positions.toArray()));
+        }
+    }
+
+    private static Query laboratoryQuery(String channelId, String itemCategory) {
+        return Query.query(Criteria.where("channelId").is(channelId).and("itemCategory").is(itemCategory));
+    }
+
+    private long bsonSize(Document document) {
+        Object converted = mongoTemplate.getConverter().convertToMongoType(document);
+        return converted instanceof Document mapped ? new RawBsonDocument(mapped, DOCUMENT_CODEC).getByteBuffer().remaining() : 0;
+    }
+
+    /*
+     * checkpoint 한 번에 실행할 bulk 연산과 보낸 bytes
+     */
+    final class Batch {
+
+        private final Map<Class<?>, ReactiveBulkOperations> operations = new HashMap<>();
+        int count;
+        long bytes;
+
+        void upsert(Class<?> entityClass, Query query, Update update) {
+            bulk(entityClass).upsert(query, update);
+            tally(query, update);
+        }
+
+        void updateOne(Class<?> entityClass, Query query, Update update) {
+            bulk(entityClass).updateOne(query, update);
+            tally(query, update);
+        }
+
+        private ReactiveBulkOperations bulk(Class<?> entityClass) {
+            return operations.computeIfAbsent(entityClass,
+                    type -> mongoTemplate.bulkOps(type == MapData.class ? BulkMode.ORDERED : BulkMode.UNORDERED, type));
+        }
+
+        private void tally(Query query, Update update) {
+            count++;
+            bytes += bsonSize(query.getQueryObject()) + bsonSize(update.getUpdateObject());
+        }
+    }
+
+    /*
+     * 직전 checkpoint 이후 map 하나에서 바뀐 position (full 이면 map 전체)
+     */
+    static final class DirtyMap {
+
+        private boolean full;
+        private final Set<String> positions = new HashSet<>();
+
+        DirtyMap merge(DirtyMap newer) {
+            DirtyMap merged = new DirtyMap();
+            merged.full = full || newer.full;
+            if (!merged.full) {
+                merged.positions.addAll(positions);
+                merged.positions.addAll(newer.positions);
+            }
+            return merged;
+        }
+
+        MapDiff diff(Map<String, String> data) {
+            if (full) {
+                return MapDiff.full(ChannelSnapshot.toPositionData(data));
+            }
+            Map<String, PositionData> changes = new HashMap<>();
+            for (String position : positions) {
+                String value = data.get(position);
+                changes.put(position, value == null ? null : ChannelSnapshot.toPositionData(position, value));
+            }
+            return MapDiff.partial(changes);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.explorer.realtime.global.component.checkpoint;
+
+import com.explorer.realtime.global.mongo.entity.InventoryData;
+import com.explorer.realtime.global.mongo.entity.PositionData;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * mongo 에 기록할 channel 상태의 snapshot (redis 에서 읽은 시점의 값)
+ * - 읽지 못한 항목은 null (또는 빈 map) 으로 두고 mongo 에 기록하지 않는다
+ * - map 은 직전 checkpoint 이후 바뀐 position 만 담는다 (MapDiff)
+ * - 같은 channel 의 snapshot 은 merge 로 합치며, 나중에 읽은 항목이 이전 값을 덮어쓴다
+ */
+public final class ChannelSnapshot {
+
+    private final String channelId;
+    private final Map<Long, List<InventoryData>> inventories;
+    private final Map<Integer, MapDiff> maps;
+    private final List<Integer> elements;
+    private final List<Integer> compounds;
+    private final String labLevel;
+
+    public ChannelSnapshot(String channelId, Map<Long, List<InventoryData>> inventories, Map<Integer, MapDiff> maps,
+                           List<Integer> elements, List<Integer> compounds, String labLevel) {
+        this.channelId = channelId;
+        this.inventories = Map.copyOf(inventories);
+        this.maps = Map.copyOf(maps);
+        this.elements = elements;
+        this.compounds = compounds;
+        this.labLevel = labLevel;
+    }
+
+    public static ChannelSnapshot ofInventory(String channelId, Long userId, List<InventoryData> inventory) {
+        return new ChannelSnapshot(channelId, Map.of(userId, inventory), Map.of(), null, null, null);
+    }
+
+    public ChannelSnapshot merge(ChannelSnapshot newer) {
+        Map<Long, List<InventoryData>> mergedInventories = new HashMap<>(inventories);
+        mergedInventories.putAll(newer.inventories);
+        Map<Integer, MapDiff> mergedMaps = new HashMap<>(maps);
+        newer.maps.forEach((mapId, diff) -> mergedMaps.merge(mapId, diff, MapDiff::merge));
+        return new ChannelSnapshot(channelId, mergedInventories, mergedMaps,
+                newer.elements != null ? newer.elements : elements,
+                newer.compounds != null ? newer.compounds : compounds,
+                newer.labLevel != null ? newer.labLevel : labLevel);
+    }
+
+    /*
+     * redis inventory hash (field : inventoryIdx, value : {itemCategory}:{itemId}:{itemCnt}:{isFull}) -> mongo document
+     * 빈 칸은 기존 저장 방식과 같이 건너뛴다
+     */
+    public static List<InventoryData> toInventoryData(Map<String, String> data) {
+        List<InventoryData> inventoryDataList = new ArrayList<>(data.size());
+        data.forEach((inventoryIdx, value) -> {
+            String[] parts = value.split(":");
+            if (parts.length < 4) {
+                return;
+            }
+            inventoryDataList.add(new InventoryData(Integer.parseInt(inventoryIdx), parts[0], Integer.parseInt(parts[1]), Integer.parseInt(parts[2]), parts[3]));
+        });
+        return inventoryDataList;
+    }
+
+    /*
+     * redis map hash (field : position, value : {itemCategory}:{isFarmable}:{itemId}) -> mongo document
+     */
+    public static List<PositionData> toPositionData(Map<String, String> data) {
+        List<PositionData> positionData = new ArrayList<>(data.size());
+        data.forEach((position, value) -> {
+            PositionData parsed = toPositionData(position, value);
+            if (parsed != null) {
+                positionData.add(parsed);
+            }
+        });
+        return positionData;
+    }
+
+    public static PositionData toPositionData(String position, String value) {
+        String[] parts = value.split(":");
+        if (parts.length < 3) {
+            return null;
+        }
+        return new PositionData(position, parts[0], parts[1], Integer.parseInt(parts[2]));
+    }
+
+    public String getChannelId() {
+        return channelId;
+    }
+
+    public Map<Long, List<InventoryData>> getInventories() {
+        return inventories;
+    }
+
+    public Map<Integer, MapDiff> getMaps() {
+        return maps;
+    }
+
+    public List<Integer> getElements() {
+        return elements;
+    }
+
+    public List<Integer> getCompounds() {
+        return compounds;
+    }
+
+    public String getLabLevel() {
+        return labLevel;
+    }
+}
@@ -0,0 +1,69 @@
+package com.explorer.realtime.global.component.checkpoint;
+
+import com.explorer.realtime.global.mongo.entity.PositionData;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 직전 checkpoint 이후 map 하나에서 바뀐 position
+ * - full : map 전체가 다시 기록되었음 (초기화 / 삭제) -> positions 배열 전체를 교체
+ * - changes : position -> 현재 값 (null 이면 지워진 position)
+ */
+public final class MapDiff {
+
+    private final boolean full;
+    private final Map<String, PositionData> changes;
+
+    private MapDiff(boolean full, Map<String, PositionData> changes) {
+        this.full = full;
+        this.changes = Collections.unmodifiableMap(changes);
+    }
+
+    public static MapDiff full(List<PositionData> positions) {
+        Map<String, PositionData> changes = new HashMap<>();
+        positions.forEach(positionData -> changes.put(positionData.getPosition(), positionData));
+        return new MapDiff(true, changes);
+    }
+
+    public static MapDiff partial(Map<String, PositionData> changes) {
+        return new MapDiff(false, new HashMap<>(changes));
+    }
+
+    public MapDiff merge(MapDiff newer) {
+        if (newer.full) {
+            return newer;
+        }
+        Map<String, PositionData> merged = new HashMap<>(changes);
+        merged.putAll(newer.changes);
+        return new MapDiff(full, merged);
+    }
+
+    public boolean isFull() {
+        return full;
+    }
+
+    public boolean isEmpty() {
+        return !full && changes.isEmpty();
+    }
+
+    public List<String> changedPositions() {
+        return new ArrayList<>(changes.keySet());
+    }
+
+    /*
+     * 새 값이 있는 position (full 이면 map 전체)
+     */
+    public List<PositionData> positions() {
+        List<PositionData> positions = new ArrayList<>(changes.size());
+        changes.values().forEach(positionData -> {
+            if (positionData != null) {
+                positions.add(positionData);
+            }
+        });
+        return positions;
+    }
+}
@@ -0,0 +1,62 @@
+package com.explorer.realtime.global.component.cluster;
+
+import com.explorer.realtime.global.common.dto.Message;
+import com.explorer.realtime.global.common.enums.CastingType;
+import com.explorer.realtime.global.component.broadcasting.Broadcasting;
+import com.explorer.realtime.global.component.session.ChannelMembership;
+import com.explorer.realtime.global.component.state.GameStateEngine;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/*
+ * 노드가 추가 / 제거되어 담당 노드가 바뀐 channel 을 새 노드로 옮긴다
+ * - 이 노드가 담당하던 channel 의 메모리 상태를 redis 에 기록하고 메모리에서 내린 뒤 (GameStateEngine.evict)
+ *   channel 의 player 에게 "clusterRebalance" (새 노드 주소) 를 보내 다시 접속하게 한다
+ * - 다시 접속하기 전에 이 노드로 들어오는 게임 요청은 RequestHandler 가 새 노드로 안내한다 (두 노드가 같은 channel 을 캐시하지 않는다)
+ */
+@Component
+public class ChannelRebalancer {
+
+    private static final Logger log = LoggerFactory.getLogger(ChannelRebalancer.class);
+
+    private final ClusterRegistry clusterRegistry;
+    private final ChannelMembership channelMembership;
+    private final GameStateEngine gameStateEngine;
+    private final Broadcasting broadcasting;
+
+    public ChannelRebalancer(ClusterRegistry clusterRegistry, ChannelMembership channelMembership,
+                             GameStateEngine gameStateEngine, Broadcasting broadcasting) {
+        this.clusterRegistry = clusterRegistry;
+        this.channelMembership = channelMembership;
+        this.gameStateEngine = gameStateEngine;
+        this.broadcasting = broadcasting;
+    }
+
+    @PostConstruct
+    public void register() {
+        clusterRegistry.addRebalanceListener(this::rebalance);
+    }
+
+    private void rebalance(ConsistentHashRing previous, ConsistentHashRing updated) {
+        String self = clusterRegistry.self().id();
+        for (String channelId : channelMembership.channelIds()) {
+            ClusterNode before = previous.node(channelId);
+            ClusterNode after = updated.node(channelId);
+            if (before == null || after == null || !before.id().equals(self) || after.id().equals(self)) {
+                continue;
+            }
+            log.info("[rebalance] channelId : {}, to : {}", channelId, after);
+            Map<String, Object> body = Map.of("channelId", channelId, "nodeId", after.id(), "host", after.host(), "port", after.port());
+            gameStateEngine.evict(channelId)
+                    .then(broadcasting.broadcasting(channelId, Message.success("clusterRebalance", CastingType.BROADCASTING, body)))
+                    .subscribe(
+                            aVoid -> {},
+                            error -> log.error("[rebalance] failed to move channelId : {}, error : {}", channelId, error.getMessage())
+                    );
+        }
+    }
+}
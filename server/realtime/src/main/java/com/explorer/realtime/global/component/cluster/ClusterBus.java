@@ -0,0 +1,15 @@
+package com.explorer.realtime.global.component.cluster;
+
+import reactor.core.publisher.Mono;
+
+import java.util.function.Consumer;
+
+/*
+ * 노드 간 메시지 전달 (cluster.bus : redis (기본) / memory)
+ */
+public interface ClusterBus {
+
+    Mono<Void> publish(ClusterEnvelope envelope);
+
+    void subscribe(Consumer<ClusterEnvelope> consumer);
+}
@@ -0,0 +1,52 @@
+package com.explorer.realtime.global.component.cluster;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/*
+ * 다른 노드에 접속한 player 에게 전달할 메시지
+ * - origin : 보낸 노드 (자기 자신이 보낸 메시지는 받지 않는다)
+ * - json / binary : 한 번 encode 된 frame (binary 는 바이너리 protocol connection 용, 없으면 null)
+ * - latestKeys : OutboundMailbox 의 대체 가능한 메시지 key (없으면 null)
+ */
+public record ClusterEnvelope(String origin, List<Long> userIds, byte[] json, byte[] binary, List<String> latestKeys) {
+
+    public String toPayload() {
+        JSONObject payload = new JSONObject();
+        payload.put("origin", origin);
+        payload.put("userIds", new JSONArray(userIds));
+        payload.put("json", Base64.getEncoder().encodeToString(json));
+        if (binary != null) {
+            payload.put("binary", Base64.getEncoder().encodeToString(binary));
+        }
+        if (latestKeys != null) {
+            payload.put("latestKeys", new JSONArray(latestKeys));
+        }
+        return payload.toString();
+    }
+
+    public static ClusterEnvelope fromPayload(String value) {
+        JSONObject payload = new JSONObject(value);
+        List<Long> userIds = new ArrayList<>();
+        JSONArray ids = payload.getJSONArray("userIds");
+        for (int i = 0; i < ids.length(); i++) {
+            userIds.add(ids.getLong(i));
+        }
+        List<String> latestKeys = null;
+        if (payload.has("latestKeys")) {
+            latestKeys = new ArrayList<>();
+            JSONArray keys = payload.getJSONArray("latestKeys");
+            for (int i = 0; i < keys.length(); i++) {
+                latestKeys.add(keys.getString(i));
+            }
+        }
+        return new ClusterEnvelope(payload.getString("origin"), userIds,
+                Base64.getDecoder().decode(payload.getString("json")),
+                payload.has("binary") ? Base64.getDecoder().decode(payload.getString("binary")) : null,
+                latestKeys);
+    }
+}
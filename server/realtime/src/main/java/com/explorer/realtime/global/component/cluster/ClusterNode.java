@@ -0,0 +1,15 @@
+package com.explorer.realtime.global.component.cluster;
+
+/*
+ * realtime 서버 노드 (client 가 접속할 TCP 주소)
+ */
+public record ClusterNode(String id, String host, int port) {
+
+    /*
+     * redis cluster:nodes hash 의 value : {host}:{port}:{lastSeen(ms)}
+     */
+    static ClusterNode parse(String id, String value) {
+        String[] parts = value.split(":");
+        return new ClusterNode(id, parts[0], Integer.parseInt(parts[1]));
+    }
+}
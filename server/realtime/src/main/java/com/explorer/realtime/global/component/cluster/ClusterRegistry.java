@@ -0,0 +1,157 @@
+package com.explorer.realtime.global.component.cluster;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/*
+ * cluster 노드 목록과 channel 담당 노드
+ * - cluster.enabled 가 false 이면 이 노드 하나만 있는 ring 을 쓴다 (모든 channel 이 local)
+ * - 켜져 있으면 heartbeat 마다 redis cluster:nodes hash 에 {host}:{port}:{lastSeen} 을 기록하고,
+ *   nodeTimeout 안에 heartbeat 가 있었던 노드로 ring 을 다시 만든다
+ * - ring 이 바뀌면 (노드 추가 / 제거) rebalance listener 에 이전 ring 과 새 ring 을 알린다
+ * - 종료할 때 hash 에서 자신을 지워 다른 노드가 바로 rebalance 하게 한다
+ */
+@Component
+public class ClusterRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterRegistry.class);
+    private static final String NODES_KEY = "cluster:nodes";
+
+    private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+    private final boolean enabled;
+    private final ClusterNode self;
+    private final int virtualNodes;
+    private final Duration heartbeat;
+    private final Duration nodeTimeout;
+    private final List<BiConsumer<ConsistentHashRing, ConsistentHashRing>> rebalanceListeners = new CopyOnWriteArrayList<>();
+    private volatile ConsistentHashRing ring;
+    private Disposable heartbeats;
+
+    public ClusterRegistry(@Qualifier("channelReactiveRedisTemplate") ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
+                           @Value("${cluster.enabled:false}") boolean enabled,
+                           @Value("${cluster.node-id:}") String nodeId,
+                           @Value("${cluster.host:localhost}") String host,
+                           @Value("${tcp.port:1370}") int port,
+                           @Value("${cluster.virtual-nodes:128}") int virtualNodes,
+                           @Value("${cluster.heartbeat:5s}") Duration heartbeat,
+                           @Value("${cluster.node-timeout:15s}") Duration nodeTimeout) {
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.enabled = enabled;
+        this.self = new ClusterNode(nodeId.isEmpty() ? UUID.randomUUID().toString() : nodeId, host, port);
+        this.virtualNodes = virtualNodes;
+        this.heartbeat = heartbeat;
+        this.nodeTimeout = nodeTimeout;
+        this.ring = new ConsistentHashRing(List.of(self), virtualNodes);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        log.info("[start] cluster node : {}", self);
+        heartbeats = Flux.interval(Duration.ZERO, heartbeat)
+                .onBackpressureDrop()
+                .concatMap(tick -> heartbeat()
+                        .then(refresh())
+                        .onErrorResume(error -> {
+                            log.warn("[start] cluster heartbeat failed : {}", error.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (heartbeats != null) {
+            heartbeats.dispose();
+            reactiveRedisTemplate.opsForHash().remove(NODES_KEY, self.id()).block(Duration.ofSeconds(3));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public ClusterNode self() {
+        return self;
+    }
+
+    /*
+     * channelId / teamCode 를 담당하는 노드
+     */
+    public ClusterNode owner(String key) {
+        return ring.node(key);
+    }
+
+    public boolean isLocal(String key) {
+        return self.id().equals(owner(key).id());
+    }
+
+    public void addRebalanceListener(BiConsumer<ConsistentHashRing, ConsistentHashRing> listener) {
+        rebalanceListeners.add(listener);
+    }
+
+    private Mono<Boolean> heartbeat() {
+        String value = self.host() + ":" + self.port() + ":" + System.currentTimeMillis();
+        return reactiveRedisTemplate.opsForHash().put(NODES_KEY, self.id(), value);
+    }
+
+    /*
+     * timeout 된 노드는 ring 에서 빼고 hash 에서도 지운다
+     */
+    private Mono<Void> refresh() {
+        long deadline = System.currentTimeMillis() - nodeTimeout.toMillis();
+        return reactiveRedisTemplate.opsForHash().entries(NODES_KEY)
+                .collectList()
+                .flatMap(entries -> {
+                    List<ClusterNode> alive = new ArrayList<>();
+                    List<Object> expired = new ArrayList<>();
+                    for (Map.Entry<Object, Object> entry : entries) {
+                        String id = String.valueOf(entry.getKey());
+                        String value = String.valueOf(entry.getValue());
+                        long lastSeen = Long.parseLong(value.substring(value.lastIndexOf(':') + 1));
+                        if (lastSeen < deadline && !id.equals(self.id())) {
+                            expired.add(id);
+                        } else {
+                            alive.add(ClusterNode.parse(id, value));
+                        }
+                    }
+                    update(alive);
+                    if (expired.isEmpty()) {
+                        return Mono.empty();
+                    }
+                    log.info("[refresh] expired nodes : {}", expired);
+                    return reactiveRedisTemplate.opsForHash().remove(NODES_KEY, expired.toArray()).then();
+                });
+    }
+
+    private void update(List<ClusterNode> alive) {
+        ConsistentHashRing previous = ring;
+        if (previous.nodes().equals(alive.stream().sorted(Comparator.comparing(ClusterNode::id)).toList())) {
+            return;
+        }
+        ConsistentHashRing updated = new ConsistentHashRing(alive, virtualNodes);
+        ring = updated;
+        log.info("[update] cluster nodes : {}", updated.nodes());
+        rebalanceListeners.forEach(listener -> listener.accept(previous, updated));
+    }
+}
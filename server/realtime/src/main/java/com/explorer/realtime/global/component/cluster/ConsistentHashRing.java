@@ -0,0 +1,59 @@
+package com.explorer.realtime.global.component.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/*
+ * channelId / teamCode -> 노드 consistent hashing (불변)
+ * - 노드마다 virtualNodes 개의 점을 ring 에 두고, key 의 hash 이후 처음 만나는 점의 노드가 담당한다
+ * - hash 는 MD5 앞 8byte : 모든 노드가 같은 노드 목록으로 같은 결과를 얻는다
+ * - 노드가 추가 / 제거되면 해당 노드의 구간에 있던 key 만 담당 노드가 바뀐다
+ */
+public final class ConsistentHashRing {
+
+    private final TreeMap<Long, ClusterNode> ring = new TreeMap<>();
+    private final List<ClusterNode> nodes;
+
+    public ConsistentHashRing(Collection<ClusterNode> nodes, int virtualNodes) {
+        this.nodes = nodes.stream().sorted(Comparator.comparing(ClusterNode::id)).toList();
+        for (ClusterNode node : this.nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.putIfAbsent(hash(node.id() + "#" + i), node);
+            }
+        }
+    }
+
+    /*
+     * 담당 노드 (노드가 없으면 null)
+     */
+    public ClusterNode node(String key) {
+        if (ring.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Long, ClusterNode> entry = ring.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    public List<ClusterNode> nodes() {
+        return nodes;
+    }
+
+    static long hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+            long hash = 0;
+            for (int i = 0; i < 8; i++) {
+                hash = (hash << 8) | (digest[i] & 0xFF);
+            }
+            return hash;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.explorer.realtime.global.component.cluster;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/*
+ * 같은 JVM 안에서만 전달하는 bus (단일 노드 / test 용)
+ * - 생성자에 다른 bus 를 넘기면 같은 구독자 목록을 공유해 여러 노드를 흉내낸다
+ */
+@Component
+@ConditionalOnProperty(name = "cluster.bus", havingValue = "memory")
+public class InMemoryClusterBus implements ClusterBus {
+
+    private final List<Consumer<ClusterEnvelope>> consumers;
+
+    public InMemoryClusterBus() {
+        this.consumers = new CopyOnWriteArrayList<>();
+    }
+
+    public InMemoryClusterBus(InMemoryClusterBus peer) {
+        this.consumers = peer.consumers;
+    }
+
+    @Override
+    public Mono<Void> publish(ClusterEnvelope envelope) {
+        return Mono.fromRunnable(() -> consumers.forEach(consumer -> consumer.accept(envelope)));
+    }
+
+    @Override
+    public void subscribe(Consumer<ClusterEnvelope> consumer) {
+        consumers.add(consumer);
+    }
+}
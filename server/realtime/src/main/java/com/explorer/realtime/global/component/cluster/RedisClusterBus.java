@@ -0,0 +1,75 @@
+package com.explorer.realtime.global.component.cluster;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/*
+ * redis pub/sub 으로 모든 노드에 전달 (channel redis 의 clusterBus topic)
+ */
+@Component
+@ConditionalOnProperty(name = "cluster.bus", havingValue = "redis", matchIfMissing = true)
+public class RedisClusterBus implements ClusterBus {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisClusterBus.class);
+    private static final String TOPIC = "clusterBus";
+
+    private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+    private final List<Consumer<ClusterEnvelope>> consumers = new CopyOnWriteArrayList<>();
+    private Disposable subscription;
+
+    public RedisClusterBus(@Qualifier("channelReactiveRedisTemplate") ReactiveRedisTemplate<String, Object> reactiveRedisTemplate) {
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+    }
+
+    @Override
+    public Mono<Void> publish(ClusterEnvelope envelope) {
+        return reactiveRedisTemplate.convertAndSend(TOPIC, envelope.toPayload())
+                .doOnError(error -> log.warn("[publish] failed to publish cluster message : {}", error.getMessage()))
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+
+    /*
+     * 첫 consumer 가 등록될 때 topic 을 구독한다
+     */
+    @Override
+    public synchronized void subscribe(Consumer<ClusterEnvelope> consumer) {
+        consumers.add(consumer);
+        if (subscription != null) {
+            return;
+        }
+        subscription = reactiveRedisTemplate.listenToChannel(TOPIC)
+                .doOnError(error -> log.warn("[subscribe] cluster topic error : {}", error.getMessage()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe(message -> {
+                    ClusterEnvelope envelope;
+                    try {
+                        envelope = ClusterEnvelope.fromPayload(String.valueOf(message.getMessage()));
+                    } catch (RuntimeException e) {
+                        log.warn("[subscribe] invalid cluster message : {}", e.getMessage());
+                        return;
+                    }
+                    consumers.forEach(each -> each.accept(envelope));
+                });
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.explorer.realtime.global.component.codec;
+
+import com.explorer.realtime.servermanaging.FrameDecoder;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import lombok.extern.slf4j.Slf4j;
+import org.json.JSONObject;
+
+import java.nio.charset.StandardCharsets;
+
+/*
+ * hot event 용 바이너리 wire format (BINARY_V1)
+ *
+ * payload : [version(1byte)][opcode(1byte)][fields...]
+ * - long/int : zigzag varint
+ * - String : varint length + UTF-8 bytes
+ * - 이동 position ("x:y:z" or "x:y:z:rx:ry:rz") : component 개수(1byte) + 각 component * POSITION_SCALE 의 zigzag varint
+ * - map position : redis hash field 로 쓰이므로 String 그대로 전송
+ *
+ * payload 는 FrameDecoder 의 length-prefixed frame 으로 감싸서 주고받는다
+ * JSON payload 는 '{' 로 시작하므로 첫 byte 로 구분한다
+ */
+@Slf4j
+public final class BinaryCodec {
+
+    private static final int POSITION_SCALE = 100;
+    private static final int MAX_POSITION_COMPONENTS = 6;
+
+    private BinaryCodec() {
+    }
+
+    public static boolean isBinaryPayload(ByteBuf payload) {
+        return payload.isReadable() && payload.getByte(payload.readerIndex()) != '{';
+    }
+
+    /*
+     * [inbound] 바이너리 payload 를 기존 핸들러가 처리하는 JSONObject 형태로 변환
+     */
+    public static JSONObject decode(ByteBuf in) {
+        int version = in.readUnsignedByte();
+        if (version != ProtocolVersion.BINARY_V1) {
+            throw new IllegalArgumentException("unsupported protocol version : " + version);
+        }
+        OpCode opCode = OpCode.of(in.readUnsignedByte());
+
+        JSONObject json = new JSONObject();
+        json.put("type", opCode.getType());
+        if (opCode.getCategory() != null) {
+            json.put("category", opCode.getCategory());
+        }
+        json.put("eventName", opCode.getEventName());
+
+        switch (opCode) {
+            case MOVE, INGAME_POSITION -> {
+                json.put("channelId", readString(in));
+                json.put("userId", readVarLong(in));
+                json.put("mapId", readVarInt(in));
+                json.put("position", readPosition(in));
+            }
+            case WAITING_ROOM_POSITION -> {
+                json.put("teamCode", readString(in));
+                json.put("userId", readVarLong(in));
+                boolean isNewUser = in.readBoolean();
+                json.put("isNewUser", isNewUser);
+                if (!isNewUser) {
+                    json.put("position", readPosition(in));
+                }
+            }
+            case FARM, GET_ITEM_FROM_MAP -> {
+                json.put("channelId", readString(in));
+                json.put("userId", readVarLong(in));
+                json.put("mapId", readVarInt(in));
+                json.put("position", readString(in));
+            }
+        }
+        return json;
+    }
+
+    /*
+     * [outbound] 바이너리 frame 생성 : position 형식이 잘못된 경우 null 을 반환하여 JSON 으로만 전송한다
+     */
+    public static byte[] encodeMove(Long userId, int mapId, String position) {
+        return encodeUserPosition(OpCode.MOVE, userId, mapId, position);
+    }
+
+    public static byte[] encodeIngamePosition(Long userId, int mapId, String position) {
+        return encodeUserPosition(OpCode.INGAME_POSITION, userId, mapId, position);
+    }
+
+    public static byte[] encodeWaitingRoomPosition(Long userId, String position) {
+        ByteBuf buf = begin(OpCode.WAITING_ROOM_POSITION);
+        try {
+            writeVarLong(buf, userId);
+            writePosition(buf, position);
+            return finish(buf);
+        } catch (NumberFormatException e) {
+            log.warn("[encodeWaitingRoomPosition] invalid position : {}", position);
+            return null;
+        } finally {
+            buf.release();
+        }
+    }
+
+    public static byte[] encodeFarm(int mapId, String position) {
+        ByteBuf buf = begin(OpCode.FARM);
+        try {
+            writeVarInt(buf, mapId);
+            writeString(buf, position);
+            return finish(buf);
+        } finally {
+            buf.release();
+        }
+    }
+
+    public static byte[] encodeGetItemFromMap(String position) {
+        ByteBuf buf = begin(OpCode.GET_ITEM_FROM_MAP);
+        try {
+            writeString(buf, position);
+            return finish(buf);
+        } finally {
+            buf.release();
+        }
+    }
+
+    private static byte[] encodeUserPosition(OpCode opCode, Long userId, int mapId, String position) {
+        ByteBuf buf = begin(opCode);
+        try {
+            writeVarLong(buf, userId);
+            writeVarInt(buf, mapId);
+            writePosition(buf, position);
+            return finish(buf);
+        } catch (NumberFormatException e) {
+            log.warn("[encodeUserPosition] invalid position : {}", position);
+            return null;
+        } finally {
+            buf.release();
+        }
+    }
+
+    /*
+     * frame header(marker + length) 자리를 비워두고 payload 를 쓴 뒤 finish 에서 length 를 채운다
+     */
+    private static ByteBuf begin(OpCode opCode) {
+        ByteBuf buf = Unpooled.buffer(32);
+        buf.writeByte(FrameDecoder.BINARY_MARKER);
+        buf.writeInt(0);
+        buf.writeByte(ProtocolVersion.BINARY_V1);
+        buf.writeByte(opCode.getCode());
+        return buf;
+    }
+
+    private static byte[] finish(ByteBuf buf) {
+        buf.setInt(1, buf.readableBytes() - 5);
+        return ByteBufUtil.getBytes(buf);
+    }
+
+    public static void writeVarLong(ByteBuf buf, long value) {
+        long v = (value << 1) ^ (value >> 63);
+        while ((v & ~0x7FL) != 0) {
+            buf.writeByte((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        buf.writeByte((int) v);
+    }
+
+    public static long readVarLong(ByteBuf buf) {
+        long v = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buf.readByte();
+            v |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (v >>> 1) ^ -(v & 1);
+            }
+        }
+        throw new IllegalArgumentException("malformed varint");
+    }
+
+    public static void writeVarInt(ByteBuf buf, int value) {
+        writeVarLong(buf, value);
+    }
+
+    public static int readVarInt(ByteBuf buf) {
+        return Math.toIntExact(readVarLong(buf));
+    }
+
+    public static void writeString(ByteBuf buf, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(buf, bytes.length);
+        buf.writeBytes(bytes);
+    }
+
+    public static String readString(ByteBuf buf) {
+        int length = readVarInt(buf);
+        if (length < 0 || length > buf.readableBytes()) {
+            throw new IllegalArgumentException("invalid string length : " + length);
+        }
+        String value = buf.toString(buf.readerIndex(), length, StandardCharsets.UTF_8);
+        buf.skipBytes(length);
+        return value;
+    }
+
+    public static void writePosition(ByteBuf buf, String position) {
+        String[] components = position.split(":");
+        if (components.length > MAX_POSITION_COMPONENTS) {
+            throw new NumberFormatException("too many position components : " + position);
+        }
+        buf.writeByte(components.length);
+        for (String component : components) {
+            writeVarLong(buf, Math.round(Double.parseDouble(component) * POSITION_SCALE));
+        }
+    }
+
+    public static String readPosition(ByteBuf buf) {
+        int count = buf.readUnsignedByte();
+        if (count > MAX_POSITION_COMPONENTS) {
+            throw new IllegalArgumentException("too many position components : " + count);
+        }
+        StringBuilder sb = new StringBuilder(count * 6);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(':');
+            }
+            appendScaled(sb, readVarLong(buf));
+        }
+        return sb.toString();
+    }
+
+    /*
+     * 1/POSITION_SCALE 단위 정수를 소수 문자열로 변환 (불필요한 0 제거) : 150 -> "1.5", -200 -> "-2"
+     */
+    private static void appendScaled(StringBuilder sb, long scaled) {
+        if (scaled < 0) {
+            sb.append('-');
+            scaled = -scaled;
+        }
+        sb.append(scaled / POSITION_SCALE);
+        long fraction = scaled % POSITION_SCALE;
+        if (fraction != 0) {
+            sb.append('.');
+            if (fraction < 10) {
+                sb.append('0').append(fraction);
+            } else {
+                sb.append(fraction % 10 == 0 ? fraction / 10 : fraction);
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.explorer.realtime.global.component.codec;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+ * 바이너리 frame 의 opcode 와 대응되는 JSON 요청 (type, category, eventName)
+ */
+@Getter
+@AllArgsConstructor
+public enum OpCode {
+
+    MOVE(1, "ingame", "moving", "move"),
+    INGAME_POSITION(2, "ingameSession", null, "broadcastPosition"),
+    WAITING_ROOM_POSITION(3, "waitingRoomSession", null, "broadcastPosition"),
+    FARM(4, "ingame", "farming", "farm"),
+    GET_ITEM_FROM_MAP(5, "ingame", "farming", "getItemFromMap");
+
+    private static final OpCode[] BY_CODE = new OpCode[8];
+
+    static {
+        for (OpCode opCode : values()) {
+            BY_CODE[opCode.code] = opCode;
+        }
+    }
+
+    private final int code;
+    private final String type;
+    private final String category;
+    private final String eventName;
+
+    public static OpCode of(int code) {
+        OpCode opCode = code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+        if (opCode == null) {
+            throw new IllegalArgumentException("unknown opcode : " + code);
+        }
+        return opCode;
+    }
+}
@@ -0,0 +1,67 @@
+package com.explorer.realtime.global.component.codec;
+
+import io.netty.util.AttributeKey;
+import reactor.netty.Connection;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/*
+ * connection 별로 협상된 wire protocol 버전
+ * - JSON : 기본값, 모든 메시지를 '\n' 구분 JSON 으로 주고받는다
+ * - BINARY_V1 : hot event(이동, 위치, 파밍)를 BinaryCodec 형식으로 주고받는다
+ * - feature : 버전과 별개로 client 가 지원한다고 알린 기능 (서버가 지원하는 것만 남긴다)
+ *   - mapChunks : map 을 "mapDataChunk" 로 나누어 받고 ack 한다 (MapTransfer), 없으면 map 전체를 한 메시지로 보낸다
+ */
+public final class ProtocolVersion {
+
+    public static final int JSON = 0;
+    public static final int BINARY_V1 = 1;
+    public static final int LATEST = BINARY_V1;
+
+    public static final String MAP_CHUNKS = "mapChunks";
+    private static final Set<String> FEATURES = Set.of(MAP_CHUNKS);
+
+    private static final AttributeKey<Integer> VERSION_KEY = AttributeKey.valueOf("protocolVersion");
+    private static final AttributeKey<Set<String>> FEATURES_KEY = AttributeKey.valueOf("protocolFeatures");
+
+    private ProtocolVersion() {
+    }
+
+    public static int get(Connection connection) {
+        Integer version = connection.channel().attr(VERSION_KEY).get();
+        return version == null ? JSON : version;
+    }
+
+    public static boolean isBinary(Connection connection) {
+        return get(connection) >= BINARY_V1;
+    }
+
+    /*
+     * 클라이언트가 요청한 버전과 서버가 지원하는 최신 버전 중 낮은 버전으로 협상한다
+     */
+    public static int negotiate(Connection connection, int requested) {
+        int version = Math.max(JSON, Math.min(requested, LATEST));
+        connection.channel().attr(VERSION_KEY).set(version);
+        return version;
+    }
+
+    /*
+     * 요청한 feature 중 서버가 지원하는 것만 기록하고 돌려준다
+     */
+    public static Set<String> negotiateFeatures(Connection connection, Collection<String> requested) {
+        Set<String> features = requested.stream().filter(FEATURES::contains).collect(Collectors.toUnmodifiableSet());
+        connection.channel().attr(FEATURES_KEY).set(features);
+        return features;
+    }
+
+    public static Set<String> features(Connection connection) {
+        Set<String> features = connection.channel().attr(FEATURES_KEY).get();
+        return features == null ? Set.of() : features;
+    }
+
+    public static boolean supports(Connection connection, String feature) {
+        return features(connection).contains(feature);
+    }
+}
@@ -0,0 +1,32 @@
+package com.explorer.realtime.global.component.codec;
+
+import com.explorer.realtime.global.common.dto.Message;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+ * 같은 메시지의 JSON(Message) 표현과 바이너리 frame 표현
+ * binary 가 null 이면 모든 connection 에 JSON 으로 전송한다
+ * latestKey 가 있으면 같은 key 의 새 메시지가 오기 전까지 전송되지 못한 경우 버릴 수 있다 (위치 등 최신 값만 의미 있는 메시지)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class WireMessage {
+
+    private final Message<?> message;
+    private final byte[] binary;
+    private final String latestKey;
+
+    public static WireMessage of(Message<?> message) {
+        return new WireMessage(message, null, null);
+    }
+
+    public static WireMessage of(Message<?> message, byte[] binary) {
+        return new WireMessage(message, binary, null);
+    }
+
+    public static WireMessage latest(String latestKey, Message<?> message, byte[] binary) {
+        return new WireMessage(message, binary, latestKey);
+    }
+}
@@ -0,0 +1,198 @@
+package com.explorer.realtime.global.component.outbound;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.AttributeKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.netty.Connection;
+
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * connection 별 outbound queue
+ * - 어느 thread 에서든 offer 할 수 있고, 실제 write 는 channel 의 event loop 에서 drain 할 때 한 번에 하고 flush 도 한 번만 한다
+ *   (같은 event loop 작업 중에 들어온 메시지는 하나의 flush 로 묶인다)
+ * - channel 이 writable 하지 않으면 (write buffer high watermark 초과) 더 쓰지 않고 기다렸다가 low watermark 아래로 내려가면 이어서 쓴다
+ * - latestKey 가 있는 메시지는 같은 key 의 새 메시지가 queue 에 들어오면 전송 전에 버린다 (여러 key 를 가진 묶음은 모든 key 가 새 메시지로 대체되었을 때)
+ * - queue 에 쌓인 크기가 maxQueuedBytes 를 넘거나 slowClientTimeout 동안 계속 writable 하지 않으면 연결을 끊는다
+ */
+public class OutboundMailbox extends ChannelInboundHandlerAdapter {
+
+    public static final String NAME = "outboundMailbox";
+    private static final AttributeKey<OutboundMailbox> KEY = AttributeKey.valueOf(NAME);
+    private static final Logger log = LoggerFactory.getLogger(OutboundMailbox.class);
+
+    private final OutboundMailboxes mailboxes;
+    private final Queue<Entry> queue = new ConcurrentLinkedQueue<>();
+    private final ConcurrentHashMap<String, Entry> latest = new ConcurrentHashMap<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicLong queuedBytes = new AtomicLong();
+    private volatile Channel channel;
+    private long unwritableSince;
+
+    OutboundMailbox(OutboundMailboxes mailboxes) {
+        this.mailboxes = mailboxes;
+    }
+
+    /*
+     * mailbox 가 없는 connection 이면 바로 write 한다
+     */
+    public static void send(Connection connection, ByteBuf buf, Collection<String> latestKeys) {
+        OutboundMailbox mailbox = connection.channel().attr(KEY).get();
+        if (mailbox == null) {
+            connection.channel().writeAndFlush(buf, connection.channel().voidPromise());
+            return;
+        }
+        mailbox.offer(buf, latestKeys);
+    }
+
+    public void offer(ByteBuf buf, Collection<String> latestKeys) {
+        Channel ch = channel;
+        if (ch == null || !ch.isActive()) {
+            buf.release();
+            return;
+        }
+
+        Entry entry = new Entry(buf, latestKeys);
+        if (latestKeys != null) {
+            for (String key : latestKeys) {
+                Entry previous = latest.put(key, entry);
+                if (previous != null && previous.remaining.decrementAndGet() == 0) {
+                    previous.superseded = true;
+                }
+            }
+        }
+        queue.add(entry);
+        depth.incrementAndGet();
+        long bytes = queuedBytes.addAndGet(buf.readableBytes());
+
+        if (bytes > mailboxes.getMaxQueuedBytes()) {
+            log.warn("[offer] outbound queue overflow, closing {} : {} bytes", ch.remoteAddress(), bytes);
+            mailboxes.disconnected();
+            ch.close();
+        }
+        if (scheduled.compareAndSet(false, true)) {
+            ch.eventLoop().execute(this::drain);
+        }
+    }
+
+    public int depth() {
+        return depth.get();
+    }
+
+    public long queuedBytes() {
+        return queuedBytes.get();
+    }
+
+    /*
+     * event loop 에서만 실행
+     */
+    private void drain() {
+        scheduled.set(false);
+        Channel ch = channel;
+        if (ch == null || !ch.isActive()) {
+            releaseAll();
+            return;
+        }
+
+        boolean written = false;
+        while (ch.isWritable()) {
+            Entry entry = queue.poll();
+            if (entry == null) {
+                break;
+            }
+            depth.decrementAndGet();
+            queuedBytes.addAndGet(-entry.buf.readableBytes());
+            if (entry.superseded) {
+                entry.buf.release();
+                mailboxes.dropped();
+                continue;
+            }
+            if (entry.keys != null) {
+                entry.keys.forEach(key -> latest.remove(key, entry));
+            }
+            ch.write(entry.buf, ch.voidPromise());
+            written = true;
+        }
+        if (written) {
+            ch.flush();
+        }
+
+        if (!ch.isWritable() && unwritableSince == 0) {
+            unwritableSince = System.nanoTime();
+            ch.eventLoop().schedule(this::checkSlowClient, mailboxes.getSlowClientTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void checkSlowClient() {
+        Channel ch = channel;
+        if (ch == null || !ch.isActive() || unwritableSince == 0) {
+            return;
+        }
+        long elapsed = System.nanoTime() - unwritableSince;
+        if (elapsed >= mailboxes.getSlowClientTimeout().toNanos()) {
+            log.warn("[checkSlowClient] client too slow, closing {} : {} queued", ch.remoteAddress(), depth.get());
+            mailboxes.disconnected();
+            ch.close();
+        } else {
+            ch.eventLoop().schedule(this::checkSlowClient, mailboxes.getSlowClientTimeout().toNanos() - elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void releaseAll() {
+        Entry entry;
+        while ((entry = queue.poll()) != null) {
+            depth.decrementAndGet();
+            queuedBytes.addAndGet(-entry.buf.readableBytes());
+            entry.buf.release();
+        }
+        latest.clear();
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        channel = ctx.channel();
+        channel.attr(KEY).set(this);
+        mailboxes.register(this);
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        if (ctx.channel().isWritable()) {
+            unwritableSince = 0;
+            drain();
+        }
+        super.channelWritabilityChanged(ctx);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        mailboxes.unregister(this);
+        releaseAll();
+        super.channelInactive(ctx);
+    }
+
+    private static final class Entry {
+        private final ByteBuf buf;
+        private final Collection<String> keys;
+        private final AtomicInteger remaining;
+        private volatile boolean superseded;
+
+        private Entry(ByteBuf buf, Collection<String> keys) {
+            this.buf = buf;
+            this.keys = keys;
+            this.remaining = new AtomicInteger(keys == null ? 0 : keys.size());
+        }
+    }
+}
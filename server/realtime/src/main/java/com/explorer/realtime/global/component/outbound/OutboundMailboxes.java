@@ -0,0 +1,73 @@
+package com.explorer.realtime.global.component.outbound;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.WriteBufferWaterMark;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * OutboundMailbox 설정과 queue 상태 metric
+ * - realtime.outbound.queue.depth / .max-depth / .bytes : 전체 connection 의 대기 메시지 수, 가장 긴 queue, 대기 bytes
+ * - realtime.outbound.dropped : 새 위치로 대체되어 버린 메시지 수
+ * - realtime.outbound.disconnected : 느린 client 로 판단하여 끊은 연결 수
+ */
+@Component
+public class OutboundMailboxes {
+
+    private final Set<OutboundMailbox> mailboxes = ConcurrentHashMap.newKeySet();
+    private final Counter dropped;
+    private final Counter disconnected;
+
+    @Getter
+    private final WriteBufferWaterMark waterMark;
+    @Getter
+    private final long maxQueuedBytes;
+    @Getter
+    private final Duration slowClientTimeout;
+
+    public OutboundMailboxes(MeterRegistry meterRegistry,
+                             @Value("${tcp.outbound.low-water-mark:32768}") int lowWaterMark,
+                             @Value("${tcp.outbound.high-water-mark:131072}") int highWaterMark,
+                             @Value("${tcp.outbound.max-queued-bytes:1048576}") long maxQueuedBytes,
+                             @Value("${tcp.outbound.slow-client-timeout:10s}") Duration slowClientTimeout) {
+        this.waterMark = new WriteBufferWaterMark(lowWaterMark, highWaterMark);
+        this.maxQueuedBytes = maxQueuedBytes;
+        this.slowClientTimeout = slowClientTimeout;
+
+        Gauge.builder("realtime.outbound.queue.depth", mailboxes, set -> set.stream().mapToInt(OutboundMailbox::depth).sum())
+                .register(meterRegistry);
+        Gauge.builder("realtime.outbound.queue.max-depth", mailboxes, set -> set.stream().mapToInt(OutboundMailbox::depth).max().orElse(0))
+                .register(meterRegistry);
+        Gauge.builder("realtime.outbound.queue.bytes", mailboxes, set -> set.stream().mapToLong(OutboundMailbox::queuedBytes).sum())
+                .register(meterRegistry);
+        this.dropped = meterRegistry.counter("realtime.outbound.dropped");
+        this.disconnected = meterRegistry.counter("realtime.outbound.disconnected");
+    }
+
+    public OutboundMailbox create() {
+        return new OutboundMailbox(this);
+    }
+
+    void register(OutboundMailbox mailbox) {
+        mailboxes.add(mailbox);
+    }
+
+    void unregister(OutboundMailbox mailbox) {
+        mailboxes.remove(mailbox);
+    }
+
+    void dropped() {
+        dropped.increment();
+    }
+
+    void disconnected() {
+        disconnected.increment();
+    }
+}
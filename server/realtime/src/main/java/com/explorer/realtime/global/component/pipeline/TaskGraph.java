@@ -0,0 +1,71 @@
+package com.explorer.realtime.global.component.pipeline;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/*
+ * 의존 관계가 있는 비동기 작업 묶음
+ * - step 은 선행 step 이 모두 끝난 뒤 시작하고, 서로 의존하지 않는 step 은 동시에 실행한다
+ * - 선행 step 은 먼저 등록되어 있어야 한다 (등록 순서가 곧 위상 정렬이므로 순환이 생기지 않는다)
+ * - 각 step 은 한 번만 실행하고 (cache), 하나라도 실패하면 전체가 실패한다
+ * - run 결과 : step 이름 -> 실행 시간 (등록 순서)
+ */
+public final class TaskGraph {
+
+    private final Map<String, Step> steps = new LinkedHashMap<>();
+
+    public TaskGraph step(String name, Supplier<Mono<?>> task, String... dependsOn) {
+        if (steps.containsKey(name)) {
+            throw new IllegalArgumentException("duplicate step : " + name);
+        }
+        List<Step> dependencies = new ArrayList<>(dependsOn.length);
+        for (String dependency : dependsOn) {
+            Step step = steps.get(dependency);
+            if (step == null) {
+                throw new IllegalArgumentException("unknown dependency : " + dependency + " (step : " + name + ")");
+            }
+            dependencies.add(step);
+        }
+        steps.put(name, new Step(name, task, dependencies));
+        return this;
+    }
+
+    public Mono<Map<String, Duration>> run() {
+        return Mono.defer(() -> {
+            Map<String, Duration> timings = Collections.synchronizedMap(new LinkedHashMap<>());
+            steps.keySet().forEach(name -> timings.put(name, Duration.ZERO));
+            Map<Step, Mono<Void>> running = new LinkedHashMap<>();
+            for (Step step : steps.values()) {
+                List<Mono<Void>> dependencies = step.dependencies().stream().map(running::get).toList();
+                running.put(step, Mono.when(dependencies)
+                        .then(Mono.defer(() -> timed(step, timings)))
+                        .cache());
+            }
+            return Mono.when(running.values())
+                    .then(Mono.<Map<String, Duration>>fromSupplier(() -> {
+                        synchronized (timings) {
+                            return new LinkedHashMap<>(timings);
+                        }
+                    }));
+        });
+    }
+
+    private static Mono<Void> timed(Step step, Map<String, Duration> timings) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return step.task().get()
+                    .then()
+                    .doOnTerminate(() -> timings.put(step.name(), Duration.ofNanos(System.nanoTime() - start)));
+        });
+    }
+
+    private record Step(String name, Supplier<Mono<?>> task, List<Step> dependencies) {
+    }
+}
@@ -0,0 +1,136 @@
+package com.explorer.realtime.global.component.session;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * channelId -> userId 목록 local cache (redis channel:{channelId} hash 의 field 목록)
+ * - broadcast / multicast 대상 조회 시 redis HGETALL 을 대신한다
+ * - ChannelRepository 의 save / deleteByUserId / deleteAll 이 성공하면 갱신되고,
+ *   다른 서버 노드에는 redis pub/sub 으로 변경된 channelId 를 알려 해당 cache 를 무효화한다
+ * - cache 에 없는 channel 은 redis 에서 읽어 load 하며, 읽는 동안 membership 이 바뀌었다면 (generation 변경) 저장하지 않는다
+ */
+@Component
+public class ChannelMembership {
+
+    private static final Logger log = LoggerFactory.getLogger(ChannelMembership.class);
+    private static final String TOPIC = "channelMembership";
+    private static final String SEPARATOR = "|";
+
+    private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+    private final ConcurrentHashMap<String, Set<Long>> members = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final String nodeId = UUID.randomUUID().toString();
+    private Disposable subscription;
+
+    public ChannelMembership(@Qualifier("channelReactiveRedisTemplate") ReactiveRedisTemplate<String, Object> reactiveRedisTemplate) {
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        subscription = reactiveRedisTemplate.listenToChannel(TOPIC)
+                .doOnError(error -> log.warn("[subscribe] membership topic error : {}", error.getMessage()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe(message -> {
+                    String payload = String.valueOf(message.getMessage());
+                    int idx = payload.indexOf(SEPARATOR);
+                    if (idx < 0 || payload.substring(0, idx).equals(nodeId)) {
+                        return;
+                    }
+                    invalidate(payload.substring(idx + 1));
+                });
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    /*
+     * cache 된 userId 목록 (없으면 null)
+     */
+    public Set<Long> getMembers(String channelId) {
+        Set<Long> set = members.get(channelId);
+        return set == null ? null : Collections.unmodifiableSet(set);
+    }
+
+    /*
+     * cache 된 channelId 목록
+     */
+    public Set<String> channelIds() {
+        return Collections.unmodifiableSet(members.keySet());
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    /*
+     * redis 에서 읽은 목록 저장 : 읽기 시작한 이후 membership 변경이 있었다면 버린다
+     */
+    public void load(String channelId, Collection<Long> userIds, long loadedGeneration) {
+        if (userIds.isEmpty() || generation.get() != loadedGeneration) {
+            return;
+        }
+        Set<Long> set = ConcurrentHashMap.newKeySet();
+        set.addAll(userIds);
+        members.putIfAbsent(channelId, set);
+    }
+
+    /*
+     * cache 에 없는 channel 은 건드리지 않는다 (다음 조회 시 redis 에서 전체 목록을 load)
+     */
+    public void join(String channelId, Long userId) {
+        members.computeIfPresent(channelId, (key, set) -> {
+            set.add(userId);
+            return set;
+        });
+        changed(channelId);
+    }
+
+    public void leave(String channelId, Long userId) {
+        members.computeIfPresent(channelId, (key, set) -> {
+            set.remove(userId);
+            return set.isEmpty() ? null : set;
+        });
+        changed(channelId);
+    }
+
+    public void remove(String channelId) {
+        members.remove(channelId);
+        changed(channelId);
+    }
+
+    private void invalidate(String channelId) {
+        log.info("[invalidate] channelId : {}", channelId);
+        members.remove(channelId);
+        generation.incrementAndGet();
+    }
+
+    private void changed(String channelId) {
+        generation.incrementAndGet();
+        reactiveRedisTemplate.convertAndSend(TOPIC, nodeId + SEPARATOR + channelId)
+                .subscribe(
+                        receivers -> {},
+                        error -> log.warn("[changed] failed to publish membership change, channelId : {}, error : {}", channelId, error.getMessage())
+                );
+    }
+}
@@ -0,0 +1,145 @@
+package com.explorer.realtime.global.component.session;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/*
+ * long key -> value map (open addressing)
+ * - 조회는 lock 없이 현재 table 을 읽고 boxing / 객체 생성이 없다
+ * - 변경 (접속 / 종료 때만 일어남) 은 synchronized 로 table 안에서 바로 넣거나 TOMBSTONE 으로 지운다
+ *   - 사용한 칸 (값 + TOMBSTONE) 이 절반을 넘을 때만 새 table 로 복사해 교체한다 (TOMBSTONE 도 이때 정리)
+ *   - key 를 먼저 쓰고 값을 volatile 로 쓰므로, 값을 읽은 조회는 그 칸의 key 도 본다
+ *   - TOMBSTONE 칸은 같은 key 에만 다시 쓴다 : 다른 key 가 들어오면 이전 값을 읽던 조회가 새 key 로 오인할 수 있다
+ * - value 는 null 일 수 없다
+ */
+final class LongConcurrentMap<V> {
+
+    private static final int MIN_CAPACITY = 16;
+    private static final Object TOMBSTONE = new Object();
+
+    private volatile Table table = new Table(MIN_CAPACITY);
+    private volatile int size;
+
+    V get(long key) {
+        Table current = table;
+        long[] keys = current.keys;
+        AtomicReferenceArray<Object> values = current.values;
+        int mask = keys.length - 1;
+        for (int i = index(key, mask); ; i = (i + 1) & mask) {
+            Object value = values.get(i);
+            if (value == null) {
+                return null;
+            }
+            if (value != TOMBSTONE && keys[i] == key) {
+                @SuppressWarnings("unchecked")
+                V found = (V) value;
+                return found;
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    synchronized V put(long key, V value) {
+        Table current = table;
+        int mask = current.keys.length - 1;
+        int i = index(key, mask);
+        for (Object existing; (existing = current.values.get(i)) != null; i = (i + 1) & mask) {
+            if (current.keys[i] == key) {
+                current.values.set(i, value);
+                if (existing == TOMBSTONE) {
+                    size++;
+                    return null;
+                }
+                @SuppressWarnings("unchecked")
+                V previous = (V) existing;
+                return previous;
+            }
+        }
+
+        if ((current.used + 1) * 2 > current.keys.length) {
+            Table resized = current.copy(capacity(size + 1));
+            resized.insert(key, value);
+            table = resized;
+        } else {
+            current.keys[i] = key;
+            current.values.set(i, value);
+            current.used++;
+        }
+        size++;
+        return null;
+    }
+
+    /*
+     * key 의 값이 expected 일 때만 지운다
+     */
+    synchronized boolean remove(long key, V expected) {
+        Table current = table;
+        int mask = current.keys.length - 1;
+        for (int i = index(key, mask); ; i = (i + 1) & mask) {
+            Object value = current.values.get(i);
+            if (value == null) {
+                return false;
+            }
+            if (value != TOMBSTONE && current.keys[i] == key) {
+                if (value != expected) {
+                    return false;
+                }
+                current.values.set(i, TOMBSTONE);
+                size--;
+                return true;
+            }
+        }
+    }
+
+    private static int capacity(int size) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < size * 4) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int index(long key, int mask) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private static final class Table {
+
+        private final long[] keys;
+        private final AtomicReferenceArray<Object> values;
+        private int used;       // 값 또는 TOMBSTONE 이 있는 칸 (lock 안에서만 접근)
+
+        private Table(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new AtomicReferenceArray<>(capacity);
+        }
+
+        /*
+         * 공개 전의 새 table 에만 호출한다
+         */
+        private void insert(long key, Object value) {
+            int mask = keys.length - 1;
+            int i = index(key, mask);
+            while (values.get(i) != null) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            values.set(i, value);
+            used++;
+        }
+
+        private Table copy(int capacity) {
+            Table copied = new Table(capacity);
+            for (int i = 0; i < keys.length; i++) {
+                Object value = values.get(i);
+                if (value != null && value != TOMBSTONE) {
+                    copied.insert(keys[i], value);
+                }
+            }
+            return copied;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.explorer.realtime.global.component.session;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 연결이 끊긴 동안 player 에게 보내려던 frame (resume 할 때 순서대로 다시 보낸다)
+ * - latestKeys 가 있는 frame 은 같은 key 의 새 frame 이 들어오면 버린다 (OutboundMailbox 와 같은 규칙)
+ * - maxFrames / maxBytes 를 넘으면 overflow 로 표시하고 더 담지 않는다 (resume 불가 -> restartGame)
+ */
+final class ReplayBuffer {
+
+    private final int maxFrames;
+    private final long maxBytes;
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    private final Map<String, Frame> latest = new HashMap<>();
+    private long bytes;
+    private boolean overflow;
+
+    ReplayBuffer(int maxFrames, long maxBytes) {
+        this.maxFrames = maxFrames;
+        this.maxBytes = maxBytes;
+    }
+
+    synchronized void add(byte[] data, Collection<String> latestKeys) {
+        if (overflow) {
+            return;
+        }
+        Frame frame = new Frame(data, latestKeys == null ? 0 : latestKeys.size());
+        if (latestKeys != null) {
+            for (String key : latestKeys) {
+                Frame previous = latest.put(key, frame);
+                if (previous != null && --previous.remaining == 0 && frames.remove(previous)) {
+                    bytes -= previous.data.length;
+                }
+            }
+        }
+        frames.addLast(frame);
+        bytes += data.length;
+        if (frames.size() > maxFrames || bytes > maxBytes) {
+            overflow = true;
+            frames.clear();
+            latest.clear();
+            bytes = 0;
+        }
+    }
+
+    synchronized boolean isOverflow() {
+        return overflow;
+    }
+
+    synchronized List<byte[]> drain() {
+        List<byte[]> drained = frames.stream().map(frame -> frame.data).toList();
+        frames.clear();
+        latest.clear();
+        bytes = 0;
+        return drained;
+    }
+
+    private static final class Frame {
+
+        private final byte[] data;
+        private int remaining;
+
+        private Frame(byte[] data, int remaining) {
+            this.data = data;
+            this.remaining = remaining;
+        }
+    }
+}
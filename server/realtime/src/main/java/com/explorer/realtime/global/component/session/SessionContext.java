@@ -0,0 +1,143 @@
+package com.explorer.realtime.global.component.session;
+
+import io.netty.util.AttributeKey;
+import org.json.JSONObject;
+import reactor.netty.Connection;
+
+/*
+ * connection (netty channel attribute) 별 session 정보
+ * - 대기실 생성 / 입장, 게임 시작 / 재시작 때 채우고, map 이동과 도구 장착 / 해제 때 갱신한다
+ * - endGame / 대기실 퇴장 때 비운다 (userId 가 null 이면 나간 session)
+ * - 핸들러는 redis 를 조회하지 않고 읽는다 (값이 없으면 null : 기존처럼 redis 에서 읽는다)
+ * - 여러 thread 에서 읽으므로 필드는 volatile
+ */
+public final class SessionContext {
+
+    private static final AttributeKey<SessionContext> KEY = AttributeKey.valueOf("sessionContext");
+
+    private volatile Long userId;
+    private volatile String teamCode;
+    private volatile String channelId;
+    private volatile Integer mapId;
+    private volatile boolean inGame;
+    private volatile String nickname;
+    private volatile Integer avatar;
+    private volatile String tool;
+
+    private SessionContext() {
+    }
+
+    /*
+     * 없으면 만들어 붙인다
+     */
+    public static SessionContext of(Connection connection) {
+        SessionContext created = new SessionContext();
+        SessionContext existing = connection.channel().attr(KEY).setIfAbsent(created);
+        return existing != null ? existing : created;
+    }
+
+    /*
+     * resume : 끊긴 connection 의 session 정보를 새 connection 에 그대로 옮긴다
+     */
+    public static void attach(Connection connection, SessionContext context) {
+        connection.channel().attr(KEY).set(context);
+    }
+
+    public static SessionContext find(Connection connection) {
+        return connection == null ? null : connection.channel().attr(KEY).get();
+    }
+
+    public void joinWaitingRoom(Long userId, String teamCode, String nickname, int avatar) {
+        this.userId = userId;
+        this.teamCode = teamCode;
+        this.channelId = teamCode;
+        this.nickname = nickname;
+        this.avatar = avatar;
+        this.inGame = false;
+        this.mapId = null;
+        this.tool = null;
+    }
+
+    public void joinGame(Long userId, String channelId, String nickname, int avatar) {
+        this.userId = userId;
+        this.nickname = nickname;
+        this.avatar = avatar;
+        startGame(channelId);
+    }
+
+    public void startGame(String channelId) {
+        this.channelId = channelId;
+        this.inGame = true;
+        this.mapId = 1;
+        this.tool = null;
+    }
+
+    /*
+     * endGame / 대기실 퇴장 : 이후 연결이 끊겨도 leaveGame 을 다시 하지 않도록 비운다
+     */
+    public void leave() {
+        this.userId = null;
+        this.teamCode = null;
+        this.channelId = null;
+        this.mapId = null;
+        this.inGame = false;
+        this.nickname = null;
+        this.avatar = null;
+        this.tool = null;
+    }
+
+    public void moveTo(int mapId) {
+        this.mapId = mapId;
+    }
+
+    /*
+     * tool : {inventoryIdx}:{itemId} (ToolRepository 의 값), 해제하면 null
+     */
+    public void setTool(String tool) {
+        this.tool = tool;
+    }
+
+    /*
+     * client 가 생략한 userId / channelId 를 session 값으로 채운다
+     */
+    public void fill(JSONObject json) {
+        if (!json.has("userId") && userId != null) {
+            json.put("userId", userId);
+        }
+        if (!json.has("channelId") && channelId != null) {
+            json.put("channelId", channelId);
+        }
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getTeamCode() {
+        return teamCode;
+    }
+
+    public String getChannelId() {
+        return channelId;
+    }
+
+    public Integer getMapId() {
+        return mapId;
+    }
+
+    public boolean isInGame() {
+        return inGame;
+    }
+
+    public String getNickname() {
+        return nickname;
+    }
+
+    public Integer getAvatar() {
+        return avatar;
+    }
+
+    public String getTool() {
+        return tool;
+    }
+}
@@ -1,34 +1,184 @@
 package com.explorer.realtime.global.component.session;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.util.AttributeKey;
 import org.springframework.stereotype.Component;
 import reactor.netty.Connection;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 
+/*
+ * 이 노드에 접속한 session 목록
+ * - userId -> session : long key map (조회 시 boxing / 객체 생성 없음)
+ * - connection -> userId : netty channel attribute
+ * - channelId (teamCode) -> session 목록 : broadcast 대상 조회를 redis 없이 배열 순회로 한다
+ * - netty channel 이 닫히면 자동으로 지운다 (같은 user 가 새 connection 으로 다시 접속했다면 새 session 은 남긴다)
+ */
 @Component
 public class SessionManager {
 
-    private final ConcurrentHashMap<Long, Connection> uidToConnectionMap = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<Connection, Long> connectionToUidMap = new ConcurrentHashMap<>();
+    private static final AttributeKey<Long> UID_KEY = AttributeKey.valueOf("sessionUid");
+
+    private final LongConcurrentMap<Session> sessions = new LongConcurrentMap<>();
+    private final ConcurrentHashMap<String, ChannelSessions> channels = new ConcurrentHashMap<>();
+
+    public SessionManager(MeterRegistry meterRegistry) {
+        Gauge.builder("realtime.sessions", sessions, LongConcurrentMap::size).register(meterRegistry);
+        Gauge.builder("realtime.session.channels", channels, Map::size).register(meterRegistry);
+    }
 
     public void setConnection(Long userId, Connection connection) {
-        uidToConnectionMap.put(userId, connection);
-        connectionToUidMap.put(connection, userId);
+        Session session = new Session(userId, connection);
+        Session previous = sessions.put(userId, session);
+        if (previous != null) {
+            leaveChannel(previous);
+        }
+        connection.channel().attr(UID_KEY).set(userId);
+        connection.channel().closeFuture().addListener(future -> remove(session));
+    }
+
+    /*
+     * user 의 session 을 channel 목록으로 옮긴다 (대기실 teamCode -> 게임 channelId 등)
+     */
+    public void joinChannel(Long userId, String channelId) {
+        Session session = sessions.get(userId);
+        if (session == null) {
+            return;
+        }
+        synchronized (session) {
+            if (channelId.equals(session.channelId)) {
+                return;
+            }
+            leaveChannel(session);
+            session.channelId = channelId;
+            channels.compute(channelId, (key, group) -> {
+                ChannelSessions updated = group == null ? new ChannelSessions() : group;
+                updated.add(session);
+                return updated;
+            });
+        }
     }
 
     public Connection getConnection(Long userId) {
-        return uidToConnectionMap.get(userId);
+        if (userId == null) {
+            return null;
+        }
+        Session session = sessions.get(userId);
+        return session == null ? null : session.connection;
+    }
+
+    /*
+     * 이 노드에 connection 이 있는 user 의 session 정보 (없으면 null)
+     */
+    public SessionContext getContext(Long userId) {
+        return SessionContext.find(getConnection(userId));
     }
 
     public Long getUid(Connection connection) {
-        return connectionToUidMap.get(connection);
+        return connection.channel().attr(UID_KEY).get();
+    }
+
+    /*
+     * channel 에 있는 이 노드의 session 목록 (channel 을 모르면 false)
+     */
+    public boolean forEachInChannel(String channelId, BiConsumer<Long, Connection> action) {
+        ChannelSessions group = channels.get(channelId);
+        if (group == null) {
+            return false;
+        }
+        for (Session session : group.sessions) {
+            action.accept(session.userId, session.connection);
+        }
+        return true;
+    }
+
+    public int count(String channelId) {
+        ChannelSessions group = channels.get(channelId);
+        return group == null ? 0 : group.sessions.length;
+    }
+
+    public Map<String, Integer> channelCounts() {
+        Map<String, Integer> counts = new HashMap<>();
+        channels.forEach((channelId, group) -> counts.put(channelId, group.sessions.length));
+        return counts;
     }
 
     public void removeConnection(Long userId) {
-        Connection connection = getConnection(userId);
-        if (connection != null) {
-            uidToConnectionMap.remove(userId);
-            connectionToUidMap.remove(connection);
+        Session session = sessions.get(userId);
+        if (session != null) {
+            remove(session);
+        }
+    }
+
+    private void remove(Session session) {
+        if (sessions.remove(session.userId, session)) {
+            leaveChannel(session);
+        }
+    }
+
+    private void leaveChannel(Session session) {
+        synchronized (session) {
+            String channelId = session.channelId;
+            if (channelId == null) {
+                return;
+            }
+            session.channelId = null;
+            channels.computeIfPresent(channelId, (key, group) -> group.remove(session) ? null : group);
+        }
+    }
+
+    private static final class Session {
+
+        private final Long userId;
+        private final Connection connection;
+        private String channelId;
+
+        private Session(Long userId, Connection connection) {
+            this.userId = userId;
+            this.connection = connection;
+        }
+    }
+
+    /*
+     * channel 의 session 배열 (copy-on-write : 순회할 때 lock / 복사 없음)
+     */
+    private static final class ChannelSessions {
+
+        private static final Session[] EMPTY = new Session[0];
+
+        private volatile Session[] sessions = EMPTY;
+
+        private synchronized void add(Session session) {
+            Session[] current = sessions;
+            Session[] updated = new Session[current.length + 1];
+            System.arraycopy(current, 0, updated, 0, current.length);
+            updated[current.length] = session;
+            sessions = updated;
+        }
+
+        /*
+         * 비었으면 true
+         */
+        private synchronized boolean remove(Session session) {
+            Session[] current = sessions;
+            int idx = -1;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == session) {
+                    idx = i;
+                    break;
+                }
+            }
+            if (idx >= 0) {
+                Session[] updated = new Session[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, idx);
+                System.arraycopy(current, idx + 1, updated, idx, current.length - idx - 1);
+                sessions = updated;
+            }
+            return sessions.length == 0;
         }
     }
 }
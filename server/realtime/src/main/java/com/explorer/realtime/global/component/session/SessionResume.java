@@ -0,0 +1,291 @@
+package com.explorer.realtime.global.component.session;
+
+import com.explorer.realtime.global.component.codec.ProtocolVersion;
+import com.explorer.realtime.global.component.outbound.OutboundMailbox;
+import io.netty.buffer.Unpooled;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/*
+ * 게임 session 재접속 (resume)
+ * - 게임에 들어갈 때 (startGame / restartGame / resume) user 별 resume token 을 발급한다
+ * - 게임 중 연결이 끊기면 바로 leaveGame 하지 않고 grace 동안 session 을 detach 상태로 남긴다
+ *   - 그동안 그 user 에게 보내려던 frame 은 ReplayBuffer 에 담는다 (Broadcasting / Multicasting / Unicasting 이 capture 호출)
+ *   - 끊긴 connection 이 협상한 protocol (ProtocolVersion) 의 encoding 으로 담고, resume 한 connection 도 같은 protocol, feature 로 맞춘다
+ *   - grace 안에 resume 이 없으면 미뤄 둔 leaveGame 을 실행한다
+ * - 새 connection 이 token 으로 resume 하면 SessionContext 와 channel session 을 옮기고 담아 둔 frame 만 다시 보낸다
+ *   (mongo 재조회 / map 전체 재전송 없음), token 은 매번 새로 발급한다
+ * - buffer 가 넘쳤거나 token 이 만료되었으면 resume 실패 : client 는 restartGame 으로 다시 들어온다
+ */
+@Component
+public class SessionResume {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionResume.class);
+    private static final int TOKEN_BYTES = 24;
+
+    private final SessionManager sessionManager;
+    private final Duration grace;
+    private final int maxFrames;
+    private final long maxBytes;
+    private final SecureRandom random = new SecureRandom();
+    private final ConcurrentHashMap<String, Resumable> tokens = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Resumable> users = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<Resumable>> detached = new ConcurrentHashMap<>();
+
+    public SessionResume(SessionManager sessionManager,
+                         @Value("${session.resume.grace:60s}") Duration grace,
+                         @Value("${session.resume.max-frames:1024}") int maxFrames,
+                         @Value("${session.resume.max-bytes:1048576}") long maxBytes) {
+        this.sessionManager = sessionManager;
+        this.grace = grace;
+        this.maxFrames = maxFrames;
+        this.maxBytes = maxBytes;
+    }
+
+    public Duration getGrace() {
+        return grace;
+    }
+
+    /*
+     * 이전 token 은 폐기한다
+     */
+    public String issue(Long userId, String channelId) {
+        revoke(userId);
+        Resumable resumable = new Resumable(newToken(), userId, channelId);
+        tokens.put(resumable.token, resumable);
+        users.put(userId, resumable);
+        log.info("[issue] userId : {}, channelId : {}", userId, channelId);
+        return resumable.token;
+    }
+
+    /*
+     * 명시적으로 나갈 때 (leave / endGame) : 끊겨도 detach 하지 않는다
+     */
+    public void revoke(Long userId) {
+        Resumable resumable = users.remove(userId);
+        if (resumable == null) {
+            return;
+        }
+        tokens.remove(resumable.token, resumable);
+        synchronized (resumable) {
+            resumable.revoked = true;
+            release(resumable);
+        }
+    }
+
+    /*
+     * 끊긴 connection 의 session 을 detach 상태로 남기고 grace 뒤에 leave 를 실행한다
+     * token 이 없으면 false (호출한 쪽이 바로 leave 한다)
+     */
+    public boolean detach(Long userId, Connection connection, Runnable leave) {
+        Resumable resumable = users.get(userId);
+        if (resumable == null) {
+            return false;
+        }
+        Connection current = sessionManager.getConnection(userId);
+        if (current != null && current != connection && current.channel().isActive()) {     // 이미 새 connection 으로 resume 함
+            return true;
+        }
+        synchronized (resumable) {
+            if (resumable.revoked) {
+                return false;
+            }
+            if (resumable.buffer != null) {
+                return true;
+            }
+            resumable.context = SessionContext.find(connection);
+            resumable.protocolVersion = ProtocolVersion.get(connection);
+            resumable.features = ProtocolVersion.features(connection);
+            resumable.leave = leave;
+            resumable.buffer = new ReplayBuffer(maxFrames, maxBytes);
+            resumable.expiry = Mono.delay(grace).subscribe(tick -> expire(resumable));
+            detached.computeIfAbsent(resumable.channelId, key -> new CopyOnWriteArraySet<>()).add(resumable);
+        }
+        log.info("[detach] userId : {}, channelId : {}, grace : {}", userId, resumable.channelId, grace);
+        return true;
+    }
+
+    /*
+     * 새 connection 으로 session 을 옮긴다 (실패하면 null)
+     */
+    public Resumed resume(String token, Connection connection) {
+        Resumable resumable = tokens.get(token);
+        if (resumable == null) {
+            log.info("[resume] unknown token");
+            return null;
+        }
+        List<byte[]> frames;
+        synchronized (resumable) {
+            if (resumable.revoked) {
+                return null;
+            }
+            if (resumable.buffer != null && resumable.buffer.isOverflow()) {
+                frames = null;
+            } else {
+                frames = move(resumable, connection);
+            }
+        }
+        if (frames == null) {       // 놓친 frame 을 모두 보낼 수 없으므로 바로 leave 하고 restartGame 으로 다시 들어오게 한다
+            log.info("[resume] replay buffer overflow, userId : {}", resumable.userId);
+            expire(resumable);
+            return null;
+        }
+        log.info("[resume] userId : {}, channelId : {}, frames : {}", resumable.userId, resumable.channelId, frames.size());
+        return new Resumed(resumable.userId, resumable.channelId, resumable.token, frames);
+    }
+
+    /*
+     * [lock 안에서 호출] session 을 새 connection 으로 옮기고 담아 둔 frame 을 꺼낸다
+     */
+    private List<byte[]> move(Resumable resumable, Connection connection) {
+        Connection previous = sessionManager.getConnection(resumable.userId);
+        SessionContext context = resumable.context != null ? resumable.context : SessionContext.find(previous);
+        if (context != null) {
+            SessionContext.attach(connection, context);
+        }
+        int protocolVersion = resumable.buffer != null || previous == null ? resumable.protocolVersion : ProtocolVersion.get(previous);
+        if (ProtocolVersion.get(connection) < protocolVersion) {        // 담아 둔 frame 과 이후 frame 을 끊기기 전과 같은 형식으로 보낸다
+            ProtocolVersion.negotiate(connection, protocolVersion);
+        }
+        Set<String> features = resumable.buffer != null || previous == null ? resumable.features : ProtocolVersion.features(previous);
+        if (ProtocolVersion.features(connection).isEmpty()) {
+            ProtocolVersion.negotiateFeatures(connection, features);
+        }
+        sessionManager.setConnection(resumable.userId, connection);
+        sessionManager.joinChannel(resumable.userId, resumable.channelId);
+        List<byte[]> frames = resumable.buffer == null ? List.of() : resumable.buffer.drain();
+        release(resumable);
+        tokens.remove(resumable.token, resumable);
+        resumable.token = newToken();
+        tokens.put(resumable.token, resumable);
+        if (previous != null && previous != connection) {       // 끊긴 것을 아직 감지하지 못한 이전 connection
+            previous.dispose();
+        }
+        return frames;
+    }
+
+    /*
+     * resume 응답 뒤에 담아 둔 frame 을 순서대로 보낸다
+     */
+    public void replay(Connection connection, Resumed resumed) {
+        for (byte[] frame : resumed.frames()) {
+            OutboundMailbox.send(connection, Unpooled.wrappedBuffer(frame), null);
+        }
+    }
+
+    /*
+     * channel 의 detach 된 session 중 target 에 해당하는 session 에 frame 을 담는다
+     */
+    public void capture(String channelId, Predicate<Long> target, Function<Boolean, byte[]> frame, Collection<String> latestKeys) {
+        Set<Resumable> group = detached.get(channelId);
+        if (group == null || group.isEmpty()) {
+            return;
+        }
+        byte[][] encoded = new byte[2][];       // [json, binary] : 같은 protocol 의 session 은 같은 bytes 를 공유
+        Function<Boolean, byte[]> once = binary -> {
+            int idx = binary ? 1 : 0;
+            return encoded[idx] != null ? encoded[idx] : (encoded[idx] = frame.apply(binary));
+        };
+        for (Resumable resumable : group) {
+            if (target.test(resumable.userId)) {
+                capture(resumable, once, latestKeys);
+            }
+        }
+    }
+
+    /*
+     * detach 된 user 이면 frame 을 담고 true
+     */
+    public boolean capture(Long userId, Function<Boolean, byte[]> frame, Collection<String> latestKeys) {
+        Resumable resumable = users.get(userId);
+        return resumable != null && capture(resumable, frame, latestKeys);
+    }
+
+    private boolean capture(Resumable resumable, Function<Boolean, byte[]> frame, Collection<String> latestKeys) {
+        synchronized (resumable) {
+            if (resumable.buffer == null) {
+                return false;
+            }
+            resumable.buffer.add(frame.apply(resumable.protocolVersion >= ProtocolVersion.BINARY_V1), latestKeys);
+            return true;
+        }
+    }
+
+    private void expire(Resumable resumable) {
+        Runnable leave;
+        synchronized (resumable) {
+            if (resumable.buffer == null) {
+                return;
+            }
+            leave = resumable.leave;
+            resumable.revoked = true;
+            release(resumable);
+        }
+        users.remove(resumable.userId, resumable);
+        tokens.remove(resumable.token, resumable);
+        log.info("[expire] userId : {}, channelId : {}", resumable.userId, resumable.channelId);
+        leave.run();
+    }
+
+    /*
+     * [lock 안에서 호출] detach 상태 해제
+     */
+    private void release(Resumable resumable) {
+        if (resumable.expiry != null) {
+            resumable.expiry.dispose();
+            resumable.expiry = null;
+        }
+        resumable.buffer = null;
+        resumable.context = null;
+        resumable.leave = null;
+        detached.computeIfPresent(resumable.channelId, (key, group) -> {
+            group.remove(resumable);
+            return group.isEmpty() ? null : group;
+        });
+    }
+
+    private String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public record Resumed(Long userId, String channelId, String token, List<byte[]> frames) {
+    }
+
+    private static final class Resumable {
+
+        private final Long userId;
+        private final String channelId;
+        private volatile String token;
+        private ReplayBuffer buffer;
+        private SessionContext context;
+        private int protocolVersion;
+        private Set<String> features = Set.of();
+        private Disposable expiry;
+        private Runnable leave;
+        private boolean revoked;
+
+        private Resumable(String token, Long userId, String channelId) {
+            this.token = token;
+            this.userId = userId;
+            this.channelId = channelId;
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package com.explorer.realtime.global.component.state;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+ * channel 하나의 게임 상태 (인벤토리, 맵 오브젝트, 연구소 원소/화합물, 연구소 레벨, 장착 도구 등)
+ * - redis 와 같은 자료형 (hash / list / value) 으로 메모리에 들고 있으며 GameStateEngine 의 action 안에서만 접근한다
+ * - action 은 channel 별 executor 에서 하나씩 순서대로 실행되므로 lock 없이 read-modify-write 할 수 있다
+ * - 변경된 key 는 dirty 로 표시되고 GameStateEngine 이 주기적으로 redis 에 기록한다 (write-behind)
+ */
+public class ChannelState {
+
+    private static final Logger log = LoggerFactory.getLogger(ChannelState.class);
+    private static final int MAX_TASKS_PER_DRAIN = 64;
+
+    private final String channelId;
+    private final Scheduler scheduler;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final Set<StateKey> loaded = ConcurrentHashMap.newKeySet();
+    private final Map<String, Map<String, Object>> hashes = new HashMap<>();
+    private final Map<String, List<Object>> lists = new HashMap<>();
+    private final Map<String, Object> values = new HashMap<>();
+    private final Map<StateKey, Dirty> dirty = new HashMap<>();
+
+    private volatile long lastAccess = System.currentTimeMillis();
+    private volatile boolean evicted;
+
+    ChannelState(String channelId, Scheduler scheduler) {
+        this.channelId = channelId;
+        this.scheduler = scheduler;
+    }
+
+    public String getChannelId() {
+        return channelId;
+    }
+
+    /*
+     * [hash]
+     */
+    public Object hget(String key, String field) {
+        return hash(key).get(field);
+    }
+
+    public Map<String, Object> hgetAll(String key) {
+        return new LinkedHashMap<>(hash(key));
+    }
+
+    public void hset(String key, String field, Object value) {
+        hash(key).put(field, value);
+        dirty(StateKey.hash(key)).fields.add(field);
+    }
+
+    public void hsetAll(String key, Map<String, ?> entries) {
+        hash(key).putAll(entries);
+        dirty(StateKey.hash(key)).fields.addAll(entries.keySet());
+    }
+
+    public boolean hdel(String key, String field) {
+        boolean removed = hash(key).remove(field) != null;
+        if (removed) {
+            dirty(StateKey.hash(key)).fields.add(field);
+        }
+        return removed;
+    }
+
+    /*
+     * [list]
+     */
+    public List<Object> lrange(String key) {
+        return new ArrayList<>(list(key));
+    }
+
+    public Object lindex(String key, int index) {
+        List<Object> list = list(key);
+        return index >= 0 && index < list.size() ? list.get(index) : null;
+    }
+
+    public void lset(String key, int index, Object value) {
+        List<Object> list = list(key);
+        if (index < 0 || index >= list.size()) {
+            throw new IndexOutOfBoundsException("index out of range : " + key + "[" + index + "]");
+        }
+        list.set(index, value);
+        dirty(StateKey.list(key)).replace = true;
+    }
+
+    public void rpushAll(String key, Collection<?> items) {
+        list(key).addAll(items);
+        dirty(StateKey.list(key)).replace = true;
+    }
+
+    /*
+     * [value]
+     */
+    public Object get(String key) {
+        require(StateKey.value(key));
+        return values.get(key);
+    }
+
+    public void set(String key, Object value) {
+        require(StateKey.value(key));
+        values.put(key, value);
+        dirty(StateKey.value(key)).replace = true;
+    }
+
+    /*
+     * key 삭제 (redis DEL)
+     */
+    public boolean delete(StateKey key) {
+        require(key);
+        boolean existed = switch (key.type()) {
+            case HASH -> {
+                Map<String, Object> hash = hashes.get(key.key());
+                boolean exists = !hash.isEmpty();
+                hash.clear();
+                yield exists;
+            }
+            case LIST -> {
+                List<Object> list = lists.get(key.key());
+                boolean exists = !list.isEmpty();
+                list.clear();
+                yield exists;
+            }
+            case VALUE -> values.put(key.key(), null) != null;
+        };
+        Dirty entry = dirty(key);
+        entry.replace = true;
+        entry.fields.clear();
+        return existed;
+    }
+
+    public boolean exists(StateKey key) {
+        require(key);
+        return switch (key.type()) {
+            case HASH -> !hashes.get(key.key()).isEmpty();
+            case LIST -> !lists.get(key.key()).isEmpty();
+            case VALUE -> values.get(key.key()) != null;
+        };
+    }
+
+    private Map<String, Object> hash(String key) {
+        require(StateKey.hash(key));
+        return hashes.get(key);
+    }
+
+    private List<Object> list(String key) {
+        require(StateKey.list(key));
+        return lists.get(key);
+    }
+
+    private void require(StateKey key) {
+        if (!loaded.contains(key)) {
+            throw new IllegalStateException("state key not loaded : " + key);
+        }
+    }
+
+    private Dirty dirty(StateKey key) {
+        return dirty.computeIfAbsent(key, k -> new Dirty());
+    }
+
+    /*
+     * ----- GameStateEngine 전용 -----
+     */
+
+    boolean isLoaded(StateKey key) {
+        return loaded.contains(key);
+    }
+
+    /*
+     * redis 에서 읽은 값 저장 : 이미 메모리에 있으면 (다른 action 이 먼저 load / 변경) 무시한다
+     */
+    @SuppressWarnings("unchecked")
+    void install(StateKey key, Object data) {
+        if (loaded.contains(key)) {
+            return;
+        }
+        switch (key.type()) {
+            case HASH -> hashes.put(key.key(), new LinkedHashMap<>((Map<String, Object>) data));
+            case LIST -> lists.put(key.key(), new ArrayList<>((List<Object>) data));
+            case VALUE -> values.put(key.key(), data);
+        }
+        loaded.add(key);
+    }
+
+    /*
+     * dirty key 의 현재 값을 복사하여 반환하고 dirty 표시를 지운다
+     */
+    List<PendingWrite> drainDirty() {
+        if (dirty.isEmpty()) {
+            return List.of();
+        }
+        List<PendingWrite> writes = new ArrayList<>(dirty.size());
+        dirty.forEach((key, entry) -> {
+            switch (key.type()) {
+                case HASH -> {
+                    Map<String, Object> hash = hashes.get(key.key());
+                    Map<String, Object> puts = new LinkedHashMap<>();
+                    List<String> removes = new ArrayList<>();
+                    if (entry.replace) {
+                        puts.putAll(hash);
+                    } else {
+                        for (String field : entry.fields) {
+                            Object value = hash.get(field);
+                            if (value == null) {
+                                removes.add(field);
+                            } else {
+                                puts.put(field, value);
+                            }
+                        }
+                    }
+                    writes.add(PendingWrite.hash(key, entry.replace, puts, removes));
+                }
+                case LIST -> writes.add(PendingWrite.list(key, new ArrayList<>(lists.get(key.key()))));
+                case VALUE -> writes.add(PendingWrite.value(key, values.get(key.key())));
+            }
+        });
+        dirty.clear();
+        return writes;
+    }
+
+    /*
+     * redis 기록에 실패한 key 는 다음 flush 때 전체를 다시 기록한다
+     */
+    void markDirty(Collection<StateKey> keys) {
+        keys.forEach(key -> dirty(key).replace = true);
+    }
+
+    boolean isDirty() {
+        return !dirty.isEmpty();
+    }
+
+    void touch() {
+        lastAccess = System.currentTimeMillis();
+    }
+
+    long getLastAccess() {
+        return lastAccess;
+    }
+
+    boolean isEvicted() {
+        return evicted;
+    }
+
+    void evict() {
+        evicted = true;
+    }
+
+    /*
+     * channel 단위 직렬 실행 : 공용 scheduler 위에서 한 번에 하나의 task 만 실행한다
+     */
+    void execute(Runnable task) {
+        tasks.add(task);
+        if (running.compareAndSet(false, true)) {
+            scheduler.schedule(this::drain);
+        }
+    }
+
+    private void drain() {
+        for (int i = 0; i < MAX_TASKS_PER_DRAIN; i++) {
+            Runnable task = tasks.poll();
+            if (task == null) {
+                break;
+            }
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("[drain] channelId : {}, error : {}", channelId, e.getMessage(), e);
+            }
+        }
+        running.set(false);
+        if (!tasks.isEmpty() && running.compareAndSet(false, true)) {
+            scheduler.schedule(this::drain);
+        }
+    }
+
+    private static final class Dirty {
+        private boolean replace;
+        private final Set<String> fields = new HashSet<>();
+    }
+
+    record PendingWrite(StateKey key, boolean replace, Map<String, Object> puts, List<String> removes, List<Object> list, Object value) {
+
+        static PendingWrite hash(StateKey key, boolean replace, Map<String, Object> puts, List<String> removes) {
+            return new PendingWrite(key, replace, puts, removes, null, null);
+        }
+
+        static PendingWrite list(StateKey key, List<Object> list) {
+            return new PendingWrite(key, true, null, null, list, null);
+        }
+
+        static PendingWrite value(StateKey key, Object value) {
+            return new PendingWrite(key, true, null, null, null, value);
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.explorer.realtime.global.component.state;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import com.explorer.realtime.global.component.state.codec.StateCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/*
+ * channel 별 게임 상태의 단일 writer
+ *
+ * - execute(channelId, keys, action) : 필요한 key 를 (메모리에 없으면) redis 에서 한 번 읽어온 뒤
+ *   action 을 channel 의 직렬 executor 에서 실행한다. 같은 channel 의 action 은 동시에 실행되지 않는다
+ * - action 안에서의 변경은 메모리에만 반영되고, flush-interval 마다 변경된 key 만 redis 에 기록한다 (write-behind)
+ *   hash / list 는 key 별로 lua script (resources/scripts) 한 번으로 기록한다
+ * - redis 는 snapshot 저장소 역할을 하므로 engine 이 관리하는 key 는 반드시 engine 을 통해서만 읽고 쓴다
+ * - hash value 는 key 에 맞는 StateCodec 이 있으면 기록할 때 encode, 읽을 때 decode 한다 (메모리에는 기존 문자열 형식)
+ * - idle-timeout 동안 접근이 없고 기록할 변경이 없는 channel 은 메모리에서 내린다
+ * - 한 channel 의 게임 event 는 하나의 서버 노드에서 처리된다고 가정한다
+ * - redis 에 기록한 변경 (key, 바뀐 hash field) 은 write listener 에 알린다 (mongo checkpoint 의 dirty 표시)
+ */
+@Component
+public class GameStateEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(GameStateEngine.class);
+    private static final RedisScript<Long> HASH_APPLY = RedisScript.of(new ClassPathResource("scripts/hash-apply.lua"), Long.class);
+    private static final RedisScript<Long> LIST_REPLACE = RedisScript.of(new ClassPathResource("scripts/list-replace.lua"), Long.class);
+    private static final Object MISSING = new Object();        // 없는 VALUE key (reactor 는 null 값을 전달할 수 없다)
+    private static final SerializationPair<Long> LONG_RESULT = SerializationPair.fromSerializer(new GenericToStringSerializer<>(Long.class));
+
+    private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+    private final List<StateCodec> codecs;
+    private final Duration flushInterval;
+    private final Duration idleTimeout;
+    private final ConcurrentHashMap<String, ChannelState> channels = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Mono<Void>> flushes = new ConcurrentHashMap<>();
+    private final List<BiConsumer<String, List<StateChange>>> writeListeners = new CopyOnWriteArrayList<>();
+    private final Scheduler scheduler = Schedulers.newParallel("game-state");
+    private Disposable flusher;
+
+    public GameStateEngine(@Qualifier("gameReactiveRedisTemplate") ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
+                           @Value("${game-state.flush-interval:200ms}") Duration flushInterval,
+                           @Value("${game-state.idle-timeout:10m}") Duration idleTimeout,
+                           List<StateCodec> codecs) {
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.codecs = codecs;
+        this.flushInterval = flushInterval;
+        this.idleTimeout = idleTimeout;
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher = Flux.interval(flushInterval, flushInterval)
+                .onBackpressureDrop()
+                .subscribe(seq -> channels.values().forEach(state -> {
+                    if (!flushes.containsKey(state.getChannelId())) {
+                        flush(state).subscribe();
+                    }
+                }));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (flusher != null) {
+            flusher.dispose();
+        }
+        Flux.fromIterable(channels.values())
+                .flatMap(this::flush)
+                .then()
+                .block(Duration.ofSeconds(10));
+        scheduler.dispose();
+    }
+
+    public <T> Mono<T> execute(String channelId, StateKey key, Function<ChannelState, T> action) {
+        return execute(channelId, List.of(key), action);
+    }
+
+    /*
+     * action 의 반환값이 null 이면 empty, 예외를 던지면 error 로 완료된다
+     */
+    public <T> Mono<T> execute(String channelId, Collection<StateKey> keys, Function<ChannelState, T> action) {
+        return Mono.defer(() -> {
+            ChannelState state = channels.computeIfAbsent(channelId, id -> new ChannelState(id, scheduler));
+            return load(state, keys)
+                    .flatMap(loaded -> Mono.<T>create(sink -> state.execute(() -> {
+                        if (state.isEvicted()) {
+                            execute(channelId, keys, action).subscribe(sink::success, sink::error, sink::success);
+                            return;
+                        }
+                        loaded.forEach((key, data) -> state.install(key, data == MISSING ? null : data));
+                        state.touch();
+                        T result;
+                        try {
+                            result = action.apply(state);
+                        } catch (RuntimeException e) {
+                            sink.error(e);
+                            return;
+                        }
+                        sink.success(result);
+                    })));
+        });
+    }
+
+    /*
+     * 메모리의 변경 사항을 바로 redis 에 기록 (진행 중인 flush 가 있으면 그 뒤에 이어서)
+     */
+    public Mono<Void> flush(String channelId) {
+        ChannelState state = channels.get(channelId);
+        return state == null ? Mono.empty() : flush(state);
+    }
+
+    /*
+     * channel 을 메모리에서 내린다 (다른 노드로 넘길 때) : 남은 변경을 모두 기록한 뒤 제거하고, 이후 execute 는 redis 에서 다시 읽는다
+     */
+    public Mono<Void> evict(String channelId) {
+        ChannelState state = channels.get(channelId);
+        if (state == null) {
+            return Mono.empty();
+        }
+        return flush(state)
+                .then(Mono.<List<ChannelState.PendingWrite>>create(sink -> state.execute(() -> {
+                    List<ChannelState.PendingWrite> writes = state.drainDirty();
+                    state.evict();
+                    channels.remove(channelId, state);
+                    sink.success(writes);
+                })))
+                .flatMap(writes -> write(state, writes))
+                .doOnSuccess(aVoid -> log.info("[evict] channelId : {}", channelId));
+    }
+
+    public void addWriteListener(BiConsumer<String, List<StateChange>> listener) {
+        writeListeners.add(listener);
+    }
+
+    private Mono<Map<StateKey, Object>> load(ChannelState state, Collection<StateKey> keys) {
+        List<StateKey> missing = keys.stream().filter(key -> !state.isLoaded(key)).toList();
+        if (missing.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return Flux.fromIterable(missing)
+                .flatMap(key -> read(key).map(data -> Map.entry(key, data)))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    private Mono<Object> read(StateKey key) {
+        return switch (key.type()) {
+            case HASH -> {
+                StateCodec codec = codecFor(key.key());
+                yield reactiveRedisTemplate.opsForHash().entries(key.key())
+                        .collectMap(entry -> String.valueOf(entry.getKey()),
+                                entry -> codec == null ? entry.getValue() : codec.decode(String.valueOf(entry.getValue())))
+                        .map(map -> (Object) map);
+            }
+            case LIST -> reactiveRedisTemplate.opsForList().range(key.key(), 0, -1)
+                    .collectList()
+                    .map(list -> (Object) list);
+            case VALUE -> reactiveRedisTemplate.opsForValue().get(key.key())
+                    .defaultIfEmpty(MISSING);
+        };
+    }
+
+    /*
+     * channel executor 에서 dirty key 를 복사한 뒤 redis 에 기록한다
+     * 같은 channel 의 flush 는 이전 flush 가 끝난 뒤에 실행되어 기록 순서가 바뀌지 않는다
+     */
+    private Mono<Void> flush(ChannelState state) {
+        String channelId = state.getChannelId();
+        Mono<Void> next = flushes.compute(channelId, (id, previous) -> {
+            Mono<Void> run = Mono.<List<ChannelState.PendingWrite>>create(sink -> state.execute(() -> {
+                        List<ChannelState.PendingWrite> writes = state.drainDirty();
+                        if (writes.isEmpty() && System.currentTimeMillis() - state.getLastAccess() > idleTimeout.toMillis()) {
+                            state.evict();
+                            channels.remove(channelId, state);
+                            log.info("[flush] evicted idle channel : {}", channelId);
+                        }
+                        sink.success(writes);
+                    }))
+                    .flatMap(writes -> write(state, writes));
+            return (previous == null ? run : previous.onErrorResume(e -> Mono.empty()).then(run)).cache();
+        });
+        return next.doFinally(signal -> flushes.remove(channelId, next));
+    }
+
+    private Mono<Void> write(ChannelState state, List<ChannelState.PendingWrite> writes) {
+        if (writes.isEmpty()) {
+            return Mono.empty();
+        }
+        return Flux.fromIterable(writes)
+                .flatMap(write -> write(write)
+                        .onErrorResume(error -> {
+                            log.error("[write] channelId : {}, key : {}, error : {}", state.getChannelId(), write.key().key(), error.getMessage());
+                            state.execute(() -> state.markDirty(List.of(write.key())));
+                            return Mono.empty();
+                        }))
+                .then(Mono.fromRunnable(() -> {
+                    if (writeListeners.isEmpty()) {
+                        return;
+                    }
+                    List<StateChange> changes = writes.stream().map(StateChange::of).toList();
+                    writeListeners.forEach(listener -> listener.accept(state.getChannelId(), changes));
+                }));
+    }
+
+    /*
+     * key 하나의 변경 사항을 한 번의 script 실행(EVALSHA, 처음 한 번만 script 를 전송)으로 기록한다
+     * 다른 client 가 지워졌다가 다시 채워지는 중간 상태의 hash / list 를 읽지 않도록 한다
+     */
+    private Mono<Void> write(ChannelState.PendingWrite write) {
+        String key = write.key().key();
+        return switch (write.key().type()) {
+            case HASH -> {
+                StateCodec codec = codecFor(key);
+                List<ByteBuffer> args = new ArrayList<>(2 + write.puts().size() * 2 + write.removes().size());
+                args.add(ascii(write.replace() ? "1" : "0"));
+                args.add(ascii(String.valueOf(write.puts().size())));
+                write.puts().forEach((field, value) -> {
+                    args.add(serializationContext().getHashKeySerializationPair().write(field));
+                    args.add(serializationContext().getHashValueSerializationPair().write(codec == null ? value : codec.encode(String.valueOf(value))));
+                });
+                write.removes().forEach(field -> args.add(serializationContext().getHashKeySerializationPair().write(field)));
+                yield runScript(HASH_APPLY, key, args);
+            }
+            case LIST -> {
+                List<ByteBuffer> args = new ArrayList<>(write.list().size());
+                write.list().forEach(item -> args.add(serializationContext().getValueSerializationPair().write(item)));
+                yield runScript(LIST_REPLACE, key, args);
+            }
+            case VALUE -> write.value() == null
+                    ? reactiveRedisTemplate.delete(key).then()
+                    : reactiveRedisTemplate.opsForValue().set(key, write.value()).then();
+        };
+    }
+
+    private Mono<Void> runScript(RedisScript<Long> script, String key, List<ByteBuffer> args) {
+        return reactiveRedisTemplate.execute(script, List.of(key), args, SerializationPair.byteBuffer().getWriter(), LONG_RESULT.getReader()).then();
+    }
+
+    private StateCodec codecFor(String key) {
+        for (StateCodec codec : codecs) {
+            if (codec.supports(key)) {
+                return codec;
+            }
+        }
+        return null;
+    }
+
+    private RedisSerializationContext<String, Object> serializationContext() {
+        return reactiveRedisTemplate.getSerializationContext();
+    }
+
+    private static ByteBuffer ascii(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,22 @@
+package com.explorer.realtime.global.component.state;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * redis 에 기록된 key 하나의 변경 내용 (write listener 에 전달)
+ * - replace : key 전체를 다시 기록함 (hash 의 초기화 / 삭제, list, value)
+ * - fields : replace 가 아닌 hash 에서 값이 바뀌거나 지워진 field
+ */
+public record StateChange(StateKey key, boolean replace, List<String> fields) {
+
+    static StateChange of(ChannelState.PendingWrite write) {
+        if (write.replace() || write.key().type() != StateKey.Type.HASH) {
+            return new StateChange(write.key(), true, List.of());
+        }
+        List<String> fields = new ArrayList<>(write.puts().size() + write.removes().size());
+        fields.addAll(write.puts().keySet());
+        fields.addAll(write.removes());
+        return new StateChange(write.key(), false, fields);
+    }
+}
@@ -0,0 +1,23 @@
+package com.explorer.realtime.global.component.state;
+
+/*
+ * GameStateEngine 이 메모리에 들고 있는 redis key 와 자료형
+ */
+public record StateKey(Type type, String key) {
+
+    public enum Type {
+        HASH, LIST, VALUE
+    }
+
+    public static StateKey hash(String key) {
+        return new StateKey(Type.HASH, key);
+    }
+
+    public static StateKey list(String key) {
+        return new StateKey(Type.LIST, key);
+    }
+
+    public static StateKey value(String key) {
+        return new StateKey(Type.VALUE, key);
+    }
+}
@@ -0,0 +1,90 @@
+package com.explorer.realtime.global.component.state.codec;
+
+import org.springframework.stereotype.Component;
+
+/*
+ * inventoryData:{channelId}:{userId} hash value codec
+ * - 기존 형식 : {itemCategory}:{itemId}:{itemCnt}:{isFull}
+ * - packed 형식 : long 을 10진수 문자열로 저장 (redis listpack 에 정수로 저장된다)
+ *   [category 6bit][isFull 1bit][itemCnt 16bit][itemId 24bit] (하위 bit 부터)
+ * - 알 수 없는 category, 범위를 넘는 값은 기존 형식 그대로 저장한다
+ */
+@Component
+public class InventorySlotCodec implements StateCodec {
+
+    private static final String KEY_PREFIX = "inventoryData:";
+
+    private static final int FULL_SHIFT = ItemCategory.BITS;
+    private static final int CNT_SHIFT = FULL_SHIFT + 1;
+    private static final int CNT_BITS = 16;
+    private static final int ID_SHIFT = CNT_SHIFT + CNT_BITS;
+    private static final int ID_BITS = 24;
+    private static final int MAX_CNT = (1 << CNT_BITS) - 1;
+    private static final int MAX_ID = (1 << ID_BITS) - 1;
+
+    @Override
+    public boolean supports(String key) {
+        return key.startsWith(KEY_PREFIX);
+    }
+
+    @Override
+    public String encode(String value) {
+        long packed = pack(value);
+        return packed < 0 ? value : Long.toString(packed);
+    }
+
+    @Override
+    public String decode(String value) {
+        return PackedFields.isPacked(value) ? unpack(Long.parseLong(value)) : value;
+    }
+
+    /*
+     * 기존 형식 -> packed, 변환할 수 없으면 -1
+     */
+    public static long pack(String value) {
+        int first = value.indexOf(':');
+        int second = first < 0 ? -1 : value.indexOf(':', first + 1);
+        int third = second < 0 ? -1 : value.indexOf(':', second + 1);
+        if (third < 0 || value.indexOf(':', third + 1) >= 0) {
+            return -1;
+        }
+        ItemCategory category = ItemCategory.of(value.substring(0, first));
+        int itemId = PackedFields.parseUnsigned(value, first + 1, second, MAX_ID);
+        int itemCnt = PackedFields.parseUnsigned(value, second + 1, third, MAX_CNT);
+        int isFull = PackedFields.parseUnsigned(value, third + 1, value.length(), 1);
+        if (category == null || itemId < 0 || itemCnt < 0 || isFull < 0) {
+            return -1;
+        }
+        return pack(category, itemId, itemCnt, isFull);
+    }
+
+    public static long pack(ItemCategory category, int itemId, int itemCnt, int isFull) {
+        return category.ordinal()
+                | (long) isFull << FULL_SHIFT
+                | (long) itemCnt << CNT_SHIFT
+                | (long) itemId << ID_SHIFT;
+    }
+
+    public static String unpack(long packed) {
+        return category(packed).getName()
+                + ':' + itemId(packed)
+                + ':' + itemCnt(packed)
+                + ':' + isFull(packed);
+    }
+
+    public static ItemCategory category(long packed) {
+        return ItemCategory.of((int) PackedFields.bits(packed, 0, ItemCategory.BITS));
+    }
+
+    public static int isFull(long packed) {
+        return (int) PackedFields.bits(packed, FULL_SHIFT, 1);
+    }
+
+    public static int itemCnt(long packed) {
+        return (int) PackedFields.bits(packed, CNT_SHIFT, CNT_BITS);
+    }
+
+    public static int itemId(long packed) {
+        return (int) PackedFields.bits(packed, ID_SHIFT, ID_BITS);
+    }
+}
@@ -0,0 +1,58 @@
+package com.explorer.realtime.global.component.state.codec;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * redis 에 packed 형식으로 저장되는 item category
+ * - ordinal 이 그대로 저장되므로 새 category 는 마지막에만 추가한다 (순서 변경 / 삭제 금지)
+ * - 목록에 없는 category 는 기존 문자열 형식으로 저장된다
+ */
+public enum ItemCategory {
+
+    TOOL("tool"),
+    WOOD("wood"),
+    BYPRODUCT("byproduct"),
+    ELEMENT("element"),
+    COMPOUND("compound"),
+    LABORATORY("laboratory"),
+    INSTALLATION("installation"),
+    DEBRIS("debris"),
+    TABLE("table"),
+    EXTRACTION_MATERIAL("extractionMaterial");
+
+    public static final int BITS = 6;
+
+    private static final ItemCategory[] VALUES = values();
+    private static final Map<String, ItemCategory> BY_NAME = new HashMap<>();
+
+    static {
+        for (ItemCategory category : VALUES) {
+            BY_NAME.put(category.name, category);
+        }
+    }
+
+    private final String name;
+
+    ItemCategory(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /*
+     * 알 수 없는 category 면 null
+     */
+    public static ItemCategory of(String name) {
+        return BY_NAME.get(name);
+    }
+
+    public static ItemCategory of(int ordinal) {
+        if (ordinal < 0 || ordinal >= VALUES.length) {
+            throw new IllegalArgumentException("unknown item category ordinal : " + ordinal);
+        }
+        return VALUES[ordinal];
+    }
+}
@@ -0,0 +1,73 @@
+package com.explorer.realtime.global.component.state.codec;
+
+import org.springframework.stereotype.Component;
+
+/*
+ * mapData:{channelId}:{mapId} hash value codec
+ * - 기존 형식 : {itemCategory}:{isFarmable|notFarmable}:{itemId}
+ * - packed 형식 : [category 6bit][isFarmable 1bit][itemId 24bit] (하위 bit 부터)
+ * - field (position) 는 client 와 주고받는 식별자이므로 그대로 둔다
+ */
+@Component
+public class MapObjectCodec implements StateCodec {
+
+    private static final String KEY_PREFIX = "mapData:";
+    private static final String FARMABLE = "isFarmable";
+    private static final String NOT_FARMABLE = "notFarmable";
+
+    private static final int FARMABLE_SHIFT = ItemCategory.BITS;
+    private static final int ID_SHIFT = FARMABLE_SHIFT + 1;
+    private static final int ID_BITS = 24;
+    private static final int MAX_ID = (1 << ID_BITS) - 1;
+
+    @Override
+    public boolean supports(String key) {
+        return key.startsWith(KEY_PREFIX);
+    }
+
+    @Override
+    public String encode(String value) {
+        long packed = pack(value);
+        return packed < 0 ? value : Long.toString(packed);
+    }
+
+    @Override
+    public String decode(String value) {
+        return PackedFields.isPacked(value) ? unpack(Long.parseLong(value)) : value;
+    }
+
+    /*
+     * 기존 형식 -> packed, 변환할 수 없으면 -1
+     */
+    public static long pack(String value) {
+        int first = value.indexOf(':');
+        int second = first < 0 ? -1 : value.indexOf(':', first + 1);
+        if (second < 0 || value.indexOf(':', second + 1) >= 0) {
+            return -1;
+        }
+        ItemCategory category = ItemCategory.of(value.substring(0, first));
+        int farmable;
+        if (value.startsWith(FARMABLE, first + 1) && second - first - 1 == FARMABLE.length()) {
+            farmable = 1;
+        } else if (value.startsWith(NOT_FARMABLE, first + 1) && second - first - 1 == NOT_FARMABLE.length()) {
+            farmable = 0;
+        } else {
+            return -1;
+        }
+        int itemId = PackedFields.parseUnsigned(value, second + 1, value.length(), MAX_ID);
+        if (category == null || itemId < 0) {
+            return -1;
+        }
+        return category.ordinal()
+                | (long) farmable << FARMABLE_SHIFT
+                | (long) itemId << ID_SHIFT;
+    }
+
+    public static String unpack(long packed) {
+        ItemCategory category = ItemCategory.of((int) PackedFields.bits(packed, 0, ItemCategory.BITS));
+        boolean farmable = PackedFields.bits(packed, FARMABLE_SHIFT, 1) == 1;
+        return category.getName()
+                + ':' + (farmable ? FARMABLE : NOT_FARMABLE)
+                + ':' + PackedFields.bits(packed, ID_SHIFT, ID_BITS);
+    }
+}
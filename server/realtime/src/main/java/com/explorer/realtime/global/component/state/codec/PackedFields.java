@@ -0,0 +1,49 @@
+package com.explorer.realtime.global.component.state.codec;
+
+/*
+ * ':' 로 구분된 value 를 split 없이 읽기 위한 helper
+ */
+final class PackedFields {
+
+    private PackedFields() {
+    }
+
+    /*
+     * 숫자로만 이루어진 값이면 packed 형식 (기존 형식은 category 문자열로 시작한다)
+     */
+    static boolean isPacked(String value) {
+        int length = value.length();
+        if (length == 0 || length > 19) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * [from, to) 구간의 음이 아닌 정수, 숫자가 아니거나 max 를 넘으면 -1
+     */
+    static int parseUnsigned(String value, int from, int to, int max) {
+        if (from >= to || to - from > 9) {
+            return -1;
+        }
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result > max ? -1 : result;
+    }
+
+    static long bits(long packed, int shift, int bits) {
+        return (packed >>> shift) & ((1L << bits) - 1);
+    }
+}
@@ -0,0 +1,15 @@
+package com.explorer.realtime.global.component.state.codec;
+
+/*
+ * GameStateEngine 이 redis hash value 를 읽고 쓸 때 적용하는 codec
+ * - 메모리(ChannelState)에는 항상 기존 문자열 형식의 value 를 두고, redis 에 기록할 때만 encode 한다
+ * - decode 는 encode 된 값과 기존 문자열 형식의 값을 모두 받아야 한다 (migration 전 key 호환)
+ */
+public interface StateCodec {
+
+    boolean supports(String key);
+
+    String encode(String value);
+
+    String decode(String value);
+}
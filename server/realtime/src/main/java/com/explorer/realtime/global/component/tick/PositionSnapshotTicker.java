@@ -0,0 +1,180 @@
+package com.explorer.realtime.global.component.tick;
+
+import com.explorer.realtime.global.component.broadcasting.Broadcasting;
+import com.explorer.realtime.global.component.broadcasting.MapPresence;
+import com.explorer.realtime.global.component.codec.WireMessage;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/*
+ * 위치 event (move, broadcastPosition) 를 channel 단위 tick 으로 모아서 전송하는 scheduler
+ * - tick 사이에 들어온 위치는 key (eventName:userId) 별로 마지막 값만 남긴다
+ * - 직전 tick 에 보낸 값과 같은 위치는 다시 보내지 않는다 (skip-if-unchanged)
+ * - tick 마다 channel, map 별로 모인 메시지를 하나의 frame 으로 묶어 그 map 에 있는 connection 에 한 번만 write 한다
+ *   (frame 안의 각 메시지는 기존과 동일한 event 한 줄이므로 client 처리 방식은 바뀌지 않는다)
+ * - player 가 channel 을 떠나면 (MapPresence.leave) 그 player 의 위치를 버린다 : resync 때 다시 보내지 않도록
+ * - tick.rate-hz 가 0 이면 tick 없이 즉시 broadcast 한다
+ */
+@Component
+public class PositionSnapshotTicker {
+
+    private static final Logger log = LoggerFactory.getLogger(PositionSnapshotTicker.class);
+    private static final long IDLE_EVICT_MILLIS = 60_000;
+
+    private final Broadcasting broadcasting;
+    private final int rateHz;
+    private final ConcurrentHashMap<String, ChannelState> channels = new ConcurrentHashMap<>();
+    private Disposable ticker;
+
+    public PositionSnapshotTicker(Broadcasting broadcasting, MapPresence mapPresence, @Value("${tick.rate-hz:20}") int rateHz) {
+        this.broadcasting = broadcasting;
+        this.rateHz = rateHz;
+        mapPresence.addLeaveListener(this::leave);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (rateHz <= 0) {
+            log.info("[start] position tick disabled");
+            return;
+        }
+        ticker = Flux.interval(Duration.ofMillis(1000L / rateHz), Schedulers.parallel())
+                .onBackpressureDrop()
+                .subscribe(seq -> tick());
+        log.info("[start] position tick rate : {}Hz", rateHz);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (ticker != null) {
+            ticker.dispose();
+        }
+    }
+
+    /*
+     * key : 같은 key 의 이전 값은 다음 tick 전까지 덮어쓴다
+     * state : 직전에 보낸 값과 비교하기 위한 값 (mapId, position 등)
+     * message : tick 시점에 한 번만 생성되며 mapId 에 있는 player 에게만 전송된다
+     */
+    public void update(String channelId, int mapId, String key, String state, Supplier<WireMessage> message) {
+        if (rateHz <= 0) {
+            broadcasting.broadcastingToMap(channelId, mapId, message.get()).subscribe();
+            return;
+        }
+        long now = System.currentTimeMillis();
+        channels.compute(channelId, (id, channel) -> {
+            if (channel == null) {
+                channel = new ChannelState();
+            }
+            channel.pending.put(key, new Pending(mapId, state, message));
+            channel.lastUpdated = now;
+            return channel;
+        });
+    }
+
+    /*
+     * mapId 에 새로 들어온 player 가 있으면 다음 tick 에 그 map 의 마지막 위치들을 다시 보낸다
+     * (다른 map 에 있는 동안에는 위치를 받지 않았으므로)
+     */
+    public void resync(String channelId, int mapId) {
+        ChannelState channel = channels.get(channelId);
+        if (channel != null) {
+            channel.resync.add(mapId);
+        }
+    }
+
+    /*
+     * userId 가 null 이면 channel 전체를 버린다
+     * lastSent 는 tick 에서만 접근하므로 떠난 userId 를 기록해 두고 다음 tick 에서 지운다
+     */
+    void leave(String channelId, Long userId) {
+        if (userId == null) {
+            channels.remove(channelId);
+            return;
+        }
+        ChannelState channel = channels.get(channelId);
+        if (channel != null) {
+            String suffix = ":" + userId;
+            channel.pending.keySet().removeIf(key -> key.endsWith(suffix));
+            channel.left.add(suffix);
+        }
+    }
+
+    /*
+     * tick 은 하나의 thread 에서 순서대로 실행되므로 lastSent 는 tick 에서만 접근한다
+     */
+    void tick() {
+        long now = System.currentTimeMillis();
+        channels.forEach((channelId, channel) -> {
+            for (String suffix : channel.left) {
+                channel.left.remove(suffix);
+                channel.lastSent.keySet().removeIf(key -> key.endsWith(suffix));
+            }
+            if (channel.pending.isEmpty() && channel.resync.isEmpty()) {
+                if (now - channel.lastUpdated > IDLE_EVICT_MILLIS) {
+                    channels.computeIfPresent(channelId, (id, current) ->
+                            current.pending.isEmpty() && now - current.lastUpdated > IDLE_EVICT_MILLIS ? null : current);
+                }
+                return;
+            }
+
+            Map<Integer, List<WireMessage>> messages = new HashMap<>();
+            for (Map.Entry<String, Pending> entry : channel.pending.entrySet()) {
+                String key = entry.getKey();
+                Pending pending = entry.getValue();
+                channel.pending.remove(key, pending);
+                Sent previous = channel.lastSent.get(key);
+                if (previous != null && previous.mapId == pending.mapId && previous.state.equals(pending.state)) {
+                    continue;
+                }
+                WireMessage message = pending.message.get();
+                channel.lastSent.put(key, new Sent(pending.mapId, pending.state, message));
+                messages.computeIfAbsent(pending.mapId, mapId -> new ArrayList<>()).add(message);
+            }
+
+            for (Integer mapId : channel.resync) {
+                channel.resync.remove(mapId);
+                List<WireMessage> batch = messages.computeIfAbsent(mapId, id -> new ArrayList<>());
+                channel.lastSent.values().stream()
+                        .filter(sent -> sent.mapId == mapId && !batch.contains(sent.message))
+                        .forEach(sent -> batch.add(sent.message));
+            }
+
+            messages.forEach((mapId, batch) -> broadcasting.broadcastingToMap(channelId, mapId, batch)
+                    .subscribe(
+                            unused -> {},
+                            error -> log.warn("[tick] channelId : {}, mapId : {}, error : {}", channelId, mapId, error.getMessage())
+                    ));
+        });
+    }
+
+    private static class ChannelState {
+        private final ConcurrentHashMap<String, Pending> pending = new ConcurrentHashMap<>();
+        private final Set<Integer> resync = ConcurrentHashMap.newKeySet();
+        private final Set<String> left = ConcurrentHashMap.newKeySet();         // 떠난 player 의 key suffix (":userId")
+        private final Map<String, Sent> lastSent = new HashMap<>();
+        private volatile long lastUpdated;
+    }
+
+    private record Pending(int mapId, String state, Supplier<WireMessage> message) {
+    }
+
+    private record Sent(int mapId, String state, WireMessage message) {
+    }
+}
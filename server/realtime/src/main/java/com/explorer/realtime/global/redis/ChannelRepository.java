@@ -1,5 +1,7 @@
 package com.explorer.realtime.global.redis;
 
+import com.explorer.realtime.global.component.broadcasting.MapPresence;
+import com.explorer.realtime.global.component.session.ChannelMembership;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.ReactiveHashOperations;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
@@ -7,23 +9,68 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 @Repository
 public class ChannelRepository {
 
     private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
     private final ReactiveHashOperations<String, Object, Object> reactiveHashOperations;
+    private final ChannelMembership channelMembership;
+    private final MapPresence mapPresence;
 
     private static final String KEY_PREFIX = "channel:";
 
-    public ChannelRepository(@Qualifier("channelReactiveRedisTemplate")ReactiveRedisTemplate<String, Object> reactiveRedisTemplate) {
+    public ChannelRepository(@Qualifier("channelReactiveRedisTemplate")ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
+                             ChannelMembership channelMembership,
+                             MapPresence mapPresence) {
         this.reactiveRedisTemplate = reactiveRedisTemplate;
         this.reactiveHashOperations = reactiveRedisTemplate.opsForHash();
+        this.channelMembership = channelMembership;
+        this.mapPresence = mapPresence;
     }
 
     public Mono<Boolean> save(String channelId, Long userId, int mapId) {
-        return reactiveHashOperations.put(KEY_PREFIX + channelId, String.valueOf(userId), String.valueOf(mapId));
+        return reactiveHashOperations.put(KEY_PREFIX + channelId, String.valueOf(userId), String.valueOf(mapId))
+                .doOnSuccess(result -> channelMembership.join(channelId, userId));
+    }
+
+    /*
+     * 대기방(teamCode)의 멤버 전체를 게임 channel 로 옮긴다 : 새 channel 저장과 대기방 삭제를 하나의 batch 로 보낸다
+     * members : {userId} -> {mapId}
+     */
+    public Mono<Void> transfer(String fromChannelId, String toChannelId, Map<Object, Object> members) {
+        Map<String, String> entries = new HashMap<>();
+        members.forEach((userId, mapId) -> entries.put(String.valueOf(userId), String.valueOf(mapId)));
+        return RedisBatch.on(reactiveRedisTemplate)
+                .hash(KEY_PREFIX + toChannelId, entries)
+                .delete(KEY_PREFIX + fromChannelId)
+                .execute()
+                .doOnSuccess(result -> {
+                    entries.keySet().forEach(userId -> channelMembership.join(toChannelId, Long.valueOf(userId)));
+                    channelMembership.remove(fromChannelId);
+                    mapPresence.remove(fromChannelId);
+                });
+    }
+
+    /*
+     * channel 에 속한 userId 목록 : local cache 에 있으면 redis 를 조회하지 않는다
+     */
+    public Mono<Set<Long>> findMemberIds(String channelId) {
+        Set<Long> members = channelMembership.getMembers(channelId);
+        if (members != null) {
+            return Mono.just(members);
+        }
+
+        long generation = channelMembership.generation();
+        return findAllFields(channelId)
+                .map(field -> Long.valueOf(String.valueOf(field)))
+                .collect(HashSet<Long>::new, Set::add)
+                .doOnNext(userIds -> channelMembership.load(channelId, userIds, generation))
+                .map(userIds -> (Set<Long>) userIds);
     }
 
     public Mono<Map<Object, Object>> findAll(String channelId) {
@@ -35,11 +82,19 @@ public class ChannelRepository {
     }
 
     public Mono<Boolean> deleteAll(String channelId) {
-        return reactiveHashOperations.delete(KEY_PREFIX + channelId);
+        return reactiveHashOperations.delete(KEY_PREFIX + channelId)
+                .doOnSuccess(result -> {
+                    channelMembership.remove(channelId);
+                    mapPresence.remove(channelId);
+                });
     }
 
     public Mono<Long> deleteByUserId(String channelId, Long userId) {
-        return reactiveHashOperations.remove(KEY_PREFIX + channelId, String.valueOf(userId));
+        return reactiveHashOperations.remove(KEY_PREFIX + channelId, String.valueOf(userId))
+                .doOnSuccess(result -> {
+                    channelMembership.leave(channelId, userId);
+                    mapPresence.leave(channelId, userId);
+                });
     }
 
     public Mono<Long> count(String channelId) {
@@ -0,0 +1,68 @@
+package com.explorer.realtime.global.redis;
+
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/*
+ * 하나의 논리적인 쓰기(hash 전체, list 전체, 여러 key)를 모아서 한 번에 보내는 batch
+ * - hash 는 HSET 한 번(putAll), list 는 RPUSH 한 번(rightPushAll)으로 보낸다
+ * - execute 시 모든 명령을 응답을 기다리지 않고 연달아 보내므로 공유 connection 에서 pipeline 으로 전송된다
+ *   (같은 key 에 대한 명령은 추가한 순서대로 실행된다)
+ *
+ * RedisBatch.on(reactiveRedisTemplate)
+ *         .hash("playerInfoData:" + channelId + ":" + userId, Map.of("nickname", nickname, "avatar", "1"))
+ *         .list("map1", positions)
+ *         .execute();
+ */
+public class RedisBatch {
+
+    private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+    private final List<Supplier<Mono<?>>> commands = new ArrayList<>();
+
+    private RedisBatch(ReactiveRedisTemplate<String, Object> reactiveRedisTemplate) {
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+    }
+
+    public static RedisBatch on(ReactiveRedisTemplate<String, Object> reactiveRedisTemplate) {
+        return new RedisBatch(reactiveRedisTemplate);
+    }
+
+    public RedisBatch hash(String key, Map<String, ?> entries) {
+        if (!entries.isEmpty()) {
+            commands.add(() -> reactiveRedisTemplate.opsForHash().putAll(key, entries));
+        }
+        return this;
+    }
+
+    public RedisBatch list(String key, Collection<?> values) {
+        if (!values.isEmpty()) {
+            List<Object> items = new ArrayList<>(values);
+            commands.add(() -> reactiveRedisTemplate.opsForList().rightPushAll(key, items));
+        }
+        return this;
+    }
+
+    public RedisBatch value(String key, Object value) {
+        commands.add(() -> reactiveRedisTemplate.opsForValue().set(key, value));
+        return this;
+    }
+
+    public RedisBatch delete(String key) {
+        commands.add(() -> reactiveRedisTemplate.delete(key));
+        return this;
+    }
+
+    public int size() {
+        return commands.size();
+    }
+
+    public Mono<Void> execute() {
+        return Mono.defer(() -> Mono.when(commands.stream().map(Supplier::get).toList()));
+    }
+}
@@ -0,0 +1,116 @@
+package com.explorer.realtime.global.util;
+
+import com.explorer.realtime.global.common.dto.Message;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.ByteBufUtil;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+/*
+ * Message 를 JSON 한 줄('\n' 포함)로 ByteBuf 에 직접 기록하는 encoder
+ * MessageConverter 의 Jackson -> String -> JSONObject -> String 변환을 거치지 않는다
+ * - header : Message.encodedPrefix() (eventName, castingType 별로 미리 encode 된 byte)
+ * - body : 값이 String / Number / Boolean 인 Map 은 직접 기록, 그 외 객체는 Jackson 으로 buffer 에 바로 기록
+ */
+@Slf4j
+public final class MessageEncoder {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+
+    private MessageEncoder() {
+    }
+
+    public static ByteBuf encode(Message<?> message, ByteBufAllocator allocator) {
+        ByteBuf buf = allocator.buffer(256);
+        try {
+            encode(message, buf);
+            return buf;
+        } catch (RuntimeException e) {
+            buf.release();
+            throw e;
+        }
+    }
+
+    /*
+     * 기존 buffer 뒤에 이어서 기록 (여러 메시지를 한 번에 전송할 때 사용)
+     */
+    public static void encode(Message<?> message, ByteBuf buf) {
+        buf.writeBytes(message.encodedPrefix());
+        writeBody(buf, message.getDataBody());
+        buf.writeByte('}');
+        buf.writeByte('\n');
+    }
+
+    public static ByteBuf encode(Message<?> message) {
+        return encode(message, ByteBufAllocator.DEFAULT);
+    }
+
+    private static void writeBody(ByteBuf buf, Object body) {
+        if (body == null) {
+            buf.writeBytes(NULL);
+        } else if (body instanceof Map<?, ?> map && isFlat(map)) {
+            writeFlatMap(buf, map);
+        } else {
+            try (ByteBufOutputStream out = new ByteBufOutputStream(buf)) {
+                objectMapper.writeValue((OutputStream) out, body);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static boolean isFlat(Map<?, ?> map) {
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            Object value = entry.getValue();
+            if (!(value == null || value instanceof CharSequence || value instanceof Number || value instanceof Boolean)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * 이동, 위치, 파밍 등 hot event body (예: {"userId":1,"mapId":1,"position":"1:0:1"}) 전용 writer
+     */
+    private static void writeFlatMap(ByteBuf buf, Map<?, ?> map) {
+        buf.writeByte('{');
+        boolean first = true;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (!first) {
+                buf.writeByte(',');
+            }
+            first = false;
+            writeString(buf, String.valueOf(entry.getKey()));
+            buf.writeByte(':');
+
+            Object value = entry.getValue();
+            if (value == null) {
+                buf.writeBytes(NULL);
+            } else if (value instanceof CharSequence str) {
+                writeString(buf, str.toString());
+            } else if (value instanceof Double d && (d.isNaN() || d.isInfinite())
+                    || value instanceof Float f && (f.isNaN() || f.isInfinite())) {
+                writeString(buf, value.toString());
+            } else {
+                ByteBufUtil.writeAscii(buf, value.toString());
+            }
+        }
+        buf.writeByte('}');
+    }
+
+    private static void writeString(ByteBuf buf, String value) {
+        buf.writeByte('"');
+        ByteBufUtil.writeUtf8(buf, new String(JsonStringEncoder.getInstance().quoteAsString(value)));
+        buf.writeByte('"');
+    }
+}
@@ -0,0 +1,102 @@
+package com.explorer.realtime.initializing.event;
+
+import com.explorer.realtime.global.component.state.codec.StateCodec;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * 기존 문자열 형식으로 저장된 inventoryData:* / mapData:* hash value 를 StateCodec 의 packed 형식으로 변환
+ * - GameStateEngine 은 두 형식을 모두 읽으므로 서버를 내리지 않고 실행할 수 있다
+ * - 읽은 뒤 값이 바뀐 field 는 건너뛴다 (hash-migrate.lua) : 변경된 값은 다음 flush 때 packed 형식으로 기록된다
+ * - game-state.packed-migration: true 이면 서버 시작 시 실행
+ */
+@Slf4j
+@Service
+public class PackedStateMigration {
+
+    private static final List<String> PATTERNS = List.of("inventoryData:*", "mapData:*");
+    private static final RedisScript<Long> HASH_MIGRATE = RedisScript.of(new ClassPathResource("scripts/hash-migrate.lua"), Long.class);
+    private static final SerializationPair<Long> LONG_RESULT = SerializationPair.fromSerializer(new GenericToStringSerializer<>(Long.class));
+
+    private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+    private final List<StateCodec> codecs;
+    private final boolean enabled;
+
+    public PackedStateMigration(@Qualifier("gameReactiveRedisTemplate") ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
+                                List<StateCodec> codecs,
+                                @Value("${game-state.packed-migration:false}") boolean enabled) {
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.codecs = codecs;
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    public void migrateOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        migrate().subscribe(
+                count -> log.info("[migrateOnStartup] migrated fields : {}", count),
+                error -> log.error("[migrateOnStartup] error : {}", error.getMessage())
+        );
+    }
+
+    /*
+     * 변환한 field 수를 반환
+     */
+    public Mono<Long> migrate() {
+        return Flux.fromIterable(PATTERNS)
+                .concatMap(pattern -> reactiveRedisTemplate.scan(ScanOptions.scanOptions().match(pattern).count(500).build()))
+                .flatMap(this::migrateKey, 8)
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<Long> migrateKey(String key) {
+        StateCodec codec = codecs.stream().filter(c -> c.supports(key)).findFirst().orElse(null);
+        if (codec == null) {
+            return Mono.just(0L);
+        }
+        return reactiveRedisTemplate.opsForHash().entries(key)
+                .collectList()
+                .flatMap(entries -> {
+                    List<ByteBuffer> args = new ArrayList<>();
+                    entries.forEach(entry -> {
+                        String value = String.valueOf(entry.getValue());
+                        String encoded = codec.encode(value);
+                        if (!encoded.equals(value)) {
+                            args.add(utf8(String.valueOf(entry.getKey())));
+                            args.add(utf8(value));
+                            args.add(utf8(encoded));
+                        }
+                    });
+                    if (args.isEmpty()) {
+                        return Mono.just(0L);
+                    }
+                    return reactiveRedisTemplate.execute(HASH_MIGRATE, List.of(key), args, SerializationPair.byteBuffer().getWriter(), LONG_RESULT.getReader())
+                            .next()
+                            .defaultIfEmpty(0L);
+                })
+                .doOnError(error -> log.error("[migrateKey] key : {}, error : {}", key, error.getMessage()))
+                .onErrorResume(error -> Mono.just(0L));
+    }
+
+    private static ByteBuffer utf8(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,8 +1,8 @@
 package com.explorer.realtime.initializing.repository;
 
+import com.explorer.realtime.global.redis.RedisBatch;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
-import org.springframework.data.redis.core.ReactiveValueOperations;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -22,10 +22,10 @@ public class MapRepository {
 
     public Mono<Long> saveMapData(Integer mapId, List<String> positions) {
         String key = KEY_PREFIX + mapId;
-        return Flux.fromIterable(positions)
-                .flatMap(position -> reactiveRedisTemplate.opsForList().rightPush(key, position))
-                .count();
-//        return reactiveRedisTemplate.opsForList().rightPush(KEY_PREFIX + mapId, positions);
+        return RedisBatch.on(reactiveRedisTemplate)
+                .list(key, positions)
+                .execute()
+                .thenReturn((long) positions.size());
     }
 
     public Flux<String> findMapData(Integer mapId) {
@@ -1,6 +1,8 @@
 package com.explorer.realtime.servermanaging;
 
+import com.explorer.realtime.global.component.session.SessionContext;
 import com.explorer.realtime.global.component.session.SessionManager;
+import com.explorer.realtime.global.component.session.SessionResume;
 import com.explorer.realtime.sessionhandling.disconnect.event.LeaveGame;
 import com.explorer.realtime.sessionhandling.waitingroom.repository.UserRepository;
 import io.netty.channel.ChannelHandlerAdapter;
@@ -20,6 +22,7 @@ public class ConnectionHandler implements Consumer<Connection> {
     private final UserRepository userRepository;
     private final SessionManager sessionManager;
     private final LeaveGame leaveGame;
+    private final SessionResume sessionResume;
 
     @Override
     public void accept(Connection connection) {
@@ -35,6 +38,28 @@ public class ConnectionHandler implements Consumer<Connection> {
             public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
                 super.handlerRemoved(ctx);
                 Long userId = sessionManager.getUid(connection);
+                SessionContext context = SessionContext.find(connection);
+                if (context != null && context.getUserId() == null) {     // endGame / 대기실 퇴장으로 이미 나간 session
+                    log.info("Client disconnected after leaving : {}", connection.address());
+                    return;
+                }
+                if (context != null) {     // session 정보가 있으면 redis 조회 없이 처리
+                    if (context.isInGame()) {
+                        log.info("[INGAME] Client leaved >> userId:{}, channelId:{}", context.getUserId(), context.getChannelId());
+                        String channelId = context.getChannelId();
+                        Long leavedUserId = context.getUserId();
+                        Runnable leave = () -> leaveGame.process(channelId, leavedUserId).subscribe();
+                        if (!sessionResume.detach(leavedUserId, connection, leave)) {      // resume token 이 있으면 grace 뒤에 leave
+                            leave.run();
+                        }
+                    } else {
+                        log.info("[WAITINGROOM] Client leaved >> userId:{}, channelId:{}", context.getUserId(), context.getChannelId());
+                    }
+                    return;
+                }
+                if (userId == null) {
+                    return;
+                }
                 userRepository.findAll(userId).subscribe(userInfo -> {
                     String channelId = String.valueOf(userInfo.get("channelId"));
                     String isInGame = String.valueOf(userInfo.get("mapId"));
@@ -0,0 +1,180 @@
+package com.explorer.realtime.servermanaging;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.util.ByteProcessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/*
+ * TCP 스트림을 메시지 단위(frame)로 분리하는 decoder
+ * - 텍스트 모드 : '\n' 으로 구분된 JSON 한 줄 또는 '\n' 없이 이어 붙인 JSON object -> String
+ *   - Unity client 는 요청 끝에 '\n' 을 붙이지 않으므로 top-level '{' ... '}' 의 괄호 깊이가 0 으로 돌아오면 frame 으로 끊는다
+ *   - 문자열 안의 괄호와 escape (\", \\) 는 깊이에 세지 않는다
+ * - 바이너리 모드 : [BINARY_MARKER(1byte)][length(4byte)][payload] -> ByteBuf
+ * 한 번의 read 에 여러 메시지가 합쳐지거나 한 메시지가 여러 read 로 나뉘어 들어와도 frame 단위로 복원한다
+ */
+public class FrameDecoder extends ByteToMessageDecoder {
+
+    private static final Logger log = LoggerFactory.getLogger(FrameDecoder.class);
+
+    public static final String NAME = "frameDecoder";
+    public static final byte BINARY_MARKER = 0x00;
+    private static final int BINARY_HEADER_SIZE = 5;
+
+    private final int maxFrameLength;
+    private final ByteProcessor textScanner = this::scanText;
+    private boolean discardingLine;
+    private long bytesToDiscard;
+
+    /* 텍스트 frame 을 어디까지 읽었는지 (read 사이에 유지, 처음부터 다시 scan 하지 않는다) */
+    private int scannedLength;
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+
+    public FrameDecoder(int maxFrameLength) {
+        this.maxFrameLength = maxFrameLength;
+    }
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+        if (bytesToDiscard > 0) {
+            int skip = (int) Math.min(bytesToDiscard, in.readableBytes());
+            in.skipBytes(skip);
+            bytesToDiscard -= skip;
+            return;
+        }
+
+        if (discardingLine) {
+            discardLine(in);
+            return;
+        }
+
+        if (in.getByte(in.readerIndex()) == BINARY_MARKER) {
+            decodeBinary(ctx, in, out);
+        } else {
+            decodeLine(in, out);
+        }
+    }
+
+    /*
+     * 괄호 깊이 0 에서의 '\n' 또는 top-level object 의 닫는 '}' 까지를 하나의 JSON frame 으로 읽는다 ('\r\n', 빈 줄 허용)
+     */
+    private void decodeLine(ByteBuf in, List<Object> out) {
+        int start = in.readerIndex();
+        int end = findFrameEnd(in, Math.min(in.readableBytes(), maxFrameLength + 2));
+
+        if (end < 0) {
+            if (in.readableBytes() > maxFrameLength + 1) {
+                log.warn("[decodeLine] frame exceeds max length : {}", maxFrameLength);
+                discardingLine = true;
+                in.skipBytes(in.readableBytes());
+                scannedLength = 0;
+            }
+            return;
+        }
+
+        int length = end - start;
+        while (length > 0 && (in.getByte(start + length - 1) == '\n' || in.getByte(start + length - 1) == '\r')) {
+            length--;
+        }
+        if (length > maxFrameLength) {
+            log.warn("[decodeLine] frame exceeds max length : {}", maxFrameLength);
+        } else if (length > 0) {
+            out.add(in.toString(start, length, StandardCharsets.UTF_8));
+        }
+        in.readerIndex(end);
+    }
+
+    /*
+     * 너무 긴 frame 은 끝날 때까지 (같은 규칙으로) 버린다
+     */
+    private void discardLine(ByteBuf in) {
+        int end = findFrameEnd(in, in.readableBytes());
+        if (end < 0) {
+            in.skipBytes(in.readableBytes());
+            scannedLength = 0;
+            return;
+        }
+        in.readerIndex(end);
+        discardingLine = false;
+    }
+
+    /*
+     * readerIndex 부터 length byte 안에서 frame 이 끝나는 위치 (마지막 byte 다음 index), 없으면 -1
+     */
+    private int findFrameEnd(ByteBuf in, int length) {
+        int start = in.readerIndex();
+        int last = length <= scannedLength ? -1 : in.forEachByte(start + scannedLength, length - scannedLength, textScanner);
+        if (last < 0) {
+            scannedLength = Math.max(scannedLength, length);
+            return -1;
+        }
+        scannedLength = 0;
+        depth = 0;
+        inString = false;
+        escaped = false;
+        return last + 1;
+    }
+
+    /*
+     * frame 의 마지막 byte 에서 false
+     */
+    private boolean scanText(byte b) {
+        if (inString) {
+            if (escaped) {
+                escaped = false;
+            } else if (b == '\\') {
+                escaped = true;
+            } else if (b == '"') {
+                inString = false;
+            }
+            return true;
+        }
+        switch (b) {
+            case '"':
+                inString = depth > 0;
+                return true;
+            case '{':
+                depth++;
+                return true;
+            case '}':
+                return depth == 0 || --depth > 0;
+            case '\n':
+                return depth > 0;
+            default:
+                return true;
+        }
+    }
+
+    private void decodeBinary(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+        if (in.readableBytes() < BINARY_HEADER_SIZE) {
+            return;
+        }
+
+        int length = in.getInt(in.readerIndex() + 1);
+        if (length < 0) {
+            log.error("[decodeBinary] invalid frame length : {}, close connection", length);
+            in.skipBytes(in.readableBytes());
+            ctx.close();
+            return;
+        }
+        if (length > maxFrameLength) {
+            log.warn("[decodeBinary] frame exceeds max length : {} > {}", length, maxFrameLength);
+            in.skipBytes(BINARY_HEADER_SIZE);
+            bytesToDiscard = length;
+            return;
+        }
+        if (in.readableBytes() < BINARY_HEADER_SIZE + length) {
+            return;
+        }
+
+        in.skipBytes(BINARY_HEADER_SIZE);
+        out.add(in.readRetainedSlice(length));
+    }
+}
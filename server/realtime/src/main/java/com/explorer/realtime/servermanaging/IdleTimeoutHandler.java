@@ -0,0 +1,62 @@
+package com.explorer.realtime.servermanaging;
+
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelPipeline;
+import io.netty.handler.timeout.IdleState;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.timeout.IdleStateHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.netty.Connection;
+import reactor.netty.NettyPipeline;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * IdleStateHandler 의 reader idle event 를 받으면 연결을 끊는다
+ * - heartbeat 를 보내는 client 에만 적용한다 : 첫 {"type":"heartbeat"} 를 받으면 그 connection 의 pipeline 에 추가 (enable)
+ *   (heartbeat 를 보내지 않는 client 는 대기실 / 게임에서 가만히 있어도 끊기지 않는다)
+ * - 이후 idle timeout 동안 아무 메시지도 받지 못하면 OS keepalive 보다 빨리 죽은 peer 를 정리하고,
+ *   게임 중이던 session 은 ConnectionHandler 가 resume 대기 상태로 남긴다
+ */
+public class IdleTimeoutHandler extends ChannelInboundHandlerAdapter {
+
+    public static final String NAME = "idleTimeout";
+    private static final String IDLE_STATE = "idleState";
+    private static final Logger log = LoggerFactory.getLogger(IdleTimeoutHandler.class);
+
+    /*
+     * timeout 이 0 이하이면 끄고, 이미 추가된 connection 은 그대로 둔다
+     */
+    public static void enable(Connection connection, Duration timeout) {
+        if (timeout.isZero() || timeout.isNegative()) {
+            return;
+        }
+        ChannelPipeline pipeline = connection.channel().pipeline();
+        if (pipeline.get(NAME) != null) {
+            return;
+        }
+        ChannelHandler idleState = new IdleStateHandler(timeout.toMillis(), 0, 0, TimeUnit.MILLISECONDS);
+        if (pipeline.get(NettyPipeline.ReactiveBridge) != null) {
+            pipeline.addBefore(NettyPipeline.ReactiveBridge, IDLE_STATE, idleState)
+                    .addBefore(NettyPipeline.ReactiveBridge, NAME, new IdleTimeoutHandler());
+        } else {
+            pipeline.addLast(IDLE_STATE, idleState)
+                    .addLast(NAME, new IdleTimeoutHandler());
+        }
+        log.info("[enable] idle timeout : {}, remote : {}", timeout, connection.address());
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        if (evt instanceof IdleStateEvent event && event.state() == IdleState.READER_IDLE) {
+            log.info("[userEventTriggered] idle timeout, remote : {}", ctx.channel().remoteAddress());
+            ctx.close();
+            return;
+        }
+        super.userEventTriggered(ctx, evt);
+    }
+}
@@ -2,20 +2,40 @@ package com.explorer.realtime.servermanaging;
 
 import com.explorer.realtime.channeldatahandling.ChannelDataHandler;
 import com.explorer.realtime.gamedatahandling.GameDataHandler;
+import com.explorer.realtime.global.common.dto.Message;
+import com.explorer.realtime.global.common.enums.CastingType;
+import com.explorer.realtime.global.component.broadcasting.Unicasting;
+import com.explorer.realtime.global.component.cluster.ClusterNode;
+import com.explorer.realtime.global.component.cluster.ClusterRegistry;
+import com.explorer.realtime.global.component.codec.BinaryCodec;
+import com.explorer.realtime.global.component.codec.ProtocolVersion;
+import com.explorer.realtime.global.component.session.SessionContext;
+import com.explorer.realtime.global.component.session.SessionResume;
 import com.explorer.realtime.initializing.event.InitializeHandler;
 import com.explorer.realtime.sessionhandling.ingame.InGameSessionHandler;
 import com.explorer.realtime.sessionhandling.waitingroom.WaitingRoomSessionHandler;
 import com.explorer.realtime.staticdatahandling.StaticDataHandler;
+import io.netty.buffer.ByteBuf;
 import lombok.RequiredArgsConstructor;
+import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
 import reactor.netty.NettyInbound;
 import reactor.netty.NettyOutbound;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 @Component
 @RequiredArgsConstructor
 public class RequestHandler {
@@ -28,23 +48,47 @@ public class RequestHandler {
     private final ChannelDataHandler channelDataHandler;
     private final InitializeHandler initializeHandler;
     private final StaticDataHandler staticDataHandler;
+    private final Unicasting unicasting;
+    private final ClusterRegistry clusterRegistry;
+    private final SessionResume sessionResume;
+
+    @Value("${tcp.idle-timeout:30s}")
+    private Duration idleTimeout;
 
     public Mono<Void> handleRequest(NettyInbound inbound, NettyOutbound outbound) {
 
         return inbound
-                .receive()                                      // 1) receive data
-                .asString()                                     // 2) convert data : byte -> string
-                .flatMap(msg -> {                               // 3) process data
+                .receiveObject()                                // 1) receive frame decoded by FrameDecoder
+                .flatMap(frame -> {                             // 2) process data
                     try{
-                        JSONObject json = new JSONObject(msg);      // parse string to json
+                        JSONObject json = frameToJson(frame);       // parse frame to json
                         log.info("Received Json Data: {}", json);
 
                         inbound.withConnection(connection -> {
+                            SessionContext context = SessionContext.find(connection);
+                            if (context != null) {
+                                context.fill(json);     // client 가 생략한 userId / channelId
+                            }
                             String type = json.getString("type");
+                            if (("ingame".equals(type) || "ingameSession".equals(type)) && redirect(json, connection)) {
+                                return;
+                            }
 
                             switch(type) {
+                                case "protocol":
+                                    log.info("type : {}", type);
+                                    negotiateProtocol(json, connection);
+                                    break;
+
+                                case "heartbeat":
+                                    heartbeat(json, connection);
+                                    break;
+
                                 case "leave":
                                     log.info("type : {}", type);
+                                    if (json.has("userId")) {
+                                        sessionResume.revoke(json.getLong("userId"));     // 직접 나가면 resume 대기 없이 바로 leave
+                                    }
                                     connection.channel().disconnect();
                                     break;
 
@@ -73,6 +117,11 @@ public class RequestHandler {
                                     initializeHandler.initializeHandler(json).subscribe();
                                     break;
 
+                                case "cluster":
+                                    log.info("type : {}", type);
+                                    lookupNode(json, connection);
+                                    break;
+
                                 case "staticdata":
                                     log.info("type: {}", type);
                                     staticDataHandler.staticDataHandler(json);
@@ -82,12 +131,92 @@ public class RequestHandler {
                         });
 
                         return Mono.empty();
-                    } catch (JSONException e) {
+                    } catch (JSONException | IllegalArgumentException | IndexOutOfBoundsException e) {
                         log.error("ERROR : {}", e.getMessage());
                         return Mono.empty();
                     }
                 })
-                .then();                                        // 4) complete reactive sequence
+                .then();                                        // 3) complete reactive sequence
+
+    }
+
+    /*
+     * 텍스트 frame 은 String, 바이너리 frame 은 ByteBuf 로 전달된다
+     * ByteBuf 는 onNext 이후 reactor-netty 가 release 하므로 여기서 바로 변환한다
+     * 바이너리 frame 의 payload 는 JSON 또는 BinaryCodec 형식이다
+     */
+    private JSONObject frameToJson(Object frame) {
+        if (frame instanceof ByteBuf buf) {
+            if (BinaryCodec.isBinaryPayload(buf)) {
+                return BinaryCodec.decode(buf);
+            }
+            return new JSONObject(buf.toString(StandardCharsets.UTF_8));
+        }
+        return new JSONObject(String.valueOf(frame));
+    }
+
+    /*
+     * 파라미터 JSONObject json : {"type":"protocol", "version":{요청 버전}, "features":[{지원 기능}, ...] (생략 가능)}
+     * 협상된 버전과 feature 를 JSON 으로 응답하고, 이후 hot event 는 협상된 형식으로 주고받는다
+     */
+    private void negotiateProtocol(JSONObject json, Connection connection) {
+        int version = ProtocolVersion.negotiate(connection, json.optInt("version", ProtocolVersion.JSON));
+        JSONArray requested = json.optJSONArray("features");
+        List<String> names = new ArrayList<>();
+        if (requested != null) {
+            requested.forEach(feature -> names.add(String.valueOf(feature)));
+        }
+        Set<String> features = ProtocolVersion.negotiateFeatures(connection, names);
+        Long userId = json.optLong("userId");
+        log.info("[negotiateProtocol] userId : {}, version : {}, features : {}", userId, version, features);
+        unicasting.unicasting(connection, userId,
+                Message.success("protocol", CastingType.UNICASTING, Map.of("version", version, "features", features))
+        ).subscribe();
+    }
+
+    /*
+     * 파라미터 JSONObject json : {"type":"heartbeat"}
+     * 첫 heartbeat 에서 이 connection 의 idle timeout 을 켜고 (IdleTimeoutHandler), 이후 수신마다 timeout 이 초기화된다
+     * client 가 서버 생존을 확인할 수 있도록 서버 시각과 timeout 을 응답한다
+     */
+    private void heartbeat(JSONObject json, Connection connection) {
+        IdleTimeoutHandler.enable(connection, idleTimeout);
+        unicasting.unicasting(connection, json.optLong("userId"),
+                Message.success("heartbeat", CastingType.UNICASTING, Map.of("time", System.currentTimeMillis(), "idleTimeout", idleTimeout.toMillis()))
+        ).subscribe();
+    }
+
+    /*
+     * cluster 모드에서 이 노드가 담당하지 않는 channel 의 게임 요청은 처리하지 않고 담당 노드 주소를 응답한다 ("clusterRedirect")
+     * (rebalance 뒤 client 가 다시 접속하기 전에 두 노드가 같은 channel 상태를 따로 캐시하지 않도록)
+     */
+    private boolean redirect(JSONObject json, Connection connection) {
+        String channelId = json.optString("channelId");
+        if (!clusterRegistry.isEnabled() || channelId.isEmpty() || clusterRegistry.isLocal(channelId)) {
+            return false;
+        }
+        ClusterNode node = clusterRegistry.owner(channelId);
+        Long userId = json.optLong("userId");
+        log.info("[redirect] channelId : {}, userId : {}, node : {}", channelId, userId, node);
+        unicasting.unicasting(connection, userId,
+                Message.fail("clusterRedirect", CastingType.UNICASTING,
+                        Map.of("channelId", channelId, "nodeId", node.id(), "host", node.host(), "port", node.port()))
+        ).subscribe();
+        return true;
+    }
 
+    /*
+     * 파라미터 JSONObject json : {"type":"cluster", "key":{channelId 또는 teamCode}}
+     * key 를 담당하는 노드의 주소를 응답하고, client 는 그 노드로 접속한다
+     */
+    private void lookupNode(JSONObject json, Connection connection) {
+        String key = json.getString("key");
+        ClusterNode node = clusterRegistry.owner(key);
+        Long userId = json.optLong("userId");
+        log.info("[lookupNode] key : {}, node : {}", key, node);
+        unicasting.unicasting(connection, userId,
+                Message.success("clusterLookup", CastingType.UNICASTING,
+                        Map.of("key", key, "nodeId", node.id(), "host", node.host(), "port", node.port(), "local", clusterRegistry.isLocal(key)))
+        ).subscribe();
     }
 }
@@ -1,24 +1,38 @@
 package com.explorer.realtime.servermanaging;
 
+import com.explorer.realtime.global.component.outbound.OutboundMailbox;
+import com.explorer.realtime.global.component.outbound.OutboundMailboxes;
+import io.netty.channel.ChannelOption;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 import reactor.netty.DisposableServer;
+import reactor.netty.NettyPipeline;
 import reactor.netty.tcp.TcpServer;
 
 @Component
 @RequiredArgsConstructor
 public class ServerInitializer {
 
-    private static final int PORT = 1370;
-
     private final ConnectionHandler connectionHandler;
     private final RequestHandler requestHandler;
+    private final OutboundMailboxes outboundMailboxes;
+
+    @Value("${tcp.port:1370}")
+    private int port;
+
+    @Value("${tcp.max-frame-length:65536}")
+    private int maxFrameLength;
 
     public Mono<? extends DisposableServer> initializeServer() {
         return TcpServer
                 .create()                               // create TCPServer instance
-                .port(PORT)                             // set port
+                .port(port)                             // set port
+                .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, outboundMailboxes.getWaterMark())  // writability high / low watermark
+                .doOnChannelInit((observer, channel, address) -> channel.pipeline()
+                        .addBefore(NettyPipeline.ReactiveBridge, FrameDecoder.NAME, new FrameDecoder(maxFrameLength))        // split stream into frames
+                        .addBefore(NettyPipeline.ReactiveBridge, OutboundMailbox.NAME, outboundMailboxes.create()))         // batched outbound writes
                 .doOnConnection(connectionHandler)
                 .handle(requestHandler::handleRequest)  // set up a handler :: handling requests for network connection
                 .bind();                                // bind and start server
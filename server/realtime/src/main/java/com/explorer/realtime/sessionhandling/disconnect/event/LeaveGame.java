@@ -2,6 +2,7 @@ package com.explorer.realtime.sessionhandling.disconnect.event;
 
 import com.explorer.realtime.gamedatahandling.component.common.mapinfo.repository.CurrentMapRepository;
 import com.explorer.realtime.gamedatahandling.component.common.mapinfo.repository.MapObjectRepository;
+import com.explorer.realtime.gamedatahandling.component.common.mapinfo.transfer.MapTransfer;
 import com.explorer.realtime.gamedatahandling.component.personal.inventoryInfo.repository.InventoryRepository;
 import com.explorer.realtime.gamedatahandling.component.personal.playerInfo.repository.PlayerInfoRepository;
 import com.explorer.realtime.gamedatahandling.laboratory.repository.ElementLaboratoryRepository;
@@ -9,30 +10,24 @@ import com.explorer.realtime.gamedatahandling.tool.repository.ToolRepository;
 import com.explorer.realtime.global.common.dto.Message;
 import com.explorer.realtime.global.common.enums.CastingType;
 import com.explorer.realtime.global.component.broadcasting.Broadcasting;
+import com.explorer.realtime.global.component.checkpoint.ChannelCheckpoint;
 import com.explorer.realtime.global.component.session.SessionManager;
-import com.explorer.realtime.global.mongo.entity.*;
-import com.explorer.realtime.global.mongo.repository.InventoryDataMongoRepository;
-import com.explorer.realtime.global.mongo.repository.LaboratoryDataMongoRepository;
-import com.explorer.realtime.global.mongo.repository.LaboratoryLevelMongoRepository;
-import com.explorer.realtime.global.mongo.repository.MapDataMongoRepository;
 import com.explorer.realtime.global.redis.ChannelRepository;
-import com.explorer.realtime.global.util.MessageConverter;
 import com.explorer.realtime.sessionhandling.ingame.repository.LaboratoryLevelRepository;
 import com.explorer.realtime.sessionhandling.waitingroom.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.*;
+import java.util.HashMap;
+import java.util.Map;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class LeaveGame {
 
-    private final MapDataMongoRepository mapDataMongoRepository;
     private final MapObjectRepository mapObjectRepository;
     private final ChannelRepository channelRepository;
     private final UserRepository userRepository;
@@ -40,37 +35,47 @@ public class LeaveGame {
     private final SessionManager sessionManager;
     private final PlayerInfoRepository playerInfoRepository;
     private final InventoryRepository inventoryRepository;
-    private final InventoryDataMongoRepository inventoryDataMongoRepository;
     private final ElementLaboratoryRepository elementLaboratoryRepository;
-    private final LaboratoryDataMongoRepository laboratoryDataMongoRepository;
     private final CurrentMapRepository currentMapRepository;
     private final LaboratoryLevelRepository laboratoryLevelRepository;
-    private final LaboratoryLevelMongoRepository laboratoryLevelMongoRepository;
     private final ToolRepository toolRepository;
-
+    private final ChannelCheckpoint channelCheckpoint;
+    private final MapTransfer mapTransfer;
+
+    /*
+     * mongo 저장은 ChannelCheckpoint 가 background 에서 처리한다
+     * - 마지막 user : channel 전체 상태를 snapshot 으로 보관한 뒤 redis 정리
+     * - 그 외 : 나가는 user 의 인벤토리만 보관한 뒤 leaveGame broadcast
+     * - 보관이 실패해도 redis 정리와 broadcast 는 계속한다 (남겨 두면 channel 이 비지 않는다)
+     */
     public Mono<Void> process(String channelId, Long userId) {
         log.info("Leave game");
-        List<Integer> mapIds = Arrays.asList(1, 2, 3);
         Map<String, String> map = new HashMap<>();
         map.put("userId", String.valueOf(userId));
+        mapTransfer.forget(userId);
 
-        return saveInventory(channelId, userId)
-                .then(saveElementData(channelId))
-                .then(saveCompoundData(channelId))
-                .then(saveLabLevelData(channelId))
-                .then(saveMapData(channelId))
-                .then(userCount(channelId))
+        return userCount(channelId)
                 .flatMap(count -> {
                     if (count == 1) {
                         log.info("Only one user in channel {}", channelId);
-                        return deleteData(channelId, userId)
+                        return channelCheckpoint.close(channelId)
+                                .onErrorResume(error -> {
+                                    log.error("[process] checkpoint close failed, channelId : {}, error : {}", channelId, error.getMessage());
+                                    return Mono.empty();
+                                })
+                                .then(deleteData(channelId, userId))
                                 .then(deleteUserData(channelId, userId))
                                 .then(currentMapRepository.delete(channelId));
 
                     } else {
                         log.info("More than one user in channel {}", channelId);
-                        return deleteData(channelId, userId)
-                                .then(broadcasting.broadcasting(channelId, MessageConverter.convert(Message.success("leaveGame", CastingType.BROADCASTING, map))));
+                        return channelCheckpoint.leave(channelId, userId)
+                                .onErrorResume(error -> {
+                                    log.error("[process] checkpoint leave failed, channelId : {}, userId : {}, error : {}", channelId, userId, error.getMessage());
+                                    return Mono.empty();
+                                })
+                                .then(deleteData(channelId, userId))
+                                .then(broadcasting.broadcasting(channelId, Message.success("leaveGame", CastingType.BROADCASTING, map)));
 
                     }
 
@@ -99,85 +104,4 @@ public class LeaveGame {
         elementLaboratoryRepository.deleteAllData(channelId).subscribe();
         return Mono.empty();
     }
-
-    private Mono<Laboratory> saveElementData(String channelId) {
-        return laboratoryDataMongoRepository.findByChannelIdAndItemCategory(channelId, "element")
-                .flatMap(laboratory -> {
-                    log.info("Id is exist");
-                    return elementLaboratoryRepository.findElementData(channelId)
-                            .flatMap(elements -> {
-                                laboratory.setItemCnt(elements);
-                                return laboratoryDataMongoRepository.save(laboratory);
-                            });
-                });
-    }
-
-    private Mono<Laboratory> saveCompoundData(String channelId) {
-        return laboratoryDataMongoRepository.findByChannelIdAndItemCategory(channelId, "compound")
-                .flatMap(laboratory -> {
-                    return elementLaboratoryRepository.findCompoundData(channelId)
-                            .flatMap(compounds -> {
-                                laboratory.setItemCnt(compounds);
-                                return laboratoryDataMongoRepository.save(laboratory);
-                            });
-                });
-    }
-
-    private Mono<Void> saveInventory(String channelId, Long userId) {
-        return inventoryDataMongoRepository.findByChannelIdAndUserId(channelId, userId)
-                .flatMap(inventory -> {
-                    return inventoryRepository.findInventoryData(channelId, userId)
-                            .flatMap(data -> {
-                                List<InventoryData> inventoryDataList = new ArrayList<>();
-                                data.forEach((inventoryIdx, value) -> {
-                                    String[] parts = value.split(":");
-                                    String itemCategory = parts[0];
-                                    Integer itemId = Integer.parseInt(parts[1]);
-                                    Integer itemCnt = Integer.parseInt(parts[2]);
-                                    String isFull = parts[3];
-                                    inventoryDataList.add(new InventoryData(Integer.parseInt(inventoryIdx), itemCategory, itemId, itemCnt, isFull));
-                                });
-                                inventory.setInventoryData(inventoryDataList);
-                                return inventoryDataMongoRepository.save(inventory);
-                            });
-
-                })
-                .then();
-    }
-
-    private Mono<Void> saveMapData(String channelId) {
-        List<Integer> mapIds = Arrays.asList(1, 2, 3);
-        return Flux.fromIterable(mapIds)
-                .flatMap(mapId -> mapDataMongoRepository.findByChannelIdAndMapId(channelId, mapId)
-                        .flatMap(mapData -> {
-                            return mapObjectRepository.findMapData(channelId, mapId)
-                                    .flatMap(data -> {
-                                        List<PositionData> positionData = new ArrayList<>();
-                                        data.forEach((position, value) -> {
-                                            String[] parts = value.split(":");
-                                            String itemCategory = parts[0];
-                                            String isFarmable = parts[1];
-                                            Integer itemId = Integer.parseInt(parts[2]);
-                                            positionData.add(new PositionData(position, itemCategory, isFarmable, itemId));
-                                        });
-                                        mapData.setPositions(positionData);
-                                        return mapDataMongoRepository.save(mapData);
-                                    });
-                        }))
-                .then();
-    }
-
-    private Mono<Void> saveLabLevelData(String channelId) {
-        return laboratoryLevelMongoRepository.findByChannelId(channelId)
-                .flatMap(levelData -> {
-                    log.info("levelData {}", levelData);
-                    return laboratoryLevelRepository.findValue(channelId)
-                            .flatMap(level -> {
-                                log.info("level {}", level);
-                                levelData.setLevel(String.valueOf(level));
-                                return laboratoryLevelMongoRepository.save(levelData)
-                                        .then();
-                            });
-                });
-    }
 }
@@ -19,6 +19,7 @@ public class InGameSessionHandler {
 
     private final StartGame startGame;
     private final RestartGame restartGame;
+    private final ResumeGame resumeGame;
     private final EndGame endGame;
     private final IngameBroadcastPosition ingameBroadcastPosition;
     private final FindUserData findUserData;
@@ -40,6 +41,10 @@ public class InGameSessionHandler {
                 log.info("restart game");
                 return restartGame.process(channelId, UserInfo.ofJson(json), connection);
 
+            case "resume":
+                log.info("resume game");
+                return resumeGame.process(json, connection);
+
             case "endGame":
                 log.info("end game");
                 return endGame.process(channelId, json);
@@ -3,9 +3,10 @@ package com.explorer.realtime.sessionhandling.ingame.event;
 import com.explorer.realtime.global.common.dto.Message;
 import com.explorer.realtime.global.common.enums.CastingType;
 import com.explorer.realtime.global.component.broadcasting.Broadcasting;
+import com.explorer.realtime.global.component.session.SessionContext;
 import com.explorer.realtime.global.component.session.SessionManager;
+import com.explorer.realtime.global.component.session.SessionResume;
 import com.explorer.realtime.global.redis.ChannelRepository;
-import com.explorer.realtime.global.util.MessageConverter;
 import com.explorer.realtime.sessionhandling.waitingroom.dto.UserInfo;
 import com.explorer.realtime.sessionhandling.waitingroom.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +24,7 @@ import java.util.Map;
 public class EndGame {
 
     private final SessionManager sessionManager;
+    private final SessionResume sessionResume;
     private final ChannelRepository channelRepository;
     private final UserRepository userRepository;
     private final Broadcasting broadcasting;
@@ -58,12 +60,17 @@ public class EndGame {
     private void leave(String channel, Long userId) {
         channelRepository.deleteByUserId(channel, userId).subscribe();
         userRepository.delete(userId).subscribe();
+        sessionResume.revoke(userId);
+        SessionContext context = sessionManager.getContext(userId);
+        if (context != null) {
+            context.leave();
+        }
         sessionManager.removeConnection(userId);
 
         Map<String, String> map = new HashMap<>();
         map.put("userId", String.valueOf(userId));
 
-        broadcasting.broadcasting(channel, MessageConverter.convert(Message.success("endGame", CastingType.BROADCASTING, map))).subscribe();
+        broadcasting.broadcasting(channel, Message.success("endGame", CastingType.BROADCASTING, map)).subscribe();
     }
 
     private Mono<Long> check(String channel) {
@@ -6,7 +6,6 @@ import com.explorer.realtime.global.common.enums.CastingType;
 import com.explorer.realtime.global.component.broadcasting.Multicasting;
 import com.explorer.realtime.global.component.broadcasting.Unicasting;
 import com.explorer.realtime.global.redis.ChannelRepository;
-import com.explorer.realtime.global.util.MessageConverter;
 import com.explorer.realtime.sessionhandling.waitingroom.dto.UserInfo;
 import com.explorer.realtime.sessionhandling.waitingroom.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -59,7 +58,7 @@ public class FindUserData {
                     Map<String, Object> unicastMap = new HashMap<>();
                     unicastMap.put("positions", userInfoList);
                     log.info("userInfo {}", userInfoList);
-                    unicasting.unicasting(channelId, userId, MessageConverter.convert(Message.success("ingameUserInfo", CastingType.UNICASTING, unicastMap))).subscribe();
+                    unicasting.unicasting(channelId, userId, Message.success("ingameUserInfo", CastingType.UNICASTING, unicastMap)).subscribe();
                     return Mono.empty();
                 });
     }
@@ -74,8 +73,8 @@ public class FindUserData {
                     return userRepository.findAvatarAndNickname(userId)
                             .flatMap(userDetail -> {
                                 map.putAll(userDetail);
-                                unicasting.unicasting(channelId, userId, MessageConverter.convert(Message.success("newUserInfo", CastingType.UNICASTING, map))).subscribe();
-                                multicasting.multicasting(channelId, String.valueOf(userId), MessageConverter.convert(Message.success("newUserInfo", CastingType.MULTICASTING, map))).subscribe();
+                                unicasting.unicasting(channelId, userId, Message.success("newUserInfo", CastingType.UNICASTING, map)).subscribe();
+                                multicasting.multicasting(channelId, String.valueOf(userId), Message.success("newUserInfo", CastingType.MULTICASTING, map)).subscribe();
                                 return Mono.empty();
                             });
                 });
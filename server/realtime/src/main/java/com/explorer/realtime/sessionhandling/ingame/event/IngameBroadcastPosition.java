@@ -2,8 +2,10 @@ package com.explorer.realtime.sessionhandling.ingame.event;
 
 import com.explorer.realtime.global.common.dto.Message;
 import com.explorer.realtime.global.common.enums.CastingType;
-import com.explorer.realtime.global.component.broadcasting.Broadcasting;
-import com.explorer.realtime.global.util.MessageConverter;
+import com.explorer.realtime.global.component.broadcasting.MapPresence;
+import com.explorer.realtime.global.component.codec.BinaryCodec;
+import com.explorer.realtime.global.component.codec.WireMessage;
+import com.explorer.realtime.global.component.tick.PositionSnapshotTicker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
@@ -18,7 +20,8 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class IngameBroadcastPosition {
 
-    private final Broadcasting broadcasting;
+    private final PositionSnapshotTicker positionSnapshotTicker;
+    private final MapPresence mapPresence;
 
     public Mono<Void> process(JSONObject json) {
         String channelId = json.getString("channelId");
@@ -29,7 +32,15 @@ public class IngameBroadcastPosition {
         Integer mapId = json.getInt("mapId");
         map.put("position", position);
         map.put("mapId", mapId);
-        broadcasting.broadcasting(channelId, MessageConverter.convert(Message.success("broadcastPosition", CastingType.BROADCASTING, map))).subscribe();
+        if (mapPresence.move(channelId, userId, mapId)) {
+            positionSnapshotTicker.resync(channelId, mapId);
+        }
+        String key = "broadcastPosition:" + userId;
+        positionSnapshotTicker.update(channelId, mapId, key, position, () -> WireMessage.latest(
+                key,
+                Message.success("broadcastPosition", CastingType.BROADCASTING, map),
+                BinaryCodec.encodeIngamePosition(userId, mapId, position)
+        ));
         return Mono.empty();
     }
 }
@@ -24,12 +24,11 @@ public class InventoryDataMongoToRedis {
     private Mono<Void> findMongoData(String channelId, Long userId) {
         return inventoryDataMongoRepository.findByChannelIdAndUserId(channelId, userId)
                 .flatMap(inventoryData -> {
-                    String key = "inventoryData:" + channelId + ":" + userId;
                     return Mono.fromRunnable(() -> {
                         inventoryData.getInventoryData().forEach(item -> {
                             String field = String.valueOf(item.getInventoryIdx());
                             String value = item.getItemCategory() + ":" + item.getItemId() + ":" + item.getItemCnt() + ":" + item.getIsFull();
-                            inventoryRepository.put(key, field, value).subscribe();
+                            inventoryRepository.put(channelId, userId, field, value).subscribe();
                         });
                     });
                 }).then();
@@ -35,17 +35,16 @@ public class LabDataMongoToRedis {
                 .then();
     }
 
-    private Mono<Void> saveToRedis(String key, List<Integer> itemCntList) {
-        return elementLaboratoryRepository.save(key, itemCntList);
+    private Mono<Void> saveToRedis(String channelId, String itemCategory, List<Integer> itemCntList) {
+        return elementLaboratoryRepository.save(channelId, itemCategory, itemCntList);
     }
 
     private Mono<Void> findMongoData(String channelId, String itemCategory) {
         log.info("mongo {}", laboratoryDataMongoRepository.findByChannelIdAndItemCategory(channelId, itemCategory).subscribe());
         return laboratoryDataMongoRepository.findByChannelIdAndItemCategory(channelId, itemCategory)
                 .flatMap(laboratory -> {
-                    String key = "labData:" + channelId + ":" + 0 + ":" + itemCategory;
                     log.info("dataSave");
-                    return saveToRedis(key, laboratory.getItemCnt());
+                    return saveToRedis(channelId, itemCategory, laboratory.getItemCnt());
 //                    return Mono.empty();
                 });
     }
@@ -2,13 +2,16 @@ package com.explorer.realtime.sessionhandling.ingame.event;
 
 import com.explorer.realtime.gamedatahandling.component.common.mapinfo.repository.CurrentMapRepository;
 import com.explorer.realtime.gamedatahandling.component.common.mapinfo.repository.MapObjectRepository;
+import com.explorer.realtime.gamedatahandling.component.common.mapinfo.repository.SeededMapRepository;
+import com.explorer.realtime.gamedatahandling.component.common.mapinfo.transfer.MapTransfer;
 import com.explorer.realtime.gamedatahandling.component.personal.playerInfo.event.SetInitialPlayerInfo;
 import com.explorer.realtime.global.common.dto.Message;
 import com.explorer.realtime.global.common.enums.CastingType;
 import com.explorer.realtime.global.component.broadcasting.Unicasting;
+import com.explorer.realtime.global.component.session.SessionContext;
 import com.explorer.realtime.global.component.session.SessionManager;
+import com.explorer.realtime.global.component.session.SessionResume;
 import com.explorer.realtime.global.redis.ChannelRepository;
-import com.explorer.realtime.global.util.MessageConverter;
 import com.explorer.realtime.sessionhandling.waitingroom.dto.UserInfo;
 import com.explorer.realtime.sessionhandling.waitingroom.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -29,14 +32,17 @@ public class RestartGame {
     private final UserRepository userRepository;
     private final SessionManager sessionManager;
     private final ChannelRepository channelRepository;
-    private final Unicasting unicasting;
     private final LabDataMongoToRedis labDataMongoToRedis;
     private final SetInitialPlayerInfo setInitialPlayerInfo;
     private final InventoryDataMongoToRedis inventoryDataMongoToRedis;
     private final MapObjectRepository mapObjectRepository;
+    private final SeededMapRepository seededMapRepository;
     private final CurrentMapRepository currentMapRepository;
     private final LabLevelDataMongoToRedis labLevelDataMongoToRedis;
     private final MapDataMongoToRedis mapDataMongoToRedis;
+    private final MapTransfer mapTransfer;
+    private final SessionResume sessionResume;
+    private final Unicasting unicasting;
 
     public Mono<Void> process(String channelId, UserInfo userInfo, Connection connection) {
         // 사용자 정보를 Redis에 저장
@@ -54,6 +60,10 @@ public class RestartGame {
 
     private Mono<Map<String, Object>> createConnectionInfo(String channelId, UserInfo userInfo, Connection connection) {
         sessionManager.setConnection(userInfo.getUserId(), connection);
+        sessionManager.joinChannel(userInfo.getUserId(), channelId);
+        SessionContext context = SessionContext.of(connection);
+        context.joinGame(userInfo.getUserId(), channelId, userInfo.getNickname(), userInfo.getAvatar());
+        sendResumeToken(channelId, userInfo.getUserId(), connection);
 //        setInitialPlayerInfo.process(channelId, 8).subscribe();
         Map<String, Object> map = new HashMap<>();
         return mapDataMongoToRedis.process(channelId)
@@ -61,11 +71,12 @@ public class RestartGame {
 //        return currentMapRepository.findMapId(channelId)
                 .flatMap(field -> {
                     Integer mapId = Integer.parseInt(String.valueOf(field));
-                    return mapObjectRepository.findMapData(channelId, mapId)
+                    context.moveTo(mapId);
+                    // seed 로 배치를 만드는 map 은 seed 배치에 변경분을 반영한 전체 map 을 보낸다
+                    return seededMapRepository.findResolved(channelId, mapId)
                             .flatMap(mapData -> {
                                 map.put("mapId", mapId);
-                                map.put("mapData", mapData);
-                                unicasting.unicasting(channelId, userInfo.getUserId(), MessageConverter.convert(Message.success("restartGame", CastingType.UNICASTING, map))).subscribe();
+                                mapTransfer.send(channelId, userInfo.getUserId(), mapId, "restartGame", map, mapData, true, withMapData(map, mapData)).subscribe();
                                 return Mono.just(map);
                             });
                 })
@@ -75,14 +86,31 @@ public class RestartGame {
                     return mapObjectRepository.findMapData(channelId, 1)
                             .flatMap(mapData -> {
                                 map.put("mapId", mapId);
-                                map.put("mapData", mapData);
                                 labLevelDataMongoToRedis.process(channelId).subscribe();
                                 currentMapRepository.save(channelId, 1).subscribe();
-                                unicasting.unicasting(channelId, userInfo.getUserId(), MessageConverter.convert(Message.success("restartGame", CastingType.UNICASTING, map))).subscribe();
+                                mapTransfer.send(channelId, userInfo.getUserId(), mapId, "restartGame", map, mapData, true, withMapData(map, mapData)).subscribe();
                                 return Mono.just(map);
                             });
                 }));
     }
 
-}
+    /*
+     * mapChunks 를 협상하지 않은 client 에게는 예전처럼 mapData 를 함께 담아 보낸다
+     */
+    private static Map<String, Object> withMapData(Map<String, Object> map, Map<String, String> mapData) {
+        Map<String, Object> body = new HashMap<>(map);
+        body.put("mapData", mapData);
+        return body;
+    }
 
+    /*
+     * 다음에 연결이 끊기면 재시작 대신 이 token 으로 resume 한다 (ResumeGame)
+     */
+    private void sendResumeToken(String channelId, Long userId, Connection connection) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("token", sessionResume.issue(userId, channelId));
+        map.put("grace", sessionResume.getGrace().toSeconds());
+        unicasting.unicasting(connection, userId, Message.success("resumeToken", CastingType.UNICASTING, map)).subscribe();
+    }
+
+}
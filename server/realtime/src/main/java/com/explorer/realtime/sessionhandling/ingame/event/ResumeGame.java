@@ -0,0 +1,51 @@
+package com.explorer.realtime.sessionhandling.ingame.event;
+
+import com.explorer.realtime.global.common.dto.Message;
+import com.explorer.realtime.global.common.enums.CastingType;
+import com.explorer.realtime.global.component.broadcasting.Unicasting;
+import com.explorer.realtime.global.component.session.SessionResume;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.json.JSONObject;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResumeGame {
+
+    private final SessionResume sessionResume;
+    private final Unicasting unicasting;
+
+    /*
+     * 파라미터 JSONObject json : {"type":"ingameSession", "eventName":"resume", "token":{resume token}}
+     * - 성공 : 새 token, 다시 보낼 frame 수를 응답한 뒤 연결이 끊긴 동안 놓친 frame 을 순서대로 보낸다 (mongo / map 재전송 없음)
+     * - 실패 (token 만료, 놓친 frame 이 너무 많음) : fail 응답, client 는 restartGame 으로 다시 들어온다
+     */
+    public Mono<Void> process(JSONObject json, Connection connection) {
+        SessionResume.Resumed resumed = sessionResume.resume(json.getString("token"), connection);
+        if (resumed == null) {
+            log.info("[process] resume failed, userId : {}", json.optLong("userId"));
+            unicasting.unicasting(connection, json.optLong("userId"),
+                    Message.fail("resume", CastingType.UNICASTING, "RESUME_EXPIRED", "resume token is expired")
+            ).subscribe();
+            return Mono.empty();
+        }
+
+        Map<String, Object> map = new HashMap<>();
+        map.put("userId", resumed.userId());
+        map.put("channelId", resumed.channelId());
+        map.put("token", resumed.token());
+        map.put("grace", sessionResume.getGrace().toSeconds());
+        map.put("replayed", resumed.frames().size());
+        unicasting.unicasting(connection, resumed.userId(), Message.success("resume", CastingType.UNICASTING, map))
+                .then(Mono.fromRunnable(() -> sessionResume.replay(connection, resumed)))
+                .subscribe();
+        return Mono.empty();
+    }
+}
@@ -3,6 +3,7 @@ package com.explorer.realtime.sessionhandling.ingame.event;
 import com.explorer.realtime.gamedatahandling.component.common.mapinfo.event.InitializeMapObject;
 import com.explorer.realtime.gamedatahandling.component.common.mapinfo.repository.CurrentMapRepository;
 import com.explorer.realtime.gamedatahandling.component.common.mapinfo.repository.MapObjectRepository;
+import com.explorer.realtime.gamedatahandling.component.common.mapinfo.transfer.MapTransfer;
 import com.explorer.realtime.gamedatahandling.component.personal.inventoryInfo.dto.InventoryInfo;
 import com.explorer.realtime.gamedatahandling.component.personal.inventoryInfo.repository.InventoryRepository;
 import com.explorer.realtime.gamedatahandling.component.personal.playerInfo.event.SetInitialPlayerInfo;
@@ -10,11 +11,13 @@ import com.explorer.realtime.global.common.dto.Message;
 import com.explorer.realtime.global.common.enums.CastingType;
 import com.explorer.realtime.global.component.broadcasting.Broadcasting;
 import com.explorer.realtime.global.component.broadcasting.Unicasting;
+import com.explorer.realtime.global.component.pipeline.TaskGraph;
+import com.explorer.realtime.global.component.session.SessionContext;
+import com.explorer.realtime.global.component.session.SessionManager;
+import com.explorer.realtime.global.component.session.SessionResume;
 import com.explorer.realtime.global.mongo.entity.*;
 import com.explorer.realtime.global.mongo.repository.InventoryDataMongoRepository;
-import com.explorer.realtime.global.mongo.repository.MapDataMongoRepository;
 import com.explorer.realtime.global.redis.ChannelRepository;
-import com.explorer.realtime.global.util.MessageConverter;
 import com.explorer.realtime.sessionhandling.ingame.document.Channel;
 import com.explorer.realtime.sessionhandling.ingame.dto.UserInfo;
 import com.explorer.realtime.sessionhandling.ingame.repository.ChannelMongoRepository;
@@ -22,12 +25,14 @@ import com.explorer.realtime.sessionhandling.ingame.repository.ElementLaboratory
 import com.explorer.realtime.sessionhandling.ingame.repository.LaboratoryLevelRepository;
 import com.explorer.realtime.sessionhandling.waitingroom.repository.UserRepository;
 import com.explorer.realtime.staticdatahandling.event.SaveMapDataToRedis;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.*;
 
 @Slf4j
@@ -46,63 +51,91 @@ public class StartGame {
     private final InventoryRepository inventoryRepository;
     private final InventoryDataMongoRepository inventoryDataMongoRepository;
     private final MapObjectRepository mapObjectRepository;
-    private final MapDataMongoRepository mapDataMongoRepository;
+    private final MapTransfer mapTransfer;
     private final CurrentMapRepository currentMapRepository;
     private final Unicasting unicasting;
+    private final SessionManager sessionManager;
+    private final SessionResume sessionResume;
     private final LaboratoryLevelRepository laboratoryLevelRepository;
     private final SaveMapDataToRedis saveMapDataToRedis;
+    private final MeterRegistry meterRegistry;
 
 
     private static final int INVENTORY_CNT = 8;
+    private static final int MAIN_MAP_ID = 1;
 
+    /*
+     * 게임 시작 : channel 생성 (mongo) 이후의 준비 작업을 의존 관계 graph 로 실행한다 (TaskGraph)
+     * - 서로 의존하지 않는 step 은 동시에 실행하고, 모두 끝나면 "startGame" (기존 client 용) 과 "gameReady" 를 broadcast 한 뒤 main map 전송을 시작한다
+     * - step 별 실행 시간은 gameReady 의 timings (ms) 와 realtime.startgame.step timer 로 남긴다
+     */
     public Mono<Void> process(String teamCode, String channelName) {
         log.info("Processing game start for teamCode: {}", teamCode);
 
-        Mono<String> saveChannelMono = saveChannel(teamCode, channelName);
-//        int mapId = 1;
-        saveChannelMono.subscribe(channelId -> {
-            Map<String, String> map = new HashMap<>();
-            map.put("channelId", channelId);
-            transferAndInitializeChannel(teamCode, channelId)
-                    .then(Mono.defer(() -> {
-                        return elementLaboratoryRepository.initialize(channelId)
-                                .then(laboratoryLevelRepository.initialize(channelId))
-                                // 아직 맵 정보 update 안되어서 예비로 넣어놈
-//                                .then(initializeMapObject.initializeMapObject(channelId, 1))
-//                                .then(initializeMapObject.initializeMapObject(channelId, 2))
-//                                .then(initializeMapObject.initializeMapObject(channelId, 3))
-                                .then(setInitialPlayerInfo.process(channelId, INVENTORY_CNT))
-                                .then(broadcasting.broadcasting(
-                                        channelId,
-                                        MessageConverter.convert(Message.success("startGame", CastingType.BROADCASTING, map))
-                                ));
-                    }))
-                    .then(initializeSaveLabData.process(channelId))
-//                    .then(saveMapData(channelId))
-                    .then(saveMapDataToRedis.save(channelId, 1))
-                    .then(saveAllPlayerInventory(channelId))
-                    .then(getMapData(channelId))
-                    .then(currentMapRepository.save(channelId, 1))
-                    .subscribe();
-        });
+        long start = System.nanoTime();
+        saveChannel(teamCode, channelName)
+                .flatMap(channelId -> {
+                    Duration saveChannel = Duration.ofNanos(System.nanoTime() - start);
+                    return startGraph(teamCode, channelId).run()
+                            .flatMap(steps -> {
+                                Map<String, Duration> timings = new LinkedHashMap<>();
+                                timings.put("saveChannel", saveChannel);
+                                timings.putAll(steps);
+                                timings.put("total", Duration.ofNanos(System.nanoTime() - start));
+                                return ready(channelId, timings);
+                            })
+                            .then(getMapData(channelId));
+                })
+                .subscribe(null, error -> log.error("[process] game start failed, teamCode : {}, error : {}", teamCode, error.getMessage()));
 
         return Mono.empty();
     }
 
+    /*
+     * transfer : 대기실 멤버를 channel 로 옮김 -> 멤버 목록을 읽는 step (playerInfo, inventory) 이 기다린다
+     * labSave : redis 실험실 초기값을 mongo 에 저장 -> labInit 을 기다린다
+     */
+    private TaskGraph startGraph(String teamCode, String channelId) {
+        return new TaskGraph()
+                .step("transfer", () -> transferAndInitializeChannel(teamCode, channelId))
+                .step("labInit", () -> elementLaboratoryRepository.initialize(channelId))
+                .step("labLevelInit", () -> laboratoryLevelRepository.initialize(channelId))
+                .step("mapTemplate", () -> saveMapDataToRedis.save(channelId, MAIN_MAP_ID))
+                .step("currentMap", () -> currentMapRepository.save(channelId, MAIN_MAP_ID))
+                .step("playerInfo", () -> setInitialPlayerInfo.process(channelId, INVENTORY_CNT), "transfer")
+                .step("inventory", () -> saveAllPlayerInventory(channelId), "transfer")
+                .step("labSave", () -> initializeSaveLabData.process(channelId), "labInit");
+    }
+
+    private Mono<Void> ready(String channelId, Map<String, Duration> timings) {
+        Map<String, Long> millis = new LinkedHashMap<>();
+        timings.forEach((step, elapsed) -> {
+            millis.put(step, elapsed.toMillis());
+            meterRegistry.timer("realtime.startgame.step", "step", step).record(elapsed);
+        });
+        log.info("[ready] channelId : {}, timings(ms) : {}", channelId, millis);
+
+        Map<String, String> started = new HashMap<>();
+        started.put("channelId", channelId);
+        Map<String, Object> map = new HashMap<>();
+        map.put("channelId", channelId);
+        map.put("mapId", MAIN_MAP_ID);
+        map.put("timings", millis);
+        return broadcasting.broadcasting(channelId, Message.success("startGame", CastingType.BROADCASTING, started))       // client 는 startGame 으로 channelId 설정 / scene 전환
+                .then(broadcasting.broadcasting(channelId, Message.success("gameReady", CastingType.BROADCASTING, map)));
+    }
+
     private Mono<Void> transferAndInitializeChannel(String teamCode, String channelId) {
         return channelRepository.findAll(teamCode)
-                .flatMapMany(entries -> Flux.fromIterable(entries.entrySet()))
-                .flatMap(entry -> channelRepository.save(channelId, Long.parseLong(entry.getKey().toString()), Integer.parseInt(entry.getValue().toString()))
-                .then(channelRepository.deleteAll(teamCode)))
-                .then();
+                .flatMap(entries -> channelRepository.transfer(teamCode, channelId, entries));
     }
 
     private Mono<String> saveChannel(String teamCode, String channelName) {
         return channelRepository.findAllFields(teamCode)
                 .flatMap(field -> {
                     Long userId = Long.parseLong(String.valueOf(field));
-                    return userRepository.findAll(userId)
-                            .map(userMap -> UserInfo.of(userId, String.valueOf(userMap.get("nickname")), Integer.parseInt(String.valueOf(userMap.get("avatar")))));
+                    return userRepository.findAvatarAndNickname(userId)
+                            .map(userMap -> UserInfo.of(userId, userMap.get("nickname"), Integer.parseInt(userMap.get("avatar"))));
                 })
                 .collectList()
                 .flatMap(userInfoList -> {
@@ -111,32 +144,26 @@ public class StartGame {
                             .doOnSuccess(channelId -> {
                                 userInfoList.forEach(userInfo -> {
                                     userRepository.updateUserData(userInfo.getUserId(), channelId, "1").subscribe();
+                                    sessionManager.joinChannel(userInfo.getUserId(), channelId);
+                                    SessionContext context = sessionManager.getContext(userInfo.getUserId());
+                                    if (context != null) {
+                                        context.startGame(channelId);
+                                        sendResumeToken(channelId, userInfo.getUserId());
+                                    }
 
                                 });
                             });
                 });
     }
 
-    private Mono<Void> saveMapData(String channelId) {
-        List<Integer> mapIds = Arrays.asList(1, 2, 3);
-        return Flux.fromIterable(mapIds)
-                .flatMap(mapId -> mapObjectRepository.findMapData(channelId, mapId)
-                        .flatMap(data -> {
-                            MapData mapData = new MapData();
-                            mapData.setChannelId(channelId);
-                            mapData.setMapId(mapId);
-                            List<PositionData> positions = new ArrayList<>();
-                            data.forEach((position, value) -> {
-                                String[] parts = value.split(":");
-                                String itemCategory = parts[0];
-                                String isFarmable = parts[1];
-                                Integer itemId = Integer.parseInt(parts[2]);
-                                positions.add(new PositionData(position, itemCategory, isFarmable, itemId));
-
-                            });
-                            mapData.setPositions(positions);
-                            return mapDataMongoRepository.save(mapData);
-                        })).then();
+    /*
+     * 연결이 끊겼다가 grace 안에 다시 접속하면 이 token 으로 resume 한다 (ResumeGame)
+     */
+    private void sendResumeToken(String channelId, Long userId) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("token", sessionResume.issue(userId, channelId));
+        map.put("grace", sessionResume.getGrace().toSeconds());
+        unicasting.unicasting(channelId, userId, Message.success("resumeToken", CastingType.UNICASTING, map)).subscribe();
     }
 
     private Mono<Void> saveAllPlayerInventory(String channelId) {
@@ -154,16 +181,12 @@ public class StartGame {
         InventoryInfo item2 = InventoryInfo.of(1, "tool", 1, 1, 1);
         InventoryInfo item3 = InventoryInfo.of(2, "wood", 0, 1, 0);
         InventoryInfo item4 = InventoryInfo.of(3, "byproduct", 1, 1, 0);
-        return inventoryRepository.save(channelId, userId, item1)
-                .then(inventoryRepository.save(channelId, userId, item2))
-                .then(inventoryRepository.save(channelId, userId, item3))
-                .then(inventoryRepository.save(channelId, userId, item4))
-                .then();
+        return inventoryRepository.saveAll(channelId, userId, List.of(item1, item2, item3, item4)).then();
     }
 
     private Mono<Void> getMapData(String channelId) {
-        return mapObjectRepository.findMapData(channelId, 1)
-                .flatMap(mapData -> broadcasting.broadcasting(channelId, MessageConverter.convert(Message.success("mainMapInfo", CastingType.BROADCASTING))));
+        return mapObjectRepository.findMapData(channelId, MAIN_MAP_ID)
+                .flatMap(mapData -> mapTransfer.broadcast(channelId, MAIN_MAP_ID, "mainMapInfo", mapData, null));
     }
 
     private Mono<Boolean> saveInventory(String channelId, Long userId) {
@@ -183,7 +206,7 @@ public class StartGame {
                     });
                     inventory.setInventoryData(inventoryDataList);
                     inventoryDataMongoRepository.save(inventory).subscribe();
-//                    unicasting.unicasting(channelId, userId, MessageConverter.convert(Message.success("startInventory", CastingType.UNICASTING, inventory))).subscribe();
+//                    unicasting.unicasting(channelId, userId, Message.success("startInventory", CastingType.UNICASTING, inventory)).subscribe();
                     return Mono.empty();
                 });
     }
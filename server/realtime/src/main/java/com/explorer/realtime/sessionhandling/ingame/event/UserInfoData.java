@@ -8,7 +8,6 @@ import com.explorer.realtime.global.mongo.entity.Inventory;
 import com.explorer.realtime.global.mongo.entity.InventoryData;
 import com.explorer.realtime.global.mongo.repository.InventoryDataMongoRepository;
 import com.explorer.realtime.global.redis.ChannelRepository;
-import com.explorer.realtime.global.util.MessageConverter;
 import com.explorer.realtime.sessionhandling.waitingroom.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -58,7 +57,7 @@ public class UserInfoData {
                     });
                     inventory.setInventoryData(inventoryDataList);
 //                    inventoryDataMongoRepository.save(inventory).subscribe();
-                    unicasting.unicasting(channelId, userId, MessageConverter.convert(Message.success("userInventory", CastingType.UNICASTING, inventory))).subscribe();
+                    unicasting.unicasting(channelId, userId, Message.success("userInventory", CastingType.UNICASTING, inventory)).subscribe();
                     return Mono.empty();
                 });
     }
@@ -84,7 +83,7 @@ public class UserInfoData {
                 .flatMap(allUsers -> {
                     Map<String, Object> unicastMap = new HashMap<>();
                     unicastMap.put("positions", allUsers);
-                    unicasting.unicasting(channelId, userId, MessageConverter.convert(Message.success("getUserPosition", CastingType.UNICASTING, unicastMap))).subscribe();
+                    unicasting.unicasting(channelId, userId, Message.success("getUserPosition", CastingType.UNICASTING, unicastMap)).subscribe();
                     return Mono.empty();
                 });
     }
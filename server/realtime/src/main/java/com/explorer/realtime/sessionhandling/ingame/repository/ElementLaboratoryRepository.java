@@ -1,24 +1,24 @@
 package com.explorer.realtime.sessionhandling.ingame.repository;
 
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.redis.core.ReactiveListOperations;
-import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import com.explorer.realtime.global.component.state.GameStateEngine;
+import com.explorer.realtime.global.component.state.StateKey;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
 
 import java.util.Arrays;
+import java.util.List;
 
 @Repository("elementLaboratoryRepositoryInStartGame")
 public class ElementLaboratoryRepository {
 
-    private final ReactiveListOperations<String, Object> listOperations;
+    private final GameStateEngine gameStateEngine;
 
     private static final String KEY_PREFIX = "labData:";
     private static final String ELEMENT_SUFFIX = ":0:element";
     private static final String COMPOUND_SUFFIX = ":0:compound";
 
-    public ElementLaboratoryRepository(@Qualifier("gameReactiveRedisTemplate") ReactiveRedisTemplate<String, Object> reactiveRedisTemplate) {
-        this.listOperations = reactiveRedisTemplate.opsForList();
+    public ElementLaboratoryRepository(GameStateEngine gameStateEngine) {
+        this.gameStateEngine = gameStateEngine;
     }
 
     public Mono<Void> initialize(String channelId) {
@@ -33,8 +33,10 @@ public class ElementLaboratoryRepository {
         String elementKey = KEY_PREFIX+channelId+ELEMENT_SUFFIX;
         String compoundKey = KEY_PREFIX + channelId + COMPOUND_SUFFIX;
 
-        return listOperations.rightPushAll(elementKey, Arrays.asList(initialElements))
-                .then(listOperations.rightPushAll(compoundKey, Arrays.asList(initialCompounds)))
-                .then();
+        return gameStateEngine.execute(channelId, List.of(StateKey.list(elementKey), StateKey.list(compoundKey)), state -> {
+            state.rpushAll(elementKey, Arrays.asList(initialElements));
+            state.rpushAll(compoundKey, Arrays.asList(initialCompounds));
+            return true;
+        }).then();
     }
 }
@@ -1,43 +1,45 @@
 package com.explorer.realtime.sessionhandling.ingame.repository;
 
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.redis.core.ReactiveRedisTemplate;
-import org.springframework.data.redis.core.ReactiveValueOperations;
+import com.explorer.realtime.global.component.state.GameStateEngine;
+import com.explorer.realtime.global.component.state.StateKey;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
 
-import java.util.Arrays;
-
 @Repository("LaboratoryLevelRepositoryForInitializing")
 public class LaboratoryLevelRepository {
 
-    private final ReactiveValueOperations<String, Object> valueOperations;
+    private final GameStateEngine gameStateEngine;
 
     private static final String KEY_PREFIX = "labLevel:";
     private static final String ELEMENT_SUFFIX = ":0";
 
-    public LaboratoryLevelRepository(@Qualifier("gameReactiveRedisTemplate") ReactiveRedisTemplate<String, Object> reactiveRedisTemplate) {
-        this.valueOperations = reactiveRedisTemplate.opsForValue();
+    public LaboratoryLevelRepository(GameStateEngine gameStateEngine) {
+        this.gameStateEngine = gameStateEngine;
     }
 
     public Mono<Void> initialize(String channelId) {
-        String elementLaboratoryKey = KEY_PREFIX+channelId+ELEMENT_SUFFIX;
-
-        return valueOperations.set(elementLaboratoryKey, 0).then();
+        return save(channelId, 0).then();
     }
 
     public Mono<Boolean> delete(String channelId) {
-        String elementLaboratoryKey = KEY_PREFIX+channelId+ELEMENT_SUFFIX;
-        return valueOperations.delete(elementLaboratoryKey);
+        StateKey key = StateKey.value(KEY_PREFIX+channelId+ELEMENT_SUFFIX);
+        return gameStateEngine.execute(channelId, key, state -> state.delete(key));
     }
 
     public Mono<Object> findValue(String channelId) {
         String elementLaboratoryKey = KEY_PREFIX+channelId+ELEMENT_SUFFIX;
-        return valueOperations.get(elementLaboratoryKey);
+        return gameStateEngine.execute(channelId, StateKey.value(elementLaboratoryKey), state -> state.get(elementLaboratoryKey));
     }
 
     public Mono<Boolean> save(String channelId, String value) {
+        return save(channelId, (Object) value);
+    }
+
+    private Mono<Boolean> save(String channelId, Object value) {
         String elementLaboratoryKey = KEY_PREFIX+channelId+ELEMENT_SUFFIX;
-        return valueOperations.set(elementLaboratoryKey, value);
+        return gameStateEngine.execute(channelId, StateKey.value(elementLaboratoryKey), state -> {
+            state.set(elementLaboratoryKey, value);
+            return true;
+        });
     }
 }
@@ -3,8 +3,9 @@ package com.explorer.realtime.sessionhandling.waitingroom.event;
 import com.explorer.realtime.global.common.dto.Message;
 import com.explorer.realtime.global.common.enums.CastingType;
 import com.explorer.realtime.global.component.broadcasting.Broadcasting;
+import com.explorer.realtime.global.component.codec.BinaryCodec;
+import com.explorer.realtime.global.component.codec.WireMessage;
 import com.explorer.realtime.global.redis.ChannelRepository;
-import com.explorer.realtime.global.util.MessageConverter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
@@ -58,7 +59,10 @@ public class BroadcastPosition {
             log.info("[process] map : {}", finalMap);
             return broadcasting.broadcasting(
                     teamCode,
-                    MessageConverter.convert(Message.success(eventName, CastingType.BROADCASTING, finalMap))
+                    WireMessage.of(
+                            Message.success(eventName, CastingType.BROADCASTING, finalMap),
+                            BinaryCodec.encodeWaitingRoomPosition(userId, String.valueOf(finalMap.get("position")))
+                    )
             ).then();
         });
     }
@@ -3,10 +3,10 @@ package com.explorer.realtime.sessionhandling.waitingroom.event;
 import com.explorer.realtime.global.common.dto.Message;
 import com.explorer.realtime.global.common.enums.CastingType;
 import com.explorer.realtime.global.component.broadcasting.Unicasting;
+import com.explorer.realtime.global.component.session.SessionContext;
 import com.explorer.realtime.global.component.session.SessionManager;
 import com.explorer.realtime.global.component.teamcode.TeamCodeGenerator;
 import com.explorer.realtime.global.redis.ChannelRepository;
-import com.explorer.realtime.global.util.MessageConverter;
 import com.explorer.realtime.sessionhandling.waitingroom.dto.UserInfo;
 import com.explorer.realtime.sessionhandling.waitingroom.exception.WaitingRoomErrorCode;
 import com.explorer.realtime.sessionhandling.waitingroom.exception.WaitingRoomException;
@@ -42,6 +42,7 @@ public class CreateWaitingRoom {
                 .flatMap(teamCode -> {
                     log.info("[process] teamCode : {}", teamCode);
                     return createConnectionInfo(teamCode, userInfo.getUserId(), connection)
+                            .doOnSuccess(aVoid -> SessionContext.of(connection).joinWaitingRoom(userInfo.getUserId(), teamCode, userInfo.getNickname(), userInfo.getAvatar()))
                             .then(userRepository.save(userInfo, teamCode, "0"))
                             .then(Mono.fromRunnable(() -> {
                                 Map<String, String> map = new HashMap<>();
@@ -49,7 +50,7 @@ public class CreateWaitingRoom {
                                 unicasting.unicasting(
                                         teamCode,
                                         userInfo.getUserId(),
-                                        MessageConverter.convert(Message.success(eventName, CastingType.UNICASTING, map))
+                                        Message.success(eventName, CastingType.UNICASTING, map)
                                 ).subscribe();
                             }));
                 })
@@ -63,6 +64,7 @@ public class CreateWaitingRoom {
         log.info("[createConnectionInfo] teamCode : {}, userId : {}", teamCode, userId);
 
         sessionManager.setConnection(userId, connection);
+        sessionManager.joinChannel(userId, teamCode);
         return channelRepository.save(teamCode, userId, 0).then();
     }
 
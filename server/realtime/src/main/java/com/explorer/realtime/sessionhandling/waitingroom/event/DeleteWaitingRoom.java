@@ -6,7 +6,6 @@ import com.explorer.realtime.global.component.broadcasting.Broadcasting;
 import com.explorer.realtime.global.component.broadcasting.Unicasting;
 import com.explorer.realtime.global.component.session.SessionManager;
 import com.explorer.realtime.global.redis.ChannelRepository;
-import com.explorer.realtime.global.util.MessageConverter;
 import com.explorer.realtime.sessionhandling.waitingroom.exception.WaitingRoomErrorCode;
 import com.explorer.realtime.sessionhandling.waitingroom.exception.WaitingRoomException;
 import com.explorer.realtime.sessionhandling.waitingroom.repository.UserRepository;
@@ -46,7 +45,7 @@ public class DeleteWaitingRoom {
                         unicasting.unicasting(
                                 connection,
                                 userId,
-                                MessageConverter.convert(Message.fail(eventName, CastingType.UNICASTING, String.valueOf(error.getErrorCode()), error.getMessage()))
+                                Message.fail(eventName, CastingType.UNICASTING, String.valueOf(error.getErrorCode()), error.getMessage())
                         ).subscribe();
                         return Mono.empty();
                     }
@@ -76,7 +75,7 @@ public class DeleteWaitingRoom {
 
         return broadcasting.broadcasting(
                         teamCode,
-                        MessageConverter.convert(Message.success(eventName, CastingType.BROADCASTING))
+                        Message.success(eventName, CastingType.BROADCASTING)
                 )
                 .then(channelRepository.findAllFields(teamCode)
                         .flatMap(value -> userRepository.delete(Long.valueOf(String.valueOf(value))))
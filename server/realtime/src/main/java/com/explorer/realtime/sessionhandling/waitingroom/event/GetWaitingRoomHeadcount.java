@@ -4,7 +4,6 @@ import com.explorer.realtime.global.common.dto.Message;
 import com.explorer.realtime.global.common.enums.CastingType;
 import com.explorer.realtime.global.component.broadcasting.Broadcasting;
 import com.explorer.realtime.global.redis.ChannelRepository;
-import com.explorer.realtime.global.util.MessageConverter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
@@ -37,7 +36,7 @@ public class GetWaitingRoomHeadcount {
 
                     broadcasting.broadcasting(
                             teamCode,
-                            MessageConverter.convert(Message.success(eventName, CastingType.BROADCASTING, map))
+                            Message.success(eventName, CastingType.BROADCASTING, map)
                     ).subscribe();
                 })
                 .then();
@@ -4,9 +4,9 @@ import com.explorer.realtime.global.common.dto.Message;
 import com.explorer.realtime.global.common.enums.CastingType;
 import com.explorer.realtime.global.component.broadcasting.Multicasting;
 import com.explorer.realtime.global.component.broadcasting.Unicasting;
+import com.explorer.realtime.global.component.session.SessionContext;
 import com.explorer.realtime.global.component.session.SessionManager;
 import com.explorer.realtime.global.redis.ChannelRepository;
-import com.explorer.realtime.global.util.MessageConverter;
 import com.explorer.realtime.sessionhandling.waitingroom.dto.UserInfo;
 import com.explorer.realtime.sessionhandling.waitingroom.exception.WaitingRoomErrorCode;
 import com.explorer.realtime.sessionhandling.waitingroom.exception.WaitingRoomException;
@@ -42,11 +42,12 @@ public class JoinWaitingRoom {
         return existByTeamCode(teamCode)
                 .flatMap(isExist -> check(teamCode))
                 .flatMap(count -> createConnectionInfo(teamCode, userInfo.getUserId(), connection)
+                        .doOnSuccess(aVoid -> SessionContext.of(connection).joinWaitingRoom(userInfo.getUserId(), teamCode, userInfo.getNickname(), userInfo.getAvatar()))
                         .then(userRepository.save(userInfo, teamCode, "0"))
                         .then(Mono.defer(() -> multicasting.multicasting(
                                 teamCode,
                                 String.valueOf(userInfo.getUserId()),
-                                MessageConverter.convert(Message.success(eventName, CastingType.MULTICASTING, userInfo))
+                                Message.success(eventName, CastingType.MULTICASTING, userInfo)
                         )))
                         .then(findAllUserInfoByTeamCode(teamCode, userInfo.getUserId()))
                         .flatMap(userInfoList -> {
@@ -54,7 +55,7 @@ public class JoinWaitingRoom {
                             return unicasting.unicasting(
                                     teamCode,
                                     userInfo.getUserId(),
-                                    MessageConverter.convert(Message.success(eventName, CastingType.UNICASTING, userInfoList))
+                                    Message.success(eventName, CastingType.UNICASTING, userInfoList)
                             );
                         })
                 )
@@ -65,7 +66,7 @@ public class JoinWaitingRoom {
                             unicasting.unicasting(
                                     connection,
                                     userInfo.getUserId(),
-                                    MessageConverter.convert(Message.fail(eventName, CastingType.UNICASTING, String.valueOf(error.getErrorCode()), error.getMessage()))
+                                    Message.fail(eventName, CastingType.UNICASTING, String.valueOf(error.getErrorCode()), error.getMessage())
                             ).subscribe();
                             yield Mono.empty();
                         }
@@ -83,6 +84,7 @@ public class JoinWaitingRoom {
                         return Mono.error(new WaitingRoomException(WaitingRoomErrorCode.EXIST_USER));
                     } else {
                         sessionManager.setConnection(userId, connection);
+                        sessionManager.joinChannel(userId, teamCode);
                         return channelRepository.save(teamCode, userId, 0).then();
                     }
                 });
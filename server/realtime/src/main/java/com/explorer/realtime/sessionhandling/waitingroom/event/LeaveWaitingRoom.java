@@ -4,9 +4,9 @@ import com.explorer.realtime.global.common.dto.Message;
 import com.explorer.realtime.global.common.enums.CastingType;
 import com.explorer.realtime.global.component.broadcasting.Broadcasting;
 import com.explorer.realtime.global.component.broadcasting.Unicasting;
+import com.explorer.realtime.global.component.session.SessionContext;
 import com.explorer.realtime.global.component.session.SessionManager;
 import com.explorer.realtime.global.redis.ChannelRepository;
-import com.explorer.realtime.global.util.MessageConverter;
 import com.explorer.realtime.sessionhandling.waitingroom.exception.WaitingRoomErrorCode;
 import com.explorer.realtime.sessionhandling.waitingroom.exception.WaitingRoomException;
 import com.explorer.realtime.sessionhandling.waitingroom.repository.UserRepository;
@@ -48,7 +48,7 @@ public class LeaveWaitingRoom {
                         unicasting.unicasting(
                                 connection,
                                 userId,
-                                MessageConverter.convert(Message.fail(eventName, CastingType.UNICASTING, String.valueOf(error.getErrorCode()), error.getMessage()))
+                                Message.fail(eventName, CastingType.UNICASTING, String.valueOf(error.getErrorCode()), error.getMessage())
                         ).subscribe();
                         return Mono.empty();
                     }
@@ -81,11 +81,17 @@ public class LeaveWaitingRoom {
 
         return broadcasting.broadcasting(
                         teamCode,
-                        MessageConverter.convert(Message.success(eventName, CastingType.BROADCASTING, map))
+                        Message.success(eventName, CastingType.BROADCASTING, map)
                 )
                 .then(userRepository.delete(userId))
                 .then(channelRepository.deleteByUserId(teamCode, userId))
-                .then(Mono.fromRunnable(() -> sessionManager.removeConnection(userId)));
+                .then(Mono.fromRunnable(() -> {
+                    SessionContext context = sessionManager.getContext(userId);
+                    if (context != null) {
+                        context.leave();
+                    }
+                    sessionManager.removeConnection(userId);
+                }));
     }
 
 }
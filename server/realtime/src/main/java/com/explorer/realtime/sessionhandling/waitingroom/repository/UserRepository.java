@@ -1,5 +1,8 @@
 package com.explorer.realtime.sessionhandling.waitingroom.repository;
 
+import com.explorer.realtime.global.component.session.SessionContext;
+import com.explorer.realtime.global.component.session.SessionManager;
+import com.explorer.realtime.global.redis.RedisBatch;
 import com.explorer.realtime.sessionhandling.waitingroom.dto.UserInfo;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.ReactiveHashOperations;
@@ -17,21 +20,26 @@ public class UserRepository {
 
     private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
     private final ReactiveHashOperations<String, Object, Object> reactiveHashOperations;
+    private final SessionManager sessionManager;
 
     private static final String KEY_PREFIX = "user:";
 
-    public UserRepository(@Qualifier("channelReactiveRedisTemplate") ReactiveRedisTemplate<String, Object> reactiveRedisTemplate) {
+    public UserRepository(@Qualifier("channelReactiveRedisTemplate") ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
+                          SessionManager sessionManager) {
         this.reactiveRedisTemplate = reactiveRedisTemplate;
         this.reactiveHashOperations = reactiveRedisTemplate.opsForHash();
+        this.sessionManager = sessionManager;
     }
 
     public Mono<Void> save(UserInfo userInfo, String teamCode, String mapId) {
-        return Mono.when(
-                reactiveHashOperations.put(KEY_PREFIX + userInfo.getUserId(), "nickname", userInfo.getNickname()),
-                reactiveHashOperations.put(KEY_PREFIX + userInfo.getUserId(), "avatar", String.valueOf(userInfo.getAvatar())),
-                reactiveHashOperations.put(KEY_PREFIX + userInfo.getUserId(), "channelId", teamCode),
-                reactiveHashOperations.put(KEY_PREFIX + userInfo.getUserId(), "mapId", mapId)
-        ).then();
+        Map<String, String> user = new HashMap<>();
+        user.put("nickname", userInfo.getNickname());
+        user.put("avatar", String.valueOf(userInfo.getAvatar()));
+        user.put("channelId", teamCode);
+        user.put("mapId", mapId);
+        return RedisBatch.on(reactiveRedisTemplate)
+                .hash(KEY_PREFIX + userInfo.getUserId(), user)
+                .execute();
     }
 
     public Mono<Boolean> delete(Long userId) {
@@ -43,13 +51,19 @@ public class UserRepository {
     }
 
     public Mono<Void> updateUserData(Long userId, String channelId, String mapId) {
-        return Mono.when(
-                reactiveHashOperations.put(KEY_PREFIX + userId, "channelId", channelId),
-                reactiveHashOperations.put(KEY_PREFIX + userId, "mapId", mapId)
-        ).then();
+        return RedisBatch.on(reactiveRedisTemplate)
+                .hash(KEY_PREFIX + userId, Map.of("channelId", channelId, "mapId", mapId))
+                .execute();
     }
 
+    /*
+     * 이 노드에 접속한 user 는 session 정보에서 읽는다 (redis 조회 없음)
+     */
     public Mono<Map<String, String >> findAvatarAndNickname(Long userId) {
+        SessionContext context = sessionManager.getContext(userId);
+        if (context != null && context.getNickname() != null) {
+            return Mono.just(Map.of("nickname", context.getNickname(), "avatar", String.valueOf(context.getAvatar())));
+        }
         List<Object> fields = Arrays.<Object>asList("nickname", "avatar");
         return reactiveHashOperations.multiGet(KEY_PREFIX + userId, fields)
                 .map(values -> {
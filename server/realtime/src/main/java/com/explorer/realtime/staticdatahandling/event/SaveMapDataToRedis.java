@@ -1,12 +1,11 @@
 package com.explorer.realtime.staticdatahandling.event;
 
+import com.explorer.realtime.staticdatahandling.registry.MapTemplateRegistry;
 import com.explorer.realtime.staticdatahandling.repository.redis.MapDataRepository;
-import com.explorer.realtime.staticdatahandling.service.MongoService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
 import org.springframework.stereotype.Service;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Slf4j
@@ -14,7 +13,7 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class SaveMapDataToRedis {
 
-    private final MongoService mongoService;
+    private final MapTemplateRegistry mapTemplateRegistry;
     private final MapDataRepository mapDataRepository;
 
     public Mono<Void> process(JSONObject json) {
@@ -25,19 +24,12 @@ public class SaveMapDataToRedis {
         return save(channelId, mapId).then();
     }
 
+    /*
+     * mapId 의 template 을 channel 에 복사 (engine 이 한 번의 write-back 으로 redis 에 기록한다)
+     */
     public Mono<Void> save(String channelId, int mapId) {
-        return mongoService.findPositionByMapId(mapId)
-                .flatMap(positionInfo -> {
-                    log.info("[process] positionInfo : {}", positionInfo);
-                    return Flux.fromIterable(positionInfo.getPositions())
-                            .flatMap(position -> {
-                                String[] info = position.split(":");
-                                String pos = info[0] + ":" + info[1] + ":" + info[2];
-                                String itemCategory = info[3];
-                                int itemId = Integer.parseInt(info[4]);
-                                return mapDataRepository.save(channelId, mapId, pos, itemCategory, itemId);
-                            });
-                })
+        return mapTemplateRegistry.template(mapId)
+                .flatMap(template -> mapDataRepository.saveAll(channelId, mapId, template))
                 .then();
     }
 
@@ -1,6 +1,7 @@
 package com.explorer.realtime.staticdatahandling.event;
 
 import com.explorer.realtime.staticdatahandling.document.Position;
+import com.explorer.realtime.staticdatahandling.registry.MapTemplateRegistry;
 import com.explorer.realtime.staticdatahandling.repository.mongo.PositionMongoRepository;
 import com.explorer.realtime.staticdatahandling.service.MongoService;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +22,7 @@ public class SaveNewPositionsToMongoDB {
 
     private final MongoService mongoService;
     private final PositionMongoRepository positionMongoRepository;
+    private final MapTemplateRegistry mapTemplateRegistry;
 
     public Mono<Void> process(JSONObject json) {
         int mapId = json.getInt("mapId");
@@ -30,7 +32,7 @@ public class SaveNewPositionsToMongoDB {
         Set<String> positionsSet = IntStream.range(0, positions.length())
                 .mapToObj(positions::getString)
                 .collect(Collectors.toSet());
-        return positionMongoRepository.save(Position.from(mapId, positionsSet)).then();
+        return positionMongoRepository.save(Position.from(mapId, positionsSet)).then(mapTemplateRegistry.publish(mapId));
     }
 
 }
@@ -1,5 +1,6 @@
 package com.explorer.realtime.staticdatahandling.event;
 
+import com.explorer.realtime.staticdatahandling.registry.MapTemplateRegistry;
 import com.explorer.realtime.staticdatahandling.repository.mongo.PositionMongoRepository;
 import com.explorer.realtime.staticdatahandling.service.MongoService;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,7 @@ public class SavePositionToMongoDB {
 
     private final MongoService mongoService;
     private final PositionMongoRepository positionMongoRepository;
+    private final MapTemplateRegistry mapTemplateRegistry;
 
     public Mono<Void> process(JSONObject json) {
         int mapId = json.getInt("mapId");
@@ -30,7 +32,7 @@ public class SavePositionToMongoDB {
                     map.addPosition(value);
                     return positionMongoRepository.save(map);
                 })
-                .then();
+                .then(mapTemplateRegistry.publish(mapId));
     }
 
 }
@@ -1,5 +1,6 @@
 package com.explorer.realtime.staticdatahandling.event;
 
+import com.explorer.realtime.staticdatahandling.registry.MapTemplateRegistry;
 import com.explorer.realtime.staticdatahandling.repository.mongo.PositionMongoRepository;
 import com.explorer.realtime.staticdatahandling.service.MongoService;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +17,7 @@ public class SavePositionsToMongoDB {
 
     private final MongoService mongoService;
     private final PositionMongoRepository positionMongoRepository;
+    private final MapTemplateRegistry mapTemplateRegistry;
 
     public Mono<Void> process(JSONObject json) {
         int mapId = json.getInt("mapId");
@@ -29,7 +31,7 @@ public class SavePositionsToMongoDB {
                         map.addPosition(String.valueOf(position));
                     });
                     return positionMongoRepository.save(map);
-                }).then();
+                }).then(mapTemplateRegistry.publish(mapId));
     }
 
 }
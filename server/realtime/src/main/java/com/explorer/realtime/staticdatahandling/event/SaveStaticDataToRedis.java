@@ -5,6 +5,7 @@ import com.explorer.realtime.staticdatahandling.dto.AvailableInventoryItemInfo;
 import com.explorer.realtime.staticdatahandling.dto.DroppedItemInfo;
 import com.explorer.realtime.staticdatahandling.dto.ItemInfo;
 import com.explorer.realtime.staticdatahandling.dto.MaterialItemInfo;
+import com.explorer.realtime.staticdatahandling.registry.StaticDataRegistry;
 import com.explorer.realtime.staticdatahandling.repository.mongo.AvailableInventoryItemMongoRepository;
 import com.explorer.realtime.staticdatahandling.repository.mongo.InvalidInventoryItemCategoryMongoRepository;
 import com.explorer.realtime.staticdatahandling.repository.mongo.NonDiscardableInventoryItemCategoryMongoRepository;
@@ -37,6 +38,7 @@ public class SaveStaticDataToRedis {
     private final SynthesizedMaterialRepository synthesizedMaterialRepository;
     private final UpgradeMaterialRepository upgradeMaterialRepository;
     private final PositionRepository positionRepository;
+    private final StaticDataRegistry staticDataRegistry;
 
     @PostConstruct
     public void init() {
@@ -59,6 +61,7 @@ public class SaveStaticDataToRedis {
                         saveSynthesizedMaterialList(),
                         saveUpgradeMaterialList()
                 )
+                .then(staticDataRegistry.publish())
                 .doOnError(error -> log.error("[process] Error processing static data", error))
                 .then();
     }
@@ -0,0 +1,33 @@
+package com.explorer.realtime.staticdatahandling.registry;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/*
+ * long -> int 불변 table (정렬된 primitive 배열 + binary search)
+ * boxing / hash entry 객체 없이 조회한다
+ */
+final class LongIntTable {
+
+    private final long[] keys;
+    private final int[] values;
+
+    LongIntTable(Map<Long, Integer> source) {
+        keys = new long[source.size()];
+        values = new int[source.size()];
+        int i = 0;
+        for (long key : source.keySet().stream().sorted().toList()) {
+            keys[i] = key;
+            values[i++] = source.get(key);
+        }
+    }
+
+    int get(long key, int defaultValue) {
+        int idx = Arrays.binarySearch(keys, key);
+        return idx < 0 ? defaultValue : values[idx];
+    }
+
+    int size() {
+        return keys.length;
+    }
+}
@@ -0,0 +1,135 @@
+package com.explorer.realtime.staticdatahandling.registry;
+
+import com.explorer.realtime.staticdatahandling.document.Position;
+import com.explorer.realtime.staticdatahandling.repository.redis.MapDataRepository;
+import com.explorer.realtime.staticdatahandling.service.MongoService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+ * mapId 별 map object 초기 배치 template (position -> {itemCategory}:isFarmable:{itemId})
+ * - mongo positions collection 에서 한 번 읽어 메모리에 불변 map 으로 들고 있고, 새 channel 은 template 을 복사해 한 번에 기록한다
+ *   (게임 시작마다 mongo 조회, position parsing 을 하지 않는다)
+ * - positions 가 바뀌면 (SavePosition(s)ToMongoDB, SaveNewPositionsToMongoDB) publish(mapId) 로 redis pub/sub 에 알리고
+ *   각 서버 노드는 해당 template 을 버리고 다시 만든다
+ */
+@Component
+public class MapTemplateRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(MapTemplateRegistry.class);
+    private static final String TOPIC = "mapTemplate";
+
+    private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+    private final MongoService mongoService;
+    private final ConcurrentHashMap<Integer, Mono<Map<String, String>>> templates = new ConcurrentHashMap<>();
+    private Disposable subscription;
+
+    public MapTemplateRegistry(@Qualifier("staticgameReactiveRedisTemplate") ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
+                               MongoService mongoService) {
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.mongoService = mongoService;
+    }
+
+    @PostConstruct
+    public void start() {
+        subscription = reactiveRedisTemplate.listenToChannel(TOPIC)
+                .doOnError(error -> log.warn("[start] map template topic error : {}", error.getMessage()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe(message -> {
+                    try {
+                        rebuild(Integer.parseInt(String.valueOf(message.getMessage()).replace("\"", "")));
+                    } catch (NumberFormatException e) {
+                        log.warn("[start] invalid map template message : {}", message.getMessage());
+                    }
+                });
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    /*
+     * 처음 요청될 때 mongo 에서 읽어 만든 뒤 재사용 (읽기에 실패하면 cache 하지 않는다)
+     */
+    public Mono<Map<String, String>> template(int mapId) {
+        Mono<Map<String, String>> cached = templates.get(mapId);
+        if (cached != null) {
+            return cached;
+        }
+        AtomicReference<Mono<Map<String, String>>> self = new AtomicReference<>();
+        Mono<Map<String, String>> created = build(mapId)
+                .doOnError(error -> {
+                    log.error("[template] failed to build map template, mapId : {}, error : {}", mapId, error.getMessage());
+                    templates.remove(mapId, self.get());
+                })
+                .cache();
+        self.set(created);
+        Mono<Map<String, String>> existing = templates.putIfAbsent(mapId, created);
+        return existing != null ? existing : created;
+    }
+
+    /*
+     * positions 가 바뀐 mapId 를 모든 노드에 알리고 이 노드의 template 을 다시 만든다
+     */
+    public Mono<Void> publish(int mapId) {
+        return reactiveRedisTemplate.convertAndSend(TOPIC, String.valueOf(mapId))
+                .doOnError(error -> log.warn("[publish] failed to publish map template change, mapId : {}, error : {}", mapId, error.getMessage()))
+                .onErrorResume(error -> Mono.empty())
+                .then(Mono.fromRunnable(() -> rebuild(mapId)));
+    }
+
+    private void rebuild(int mapId) {
+        log.info("[rebuild] mapId : {}", mapId);
+        templates.remove(mapId);
+        template(mapId).subscribe(template -> {}, error -> {});
+    }
+
+    private Mono<Map<String, String>> build(int mapId) {
+        return mongoService.findPositionByMapId(mapId)
+                .map(Position::getPositions)
+                .collectList()
+                .map(positionsList -> {
+                    Map<String, String> template = new LinkedHashMap<>();
+                    positionsList.forEach(positions -> template.putAll(toTemplate(positions)));
+                    log.info("[build] mapId : {}, positions : {}", mapId, template.size());
+                    return Collections.unmodifiableMap(template);
+                });
+    }
+
+    /*
+     * mongo position ({x}:{y}:{z}:{itemCategory}:{itemId}) -> redis field / value
+     */
+    static Map<String, String> toTemplate(Collection<String> positions) {
+        Map<String, String> template = new LinkedHashMap<>();
+        if (positions == null) {
+            return template;
+        }
+        for (String position : positions) {
+            String[] info = position.split(":");
+            if (info.length < 5) {
+                continue;
+            }
+            template.put(info[0] + ":" + info[1] + ":" + info[2], MapDataRepository.value(info[3], Integer.parseInt(info[4])));
+        }
+        return template;
+    }
+}
@@ -0,0 +1,22 @@
+package com.explorer.realtime.staticdatahandling.registry;
+
+import com.explorer.realtime.staticdatahandling.dto.MaterialItemInfo;
+
+import java.util.List;
+import java.util.Map;
+
+/*
+ * StaticData 의 재료표 묶음 (key 별 재료 목록, 모두 수정 불가)
+ */
+record MaterialTables(Map<Integer, List<MaterialItemInfo>> extraction,
+                      Map<Integer, List<MaterialItemInfo>> synthesized,
+                      Map<Integer, List<MaterialItemInfo>> upgrade) {
+
+    static final MaterialTables EMPTY = new MaterialTables(Map.of(), Map.of(), Map.of());
+
+    MaterialTables {
+        extraction = Map.copyOf(extraction);
+        synthesized = Map.copyOf(synthesized);
+        upgrade = Map.copyOf(upgrade);
+    }
+}
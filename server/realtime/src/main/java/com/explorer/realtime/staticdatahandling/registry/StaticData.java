@@ -0,0 +1,79 @@
+package com.explorer.realtime.staticdatahandling.registry;
+
+import com.explorer.realtime.gamedatahandling.craft.dto.CraftInfo;
+import com.explorer.realtime.staticdatahandling.dto.MaterialItemInfo;
+
+import java.util.List;
+import java.util.Map;
+
+/*
+ * static game data 의 불변 snapshot (StaticDataRegistry 가 version 단위로 교체한다)
+ * - maxCnt : (category id, itemId) -> 최대 보유 개수, category id 는 snapshot 을 만들 때 부여한다
+ * - craftInfoList : 제작 목록 (materialList 포함, 수정 불가)
+ * - 추출 / 합성 / 연구소 업그레이드 재료표 : LogicEngine 의 in-process 계산에 사용
+ *   (재료 목록의 cnt 는 추출에서는 최대 개수, 합성 / 업그레이드에서는 필요 개수)
+ */
+public final class StaticData {
+
+    static final StaticData EMPTY = new StaticData(-1, Map.of(), new LongIntTable(Map.of()), List.of(), MaterialTables.EMPTY);
+
+    private final long version;
+    private final Map<String, Integer> categoryIds;
+    private final LongIntTable maxCnt;
+    private final List<CraftInfo> craftInfoList;
+    private final MaterialTables materialTables;
+
+    StaticData(long version, Map<String, Integer> categoryIds, LongIntTable maxCnt,
+               List<CraftInfo> craftInfoList, MaterialTables materialTables) {
+        this.version = version;
+        this.categoryIds = Map.copyOf(categoryIds);
+        this.maxCnt = maxCnt;
+        this.craftInfoList = List.copyOf(craftInfoList);
+        this.materialTables = materialTables;
+    }
+
+    static long key(int categoryId, int itemId) {
+        return (long) categoryId << 32 | (itemId & 0xFFFFFFFFL);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    /*
+     * 등록되지 않은 item 이면 -1
+     */
+    public int maxCnt(String itemCategory, int itemId) {
+        Integer categoryId = categoryIds.get(itemCategory);
+        return categoryId == null ? -1 : maxCnt.get(key(categoryId, itemId), -1);
+    }
+
+    public List<CraftInfo> craftInfoList() {
+        return craftInfoList;
+    }
+
+    /*
+     * extractionMaterial:{itemId} - 추출 시 얻을 수 있는 아이템과 최대 개수
+     */
+    public List<MaterialItemInfo> extractionMaterials(int itemId) {
+        return materialTables.extraction().getOrDefault(itemId, List.of());
+    }
+
+    /*
+     * synthesize:compound:{itemId} - 화합물 합성에 필요한 원소와 개수
+     */
+    public List<MaterialItemInfo> synthesizedMaterials(int itemId) {
+        return materialTables.synthesized().getOrDefault(itemId, List.of());
+    }
+
+    /*
+     * upgradeMaterial:elementLab:{level} - 해당 level 로 올리는 데 필요한 재료와 개수
+     */
+    public List<MaterialItemInfo> upgradeMaterials(int level) {
+        return materialTables.upgrade().getOrDefault(level, List.of());
+    }
+
+    int itemCount() {
+        return maxCnt.size();
+    }
+}
@@ -0,0 +1,175 @@
+package com.explorer.realtime.staticdatahandling.registry;
+
+import com.explorer.realtime.gamedatahandling.craft.dto.CraftInfo;
+import com.explorer.realtime.gamedatahandling.craft.dto.CraftMaterial;
+import com.explorer.realtime.gamedatahandling.craft.repository.CraftRecipeRepository;
+import com.explorer.realtime.gamedatahandling.craft.repository.CraftRepository;
+import com.explorer.realtime.staticdatahandling.dto.MaterialItemInfo;
+import com.explorer.realtime.staticdatahandling.repository.redis.StaticItemRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/*
+ * static game data (item 최대 보유 개수, 제작 목록, 재료표) 의 in-process cache
+ * - 서버 시작 시 staticgame redis 에서 읽어 불변 snapshot(StaticData) 으로 만들고, 이후 조회는 I/O 없이 snapshot 에서 한다
+ * - SaveStaticDataToRedis 가 redis 를 갱신하면 publish() 로 staticDataVersion 을 올리고 redis pub/sub 으로 알린다
+ *   각 서버 노드는 새 version 을 받으면 다시 읽어 snapshot 을 통째로 교체한다 (읽는 쪽은 항상 한 version 의 data 만 본다)
+ */
+@Component
+public class StaticDataRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(StaticDataRegistry.class);
+    private static final String TOPIC = "staticDataVersion";
+    private static final String VERSION_KEY = "staticDataVersion";
+
+    private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+    private final StaticItemRepository staticItemRepository;
+    private final CraftRepository craftRepository;
+    private final CraftRecipeRepository craftRecipeRepository;
+    private final AtomicReference<StaticData> current = new AtomicReference<>(StaticData.EMPTY);
+    private Disposable subscription;
+
+    public StaticDataRegistry(@Qualifier("staticgameReactiveRedisTemplate") ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
+                              StaticItemRepository staticItemRepository,
+                              CraftRepository craftRepository,
+                              CraftRecipeRepository craftRecipeRepository) {
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.staticItemRepository = staticItemRepository;
+        this.craftRepository = craftRepository;
+        this.craftRecipeRepository = craftRecipeRepository;
+    }
+
+    @PostConstruct
+    public void start() {
+        subscription = reactiveRedisTemplate.listenToChannel(TOPIC)
+                .doOnError(error -> log.warn("[start] static data topic error : {}", error.getMessage()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .filter(message -> parseVersion(message.getMessage()) > current.get().version())
+                .concatMap(message -> reload().onErrorResume(error -> Mono.empty()))
+                .subscribe();
+        reload().subscribe(
+                data -> {},
+                error -> log.error("[start] failed to load static data : {}", error.getMessage())
+        );
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    public StaticData current() {
+        return current.get();
+    }
+
+    /*
+     * 새 version 을 발행하고 이 노드의 snapshot 을 갱신 (다른 노드는 pub/sub 으로 갱신)
+     */
+    public Mono<StaticData> publish() {
+        return reactiveRedisTemplate.opsForValue().increment(VERSION_KEY)
+                .flatMap(version -> reactiveRedisTemplate.convertAndSend(TOPIC, String.valueOf(version)))
+                .then(reload());
+    }
+
+    /*
+     * version 을 먼저 읽고 data 를 읽는다 : 읽는 도중 발행된 version 은 이어서 오는 message 로 다시 읽는다
+     */
+    public Mono<StaticData> reload() {
+        return reactiveRedisTemplate.opsForValue().get(VERSION_KEY)
+                .map(StaticDataRegistry::parseVersion)
+                .defaultIfEmpty(0L)
+                .flatMap(this::load)
+                .map(loaded -> current.accumulateAndGet(loaded, (prev, next) -> next.version() >= prev.version() ? next : prev))
+                .doOnNext(data -> log.info("[reload] version : {}, items : {}, crafts : {}", data.version(), data.itemCount(), data.craftInfoList().size()));
+    }
+
+    private Mono<StaticData> load(long version) {
+        Map<String, Integer> categoryIds = new HashMap<>();
+        Map<Long, Integer> maxCnt = new HashMap<>();
+        Mono<Void> items = staticItemRepository.findAll()
+                .doOnNext(entry -> {
+                    int categoryId = categoryIds.computeIfAbsent(entry.getKey(), category -> categoryIds.size());
+                    entry.getValue().forEach((itemId, cnt) -> maxCnt.put(
+                            StaticData.key(categoryId, Integer.parseInt(String.valueOf(itemId))),
+                            Integer.parseInt(String.valueOf(cnt))));
+                })
+                .then();
+        return items
+                .then(Mono.zip(loadCraftInfoList(), loadMaterialTables()))
+                .map(tuple -> new StaticData(version, categoryIds, new LongIntTable(maxCnt), tuple.getT1(), tuple.getT2()));
+    }
+
+    /*
+     * SaveStaticDataToRedis 가 저장한 재료표 hash ({itemCategory}:{itemId} : {cnt})
+     */
+    private Mono<MaterialTables> loadMaterialTables() {
+        return Mono.zip(
+                        loadMaterials("extractionMaterial:", Integer::parseInt),
+                        loadMaterials("synthesize:compound:", Integer::parseInt),
+                        loadMaterials("upgradeMaterial:elementLab:", Integer::parseInt))
+                .map(tuple -> new MaterialTables(tuple.getT1(), tuple.getT2(), tuple.getT3()));
+    }
+
+    private <K> Mono<Map<K, List<MaterialItemInfo>>> loadMaterials(String keyPrefix, Function<String, K> keyParser) {
+        return reactiveRedisTemplate.scan(ScanOptions.scanOptions().match(keyPrefix + "*").count(100).build())
+                .flatMap(key -> reactiveRedisTemplate.opsForHash().entries(key)
+                        .map(entry -> MaterialItemInfo.of(entry.getKey() + ":" + entry.getValue()))
+                        .collectList()
+                        .map(materials -> Map.entry(keyParser.apply(key.substring(keyPrefix.length())), List.copyOf(materials))))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    /*
+     * craft hash ({craftId} : {itemCategory}:{itemId}) + craft:{itemCategory}:{itemId} hash ({itemCategory}:{itemId} : {itemCnt})
+     */
+    private Mono<List<CraftInfo>> loadCraftInfoList() {
+        return craftRepository.findAll()
+                .flatMapMany(craft -> Flux.fromIterable(craft.entrySet()))
+                .flatMap(entry -> {
+                    int craftId = Integer.parseInt(String.valueOf(entry.getKey()));
+                    String[] itemInfo = String.valueOf(entry.getValue()).split(":");
+                    String itemCategory = itemInfo[0];
+                    int itemId = Integer.parseInt(itemInfo[1]);
+                    return craftRecipeRepository.find(itemCategory, itemId)
+                            .map(materials -> {
+                                List<CraftMaterial> materialList = new ArrayList<>();
+                                materials.forEach((material, cnt) -> {
+                                    String[] materialInfo = String.valueOf(material).split(":");
+                                    materialList.add(CraftMaterial.of(materialInfo[0], Integer.parseInt(materialInfo[1]), Integer.parseInt(String.valueOf(cnt))));
+                                });
+                                return new CraftInfo(craftId, itemCategory, itemId, List.copyOf(materialList));
+                            });
+                })
+                .sort(Comparator.comparingInt(CraftInfo::getCraftId))
+                .collectList();
+    }
+
+    private static long parseVersion(Object value) {
+        try {
+            return Long.parseLong(String.valueOf(value).replace("\"", ""));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
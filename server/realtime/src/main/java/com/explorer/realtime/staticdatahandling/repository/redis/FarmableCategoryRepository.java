@@ -3,6 +3,7 @@ package com.explorer.realtime.staticdatahandling.repository.redis;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Repository
@@ -20,4 +21,9 @@ public class FarmableCategoryRepository {
         return reactiveRedisTemplate.opsForSet().add(KEY_PREFIX, category);
     }
 
+    public Flux<String> findAll() {
+        return reactiveRedisTemplate.opsForSet().members(KEY_PREFIX)
+                .map(String::valueOf);
+    }
+
 }
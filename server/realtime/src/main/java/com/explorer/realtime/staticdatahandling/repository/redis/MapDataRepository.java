@@ -1,29 +1,45 @@
 package com.explorer.realtime.staticdatahandling.repository.redis;
 
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.redis.core.ReactiveHashOperations;
-import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import com.explorer.realtime.global.component.state.GameStateEngine;
+import com.explorer.realtime.global.component.state.StateKey;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
+
 @Repository
 public class MapDataRepository {
 
-    private final ReactiveRedisTemplate<String,Object> reactiveRedisTemplate;
-
-    private final ReactiveHashOperations<String, Object, Object> reactiveHashOperations;
+    private final GameStateEngine gameStateEngine;
 
     private static final String KEY_PREFIX = "mapData:";
 
-    public MapDataRepository(@Qualifier("gameReactiveRedisTemplate") ReactiveRedisTemplate<String, Object> reactiveRedisTemplate) {
-        this.reactiveRedisTemplate = reactiveRedisTemplate;
-        this.reactiveHashOperations = reactiveRedisTemplate.opsForHash();
+    public MapDataRepository(GameStateEngine gameStateEngine) {
+        this.gameStateEngine = gameStateEngine;
     }
 
     public Mono<Boolean> save(String channelId, int mapId, String position, String itemCategory, int itemId) {
         String key = KEY_PREFIX + channelId + ":" + String.valueOf(mapId);
-        String value = itemCategory + ":isFarmable:" + String.valueOf(itemId);
-        return reactiveHashOperations.put(key, position, value);
+        String value = value(itemCategory, itemId);
+        return gameStateEngine.execute(channelId, StateKey.hash(key), state -> {
+            state.hset(key, position, value);
+            return true;
+        });
+    }
+
+    /*
+     * field : position, value : {itemCategory}:isFarmable:{itemId}
+     */
+    public Mono<Boolean> saveAll(String channelId, int mapId, Map<String, String> positions) {
+        String key = KEY_PREFIX + channelId + ":" + String.valueOf(mapId);
+        return gameStateEngine.execute(channelId, StateKey.hash(key), state -> {
+            state.hsetAll(key, positions);
+            return true;
+        });
+    }
+
+    public static String value(String itemCategory, int itemId) {
+        return itemCategory + ":isFarmable:" + String.valueOf(itemId);
     }
 
 }
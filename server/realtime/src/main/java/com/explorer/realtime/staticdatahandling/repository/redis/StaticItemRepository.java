@@ -4,9 +4,13 @@ import com.explorer.realtime.staticdatahandling.dto.ItemInfo;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.ReactiveHashOperations;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
+
 @Repository
 public class StaticItemRepository {
 
@@ -28,4 +32,14 @@ public class StaticItemRepository {
         return reactiveHashOperations.put(key, field, value);
     }
 
+    /*
+     * item:{category} hash 전체 : category -> { itemId : maxCnt }
+     */
+    public Flux<Map.Entry<String, Map<Object, Object>>> findAll() {
+        return reactiveRedisTemplate.scan(ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(100).build())
+                .flatMap(key -> reactiveHashOperations.entries(key)
+                        .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                        .map(items -> Map.entry(key.substring(KEY_PREFIX.length()), items)));
+    }
+
 }
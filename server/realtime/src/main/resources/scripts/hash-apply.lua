@@ -0,0 +1,16 @@
+-- GameStateEngine hash write-back
+-- KEYS[1] : hash key
+-- ARGV[1] : '1' 이면 기존 hash 를 지우고 다시 쓴다
+-- ARGV[2] : 저장할 field 개수 n
+-- ARGV[3 .. 2 + 2n] : field, value 쌍 / 나머지 : 삭제할 field
+if ARGV[1] == '1' then
+    redis.call('DEL', KEYS[1])
+end
+local n = tonumber(ARGV[2])
+for i = 3, 2 + n * 2, 2 do
+    redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+end
+for i = 3 + n * 2, #ARGV do
+    redis.call('HDEL', KEYS[1], ARGV[i])
+end
+return n
@@ -0,0 +1,11 @@
+-- PackedStateMigration hash value 변환
+-- KEYS[1] : hash key
+-- ARGV : field, 읽은 value, 변환한 value 3개씩 - 읽은 뒤 값이 바뀐 field 는 건너뛴다
+local n = 0
+for i = 1, #ARGV, 3 do
+    if redis.call('HGET', KEYS[1], ARGV[i]) == ARGV[i + 1] then
+        redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 2])
+        n = n + 1
+    end
+end
+return n
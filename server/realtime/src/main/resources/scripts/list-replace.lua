@@ -0,0 +1,8 @@
+-- GameStateEngine list write-back
+-- KEYS[1] : list key
+-- ARGV : list 전체 (비어 있으면 key 삭제)
+redis.call('DEL', KEYS[1])
+for i = 1, #ARGV do
+    redis.call('RPUSH', KEYS[1], ARGV[i])
+end
+return #ARGV
@@ -0,0 +1,36 @@
+package com.explorer.realtime.gamedatahandling.component.common.mapinfo.generator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SeededMapGeneratorTest {
+
+    private static final SeededMapGenerator.Spec SPEC = new SeededMapGenerator.Spec("debris", 3, 150, 0, 0.05);
+
+    @Test
+    void sameSeedGivesSameMapRegardlessOfCandidateOrder() {
+        List<String> candidates = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            candidates.add(i + ":0:" + (i * 7 % 13));
+        }
+        List<String> shuffled = new ArrayList<>(candidates);
+        Collections.shuffle(shuffled);
+
+        Map<String, String> first = SeededMapGenerator.generate(42L, SeededMapGenerator.sortCandidates(candidates), SPEC);
+        Map<String, String> second = SeededMapGenerator.generate(42L, SeededMapGenerator.sortCandidates(shuffled), SPEC);
+        assertEquals(first, second);
+        assertEquals(150, first.values().stream().filter("debris:isFarmable:3"::equals).count());
+        assertTrue(candidates.containsAll(first.keySet()));
+
+        Map<String, String> other = SeededMapGenerator.generate(43L, SeededMapGenerator.sortCandidates(candidates), SPEC);
+        assertNotEquals(first.keySet(), other.keySet());
+    }
+}
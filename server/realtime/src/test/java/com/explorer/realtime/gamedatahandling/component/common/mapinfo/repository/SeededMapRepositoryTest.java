@@ -0,0 +1,18 @@
+package com.explorer.realtime.gamedatahandling.component.common.mapinfo.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SeededMapRepositoryTest {
+
+    @Test
+    void mergeAppliesDeltaAndDropsTombstones() {
+        Map<String, String> generated = Map.of("1:1", "debris:isFarmable:3", "2:2", "debris:isFarmable:3");
+        Map<String, Object> delta = Map.of("1:1", SeededMapRepository.REMOVED, "3:3", "box:notFarmable:1");
+
+        assertEquals(Map.of("2:2", "debris:isFarmable:3", "3:3", "box:notFarmable:1"), SeededMapRepository.merge(generated, delta));
+    }
+}
@@ -0,0 +1,136 @@
+package com.explorer.realtime.gamedatahandling.component.common.mapinfo.transfer;
+
+import com.explorer.realtime.global.common.dto.Message;
+import com.explorer.realtime.global.component.broadcasting.Unicasting;
+import com.explorer.realtime.global.component.codec.ProtocolVersion;
+import com.explorer.realtime.global.component.session.SessionManager;
+import com.explorer.realtime.global.redis.ChannelRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MapTransferTest {
+
+    @Test
+    void chunksRoundTripAndCompress() {
+        Map<String, String> mapData = new LinkedHashMap<>();
+        for (int i = 0; i < 600; i++) {
+            mapData.put(i + ":0:" + (i % 17), "tree:isFarmable:" + (i % 3));
+        }
+        List<Map.Entry<String, String>> entries = new ArrayList<>(mapData.entrySet());
+        int chunks = MapChunkEncoder.chunkCount(entries.size(), 256);
+        assertEquals(3, chunks);
+
+        Map<String, String> decoded = new LinkedHashMap<>();
+        int encodedLength = 0;
+        for (int seq = 0; seq < chunks; seq++) {
+            String data = MapChunkEncoder.encode(entries, seq, 256);
+            encodedLength += data.length();
+            decoded.putAll(MapChunkEncoder.decode(data));
+        }
+        assertEquals(mapData, decoded);
+        assertTrue(encodedLength < mapData.toString().length() / 2);
+    }
+
+    @Test
+    void diffContainsChangedAddedAndRemovedPositions() {
+        Map<String, String> base = Map.of("1:0:1", "tree:isFarmable:1", "2:0:2", "rock:isFarmable:2", "3:0:3", "tree:isFarmable:1");
+        Map<String, String> current = Map.of("1:0:1", "tree:isFarmable:1", "2:0:2", "rock:notFarmable:2", "4:0:4", "box:isFarmable:0");
+
+        Map<String, String> changes = new HashMap<>();
+        MapTransfer.diff(base, current).forEach(entry -> changes.put(entry.getKey(), entry.getValue()));
+
+        Map<String, String> expected = new HashMap<>();
+        expected.put("2:0:2", "rock:notFarmable:2");
+        expected.put("4:0:4", "box:isFarmable:0");
+        expected.put("3:0:3", null);
+        assertEquals(expected, changes);
+    }
+
+    @Test
+    void clientWithoutMapChunksReceivesWholeMapInOneMessage() {
+        List<Message<?>> sent = new ArrayList<>();
+        SessionManager sessionManager = new SessionManager(new SimpleMeterRegistry());
+        sessionManager.setConnection(1L, Connection.from(new EmbeddedChannel()));
+        MapTransfer mapTransfer = new MapTransfer(unicasting(sent), mock(ChannelRepository.class), sessionManager, 256, 4, Duration.ofSeconds(10));
+        Map<String, String> mapData = Map.of("1:0:1", "tree:isFarmable:1");
+
+        mapTransfer.send("channel", 1L, 1, "getMapData", Map.of(), mapData, false, mapData).block();
+
+        assertEquals(1, sent.size());
+        assertEquals(mapData, sent.get(0).getDataBody());
+    }
+
+    @Test
+    void ackedVersionIsDroppedWhenConnectionCloses() {
+        List<Message<?>> sent = new ArrayList<>();
+        SessionManager sessionManager = new SessionManager(new SimpleMeterRegistry());
+        EmbeddedChannel channel = new EmbeddedChannel();
+        Connection connection = Connection.from(channel);
+        ProtocolVersion.negotiateFeatures(connection, List.of(ProtocolVersion.MAP_CHUNKS));
+        sessionManager.setConnection(1L, connection);
+        MapTransfer mapTransfer = new MapTransfer(unicasting(sent), mock(ChannelRepository.class), sessionManager, 256, 4, Duration.ofSeconds(10));
+
+        mapTransfer.send("channel", 1L, 1, "getMapData", Map.of(), Map.of("1:0:1", "tree:isFarmable:1"), false, null).block();
+        mapTransfer.ack(1L, transferId(sent), 0);
+        mapTransfer.send("channel", 1L, 1, "getMapData", Map.of(), Map.of("1:0:1", "tree:notFarmable:1"), false, null).block();
+        assertEquals("diff", mode(sent));
+
+        mapTransfer.ack(1L, transferId(sent), 0);
+        channel.close();
+        EmbeddedChannel reconnected = new EmbeddedChannel();
+        Connection resumed = Connection.from(reconnected);
+        ProtocolVersion.negotiateFeatures(resumed, List.of(ProtocolVersion.MAP_CHUNKS));
+        sessionManager.setConnection(1L, resumed);
+        mapTransfer.send("channel", 1L, 1, "getMapData", Map.of(), Map.of("1:0:1", "tree:notFarmable:1"), false, null).block();
+        assertEquals("full", mode(sent));
+    }
+
+    private static Unicasting unicasting(List<Message<?>> sent) {
+        Unicasting unicasting = mock(Unicasting.class);
+        when(unicasting.unicasting(anyString(), anyLong(), any(Message.class))).thenAnswer(invocation -> {
+            sent.add(invocation.getArgument(2));
+            return Mono.empty();
+        });
+        return unicasting;
+    }
+
+    /*
+     * 마지막 시작 메시지 (chunk 가 아닌 메시지) 의 dataBody
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> lastStart(List<Message<?>> sent) {
+        for (int i = sent.size() - 1; i >= 0; i--) {
+            Map<String, Object> body = (Map<String, Object>) sent.get(i).getDataBody();
+            if (body.containsKey("mode")) {
+                return body;
+            }
+        }
+        throw new AssertionError("no start message");
+    }
+
+    private static String transferId(List<Message<?>> sent) {
+        return (String) lastStart(sent).get("transferId");
+    }
+
+    private static String mode(List<Message<?>> sent) {
+        return (String) lastStart(sent).get("mode");
+    }
+}
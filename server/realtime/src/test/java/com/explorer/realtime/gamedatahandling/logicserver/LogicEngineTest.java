@@ -0,0 +1,43 @@
+package com.explorer.realtime.gamedatahandling.logicserver;
+
+import com.explorer.realtime.staticdatahandling.dto.MaterialItemInfo;
+import com.explorer.realtime.staticdatahandling.registry.StaticData;
+import com.explorer.realtime.staticdatahandling.registry.StaticDataRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LogicEngineTest {
+
+    @Test
+    void localEngineCalculatesFromStaticData() {
+        StaticData data = mock(StaticData.class);
+        when(data.extractionMaterials(3)).thenReturn(List.of(MaterialItemInfo.of("element:1:10"), MaterialItemInfo.of("element:2:0")));
+        when(data.upgradeMaterials(2)).thenReturn(List.of(MaterialItemInfo.of("compound:4:2")));
+        StaticDataRegistry registry = mock(StaticDataRegistry.class);
+        when(registry.current()).thenReturn(data);
+        LocalLogicEngine engine = new LocalLogicEngine(registry);
+
+        for (int i = 0; i < 100; i++) {
+            List<LogicItem> result = engine.extract(3).block();
+            assertEquals(2, result.size());
+            assertTrue(result.get(0).itemCnt() >= 0 && result.get(0).itemCnt() <= 10);
+            assertEquals(0, result.get(1).itemCnt());
+        }
+        assertEquals(List.of(new LogicItem("compound", 4, 2)), engine.upgrade(0, 1).block());
+    }
+
+    @Test
+    void remoteResponseIsParsedIntoItems() {
+        List<LogicItem> result = RemoteLogicEngine.parse("{\"element:1\":3}");
+        assertEquals(List.of(new LogicItem("element", 1, 3)), result);
+        assertEquals("element:1", result.get(0).key());
+        assertThrows(IllegalStateException.class, () -> RemoteLogicEngine.parse("{\"error\":\"bad\"}"));
+    }
+}
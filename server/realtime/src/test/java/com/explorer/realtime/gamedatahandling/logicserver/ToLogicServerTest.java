@@ -0,0 +1,56 @@
+package com.explorer.realtime.gamedatahandling.logicserver;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ToLogicServerTest {
+
+    private final AtomicInteger connections = new AtomicInteger();
+    private DisposableServer server;
+    private ToLogicServer client;
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+                .port(0)
+                .doOnChannelInit((observer, channel, address) -> connections.incrementAndGet())
+                .route(routes -> routes
+                        .post("/echo", (request, response) -> response.sendString(request.receive().aggregate().asString()))
+                        .post("/slow", (request, response) -> response.sendString(Mono.delay(Duration.ofSeconds(2)).thenReturn("late"))))
+                .bindNow();
+        client = new ToLogicServer("http11", 4, 16, Duration.ofSeconds(1), Duration.ofSeconds(30), Duration.ofSeconds(1), Duration.ofSeconds(3));
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.disposeNow();
+    }
+
+    @Test
+    void reusesKeepAliveConnection() {
+        String url = "http://127.0.0.1:" + server.port() + "/echo";
+        for (int i = 0; i < 10; i++) {
+            assertEquals("{\"itemId\":" + i + "}", client.sendRequestToHttpServer("{\"itemId\":" + i + "}", url).block());
+        }
+        // connection 반납은 응답 완료 이후 event loop 에서 일어나므로 바로 다음 요청이 새 connection 을 열 수 있다
+        assertTrue(connections.get() < 5, "connections : " + connections.get());
+    }
+
+    @Test
+    void failsWhenResponseTimeoutElapses() {
+        String url = "http://127.0.0.1:" + server.port() + "/slow";
+        assertThrows(RuntimeException.class, () -> client.sendRequestToHttpServer("{}", url, Duration.ofMillis(200)).block());
+    }
+}
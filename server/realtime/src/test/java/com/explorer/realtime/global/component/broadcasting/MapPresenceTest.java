@@ -0,0 +1,26 @@
+package com.explorer.realtime.global.component.broadcasting;
+
+import com.explorer.realtime.global.component.session.SessionManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MapPresenceTest {
+
+    @Test
+    void playerInLabReceivesNoMapUntilLeavingLab() {
+        MapPresence mapPresence = new MapPresence(new SessionManager(new SimpleMeterRegistry()));
+        mapPresence.move("ch", 1L, 2);
+
+        mapPresence.enterLab("ch", 1L);
+        assertFalse(mapPresence.isOn("ch", 1L, 2));
+        assertFalse(mapPresence.isOn("ch", 1L, 1));
+
+        assertEquals(2, mapPresence.leaveLab("ch", 1L));
+        assertTrue(mapPresence.isOn("ch", 1L, 2));
+        assertFalse(mapPresence.isOn("ch", 1L, 1));
+    }
+}
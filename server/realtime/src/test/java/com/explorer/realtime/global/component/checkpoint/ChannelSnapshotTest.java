@@ -0,0 +1,43 @@
+package com.explorer.realtime.global.component.checkpoint;
+
+import com.explorer.realtime.global.mongo.entity.InventoryData;
+import com.explorer.realtime.global.mongo.entity.PositionData;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ChannelSnapshotTest {
+
+    @Test
+    void parsesRedisHashesAndSkipsEmptySlots() {
+        Map<String, String> inventory = new LinkedHashMap<>();
+        inventory.put("0", "tool:1:1:1");
+        inventory.put("1", "");
+        List<InventoryData> inventoryData = ChannelSnapshot.toInventoryData(inventory);
+        assertEquals(List.of(new InventoryData(0, "tool", 1, 1, "1")), inventoryData);
+
+        List<PositionData> positionData = ChannelSnapshot.toPositionData(Map.of("1:2", "wood:isFarmable:3"));
+        assertEquals(List.of(new PositionData("1:2", "wood", "isFarmable", 3)), positionData);
+    }
+
+    @Test
+    void newerSectionsOverrideOlderOnes() {
+        ChannelSnapshot older = new ChannelSnapshot("ch", Map.of(1L, List.of(), 2L, List.of()), Map.of(1, MapDiff.full(List.of())),
+                List.of(1, 2), List.of(3), "1");
+        ChannelSnapshot leave = ChannelSnapshot.ofInventory("ch", 2L, List.of(new InventoryData(0, "wood", 0, 5, "0")));
+
+        ChannelSnapshot merged = older.merge(leave);
+        assertEquals(2, merged.getInventories().size());
+        assertEquals(5, merged.getInventories().get(2L).get(0).getItemCnt());
+        assertEquals(List.of(1, 2), merged.getElements());
+        assertEquals("1", merged.getLabLevel());
+
+        ChannelSnapshot onlyInventory = ChannelSnapshot.ofInventory("ch", 1L, List.of());
+        assertNull(onlyInventory.getCompounds());
+    }
+}
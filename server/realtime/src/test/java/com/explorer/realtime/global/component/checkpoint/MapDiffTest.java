@@ -0,0 +1,42 @@
+package com.explorer.realtime.global.component.checkpoint;
+
+import com.explorer.realtime.global.mongo.entity.PositionData;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MapDiffTest {
+
+    @Test
+    void partialDiffKeepsRemovedPositionsSeparately() {
+        Map<String, PositionData> changes = new HashMap<>();
+        changes.put("1:1", new PositionData("1:1", "wood", "isFarmable", 0));
+        changes.put("2:2", null);
+        MapDiff diff = MapDiff.partial(changes);
+
+        assertFalse(diff.isFull());
+        assertEquals(2, diff.changedPositions().size());
+        assertEquals(List.of(new PositionData("1:1", "wood", "isFarmable", 0)), diff.positions());
+    }
+
+    @Test
+    void mergeAppliesNewerChangesAndFullReplaces() {
+        Map<String, PositionData> farmed = new HashMap<>();
+        farmed.put("1:1", null);
+        MapDiff full = MapDiff.full(List.of(new PositionData("1:1", "wood", "isFarmable", 0), new PositionData("3:3", "wood", "isFarmable", 0)));
+
+        MapDiff merged = full.merge(MapDiff.partial(farmed));
+        assertTrue(merged.isFull());
+        assertEquals(List.of(new PositionData("3:3", "wood", "isFarmable", 0)), merged.positions());
+
+        MapDiff replaced = MapDiff.partial(farmed).merge(MapDiff.full(List.of()));
+        assertTrue(replaced.isFull());
+        assertTrue(replaced.positions().isEmpty());
+    }
+}
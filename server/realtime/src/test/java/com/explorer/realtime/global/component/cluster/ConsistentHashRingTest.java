@@ -0,0 +1,47 @@
+package com.explorer.realtime.global.component.cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConsistentHashRingTest {
+
+    private static final ClusterNode A = new ClusterNode("a", "10.0.0.1", 1370);
+    private static final ClusterNode B = new ClusterNode("b", "10.0.0.2", 1370);
+    private static final ClusterNode C = new ClusterNode("c", "10.0.0.3", 1370);
+
+    @Test
+    void sameNodesGiveSameOwnerRegardlessOfOrder() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of(A, B, C), 128);
+        ConsistentHashRing reordered = new ConsistentHashRing(List.of(C, A, B), 128);
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 3000; i++) {
+            String channelId = "channel" + i;
+            assertEquals(ring.node(channelId), reordered.node(channelId));
+            counts.merge(ring.node(channelId).id(), 1, Integer::sum);
+        }
+        counts.values().forEach(count -> assertTrue(count > 600, counts.toString()));
+    }
+
+    @Test
+    void addingNodeOnlyMovesKeysToThatNode() {
+        ConsistentHashRing before = new ConsistentHashRing(List.of(A, B), 128);
+        ConsistentHashRing after = new ConsistentHashRing(List.of(A, B, C), 128);
+
+        int moved = 0;
+        for (int i = 0; i < 3000; i++) {
+            String channelId = "channel" + i;
+            if (!before.node(channelId).equals(after.node(channelId))) {
+                assertEquals(C, after.node(channelId));
+                moved++;
+            }
+        }
+        assertTrue(moved > 600 && moved < 1500, String.valueOf(moved));
+    }
+}
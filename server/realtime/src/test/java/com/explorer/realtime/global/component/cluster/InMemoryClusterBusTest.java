@@ -0,0 +1,33 @@
+package com.explorer.realtime.global.component.cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class InMemoryClusterBusTest {
+
+    @Test
+    void peersShareMessagesAndPayloadRoundTrips() {
+        InMemoryClusterBus first = new InMemoryClusterBus();
+        InMemoryClusterBus second = new InMemoryClusterBus(first);
+        List<ClusterEnvelope> received = new ArrayList<>();
+        second.subscribe(envelope -> received.add(ClusterEnvelope.fromPayload(envelope.toPayload())));
+
+        byte[] json = "{\"dataHeader\":{}}\n".getBytes(StandardCharsets.UTF_8);
+        first.publish(new ClusterEnvelope("a", List.of(1L, 2L), json, null, List.of("move:1"))).block();
+
+        assertEquals(1, received.size());
+        ClusterEnvelope envelope = received.get(0);
+        assertEquals("a", envelope.origin());
+        assertEquals(List.of(1L, 2L), envelope.userIds());
+        assertArrayEquals(json, envelope.json());
+        assertNull(envelope.binary());
+        assertEquals(List.of("move:1"), envelope.latestKeys());
+    }
+}
@@ -0,0 +1,56 @@
+package com.explorer.realtime.global.component.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryCodecTest {
+
+    @Test
+    void decodesMoveIntoHandlerJson() {
+        ByteBuf buf = Unpooled.buffer();
+        buf.writeByte(ProtocolVersion.BINARY_V1).writeByte(OpCode.MOVE.getCode());
+        BinaryCodec.writeString(buf, "ABCD1234");
+        BinaryCodec.writeVarLong(buf, 123456789L);
+        BinaryCodec.writeVarInt(buf, 2);
+        BinaryCodec.writePosition(buf, "1.5:-0.25:30:0:90.1:-180");
+
+        assertTrue(BinaryCodec.isBinaryPayload(buf));
+        JSONObject json = BinaryCodec.decode(buf);
+
+        assertEquals("ingame", json.getString("type"));
+        assertEquals("moving", json.getString("category"));
+        assertEquals("move", json.getString("eventName"));
+        assertEquals("ABCD1234", json.getString("channelId"));
+        assertEquals(123456789L, json.getLong("userId"));
+        assertEquals(2, json.getInt("mapId"));
+        assertEquals("1.5:-0.25:30:0:90.1:-180", json.getString("position"));
+        assertFalse(buf.isReadable());
+    }
+
+    @Test
+    void encodesFramedOutboundMessage() {
+        byte[] frame = BinaryCodec.encodeMove(7L, 1, "10:0:-3.07");
+        ByteBuf buf = Unpooled.wrappedBuffer(frame);
+
+        assertEquals(0x00, buf.readByte());
+        assertEquals(frame.length - 5, buf.readInt());
+        assertEquals(ProtocolVersion.BINARY_V1, buf.readByte());
+        assertEquals(OpCode.MOVE.getCode(), buf.readByte());
+        assertEquals(7L, BinaryCodec.readVarLong(buf));
+        assertEquals(1, BinaryCodec.readVarInt(buf));
+        assertEquals("10:0:-3.07", BinaryCodec.readPosition(buf));
+    }
+
+    @Test
+    void fallsBackToJsonOnInvalidPosition() {
+        assertNull(BinaryCodec.encodeMove(7L, 1, "not:a:position"));
+        assertFalse(BinaryCodec.isBinaryPayload(Unpooled.copiedBuffer(new byte[]{'{', '}'})));
+    }
+}
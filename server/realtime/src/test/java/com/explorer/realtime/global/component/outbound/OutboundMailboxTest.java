@@ -0,0 +1,88 @@
+package com.explorer.realtime.global.component.outbound;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class OutboundMailboxTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboundMailbox mailbox;
+    private EmbeddedChannel channel;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        OutboundMailboxes mailboxes = new OutboundMailboxes(meterRegistry, 32, 64, 128, Duration.ofSeconds(10));
+        mailbox = mailboxes.create();
+        channel = new EmbeddedChannel(mailbox);
+    }
+
+    private static ByteBuf text(String s) {
+        return Unpooled.copiedBuffer(s, StandardCharsets.UTF_8);
+    }
+
+    private String readOutbound() {
+        ByteBuf buf = channel.readOutbound();
+        if (buf == null) {
+            return null;
+        }
+        String s = buf.toString(StandardCharsets.UTF_8);
+        buf.release();
+        return s;
+    }
+
+    @Test
+    void dropsSupersededPositionsBeforeFlush() {
+        mailbox.offer(text("chat\n"), null);
+        mailbox.offer(text("move1-a\n"), List.of("move:1"));
+        mailbox.offer(text("move1-b\n"), List.of("move:1"));
+        assertEquals(3, mailbox.depth());
+
+        channel.runPendingTasks();
+
+        assertEquals("chat\n", readOutbound());
+        assertEquals("move1-b\n", readOutbound());
+        assertNull(readOutbound());
+        assertEquals(0, mailbox.depth());
+        assertEquals(1.0, meterRegistry.counter("realtime.outbound.dropped").count());
+    }
+
+    @Test
+    void keepsBatchUntilEveryKeyIsSuperseded() {
+        mailbox.offer(text("tick1\n"), List.of("move:1", "move:2"));
+        mailbox.offer(text("tick2\n"), List.of("move:1"));
+        channel.runPendingTasks();
+        assertEquals("tick1\n", readOutbound());
+        assertEquals("tick2\n", readOutbound());
+
+        mailbox.offer(text("tick3\n"), List.of("move:1", "move:2"));
+        mailbox.offer(text("tick4\n"), List.of("move:2"));
+        mailbox.offer(text("tick5\n"), List.of("move:1"));
+        channel.runPendingTasks();
+        assertEquals("tick4\n", readOutbound());
+        assertEquals("tick5\n", readOutbound());
+        assertNull(readOutbound());
+    }
+
+    @Test
+    void closesClientThatFallsTooFarBehind() {
+        mailbox.offer(Unpooled.buffer().writeZero(200), null);
+        channel.runPendingTasks();
+
+        assertFalse(channel.isActive());
+        assertEquals(0, mailbox.depth());
+        assertEquals(1.0, meterRegistry.counter("realtime.outbound.disconnected").count());
+    }
+}
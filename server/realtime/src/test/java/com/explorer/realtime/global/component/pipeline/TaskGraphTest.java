@@ -0,0 +1,68 @@
+package com.explorer.realtime.global.component.pipeline;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TaskGraphTest {
+
+    @Test
+    void runsIndependentStepsConcurrentlyAndDependentsAfter() {
+        List<String> finished = new CopyOnWriteArrayList<>();
+        AtomicInteger shared = new AtomicInteger();
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        List<Boolean> overlapped = new CopyOnWriteArrayList<>();
+        TaskGraph graph = new TaskGraph()
+                .step("a", () -> awaitOther("a", bothStarted, overlapped, finished))
+                .step("b", () -> awaitOther("b", bothStarted, overlapped, finished))
+                .step("c", () -> Mono.fromRunnable(() -> finished.add("c")), "a", "b")
+                .step("d", () -> Mono.fromRunnable(shared::incrementAndGet), "a")
+                .step("e", () -> Mono.fromRunnable(() -> finished.add("e")), "c", "d");
+
+        Map<String, Duration> timings = graph.run().block(Duration.ofSeconds(10));
+
+        assertEquals(List.of(true, true), overlapped);      // a, b 가 서로의 시작을 기다릴 수 있어야 한다 (순차 실행이면 timeout)
+        assertEquals(List.of("c", "e"), finished.subList(2, 4));
+        assertEquals(1, shared.get());
+        assertEquals(List.of("a", "b", "c", "d", "e"), List.copyOf(timings.keySet()));
+    }
+
+    private static Mono<Void> awaitOther(String name, CountDownLatch bothStarted, List<Boolean> overlapped, List<String> finished) {
+        return Mono.fromRunnable(() -> {
+                    bothStarted.countDown();
+                    try {
+                        overlapped.add(bothStarted.await(5, TimeUnit.SECONDS));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        overlapped.add(false);
+                    }
+                    finished.add(name);
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
+    @Test
+    void rejectsUnknownDependencyAndPropagatesFailure() {
+        assertThrows(IllegalArgumentException.class, () -> new TaskGraph().step("a", Mono::empty, "missing"));
+
+        AtomicInteger dependents = new AtomicInteger();
+        TaskGraph graph = new TaskGraph()
+                .step("fail", () -> Mono.error(new IllegalStateException("boom")))
+                .step("after", () -> Mono.fromRunnable(dependents::incrementAndGet), "fail");
+
+        assertThrows(IllegalStateException.class, () -> graph.run().block(Duration.ofSeconds(5)));
+        assertEquals(0, dependents.get());
+    }
+}
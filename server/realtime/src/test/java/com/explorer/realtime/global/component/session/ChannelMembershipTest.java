@@ -0,0 +1,51 @@
+package com.explorer.realtime.global.component.session;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ChannelMembershipTest {
+
+    private ChannelMembership channelMembership;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ReactiveRedisTemplate<String, Object> template = mock(ReactiveRedisTemplate.class);
+        when(template.convertAndSend(anyString(), any())).thenReturn(Mono.just(0L));
+        channelMembership = new ChannelMembership(template);
+    }
+
+    @Test
+    void updatesLoadedChannel() {
+        channelMembership.load("ch", List.of(1L, 2L), channelMembership.generation());
+        channelMembership.join("ch", 3L);
+        channelMembership.leave("ch", 1L);
+
+        assertEquals(Set.of(2L, 3L), channelMembership.getMembers("ch"));
+
+        channelMembership.remove("ch");
+        assertNull(channelMembership.getMembers("ch"));
+    }
+
+    @Test
+    void ignoresJoinOnUnloadedChannelAndStaleLoad() {
+        long generation = channelMembership.generation();
+        channelMembership.join("ch", 3L);
+        assertNull(channelMembership.getMembers("ch"));
+
+        channelMembership.load("ch", List.of(1L, 2L), generation);
+        assertNull(channelMembership.getMembers("ch"));
+    }
+}
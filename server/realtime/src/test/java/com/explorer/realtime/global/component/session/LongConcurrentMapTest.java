@@ -0,0 +1,58 @@
+package com.explorer.realtime.global.component.session;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongConcurrentMapTest {
+
+    @Test
+    void putReplacesAndRemoveOnlyMatchingValue() {
+        LongConcurrentMap<String> map = new LongConcurrentMap<>();
+        String first = "first";
+        String second = "second";
+
+        assertNull(map.put(1L, first));
+        assertSame(first, map.put(1L, second));
+        assertFalse(map.remove(1L, first));
+        assertTrue(map.remove(1L, second));
+        assertNull(map.get(1L));
+        assertEquals(0, map.size());
+
+        assertNull(map.put(1L, first));         // 지운 칸에 같은 key 를 다시 넣는다
+        assertSame(first, map.get(1L));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void matchesHashMapAcrossResizesAndRemovals() {
+        LongConcurrentMap<Long> map = new LongConcurrentMap<>();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 20_000; i++) {
+            long key = random.nextInt(500);
+            if (random.nextBoolean()) {
+                Long value = (long) i;
+                assertEquals(expected.put(key, value), map.put(key, value));
+            } else {
+                Long current = expected.get(key);
+                assertEquals(current != null, current != null && map.remove(key, current));
+                expected.remove(key);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (long key = 0; key < 500; key++) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+    }
+}
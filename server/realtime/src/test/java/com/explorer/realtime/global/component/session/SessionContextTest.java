@@ -0,0 +1,36 @@
+package com.explorer.realtime.global.component.session;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import reactor.netty.Connection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SessionContextTest {
+
+    @Test
+    void attachedOncePerChannelAndFillsOmittedIdentity() {
+        Connection connection = Connection.from(new EmbeddedChannel());
+        assertNull(SessionContext.find(connection));
+
+        SessionContext context = SessionContext.of(connection);
+        assertSame(context, SessionContext.of(connection));
+        context.joinWaitingRoom(7L, "team", "nick", 2);
+        assertFalse(context.isInGame());
+
+        context.startGame("channel");
+        context.setTool("0:1");
+        assertTrue(context.isInGame());
+        assertEquals(1, context.getMapId());
+
+        JSONObject json = new JSONObject().put("eventName", "move").put("channelId", "other");
+        SessionContext.find(connection).fill(json);
+        assertEquals(7L, json.getLong("userId"));
+        assertEquals("other", json.getString("channelId"));
+    }
+}
@@ -0,0 +1,75 @@
+package com.explorer.realtime.global.component.session;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+import reactor.netty.Connection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SessionManagerTest {
+
+    @Test
+    void indexesByUserAndChannelAndCleansUpOnClose() {
+        SessionManager sessionManager = new SessionManager(new SimpleMeterRegistry());
+        EmbeddedChannel firstChannel = new EmbeddedChannel();
+        Connection first = Connection.from(firstChannel);
+        Connection second = Connection.from(new EmbeddedChannel());
+
+        sessionManager.setConnection(1L, first);
+        sessionManager.setConnection(2L, second);
+        sessionManager.joinChannel(1L, "team");
+        sessionManager.joinChannel(2L, "team");
+        sessionManager.joinChannel(1L, "channel");
+
+        assertSame(first, sessionManager.getConnection(1L));
+        assertEquals(1L, sessionManager.getUid(first));
+        assertEquals(Map.of("team", 1, "channel", 1), sessionManager.channelCounts());
+
+        List<Long> targets = new ArrayList<>();
+        sessionManager.forEachInChannel("channel", (userId, connection) -> targets.add(userId));
+        assertEquals(List.of(1L), targets);
+
+        firstChannel.close();
+        assertNull(sessionManager.getConnection(1L));
+        assertEquals(0, sessionManager.count("channel"));
+        assertFalse(sessionManager.forEachInChannel("channel", (userId, connection) -> {}));
+    }
+
+    @Test
+    void closingReplacedConnectionKeepsNewSession() {
+        SessionManager sessionManager = new SessionManager(new SimpleMeterRegistry());
+        EmbeddedChannel oldChannel = new EmbeddedChannel();
+        Connection reconnected = Connection.from(new EmbeddedChannel());
+
+        sessionManager.setConnection(1L, Connection.from(oldChannel));
+        sessionManager.joinChannel(1L, "channel");
+        sessionManager.setConnection(1L, reconnected);
+        sessionManager.joinChannel(1L, "channel");
+        oldChannel.close();
+
+        assertSame(reconnected, sessionManager.getConnection(1L));
+        assertEquals(1, sessionManager.count("channel"));
+    }
+
+    @Test
+    void longMapGrowsAndRemovesOnlyExpectedValue() {
+        LongConcurrentMap<String> map = new LongConcurrentMap<>();
+        for (long key = 0; key < 1000; key++) {
+            map.put(key * 31, "v" + key);
+        }
+        assertEquals(1000, map.size());
+        assertEquals("v500", map.get(500 * 31));
+        assertFalse(map.remove(31, "other"));
+        map.remove(31, map.get(31));
+        assertNull(map.get(31));
+        assertEquals(999, map.size());
+    }
+}
@@ -0,0 +1,102 @@
+package com.explorer.realtime.global.component.session;
+
+import com.explorer.realtime.global.component.codec.ProtocolVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+import reactor.netty.Connection;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SessionResumeTest {
+
+    @Test
+    void resumeMovesSessionAndReplaysMissedFrames() {
+        SessionManager sessionManager = new SessionManager(new SimpleMeterRegistry());
+        SessionResume sessionResume = new SessionResume(sessionManager, Duration.ofMinutes(1), 16, 1024);
+        EmbeddedChannel oldChannel = new EmbeddedChannel();
+        Connection old = Connection.from(oldChannel);
+        sessionManager.setConnection(1L, old);
+        sessionManager.joinChannel(1L, "channel");
+        SessionContext.of(old).joinGame(1L, "channel", "nick", 2);
+        String token = sessionResume.issue(1L, "channel");
+
+        oldChannel.close();
+        AtomicInteger leaves = new AtomicInteger();
+        assertTrue(sessionResume.detach(1L, old, leaves::incrementAndGet));
+        sessionResume.capture("channel", userId -> true, binary -> bytes("a"), null);
+        sessionResume.capture("channel", userId -> true, binary -> bytes("pos1"), List.of("position:1"));
+        assertTrue(sessionResume.capture(1L, binary -> bytes("b"), null));
+        sessionResume.capture("channel", userId -> true, binary -> bytes("pos2"), List.of("position:1"));
+        sessionResume.capture("channel", userId -> false, binary -> bytes("other"), null);
+
+        Connection reconnected = Connection.from(new EmbeddedChannel());
+        SessionResume.Resumed resumed = sessionResume.resume(token, reconnected);
+
+        assertEquals(List.of("a", "b", "pos2"), resumed.frames().stream().map(frame -> new String(frame, StandardCharsets.UTF_8)).toList());
+        assertSame(reconnected, sessionManager.getConnection(1L));
+        assertEquals(1, sessionManager.count("channel"));
+        assertEquals("nick", SessionContext.find(reconnected).getNickname());
+        assertNotEquals(token, resumed.token());
+        assertNull(sessionResume.resume(token, Connection.from(new EmbeddedChannel())));
+        assertFalse(sessionResume.capture(1L, binary -> bytes("live"), null));
+        assertEquals(0, leaves.get());
+    }
+
+    @Test
+    void leavesAfterGraceOrOverflow() throws InterruptedException {
+        SessionManager sessionManager = new SessionManager(new SimpleMeterRegistry());
+        SessionResume sessionResume = new SessionResume(sessionManager, Duration.ofMillis(50), 2, 1024);
+        CountDownLatch expired = new CountDownLatch(1);
+        sessionResume.issue(1L, "channel");
+        assertTrue(sessionResume.detach(1L, Connection.from(new EmbeddedChannel()), expired::countDown));
+        assertTrue(expired.await(5, TimeUnit.SECONDS));
+
+        SessionResume overflowing = new SessionResume(sessionManager, Duration.ofMinutes(1), 2, 1024);
+        AtomicInteger leaves = new AtomicInteger();
+        String token = overflowing.issue(2L, "channel");
+        overflowing.detach(2L, Connection.from(new EmbeddedChannel()), leaves::incrementAndGet);
+        for (int i = 0; i < 3; i++) {
+            overflowing.capture(2L, binary -> bytes("frame"), null);
+        }
+        assertNull(overflowing.resume(token, Connection.from(new EmbeddedChannel())));
+        assertEquals(1, leaves.get());
+
+        overflowing.issue(3L, "channel");
+        overflowing.revoke(3L);
+        assertFalse(overflowing.detach(3L, Connection.from(new EmbeddedChannel()), leaves::incrementAndGet));
+    }
+
+    @Test
+    void capturesInDetachedConnectionProtocolAndCarriesItOver() {
+        SessionManager sessionManager = new SessionManager(new SimpleMeterRegistry());
+        SessionResume sessionResume = new SessionResume(sessionManager, Duration.ofMinutes(1), 16, 1024);
+        Connection old = Connection.from(new EmbeddedChannel());
+        ProtocolVersion.negotiate(old, ProtocolVersion.BINARY_V1);
+        String token = sessionResume.issue(1L, "channel");
+        sessionResume.detach(1L, old, () -> {});
+
+        sessionResume.capture("channel", userId -> true, binary -> bytes(binary ? "binary" : "json"), null);
+        Connection reconnected = Connection.from(new EmbeddedChannel());
+        SessionResume.Resumed resumed = sessionResume.resume(token, reconnected);
+
+        assertEquals("binary", new String(resumed.frames().get(0), StandardCharsets.UTF_8));
+        assertTrue(ProtocolVersion.isBinary(reconnected));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
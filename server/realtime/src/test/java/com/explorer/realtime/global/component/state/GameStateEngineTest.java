@@ -0,0 +1,127 @@
+package com.explorer.realtime.global.component.state;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.ReactiveHashOperations;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GameStateEngineTest {
+
+    private static final StateKey KEY = StateKey.hash("inventoryData:ch:1");
+
+    @Mock
+    private ReactiveRedisTemplate<String, Object> template;
+    @Mock
+    private ReactiveHashOperations<String, Object, Object> hashOperations;
+    @Mock
+    private ReactiveValueOperations<String, Object> valueOperations;
+    @Captor
+    private ArgumentCaptor<List<ByteBuffer>> args;
+    private AutoCloseable mocks;
+    private GameStateEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        mocks = MockitoAnnotations.openMocks(this);
+        when(template.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(anyString())).thenReturn(Flux.just(Map.entry("cnt", "0")));
+        when(template.getSerializationContext()).thenReturn(
+                RedisSerializationContext.<String, Object>newSerializationContext(new StringRedisSerializer())
+                        .value(new GenericJackson2JsonRedisSerializer())
+                        .build());
+        when(template.opsForValue()).thenReturn(valueOperations);
+        when(template.execute(anyScript(), anyList(), anyList(), any(), any())).thenReturn(Flux.just(1L));
+        engine = new GameStateEngine(template, Duration.ofMinutes(1), Duration.ofMinutes(10), List.of());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        engine.stop();
+        mocks.close();
+    }
+
+    private static RedisScript<Long> anyScript() {
+        return any();
+    }
+
+    @Test
+    void serializesConcurrentUpdatesAndWritesBehind() {
+        Flux.range(0, 500)
+                .flatMap(i -> engine.execute("ch", KEY, state -> {
+                    int cnt = Integer.parseInt(String.valueOf(state.hget(KEY.key(), "cnt")));
+                    state.hset(KEY.key(), "cnt", String.valueOf(cnt + 1));
+                    return cnt;
+                }))
+                .blockLast(Duration.ofSeconds(5));
+
+        assertEquals("500", engine.execute("ch", KEY, state -> state.hget(KEY.key(), "cnt")).block(Duration.ofSeconds(5)));
+        verify(template, never()).execute(anyScript(), anyList(), anyList(), any(), any());
+
+        engine.flush("ch").block(Duration.ofSeconds(5));
+        verify(template).execute(anyScript(), eq(List.of(KEY.key())), args.capture(), any(), any());
+        assertEquals(List.of("0", "1", "cnt", "500"), args.getValue().stream().map(buffer -> StandardCharsets.UTF_8.decode(buffer).toString()).toList());
+    }
+
+    @Test
+    void propagatesActionError() {
+        Mono<Object> failing = engine.execute("ch", KEY, state -> {
+            throw new IllegalArgumentException("fail");
+        });
+        assertThrows(IllegalArgumentException.class, () -> failing.block(Duration.ofSeconds(5)));
+
+        engine.flush("ch").block(Duration.ofSeconds(5));
+        verify(template, never()).execute(anyScript(), anyList(), anyList(), any(), any());
+    }
+
+    @Test
+    void evictWritesPendingChangesAndReloadsOnNextAccess() {
+        engine.execute("ch", KEY, state -> {
+            state.hset(KEY.key(), "cnt", "7");
+            return true;
+        }).block(Duration.ofSeconds(5));
+
+        engine.evict("ch").block(Duration.ofSeconds(5));
+        verify(template).execute(anyScript(), eq(List.of(KEY.key())), anyList(), any(), any());
+
+        assertEquals("0", engine.execute("ch", KEY, state -> state.hget(KEY.key(), "cnt")).block(Duration.ofSeconds(5)));
+        verify(hashOperations, times(2)).entries(KEY.key());
+    }
+
+    @Test
+    void missingValueKeyReadsAsNull() {
+        StateKey key = StateKey.value("tool:ch:1");
+        when(valueOperations.get(key.key())).thenReturn(Mono.empty());
+
+        assertNull(engine.execute("ch", key, state -> state.get(key.key())).block(Duration.ofSeconds(5)));
+    }
+}
@@ -0,0 +1,39 @@
+package com.explorer.realtime.global.component.state.codec;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StateCodecTest {
+
+    private final InventorySlotCodec inventorySlotCodec = new InventorySlotCodec();
+    private final MapObjectCodec mapObjectCodec = new MapObjectCodec();
+
+    @Test
+    void packsAndRestoresKnownValues() {
+        for (String value : new String[]{"tool:1:1:1", "wood:0:0:0", "extractionMaterial:65535:65535:0", "element:12:300:1"}) {
+            String encoded = inventorySlotCodec.encode(value);
+            assertTrue(encoded.chars().allMatch(Character::isDigit), encoded);
+            assertEquals(value, inventorySlotCodec.decode(encoded));
+        }
+        for (String value : new String[]{"debris:isFarmable:3", "compound:notFarmable:0"}) {
+            String encoded = mapObjectCodec.encode(value);
+            assertNotEquals(value, encoded);
+            assertEquals(value, mapObjectCodec.decode(encoded));
+        }
+    }
+
+    @Test
+    void keepsValuesThatCannotBePacked() {
+        for (String value : new String[]{"", "unknown:1:1:1", "tool:1:70000:1", "tool:1:1:2", "tool:-1:1:1", "tool:1:1"}) {
+            assertEquals(value, inventorySlotCodec.encode(value));
+            assertEquals(value, inventorySlotCodec.decode(value));
+        }
+        for (String value : new String[]{"debris:maybe:3", "unknown:isFarmable:1", "debris:isFarmable"}) {
+            assertEquals(value, mapObjectCodec.encode(value));
+            assertEquals(value, mapObjectCodec.decode(value));
+        }
+    }
+}
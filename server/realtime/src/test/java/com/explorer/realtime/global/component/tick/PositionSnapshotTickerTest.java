@@ -0,0 +1,122 @@
+package com.explorer.realtime.global.component.tick;
+
+import com.explorer.realtime.global.common.dto.Message;
+import com.explorer.realtime.global.common.enums.CastingType;
+import com.explorer.realtime.global.component.broadcasting.Broadcasting;
+import com.explorer.realtime.global.component.broadcasting.MapPresence;
+import com.explorer.realtime.global.component.codec.WireMessage;
+import com.explorer.realtime.global.component.session.SessionManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PositionSnapshotTickerTest {
+
+    private Broadcasting broadcasting;
+    private MapPresence mapPresence;
+    private PositionSnapshotTicker ticker;
+
+    @BeforeEach
+    void setUp() {
+        broadcasting = mock(Broadcasting.class);
+        when(broadcasting.broadcastingToMap(anyString(), anyInt(), anyList())).thenReturn(Mono.empty());
+        mapPresence = new MapPresence(new SessionManager(new SimpleMeterRegistry()));
+        ticker = new PositionSnapshotTicker(broadcasting, mapPresence, 20);
+    }
+
+    private void move(Long userId, String position) {
+        move(userId, 1, position);
+    }
+
+    private void move(Long userId, int mapId, String position) {
+        ticker.update("ch", mapId, "move:" + userId, position, () -> WireMessage.of(
+                Message.success("move", CastingType.BROADCASTING, Map.of("userId", userId, "position", position)),
+                null
+        ));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void keepsLatestPositionPerUser() {
+        move(1L, "0:0:0");
+        move(1L, "1:0:0");
+        move(1L, "2:0:0");
+        move(2L, "5:0:5");
+        ticker.tick();
+
+        ArgumentCaptor<List<WireMessage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(broadcasting).broadcastingToMap(eq("ch"), eq(1), captor.capture());
+        List<WireMessage> sent = captor.getValue();
+        assertEquals(2, sent.size());
+        assertEquals("2:0:0", sent.stream()
+                .map(msg -> (Map<String, Object>) msg.getMessage().getDataBody())
+                .filter(body -> body.get("userId").equals(1L))
+                .findFirst().orElseThrow()
+                .get("position"));
+    }
+
+    @Test
+    void skipsUnchangedPosition() {
+        move(1L, "1:0:0");
+        ticker.tick();
+        move(1L, "1:0:0");
+        ticker.tick();
+        ticker.tick();
+
+        verify(broadcasting, times(1)).broadcastingToMap(eq("ch"), eq(1), anyList());
+        verify(broadcasting, never()).broadcastingToMap(anyString(), anyInt(), any(WireMessage.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void routesByMapAndResendsOnResync() {
+        move(1L, 1, "1:0:0");
+        move(2L, 2, "2:0:0");
+        ticker.tick();
+        verify(broadcasting).broadcastingToMap(eq("ch"), eq(1), anyList());
+        verify(broadcasting).broadcastingToMap(eq("ch"), eq(2), anyList());
+
+        ticker.resync("ch", 2);
+        ticker.tick();
+
+        ArgumentCaptor<List<WireMessage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(broadcasting, times(2)).broadcastingToMap(eq("ch"), eq(2), captor.capture());
+        assertEquals(1, captor.getValue().size());
+        verify(broadcasting, times(1)).broadcastingToMap(eq("ch"), eq(1), anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void resyncSkipsPlayersWhoLeft() {
+        move(1L, 2, "1:0:0");
+        move(2L, 2, "2:0:0");
+        ticker.tick();
+
+        mapPresence.leave("ch", 1L);
+        ticker.resync("ch", 2);
+        ticker.tick();
+
+        ArgumentCaptor<List<WireMessage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(broadcasting, times(2)).broadcastingToMap(eq("ch"), eq(2), captor.capture());
+        List<WireMessage> resent = captor.getValue();
+        assertEquals(1, resent.size());
+        assertEquals(2L, ((Map<String, Object>) resent.get(0).getMessage().getDataBody()).get("userId"));
+    }
+}
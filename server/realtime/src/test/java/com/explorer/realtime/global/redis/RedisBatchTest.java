@@ -0,0 +1,59 @@
+package com.explorer.realtime.global.redis;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.redis.core.ReactiveHashOperations;
+import org.springframework.data.redis.core.ReactiveListOperations;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RedisBatchTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sendsEveryCommandBeforeAnyReply() {
+        ReactiveRedisTemplate<String, Object> template = mock(ReactiveRedisTemplate.class);
+        ReactiveHashOperations<String, Object, Object> hashOperations = mock(ReactiveHashOperations.class);
+        ReactiveListOperations<String, Object> listOperations = mock(ReactiveListOperations.class);
+        when(template.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(template.opsForList()).thenReturn(listOperations);
+
+        Sinks.One<Boolean> hashReply = Sinks.one();
+        when(hashOperations.putAll(anyString(), anyMap())).thenReturn(hashReply.asMono());
+        when(listOperations.rightPushAll(anyString(), anyList())).thenReturn(Mono.just(3L));
+        when(template.delete(anyString())).thenReturn(Mono.just(1L));
+
+        RedisBatch batch = RedisBatch.on(template)
+                .hash("user:1", Map.of("nickname", "a", "avatar", "1"))
+                .list("map1", List.of("1:0:1", "2:0:2", "3:0:3"))
+                .hash("user:2", Map.of())
+                .delete("channel:team");
+        assertEquals(3, batch.size());
+
+        Mono<Void> result = batch.execute().cache();
+        result.subscribe();
+
+        InOrder order = inOrder(hashOperations, listOperations, template);
+        order.verify(hashOperations).putAll("user:1", Map.of("nickname", "a", "avatar", "1"));
+        order.verify(listOperations).rightPushAll("map1", List.of("1:0:1", "2:0:2", "3:0:3"));
+        order.verify(template).delete("channel:team");
+
+        assertFalse(result.toFuture().isDone());
+        hashReply.tryEmitValue(true);
+        result.block(Duration.ofSeconds(1));
+    }
+}
@@ -0,0 +1,51 @@
+package com.explorer.realtime.global.util;
+
+import com.explorer.realtime.gamedatahandling.component.personal.inventoryInfo.dto.InventoryInfo;
+import com.explorer.realtime.global.common.dto.Message;
+import com.explorer.realtime.global.common.enums.CastingType;
+import io.netty.buffer.ByteBuf;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MessageEncoderTest {
+
+    private static void assertSameAsConverter(Message<?> message) {
+        ByteBuf buf = MessageEncoder.encode(message);
+        String encoded = buf.toString(StandardCharsets.UTF_8);
+        buf.release();
+
+        assertEquals('\n', encoded.charAt(encoded.length() - 1));
+        JSONObject expected = MessageConverter.convert(message);
+        JSONObject actual = new JSONObject(encoded.trim());
+        assertTrue(expected.similar(actual), () -> expected + " != " + actual);
+    }
+
+    @Test
+    void encodesFlatMapBody() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("mapId", 1);
+        map.put("userId", 123456789012L);
+        map.put("position", "1.5:0:\"2\"");
+        map.put("ratio", 0.25);
+        map.put("isNewUser", true);
+        map.put("empty", null);
+        assertSameAsConverter(Message.success("move", CastingType.BROADCASTING, map));
+        assertSameAsConverter(Message.success("move", CastingType.BROADCASTING, map));
+    }
+
+    @Test
+    void encodesObjectBodyAndResultHeader() {
+        assertSameAsConverter(Message.success("getMapData", CastingType.BROADCASTING, Map.of("positions", List.of("1:0:1", "2:0:2"))));
+        assertSameAsConverter(Message.success("getItemFromMap", CastingType.UNICASTING, InventoryInfo.of(0, "mineral", 3, 2, 0)));
+        assertSameAsConverter(Message.fail("farm", CastingType.UNICASTING, "EXCEEDING_CAPACITY", "인벤토리가 가득 찼습니다."));
+        assertSameAsConverter(Message.success("endGame", CastingType.BROADCASTING));
+    }
+}
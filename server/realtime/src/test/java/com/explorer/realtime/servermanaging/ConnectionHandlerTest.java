@@ -0,0 +1,83 @@
+package com.explorer.realtime.servermanaging;
+
+import com.explorer.realtime.global.common.dto.Message;
+import com.explorer.realtime.global.component.broadcasting.Broadcasting;
+import com.explorer.realtime.global.component.session.SessionContext;
+import com.explorer.realtime.global.component.session.SessionManager;
+import com.explorer.realtime.global.component.session.SessionResume;
+import com.explorer.realtime.global.redis.ChannelRepository;
+import com.explorer.realtime.sessionhandling.disconnect.event.LeaveGame;
+import com.explorer.realtime.sessionhandling.ingame.event.EndGame;
+import com.explorer.realtime.sessionhandling.waitingroom.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConnectionHandlerTest {
+
+    private SessionManager sessionManager;
+    private SessionResume sessionResume;
+    private LeaveGame leaveGame;
+    private ConnectionHandler connectionHandler;
+
+    @BeforeEach
+    void setUp() {
+        sessionManager = new SessionManager(new SimpleMeterRegistry());
+        sessionResume = new SessionResume(sessionManager, Duration.ofMinutes(1), 16, 1024);
+        leaveGame = mock(LeaveGame.class);
+        when(leaveGame.process(anyString(), anyLong())).thenReturn(Mono.empty());
+        connectionHandler = new ConnectionHandler(mock(UserRepository.class), sessionManager, leaveGame, sessionResume);
+    }
+
+    @Test
+    void disconnectInGameLeavesGame() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        join(Connection.from(channel));
+
+        channel.close();
+
+        verify(leaveGame).process("channel", 1L);
+    }
+
+    @Test
+    void endGameThenDisconnectDoesNotLeaveGameAgain() {
+        ChannelRepository channelRepository = mock(ChannelRepository.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        Broadcasting broadcasting = mock(Broadcasting.class);
+        when(channelRepository.count("channel")).thenReturn(Mono.just(2L));
+        when(channelRepository.deleteByUserId("channel", 1L)).thenReturn(Mono.just(1L));
+        when(userRepository.delete(1L)).thenReturn(Mono.just(true));
+        when(broadcasting.broadcasting(eq("channel"), any(Message.class))).thenReturn(Mono.empty());
+        EmbeddedChannel channel = new EmbeddedChannel();
+        join(Connection.from(channel));
+        sessionResume.issue(1L, "channel");
+
+        new EndGame(sessionManager, sessionResume, channelRepository, userRepository, broadcasting)
+                .process("channel", new JSONObject().put("userId", 1L));
+        channel.close();
+
+        verify(leaveGame, never()).process(anyString(), anyLong());
+    }
+
+    private void join(Connection connection) {
+        connectionHandler.accept(connection);
+        sessionManager.setConnection(1L, connection);
+        sessionManager.joinChannel(1L, "channel");
+        SessionContext.of(connection).joinGame(1L, "channel", "nick", 2);
+    }
+}
@@ -0,0 +1,93 @@
+package com.explorer.realtime.servermanaging;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class FrameDecoderTest {
+
+    private static ByteBuf text(String s) {
+        return Unpooled.copiedBuffer(s, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void splitsPipelinedLines() {
+        EmbeddedChannel channel = new EmbeddedChannel(new FrameDecoder(1024));
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            sb.append("{\"idx\":").append(i).append("}\n");
+        }
+        channel.writeInbound(text(sb.toString()));
+
+        for (int i = 0; i < 50; i++) {
+            assertEquals("{\"idx\":" + i + "}", channel.readInbound());
+        }
+        assertNull(channel.readInbound());
+    }
+
+    @Test
+    void joinsLineSplitAcrossReads() {
+        EmbeddedChannel channel = new EmbeddedChannel(new FrameDecoder(1024));
+        channel.writeInbound(text("{\"type\":\"in"));
+        assertNull(channel.readInbound());
+
+        channel.writeInbound(text("game\"}\r\n\n{\"a\":1}\n"));
+        assertEquals("{\"type\":\"ingame\"}", channel.readInbound());
+        assertEquals("{\"a\":1}", channel.readInbound());
+    }
+
+    @Test
+    void splitsBackToBackObjectsWithoutNewline() {
+        EmbeddedChannel channel = new EmbeddedChannel(new FrameDecoder(1024));
+        String first = "{\"type\":\"ingame\",\"data\":{\"position\":\"1:0:2\"}}";
+        String second = "{\"type\":\"chat\",\"msg\":\"}{ \\\" \\\\\"}";
+        String third = "{\"type\":\"leave\"}";
+        String stream = first + second + third;
+
+        channel.writeInbound(text(stream.substring(0, first.length() + 25)));
+        assertEquals(first, channel.readInbound());
+        assertNull(channel.readInbound());
+
+        channel.writeInbound(text(stream.substring(first.length() + 25)));
+        assertEquals(second, channel.readInbound());
+        assertEquals(third, channel.readInbound());
+        assertNull(channel.readInbound());
+    }
+
+    @Test
+    void decodesLengthPrefixedFrame() {
+        EmbeddedChannel channel = new EmbeddedChannel(new FrameDecoder(1024));
+        byte[] payload = "{\"k\":\"line\\nbreak\"}".getBytes(StandardCharsets.UTF_8);
+        ByteBuf frame = Unpooled.buffer();
+        frame.writeByte(FrameDecoder.BINARY_MARKER).writeInt(payload.length).writeBytes(payload);
+
+        channel.writeInbound(frame.retainedSlice(0, 3));
+        assertNull(channel.readInbound());
+        channel.writeInbound(frame.slice(3, frame.readableBytes() - 3));
+
+        ByteBuf decoded = channel.readInbound();
+        assertEquals("{\"k\":\"line\\nbreak\"}", decoded.toString(StandardCharsets.UTF_8));
+        decoded.release();
+    }
+
+    @Test
+    void dropsOversizedFrames() {
+        EmbeddedChannel channel = new EmbeddedChannel(new FrameDecoder(16));
+        channel.writeInbound(text("{\"tooLong\":\"aaaaaaaaaaaaaaaa"));
+        channel.writeInbound(text("aaaa\"}\n{\"ok\":1}\n"));
+        assertEquals("{\"ok\":1}", channel.readInbound());
+
+        ByteBuf frame = Unpooled.buffer();
+        frame.writeByte(FrameDecoder.BINARY_MARKER).writeInt(32).writeZero(32);
+        frame.writeBytes("{\"ok\":2}\n".getBytes(StandardCharsets.UTF_8));
+        channel.writeInbound(frame);
+        assertEquals("{\"ok\":2}", channel.readInbound());
+        assertNull(channel.readInbound());
+    }
+}
@@ -0,0 +1,34 @@
+package com.explorer.realtime.servermanaging;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.timeout.IdleStateEvent;
+import org.junit.jupiter.api.Test;
+import reactor.netty.Connection;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdleTimeoutHandlerTest {
+
+    @Test
+    void enabledOnlyOnRequestAndClosesOnReaderIdle() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        Connection connection = Connection.from(channel);
+
+        IdleTimeoutHandler.enable(connection, Duration.ZERO);
+        assertNull(channel.pipeline().get(IdleTimeoutHandler.NAME));
+
+        IdleTimeoutHandler.enable(connection, Duration.ofSeconds(30));
+        IdleTimeoutHandler.enable(connection, Duration.ofSeconds(30));
+        assertNotNull(channel.pipeline().get(IdleTimeoutHandler.NAME));
+
+        channel.pipeline().fireUserEventTriggered(IdleStateEvent.WRITER_IDLE_STATE_EVENT);
+        assertTrue(channel.isActive());
+        channel.pipeline().fireUserEventTriggered(IdleStateEvent.READER_IDLE_STATE_EVENT);
+        assertFalse(channel.isActive());
+    }
+}
@@ -0,0 +1,83 @@
+package com.explorer.realtime.servermanaging;
+
+import com.explorer.realtime.channeldatahandling.ChannelDataHandler;
+import com.explorer.realtime.gamedatahandling.GameDataHandler;
+import com.explorer.realtime.global.component.broadcasting.Unicasting;
+import com.explorer.realtime.global.component.cluster.ClusterRegistry;
+import com.explorer.realtime.global.component.outbound.OutboundMailboxes;
+import com.explorer.realtime.global.component.session.SessionManager;
+import com.explorer.realtime.global.component.session.SessionResume;
+import com.explorer.realtime.initializing.event.InitializeHandler;
+import com.explorer.realtime.sessionhandling.disconnect.event.LeaveGame;
+import com.explorer.realtime.sessionhandling.ingame.InGameSessionHandler;
+import com.explorer.realtime.sessionhandling.waitingroom.WaitingRoomSessionHandler;
+import com.explorer.realtime.sessionhandling.waitingroom.repository.UserRepository;
+import com.explorer.realtime.staticdatahandling.StaticDataHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.DisposableServer;
+import reactor.netty.tcp.TcpClient;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class ServerInitializerTest {
+
+    private DisposableServer server;
+    private Connection client;
+
+    @AfterEach
+    void tearDown() {
+        if (client != null) {
+            client.disposeNow();
+        }
+        if (server != null) {
+            server.disposeNow();
+        }
+    }
+
+    /*
+     * Unity client 처럼 '\n' 없이 JSON 요청을 이어 보내도 요청마다 handler 에 전달된다
+     */
+    @Test
+    void dispatchesNewlineLessJsonRequests() {
+        GameDataHandler gameDataHandler = mock(GameDataHandler.class);
+        RequestHandler requestHandler = new RequestHandler(mock(WaitingRoomSessionHandler.class), mock(InGameSessionHandler.class),
+                gameDataHandler, mock(ChannelDataHandler.class), mock(InitializeHandler.class), mock(StaticDataHandler.class),
+                mock(Unicasting.class), mock(ClusterRegistry.class), mock(SessionResume.class));
+        SessionManager sessionManager = new SessionManager(new SimpleMeterRegistry());
+        ConnectionHandler connectionHandler = new ConnectionHandler(mock(UserRepository.class), sessionManager, mock(LeaveGame.class),
+                new SessionResume(sessionManager, Duration.ofMinutes(1), 16, 1024));
+        OutboundMailboxes outboundMailboxes = new OutboundMailboxes(new SimpleMeterRegistry(), 32768, 131072, 1048576, Duration.ofSeconds(10));
+        ServerInitializer serverInitializer = new ServerInitializer(connectionHandler, requestHandler, outboundMailboxes);
+        ReflectionTestUtils.setField(serverInitializer, "port", 0);
+        ReflectionTestUtils.setField(serverInitializer, "maxFrameLength", 65536);
+
+        server = serverInitializer.initializeServer().block(Duration.ofSeconds(5));
+        client = TcpClient.create().port(server.port()).connectNow(Duration.ofSeconds(5));
+        client.outbound()
+                .sendString(Mono.just(
+                        "{\"type\":\"ingame\",\"eventName\":\"move\",\"idx\":1,\"position\":\"1:0:2\"}"
+                                + "{\"type\":\"ingame\",\"eventName\":\"chat\",\"idx\":2,\"msg\":\"}{\"}"))
+                .then()
+                .block(Duration.ofSeconds(5));
+
+        ArgumentCaptor<JSONObject> captor = ArgumentCaptor.forClass(JSONObject.class);
+        verify(gameDataHandler, timeout(5000).times(2)).gameDataHandler(captor.capture());
+        List<JSONObject> requests = captor.getAllValues();
+        assertEquals(1, requests.get(0).getInt("idx"));
+        assertEquals(2, requests.get(1).getInt("idx"));
+        assertEquals("}{", requests.get(1).getString("msg"));
+    }
+}
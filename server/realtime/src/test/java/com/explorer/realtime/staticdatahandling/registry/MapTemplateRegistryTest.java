@@ -0,0 +1,50 @@
+package com.explorer.realtime.staticdatahandling.registry;
+
+import com.explorer.realtime.staticdatahandling.document.Position;
+import com.explorer.realtime.staticdatahandling.service.MongoService;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MapTemplateRegistryTest {
+
+    @Test
+    void parsesMongoPositionsIntoRedisFields() {
+        Map<String, String> template = MapTemplateRegistry.toTemplate(List.of("1:0:2:debris:0", "broken"));
+
+        assertEquals(Map.of("1:0:2", "debris:isFarmable:0"), template);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void buildsOnceAndRebuildsOnPublish() {
+        ReactiveRedisTemplate<String, Object> redisTemplate = mock(ReactiveRedisTemplate.class);
+        MongoService mongoService = mock(MongoService.class);
+        when(redisTemplate.convertAndSend(anyString(), eq("1"))).thenReturn(Mono.just(1L));
+        when(mongoService.findPositionByMapId(1))
+                .thenReturn(Flux.just(Position.from(1, Set.of("1:0:1:debris:0"))))
+                .thenReturn(Flux.just(Position.from(1, Set.of("1:0:1:debris:0", "2:0:2:debris:1"))));
+        MapTemplateRegistry registry = new MapTemplateRegistry(redisTemplate, mongoService);
+
+        assertEquals(1, registry.template(1).block().size());
+        assertEquals(1, registry.template(1).block().size());
+        verify(mongoService, times(1)).findPositionByMapId(1);
+
+        registry.publish(1).block();
+        assertEquals(2, registry.template(1).block().size());
+        verify(mongoService, times(2)).findPositionByMapId(1);
+    }
+}
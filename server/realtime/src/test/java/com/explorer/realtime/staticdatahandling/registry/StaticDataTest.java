@@ -0,0 +1,27 @@
+package com.explorer.realtime.staticdatahandling.registry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StaticDataTest {
+
+    @Test
+    void looksUpMaxCntByCategoryAndItemId() {
+        Map<Long, Integer> maxCnt = Map.of(
+                StaticData.key(0, 1), 64,
+                StaticData.key(0, 2), 16,
+                StaticData.key(1, 1), 1
+        );
+        StaticData data = new StaticData(3, Map.of("element", 0, "tool", 1), new LongIntTable(maxCnt), List.of(), MaterialTables.EMPTY);
+
+        assertEquals(64, data.maxCnt("element", 1));
+        assertEquals(16, data.maxCnt("element", 2));
+        assertEquals(1, data.maxCnt("tool", 1));
+        assertEquals(-1, data.maxCnt("tool", 2));
+        assertEquals(-1, data.maxCnt("unknown", 1));
+    }
+}